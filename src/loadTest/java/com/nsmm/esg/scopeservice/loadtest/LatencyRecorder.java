@@ -0,0 +1,80 @@
+package com.nsmm.esg.scopeservice.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 작업별 응답 시간 기록기 (가상 사용자 스레드마다 하나, 종료 후 병합)
+ * 측정 구간의 모든 표본을 마이크로초 단위로 보관해 정확한 백분위를 계산합니다.
+ */
+final class LatencyRecorder {
+
+    private final Map<String, Samples> samples = new TreeMap<>();
+
+    void record(String operation, long elapsedNanos, int status) {
+        samples.computeIfAbsent(operation, key -> new Samples()).add(elapsedNanos / 1_000, status);
+    }
+
+    void mergeInto(LatencyRecorder target) {
+        samples.forEach((operation, source) -> target.samples.computeIfAbsent(operation, key -> new Samples()).addAll(source));
+    }
+
+    Map<String, Samples> samples() {
+        return samples;
+    }
+
+    /**
+     * 모든 작업을 합친 표본
+     */
+    Samples combined() {
+        Samples combined = new Samples();
+        samples.values().forEach(combined::addAll);
+        return combined;
+    }
+
+    /**
+     * 한 작업의 표본 (응답 시간 μs, 오류 수)
+     */
+    static final class Samples {
+        private long[] micros = new long[1024];
+        private int count;
+        private long errors;
+
+        private void add(long elapsedMicros, int status) {
+            if (count == micros.length) {
+                micros = Arrays.copyOf(micros, count * 2);
+            }
+            micros[count++] = elapsedMicros;
+            if (status < 200 || status >= 400) {
+                errors++;
+            }
+        }
+
+        private void addAll(Samples other) {
+            if (count + other.count > micros.length) {
+                micros = Arrays.copyOf(micros, Math.max(micros.length * 2, count + other.count));
+            }
+            System.arraycopy(other.micros, 0, micros, count, other.count);
+            count += other.count;
+            errors += other.errors;
+        }
+
+        int count() {
+            return count;
+        }
+
+        long errors() {
+            return errors;
+        }
+
+        /**
+         * 정렬된 표본 (백분위 계산용)
+         */
+        long[] sorted() {
+            long[] sorted = Arrays.copyOf(micros, count);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.nsmm.esg.scopeservice.loadtest;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과 보고서
+ * 작업별 처리량과 응답 시간 백분위를 Markdown(사람용)과 CSV(비교용)로 함께 씁니다.
+ */
+final class LoadTestReport {
+
+    private static final double[] PERCENTILES = {50, 90, 95, 99};
+
+    private LoadTestReport() {
+    }
+
+    /**
+     * 보고서 작성 후 Markdown 파일 경로 반환
+     */
+    static Path write(Path directory, Map<String, String> settings, LatencyRecorder recorder,
+                      double measuredSeconds, Map<String, String> poolStats) throws IOException {
+        Files.createDirectories(directory);
+        String stamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        Path markdown = directory.resolve("load-test-" + stamp + ".md");
+        Path csv = directory.resolve("load-test-" + stamp + ".csv");
+
+        try (PrintWriter md = new PrintWriter(Files.newBufferedWriter(markdown, StandardCharsets.UTF_8));
+             PrintWriter out = new PrintWriter(Files.newBufferedWriter(csv, StandardCharsets.UTF_8))) {
+            md.println("# Scope Service 부하 테스트 결과 (" + stamp + ")");
+            md.println();
+            md.println("## 설정");
+            md.println();
+            settings.forEach((key, value) -> md.println("- " + key + ": " + value));
+            md.println();
+            md.println("## 응답 시간 (ms)");
+            md.println();
+            md.println("| 작업 | 요청 수 | 오류 | 처리량 (req/s) | 평균 | p50 | p90 | p95 | p99 | 최대 |");
+            md.println("|---|---:|---:|---:|---:|---:|---:|---:|---:|---:|");
+            out.println("operation,count,errors,throughput_rps,mean_ms,p50_ms,p90_ms,p95_ms,p99_ms,max_ms");
+
+            for (Map.Entry<String, LatencyRecorder.Samples> entry : recorder.samples().entrySet()) {
+                writeRow(md, out, entry.getKey(), entry.getValue(), measuredSeconds);
+            }
+            writeRow(md, out, "ALL", recorder.combined(), measuredSeconds);
+
+            md.println();
+            md.println("## 커넥션 풀 (측정 구간)");
+            md.println();
+            poolStats.forEach((key, value) -> md.println("- " + key + ": " + value));
+        }
+        return markdown;
+    }
+
+    private static void writeRow(PrintWriter md, PrintWriter csv, String operation, LatencyRecorder.Samples samples,
+                                 double measuredSeconds) {
+        long[] sorted = samples.sorted();
+        if (sorted.length == 0) {
+            return;
+        }
+        long sum = 0;
+        for (long value : sorted) {
+            sum += value;
+        }
+        double throughput = sorted.length / measuredSeconds;
+        double mean = sum / (double) sorted.length / 1000.0;
+        double[] percentiles = new double[PERCENTILES.length];
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            percentiles[i] = percentile(sorted, PERCENTILES[i]) / 1000.0;
+        }
+        double max = sorted[sorted.length - 1] / 1000.0;
+
+        md.println(String.format(Locale.ROOT, "| %s | %d | %d | %.1f | %.1f | %.1f | %.1f | %.1f | %.1f | %.1f |",
+                operation, sorted.length, samples.errors(), throughput, mean,
+                percentiles[0], percentiles[1], percentiles[2], percentiles[3], max));
+        csv.println(String.format(Locale.ROOT, "%s,%d,%d,%.2f,%.2f,%.2f,%.2f,%.2f,%.2f,%.2f",
+                operation, sorted.length, samples.errors(), throughput, mean,
+                percentiles[0], percentiles[1], percentiles[2], percentiles[3], max));
+    }
+
+    /**
+     * 최근접 순위(nearest-rank) 백분위
+     */
+    private static long percentile(long[] sorted, double percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+}
@@ -0,0 +1,251 @@
+package com.nsmm.esg.scopeservice.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nsmm.esg.scopeservice.ScopeServiceApplication;
+import com.nsmm.esg.scopeservice.config.SecurityConfig;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ScopeModal 보고 시즌 부하 테스트 실행기 (./gradlew loadTest)
+ * MySQL 컨테이너를 띄워 data.sql 연료 마스터를 적재한 서비스를 같은 JVM에서 실행하고,
+ * 합성 회원/협력사/시설 데이터를 일괄 입력한 뒤 가상 사용자가 {@link ScopeModalTraffic} 비율로 요청을 보냅니다.
+ * 측정 구간의 작업별 응답 시간 백분위와 처리량, 커넥션 풀 지표를 build/reports/load-test에 씁니다.
+ * 외부 서비스(Config Server, Eureka) 없이 Docker만 있으면 실행됩니다.
+ *
+ * 설정 (-D 시스템 속성):
+ * loadtest.users (32), loadtest.duration-seconds (60), loadtest.warmup-seconds (10),
+ * loadtest.members (20), loadtest.partners (5), loadtest.facilities (3), loadtest.seed (42),
+ * loadtest.profile (예: pool-small, pool-large), loadtest.cube (false), loadtest.mysql-image (mysql:8.0),
+ * loadtest.reactive (false, true이면 리액티브 조회 경로를 켜고 조회 요청을 /api/v1/scope/reactive 하위로 보냄)
+ */
+public final class LoadTestRunner {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    // actuator /metrics는 관리자 토큰이 필요하므로 실행하는 서비스에 임시 토큰을 설정
+    private static final String ADMIN_TOKEN = "load-test-admin";
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int users = Integer.getInteger("loadtest.users", 32);
+        int durationSeconds = Integer.getInteger("loadtest.duration-seconds", 60);
+        int warmupSeconds = Integer.getInteger("loadtest.warmup-seconds", 10);
+        int members = Integer.getInteger("loadtest.members", 20);
+        int partners = Integer.getInteger("loadtest.partners", 5);
+        int facilities = Integer.getInteger("loadtest.facilities", 3);
+        long seed = Long.getLong("loadtest.seed", 42L);
+        String profile = System.getProperty("loadtest.profile", "");
+        boolean cube = Boolean.parseBoolean(System.getProperty("loadtest.cube", "false"));
+        boolean reactive = Boolean.parseBoolean(System.getProperty("loadtest.reactive", "false"));
+        String image = System.getProperty("loadtest.mysql-image", "mysql:8.0");
+        Path reportDir = Path.of(System.getProperty("loadtest.report-dir", "build/reports/load-test"));
+
+        SeedCatalog catalog = SeedCatalog.create(members, partners, facilities, seed);
+
+        try (MySQLContainer<?> mysql = new MySQLContainer<>(DockerImageName.parse(image))
+                .withDatabaseName("scope_service")) {
+            mysql.start();
+
+            List<String> appArgs = new ArrayList<>(List.of(
+                    "--server.port=0",
+                    "--spring.datasource.url=" + mysql.getJdbcUrl(),
+                    "--spring.datasource.username=" + mysql.getUsername(),
+                    "--spring.datasource.password=" + mysql.getPassword(),
+                    "--spring.jpa.hibernate.ddl-auto=create",
+                    "--spring.jpa.defer-datasource-initialization=true",
+                    "--spring.sql.init.mode=always",
+                    "--spring.sql.init.encoding=UTF-8",
+                    "--spring.cloud.config.enabled=false",
+                    "--eureka.client.enabled=false",
+                    "--scope.cube.enabled=" + cube,
+                    "--scope.admin.token=" + ADMIN_TOKEN,
+                    "--logging.level.com.nsmm.esg.scopeservice=INFO",
+                    "--logging.level.org.springframework.web=WARN",
+                    "--logging.level.org.hibernate.SQL=WARN",
+                    "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"));
+            if (!profile.isBlank()) {
+                appArgs.add("--spring.profiles.active=" + profile);
+            }
+            if (reactive) {
+                appArgs.add("--scope.reactive-read.enabled=true");
+                appArgs.add("--scope.reactive-read.url=r2dbc:mysql://" + mysql.getHost() + ":"
+                        + mysql.getMappedPort(MySQLContainer.MYSQL_PORT) + "/" + mysql.getDatabaseName());
+                appArgs.add("--scope.reactive-read.username=" + mysql.getUsername());
+                appArgs.add("--scope.reactive-read.password=" + mysql.getPassword());
+            }
+
+            try (ConfigurableApplicationContext context = SpringApplication.run(
+                    ScopeServiceApplication.class, appArgs.toArray(String[]::new))) {
+                String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+                HttpClient client = HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .connectTimeout(Duration.ofSeconds(5))
+                        .build();
+                ScopeModalTraffic traffic = new ScopeModalTraffic(client, baseUrl, catalog, reactive);
+
+                long seedStarted = System.nanoTime();
+                seed(traffic, catalog, Math.min(users, 8));
+                System.out.printf("초기 적재 완료 - 회원 %d명, %.1fs%n", members, (System.nanoTime() - seedStarted) / 1e9);
+
+                PoolSampler sampler = new PoolSampler(client, baseUrl);
+                LatencyRecorder recorder = run(traffic, users, warmupSeconds, durationSeconds, sampler);
+
+                Map<String, String> settings = new LinkedHashMap<>();
+                settings.put("가상 사용자", String.valueOf(users));
+                settings.put("측정 시간", durationSeconds + "s (워밍업 " + warmupSeconds + "s 제외)");
+                settings.put("회원 x 협력사 x 시설", members + " x " + partners + " x " + facilities);
+                settings.put("고정연소 연료 (data.sql)", String.valueOf(catalog.fuels().size()));
+                settings.put("풀 프로필", profile.isBlank() ? "(기본)" : profile);
+                settings.put("풀 최대 크기", context.getEnvironment().getProperty("spring.datasource.hikari.maximum-pool-size", "10"));
+                settings.put("활동 큐브", String.valueOf(cube));
+                settings.put("리액티브 조회", String.valueOf(reactive));
+                settings.put("MySQL", image);
+
+                Path report = LoadTestReport.write(reportDir, settings, recorder, durationSeconds, sampler.summary());
+                System.out.println("보고서: " + report.toAbsolutePath());
+            }
+        }
+    }
+
+    private static void seed(ScopeModalTraffic traffic, SeedCatalog catalog, int threads) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (SeedCatalog.Member member : catalog.members()) {
+                futures.add(executor.submit(() -> {
+                    traffic.seed(member);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 가상 사용자 실행 (사용자마다 기록기를 따로 두고 종료 후 병합, 워밍업 구간은 버림)
+     */
+    private static LatencyRecorder run(ScopeModalTraffic traffic, int users, int warmupSeconds, int durationSeconds,
+                                       PoolSampler sampler) throws Exception {
+        long warmupEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long deadline = warmupEnd + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+        ScheduledExecutorService sampling = Executors.newSingleThreadScheduledExecutor();
+        try {
+            sampling.scheduleAtFixedRate(sampler::sample, TimeUnit.SECONDS.toMillis(warmupSeconds), 500, TimeUnit.MILLISECONDS);
+
+            List<Future<LatencyRecorder>> futures = new ArrayList<>();
+            for (int u = 0; u < users; u++) {
+                futures.add(executor.submit(() -> {
+                    LatencyRecorder warmup = new LatencyRecorder();
+                    LatencyRecorder measured = new LatencyRecorder();
+                    long now;
+                    while ((now = System.nanoTime()) < deadline) {
+                        traffic.next(now < warmupEnd ? warmup : measured);
+                    }
+                    return measured;
+                }));
+            }
+
+            LatencyRecorder merged = new LatencyRecorder();
+            for (Future<LatencyRecorder> future : futures) {
+                future.get().mergeInto(merged);
+            }
+            return merged;
+        } finally {
+            sampling.shutdownNow();
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 측정 구간의 커넥션 풀 지표 표본 (actuator /metrics)
+     * 대기 스레드/사용 중 커넥션은 0.5초마다 읽어 최댓값을, 획득 시간은 구간 전후 누적값 차이로 평균을 구합니다.
+     */
+    private static final class PoolSampler {
+        private final HttpClient client;
+        private final String baseUrl;
+        private final AtomicLong maxPending = new AtomicLong();
+        private final AtomicLong maxActive = new AtomicLong();
+        private volatile double acquireCountAtStart = Double.NaN;
+        private volatile double acquireTotalAtStart = Double.NaN;
+
+        private PoolSampler(HttpClient client, String baseUrl) {
+            this.client = client;
+            this.baseUrl = baseUrl;
+        }
+
+        private void sample() {
+            if (Double.isNaN(acquireCountAtStart)) {
+                acquireCountAtStart = measurement("hikaricp.connections.acquire", "COUNT");
+                acquireTotalAtStart = measurement("hikaricp.connections.acquire", "TOTAL_TIME");
+            }
+            maxPending.accumulateAndGet((long) measurement("hikaricp.connections.pending", "VALUE"), Math::max);
+            maxActive.accumulateAndGet((long) measurement("hikaricp.connections.active", "VALUE"), Math::max);
+        }
+
+        private Map<String, String> summary() {
+            Map<String, String> summary = new LinkedHashMap<>();
+            double count = measurement("hikaricp.connections.acquire", "COUNT") - acquireCountAtStart;
+            double total = measurement("hikaricp.connections.acquire", "TOTAL_TIME") - acquireTotalAtStart;
+            summary.put("커넥션 획득 횟수", String.format(Locale.ROOT, "%.0f", count));
+            summary.put("평균 획득 시간", count > 0 ? String.format(Locale.ROOT, "%.3f ms", total / count * 1000) : "n/a");
+            summary.put("획득 시간 최대 (최근)", String.format(Locale.ROOT, "%.3f ms",
+                    measurement("hikaricp.connections.acquire", "MAX") * 1000));
+            summary.put("획득 타임아웃", String.format(Locale.ROOT, "%.0f", measurement("hikaricp.connections.timeout", "COUNT")));
+            summary.put("최대 대기 스레드", String.valueOf(maxPending.get()));
+            summary.put("최대 사용 중 커넥션", String.valueOf(maxActive.get()));
+            return summary;
+        }
+
+        /**
+         * /actuator/metrics/{name} 의 통계값 (없으면 NaN)
+         */
+        private double measurement(String name, String statistic) {
+            try {
+                HttpResponse<String> response = client.send(
+                        HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/metrics/" + name))
+                                .header(SecurityConfig.ADMIN_TOKEN_HEADER, ADMIN_TOKEN).GET().build(),
+                        HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() != 200) {
+                    return Double.NaN;
+                }
+                for (JsonNode measurement : OBJECT_MAPPER.readTree(response.body()).path("measurements")) {
+                    if (statistic.equals(measurement.path("statistic").asText())) {
+                        return measurement.path("value").asDouble();
+                    }
+                }
+                return Double.NaN;
+            } catch (Exception e) {
+                return Double.NaN;
+            }
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.nsmm.esg.scopeservice.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * ScopeModal 보고 시즌 트래픽 모델
+ * 대시보드 조회 70%, 단건 입력 20% + 일괄 입력 5%, 연료 카탈로그 조회 5% 비율로 요청을 고릅니다.
+ * 회원 식별은 게이트웨이와 같이 X-MEMBER-ID 헤더로 전달합니다.
+ * 리액티브 조회를 켜면 대시보드 조회를 같은 파라미터의 /api/v1/scope/reactive 경로로 보내고
+ * 작업 이름에 reactive-를 붙여 MVC 경로 결과와 구분합니다 (입력/카탈로그 요청은 그대로).
+ */
+final class ScopeModalTraffic {
+
+    static final int YEAR = 2024;          // data.sql 배출계수 연도
+    static final int BATCH_SIZE = 24;
+
+    private final HttpClient client;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+    private final SeedCatalog catalog;
+    private final String readPath;
+    private final String readPrefix;
+
+    ScopeModalTraffic(HttpClient client, String baseUrl, SeedCatalog catalog, boolean reactive) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.catalog = catalog;
+        this.readPath = reactive ? "/api/v1/scope/reactive/stationary-combustion" : "/api/v1/scope/stationary-combustion";
+        this.readPrefix = reactive ? "read.reactive-" : "read.";
+    }
+
+    /**
+     * 측정 전 초기 적재: 회원-협력사-시설마다 12개월 x 연료 2종을 일괄 입력
+     */
+    void seed(SeedCatalog.Member member) throws IOException, InterruptedException {
+        for (SeedCatalog.Partner partner : member.partners()) {
+            List<Map<String, Object>> rows = new ArrayList<>();
+            for (String facility : partner.facilities()) {
+                for (int month = 1; month <= 12; month++) {
+                    rows.add(row(partner, facility, month, fuelAt(facility.hashCode())));
+                    rows.add(row(partner, facility, month, fuelAt(facility.hashCode() + 1)));
+                }
+            }
+            int status = post(member, "/api/v1/scope/stationary-combustion/batch", rows);
+            if (status != 200) {
+                throw new IllegalStateException("초기 적재 실패 - 회원 " + member.memberId() + ", 상태 " + status);
+            }
+        }
+    }
+
+    /**
+     * 요청 하나를 골라 실행하고 (작업 이름, 상태)를 기록
+     */
+    void next(LatencyRecorder recorder) throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        SeedCatalog.Member member = pick(catalog.members());
+        SeedCatalog.Partner partner = pick(member.partners());
+        String stationary = "/api/v1/scope/stationary-combustion";
+
+        int roll = random.nextInt(100);
+        String operation;
+        long started = System.nanoTime();
+        int status;
+        if (roll < 30) {
+            operation = readPrefix + "dashboard-stats";
+            status = get(member, readPath + "/dashboard/stats?year=" + YEAR);
+        } else if (roll < 45) {
+            operation = readPrefix + "summary-monthly";
+            status = get(member, readPath + "/summary/monthly?year=" + YEAR
+                    + (random.nextBoolean() ? "&companyId=" + partner.companyId() : ""));
+        } else if (roll < 55) {
+            operation = readPrefix + "summary-by-facility";
+            status = get(member, readPath + "/summary/by-facility?year=" + YEAR);
+        } else if (roll < 65) {
+            operation = readPrefix + "summary-by-partner";
+            status = get(member, readPath + "/summary/by-partner?year=" + YEAR);
+        } else if (roll < 70) {
+            operation = readPrefix + "total-emission";
+            status = get(member, readPath + "/total-emission/year/" + YEAR);
+        } else if (roll < 90) {
+            operation = "write.create";
+            String facility = pick(partner.facilities());
+            status = post(member, stationary, row(partner, facility, 1 + random.nextInt(12), pick(catalog.fuels())));
+        } else if (roll < 95) {
+            operation = "write.batch-" + BATCH_SIZE;
+            List<Map<String, Object>> rows = new ArrayList<>(BATCH_SIZE);
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                rows.add(row(partner, pick(partner.facilities()), 1 + random.nextInt(12), pick(catalog.fuels())));
+            }
+            status = post(member, stationary + "/batch", rows);
+        } else if (roll < 98) {
+            operation = "catalog.fuel-types";
+            status = get(member, "/api/fuel-types");
+        } else {
+            operation = "catalog.categories";
+            status = get(member, "/api/fuel-types/categories");
+        }
+        recorder.record(operation, System.nanoTime() - started, status);
+    }
+
+    // =============================================================================
+    // 요청 생성 / 전송
+    // =============================================================================
+
+    private Map<String, Object> row(SeedCatalog.Partner partner, String facility, int month, SeedCatalog.Fuel fuel) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("companyId", partner.companyId());
+        row.put("reportingYear", YEAR);
+        row.put("reportingMonth", month);
+        row.put("facilityName", facility);
+        row.put("facilityLocation", facility);
+        row.put("combustionType", fuel.combustionType());
+        row.put("fuelId", fuel.fuelId());
+        row.put("fuelName", fuel.name());
+        row.put("fuelUsage", BigDecimal.valueOf(100 + ThreadLocalRandom.current().nextInt(50_000), 1));
+        row.put("unit", fuel.unit());
+        row.put("createdBy", "load-test");
+        return row;
+    }
+
+    private SeedCatalog.Fuel fuelAt(int index) {
+        List<SeedCatalog.Fuel> fuels = catalog.fuels();
+        return fuels.get(Math.floorMod(index, fuels.size()));
+    }
+
+    private int get(SeedCatalog.Member member, String path) throws IOException, InterruptedException {
+        return send(request(member, path).GET().build());
+    }
+
+    private int post(SeedCatalog.Member member, String path, Object body) throws IOException, InterruptedException {
+        return send(request(member, path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build());
+    }
+
+    private HttpRequest.Builder request(SeedCatalog.Member member, String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Accept", "application/json")
+                .header("X-MEMBER-ID", String.valueOf(member.memberId()));
+    }
+
+    /**
+     * 응답 본문까지 모두 읽은 시점을 완료로 보고 상태 코드 반환 (타임아웃/연결 오류는 0)
+     */
+    private int send(HttpRequest request) throws InterruptedException {
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static <T> T pick(List<T> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+}
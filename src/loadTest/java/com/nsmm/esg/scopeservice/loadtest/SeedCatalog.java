@@ -0,0 +1,97 @@
+package com.nsmm.esg.scopeservice.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 부하 테스트용 합성 데이터 카탈로그
+ * 고정연소 연료는 서비스의 data.sql(fuel_type INSERT)에서 읽고, 회원/협력사/시설은 시드 고정 난수로 만들어
+ * 같은 설정이면 실행할 때마다 같은 데이터가 생성됩니다.
+ */
+final class SeedCatalog {
+
+    // ('FUEL_ID', 'CATEGORY', '이름', 설명, '단위', true)
+    private static final Pattern FUEL_ROW = Pattern.compile(
+            "\\('([A-Z0-9_]+)', '([A-Z_]+)', '([^']*)', (?:NULL|'[^']*'), '([^']*)', (?:true|false)\\)");
+
+    // 고정연소 카테고리 → 요청의 연소 타입
+    private static final Map<String, String> COMBUSTION_TYPES = Map.of(
+            "LIQUID_PETROLEUM", "LIQUID",
+            "SOLID_COAL", "SOLID",
+            "GAS_FUEL", "GAS");
+
+    private final List<Fuel> fuels;
+    private final List<Member> members;
+
+    private SeedCatalog(List<Fuel> fuels, List<Member> members) {
+        this.fuels = fuels;
+        this.members = members;
+    }
+
+    static SeedCatalog create(int memberCount, int partnersPerMember, int facilitiesPerPartner, long seed) throws IOException {
+        List<Fuel> fuels = loadStationaryFuels();
+        if (fuels.isEmpty()) {
+            throw new IllegalStateException("data.sql에서 고정연소 연료를 찾지 못했습니다.");
+        }
+
+        Random random = new Random(seed);
+        List<Member> members = new ArrayList<>();
+        for (int m = 0; m < memberCount; m++) {
+            List<Partner> partners = new ArrayList<>();
+            for (int p = 0; p < partnersPerMember; p++) {
+                List<String> facilities = new ArrayList<>();
+                for (int f = 0; f < facilitiesPerPartner; f++) {
+                    facilities.add("부하테스트 사업장 " + (m + 1) + "-" + (p + 1) + "-" + (f + 1));
+                }
+                partners.add(new Partner(new UUID(random.nextLong(), random.nextLong()).toString(), facilities));
+            }
+            members.add(new Member(10_000L + m, partners));
+        }
+        return new SeedCatalog(List.copyOf(fuels), List.copyOf(members));
+    }
+
+    List<Fuel> fuels() {
+        return fuels;
+    }
+
+    List<Member> members() {
+        return members;
+    }
+
+    private static List<Fuel> loadStationaryFuels() throws IOException {
+        String sql;
+        try (InputStream in = SeedCatalog.class.getResourceAsStream("/data.sql")) {
+            if (in == null) {
+                throw new IllegalStateException("클래스패스에 data.sql이 없습니다.");
+            }
+            sql = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        List<Fuel> fuels = new ArrayList<>();
+        Matcher matcher = FUEL_ROW.matcher(sql);
+        while (matcher.find()) {
+            String combustionType = COMBUSTION_TYPES.get(matcher.group(2));
+            if (combustionType != null) {
+                fuels.add(new Fuel(matcher.group(1), matcher.group(3), matcher.group(4), combustionType));
+            }
+        }
+        return fuels;
+    }
+
+    record Fuel(String fuelId, String name, String unit, String combustionType) {
+    }
+
+    record Partner(String companyId, List<String> facilities) {
+    }
+
+    record Member(long memberId, List<Partner> partners) {
+    }
+}
@@ -0,0 +1,88 @@
+package com.nsmm.esg.scopeservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 커넥션 풀 포화 상태 헬스 체크 (/actuator/health/pool, 관리자 토큰 필요)
+ * 모든 Hikari 풀(기본, 레플리카, 샤드)의 사용/유휴/대기 스레드 수를 보여 주고,
+ * 커넥션을 기다리는 스레드가 임계값 이상인 풀이 있으면 SATURATED로 표시합니다.
+ * SATURATED는 HTTP 200으로 매핑되어 인스턴스를 로드밸런서에서 빼지는 않습니다.
+ * 풀별 세부 정보는 관리자 전용 pool 그룹에서만 보이고, 공개 /actuator/health에는 전체 상태만 반영됩니다.
+ */
+@Component("connectionPool")
+public class ConnectionPoolHealthIndicator extends AbstractHealthIndicator {
+
+    public static final Status SATURATED = new Status("SATURATED", "커넥션 대기 스레드가 임계값 이상인 풀이 있음");
+
+    private final ObjectProvider<HikariDataSource> hikariDataSources;
+    private final ObjectProvider<ShardDirectory> shardDirectoryProvider;
+    private final int saturationPendingThreads;
+
+    public ConnectionPoolHealthIndicator(ObjectProvider<HikariDataSource> hikariDataSources,
+                                         ObjectProvider<ShardDirectory> shardDirectoryProvider,
+                                         @Value("${scope.datasource.pool.saturation-pending-threads:5}") int saturationPendingThreads) {
+        super("커넥션 풀 상태 조회 실패");
+        this.hikariDataSources = hikariDataSources;
+        this.shardDirectoryProvider = shardDirectoryProvider;
+        this.saturationPendingThreads = saturationPendingThreads;
+    }
+
+    @Override
+    protected void doHealthCheck(Health.Builder builder) throws Exception {
+        boolean saturated = false;
+        for (HikariDataSource pool : pools()) {
+            Map<String, Object> detail = new LinkedHashMap<>();
+            detail.put("maximumPoolSize", pool.getMaximumPoolSize());
+            detail.put("connectionTimeoutMs", pool.getConnectionTimeout());
+            detail.put("leakDetectionThresholdMs", pool.getLeakDetectionThreshold());
+
+            HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+            if (mxBean == null) {
+                detail.put("state", "NOT_STARTED"); // 첫 커넥션 요청 전
+            } else {
+                int pending = mxBean.getThreadsAwaitingConnection();
+                detail.put("state", pool.isClosed() ? "CLOSED" : "RUNNING");
+                detail.put("active", mxBean.getActiveConnections());
+                detail.put("idle", mxBean.getIdleConnections());
+                detail.put("total", mxBean.getTotalConnections());
+                detail.put("pending", pending);
+                saturated |= pending >= saturationPendingThreads;
+            }
+            builder.withDetail(pool.getPoolName(), detail);
+        }
+        builder.withDetail("saturationPendingThreads", saturationPendingThreads);
+        builder.status(saturated ? SATURATED : Status.UP);
+    }
+
+    /**
+     * 빈으로 등록된 풀과 샤드 디렉터리의 풀 (같은 풀은 한 번만)
+     */
+    private Collection<HikariDataSource> pools() throws SQLException {
+        Map<String, HikariDataSource> pools = new LinkedHashMap<>();
+        hikariDataSources.orderedStream().forEach(pool -> pools.putIfAbsent(pool.getPoolName(), pool));
+        ShardDirectory shardDirectory = shardDirectoryProvider.getIfAvailable();
+        if (shardDirectory != null) {
+            for (String shardKey : shardDirectory.shardKeys()) {
+                DataSource dataSource = shardDirectory.dataSourceOf(shardKey);
+                if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                    HikariDataSource pool = dataSource.unwrap(HikariDataSource.class);
+                    pools.putIfAbsent(pool.getPoolName(), pool);
+                }
+            }
+        }
+        return pools.values();
+    }
+}
@@ -0,0 +1,9 @@
+package com.nsmm.esg.scopeservice.config;
+
+/**
+ * 라우팅 데이터소스 대상
+ */
+public enum DataSourceRole {
+    PRIMARY,
+    REPLICA
+}
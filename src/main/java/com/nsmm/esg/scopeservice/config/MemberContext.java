@@ -0,0 +1,45 @@
+package com.nsmm.esg.scopeservice.config;
+
+import java.util.function.Supplier;
+
+/**
+ * 요청 단위 회원 컨텍스트
+ * MemberContextFilter가 X-MEMBER-ID 헤더 값을 요청 스레드에 보관하며,
+ * 컨트롤러 밖(데이터소스 라우팅 등)에서 현재 요청의 회원을 확인할 때 사용합니다.
+ */
+public final class MemberContext {
+
+    private static final ThreadLocal<Long> CURRENT_MEMBER = new ThreadLocal<>();
+
+    private MemberContext() {
+    }
+
+    public static Long getMemberId() {
+        return CURRENT_MEMBER.get();
+    }
+
+    /**
+     * 요청 스레드 밖(스케줄러 등)에서 특정 회원 기준으로 작업 실행
+     */
+    public static <T> T callAs(Long memberId, Supplier<T> action) {
+        Long previous = CURRENT_MEMBER.get();
+        CURRENT_MEMBER.set(memberId);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT_MEMBER.remove();
+            } else {
+                CURRENT_MEMBER.set(previous);
+            }
+        }
+    }
+
+    static void setMemberId(Long memberId) {
+        CURRENT_MEMBER.set(memberId);
+    }
+
+    static void clear() {
+        CURRENT_MEMBER.remove();
+    }
+}
@@ -0,0 +1,37 @@
+package com.nsmm.esg.scopeservice.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * X-MEMBER-ID 헤더를 MemberContext에 보관하는 필터
+ * 헤더가 없거나 숫자가 아니면 컨텍스트를 비워 둡니다.
+ */
+@Component
+public class MemberContextFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String memberIdHeader = request.getHeader("X-MEMBER-ID");
+        try {
+            if (memberIdHeader != null && !memberIdHeader.isBlank()) {
+                MemberContext.setMemberId(Long.parseLong(memberIdHeader.trim()));
+            }
+        } catch (NumberFormatException ignored) {
+            // 잘못된 헤더는 컨트롤러에서 검증
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MemberContext.clear();
+        }
+    }
+}
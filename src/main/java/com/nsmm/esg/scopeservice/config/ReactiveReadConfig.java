@@ -0,0 +1,109 @@
+package com.nsmm.esg.scopeservice.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.net.URI;
+import java.util.Locale;
+
+/**
+ * 리액티브 조회 경로 설정 (R2DBC)
+ * scope.reactive-read.enabled=true 인 경우에만 집계 조회 전용 R2DBC 커넥션 풀을 구성합니다.
+ * 커넥션 팩토리를 빈으로 노출하지 않아 JPA 트랜잭션 매니저와 SQL 초기화 설정에 영향을 주지 않습니다.
+ *
+ * 이 경로는 샤드 라우팅(ShardRoutingDataSource)과 레플리카 라우팅(지연 감시, 쓰기 마커)을 거치지 않고
+ * scope.reactive-read.url 하나로만 조회하므로, 단일 샤드 구성에서 프라이머리를 가리킬 때만 사용할 수 있습니다.
+ * 샤딩이 켜져 있거나 URL이 레플리카를 가리키면 기동 시 실패합니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "scope.reactive-read", name = "enabled", havingValue = "true")
+@Slf4j
+public class ReactiveReadConfig implements DisposableBean {
+
+    @Value("${scope.reactive-read.url}")
+    private String url;
+
+    @Value("${scope.reactive-read.username}")
+    private String username;
+
+    @Value("${scope.reactive-read.password:}")
+    private String password;
+
+    @Value("${scope.reactive-read.pool.initial-size:4}")
+    private int initialSize;
+
+    @Value("${scope.reactive-read.pool.max-size:16}")
+    private int maxSize;
+
+    @Value("${scope.sharding.enabled:false}")
+    private boolean shardingEnabled;
+
+    @Value("${scope.datasource.replica.enabled:false}")
+    private boolean replicaEnabled;
+
+    @Value("${scope.datasource.replica.url:}")
+    private String replicaUrl;
+
+    private ConnectionPool connectionPool;
+
+    @Bean
+    public DatabaseClient reactiveReadDatabaseClient() {
+        validateTopology(url, shardingEnabled, replicaEnabled ? replicaUrl : null);
+
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+
+        connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .initialSize(initialSize)
+                .maxSize(maxSize)
+                .build());
+        log.info("리액티브 조회 커넥션 풀 구성 완료 - URL: {}, 최대 커넥션: {}", url, maxSize);
+
+        return DatabaseClient.create(connectionPool);
+    }
+
+    /**
+     * 단일 샤드 + 프라이머리 구성인지 확인
+     *
+     * @param replicaUrl 레플리카 사용 시 레플리카 JDBC URL (미사용이면 null)
+     */
+    static void validateTopology(String reactiveUrl, boolean shardingEnabled, String replicaUrl) {
+        if (shardingEnabled) {
+            throw new IllegalStateException(
+                    "리액티브 조회 경로는 샤드 라우팅을 지원하지 않습니다. scope.sharding.enabled와 함께 사용할 수 없습니다.");
+        }
+        if (replicaUrl != null && !replicaUrl.isBlank() && endpointOf(reactiveUrl).equals(endpointOf(replicaUrl))) {
+            throw new IllegalStateException(
+                    "리액티브 조회 경로는 레플리카 라우팅을 거치지 않으므로 프라이머리를 가리켜야 합니다: " + reactiveUrl);
+        }
+    }
+
+    /**
+     * JDBC/R2DBC URL의 호스트:포트/DB (스킴 접두어와 쿼리 파라미터 제외)
+     */
+    static String endpointOf(String url) {
+        String withoutPrefix = url.trim().replaceFirst("^(jdbc|r2dbcs?):", "");
+        URI uri = URI.create(withoutPrefix);
+        int port = uri.getPort() > 0 ? uri.getPort() : 3306;
+        String path = uri.getPath() == null ? "" : uri.getPath();
+        return (uri.getHost() + ":" + port + path).toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public void destroy() {
+        if (connectionPool != null) {
+            connectionPool.dispose();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.nsmm.esg.scopeservice.config;
+
+import com.nsmm.esg.scopeservice.event.EmissionDataChangedEvent;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * 읽기-후-쓰기 일관성 (read-your-writes) 마커 처리
+ * 쓰기가 커밋되면 응답에 "회원ID.커밋시각(epoch ms)" 마커를 헤더(X-Scope-Last-Write)와 쿠키로 내려주고,
+ * 이후 요청이 마커를 다시 보내면 일정 시간 동안 해당 회원의 읽기를 프라이머리로 보냅니다.
+ * 상태를 클라이언트가 들고 다니므로 다른 인스턴스로 간 읽기에도 적용됩니다.
+ * 마커의 회원이 요청 회원과 다르거나, 시각이 허용 구간(± window) 밖이면 무시합니다.
+ */
+public class ReadYourWritesTracker extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Scope-Last-Write";
+    public static final String COOKIE = "SCOPE_LAST_WRITE";
+
+    private static final ThreadLocal<RequestState> CURRENT = new ThreadLocal<>();
+
+    private final long windowMillis;
+
+    public ReadYourWritesTracker(long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestState state = new RequestState(response);
+        parseMarker(state, markerOf(request));
+        CURRENT.set(state);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * 쓰기 커밋 후 현재 요청의 마커 갱신 (같은 요청의 이후 읽기와 응답을 받은 클라이언트의 다음 요청에 적용)
+     * 요청 스레드 밖(스케줄러 등)의 쓰기는 돌려줄 응답이 없으므로 무시합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEmissionDataChanged(EmissionDataChangedEvent event) {
+        RequestState state = CURRENT.get();
+        if (state == null || event.getMemberId() == null) {
+            return;
+        }
+        state.markerMemberId = event.getMemberId();
+        state.markerWrittenAt = System.currentTimeMillis();
+
+        HttpServletResponse response = state.response;
+        if (response.isCommitted()) {
+            return;
+        }
+        String marker = state.markerMemberId + "." + state.markerWrittenAt;
+        response.setHeader(HEADER, marker);
+        response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(COOKIE, marker)
+                .path("/")
+                .httpOnly(true)
+                .sameSite("Lax")
+                .maxAge(Duration.ofMillis(windowMillis))
+                .build()
+                .toString());
+    }
+
+    /**
+     * 회원의 읽기를 프라이머리로 보내야 하는지 여부 (회원을 알 수 없으면 프라이머리)
+     */
+    public boolean requiresPrimary(Long memberId) {
+        if (memberId == null) {
+            return true;
+        }
+        RequestState state = CURRENT.get();
+        if (state == null || state.markerWrittenAt == null || !memberId.equals(state.markerMemberId)) {
+            return false;
+        }
+        return Math.abs(System.currentTimeMillis() - state.markerWrittenAt) < windowMillis;
+    }
+
+    /**
+     * 요청의 마커 (헤더 우선, 없으면 쿠키)
+     */
+    private static String markerOf(HttpServletRequest request) {
+        String header = request.getHeader(HEADER);
+        if (header != null && !header.isBlank()) {
+            return header;
+        }
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (COOKIE.equals(cookie.getName())) {
+                    return cookie.getValue();
+                }
+            }
+        }
+        return null;
+    }
+
+    private static void parseMarker(RequestState state, String marker) {
+        if (marker == null) {
+            return;
+        }
+        int dot = marker.indexOf('.');
+        if (dot <= 0) {
+            return;
+        }
+        try {
+            long memberId = Long.parseLong(marker.substring(0, dot).trim());
+            long writtenAt = Long.parseLong(marker.substring(dot + 1).trim());
+            state.markerMemberId = memberId;
+            state.markerWrittenAt = writtenAt;
+        } catch (NumberFormatException ignored) {
+            // 잘못된 마커는 무시 (레플리카 읽기)
+        }
+    }
+
+    /**
+     * 요청 스레드별 상태 (응답, 마커의 회원/시각)
+     */
+    private static final class RequestState {
+        private final HttpServletResponse response;
+        private Long markerMemberId;
+        private Long markerWrittenAt;
+
+        private RequestState(HttpServletResponse response) {
+            this.response = response;
+        }
+    }
+}
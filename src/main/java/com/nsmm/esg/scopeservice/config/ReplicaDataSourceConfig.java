@@ -0,0 +1,87 @@
+package com.nsmm.esg.scopeservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기 레플리카 라우팅 설정
+ * scope.datasource.replica.enabled=true 인 경우 프라이머리(spring.datasource.*)와
+ * 레플리카(scope.datasource.replica.*) 풀을 만들고, @Transactional(readOnly = true) 경로를 레플리카로 보냅니다.
+ * 샤딩(scope.sharding.enabled)과는 함께 사용할 수 없습니다.
+ */
+@Configuration
+@ConditionalOnExpression("${scope.datasource.replica.enabled:false} and !${scope.sharding.enabled:false}")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("scope-primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("scope.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            @Value("${scope.datasource.replica.url}") String url,
+            @Value("${scope.datasource.replica.username}") String username,
+            @Value("${scope.datasource.replica.password:}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("scope-replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            @Value("${scope.datasource.replica.max-lag-seconds:5}") long maxLagSeconds) {
+        return new ReplicaLagMonitor(new JdbcTemplate(replicaDataSource), maxLagSeconds);
+    }
+
+    /**
+     * 쓰기 마커 필터 겸 라우팅 판단 (Filter 빈이므로 서블릿 필터로 자동 등록됨)
+     */
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${scope.datasource.replica.read-your-writes-window-ms:10000}") long windowMillis) {
+        return new ReadYourWritesTracker(windowMillis);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaLagMonitor replicaLagMonitor,
+            ReadYourWritesTracker readYourWritesTracker) {
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(replicaLagMonitor, readYourWritesTracker);
+        routingDataSource.setTargetDataSources(Map.of(
+                DataSourceRole.PRIMARY, primaryDataSource,
+                DataSourceRole.REPLICA, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+
+        // 실제 커넥션 획득을 첫 SQL 실행 시점까지 미뤄 트랜잭션 readOnly 여부가 반영되도록 함
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,77 @@
+package com.nsmm.esg.scopeservice.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 레플리카 지연 감시
+ * 주기적으로 SHOW REPLICA STATUS를 조회해 지연이 허용치를 넘거나 복제가 멈추면 레플리카 사용을 중단합니다.
+ * 복제 설정이 없는 단독 인스턴스(로컬 테스트용 두 번째 DB)는 지연 0으로 간주합니다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final long maxLagSeconds;
+
+    private volatile boolean available = false;
+    private volatile long lagSeconds = -1;
+
+    public ReplicaLagMonitor(JdbcTemplate replicaJdbcTemplate, long maxLagSeconds) {
+        this.replicaJdbcTemplate = replicaJdbcTemplate;
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    /**
+     * 레플리카로 읽기를 보내도 되는지 여부
+     */
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public long getLagSeconds() {
+        return lagSeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${scope.datasource.replica.lag-check-interval-ms:2000}")
+    public void checkLag() {
+        boolean wasAvailable = available;
+        try {
+            Long lag = queryLagSeconds();
+            lagSeconds = lag != null ? lag : -1;
+            available = lag != null && lag <= maxLagSeconds;
+        } catch (Exception e) {
+            lagSeconds = -1;
+            available = false;
+            log.debug("레플리카 상태 조회 실패: {}", e.getMessage());
+        }
+
+        if (wasAvailable != available) {
+            log.warn("레플리카 읽기 라우팅 {} - 지연: {}초, 허용치: {}초",
+                    available ? "재개" : "중단", lagSeconds, maxLagSeconds);
+        }
+    }
+
+    private Long queryLagSeconds() {
+        List<Map<String, Object>> status;
+        String lagColumn;
+        try {
+            status = replicaJdbcTemplate.queryForList("SHOW REPLICA STATUS");
+            lagColumn = "Seconds_Behind_Source";
+        } catch (Exception e) {
+            // MySQL 8.0.22 미만
+            status = replicaJdbcTemplate.queryForList("SHOW SLAVE STATUS");
+            lagColumn = "Seconds_Behind_Master";
+        }
+
+        if (status.isEmpty()) {
+            return 0L;
+        }
+        Object lag = status.get(0).get(lagColumn);
+        return lag instanceof Number number ? number.longValue() : null;
+    }
+}
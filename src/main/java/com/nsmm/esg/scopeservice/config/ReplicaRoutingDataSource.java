@@ -0,0 +1,30 @@
+package com.nsmm.esg.scopeservice.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션을 레플리카로 보내는 라우팅 데이터소스
+ * 레플리카 지연이 허용치를 넘었거나, 현재 회원이 방금 쓰기를 했거나(요청의 쓰기 마커), 회원을 알 수 없는 경우에는 프라이머리를 사용합니다.
+ * 트랜잭션의 readOnly 여부가 확정된 뒤 커넥션을 고르도록 LazyConnectionDataSourceProxy로 감싸서 사용해야 합니다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReplicaRoutingDataSource(ReplicaLagMonitor replicaLagMonitor, ReadYourWritesTracker readYourWritesTracker) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && replicaLagMonitor.isAvailable()
+                && !readYourWritesTracker.requiresPrimary(MemberContext.getMemberId())) {
+            return DataSourceRole.REPLICA;
+        }
+        return DataSourceRole.PRIMARY;
+    }
+}
@@ -0,0 +1,138 @@
+package com.nsmm.esg.scopeservice.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 응답 형태 조정
+ * - ?fields=a,b,c : 목록이면 각 항목, 단건이면 최상위 객체에서 지정한 필드만 응답
+ * - ?layout=columnar 를 지정하면 객체 목록을 컬럼 단위 배열로 변환
+ *   ({"layout":"columnar","count":n,"columns":{"id":[...],"fuelName":[...]}})해 필드 이름 반복을 없앰
+ *   (문자열/숫자 목록처럼 객체가 아닌 항목이 섞인 목록은 그대로 응답)
+ * 두 파라미터가 없으면 응답 객체를 그대로 변환기에 넘기므로 추가 직렬화가 없습니다. 오류 응답(4xx/5xx)은 변환하지 않습니다.
+ */
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class ResponseShapingAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String FIELDS_PARAM = "fields";
+    public static final String LAYOUT_PARAM = "layout";
+    public static final String COLUMNAR = "columnar";
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body == null || !(request instanceof ServletServerHttpRequest servletRequest)) {
+            return body;
+        }
+        if (response instanceof ServletServerHttpResponse servletResponse
+                && servletResponse.getServletResponse().getStatus() >= 400) {
+            return body;
+        }
+
+        Set<String> fields = parseFields(servletRequest.getServletRequest().getParameter(FIELDS_PARAM));
+        boolean columnar = COLUMNAR.equalsIgnoreCase(servletRequest.getServletRequest().getParameter(LAYOUT_PARAM));
+        boolean list = body instanceof Iterable<?> || body.getClass().isArray();
+
+        if (fields.isEmpty() && !(columnar && list)) {
+            return body;
+        }
+
+        JsonNode tree = objectMapper.valueToTree(body);
+        if (!fields.isEmpty()) {
+            if (tree.isArray()) {
+                tree.forEach(element -> retainFields(element, fields));
+            } else {
+                retainFields(tree, fields);
+            }
+        }
+        return columnar && isObjectArray(tree) ? toColumnar((ArrayNode) tree) : tree;
+    }
+
+    private Set<String> parseFields(String param) {
+        if (param == null || param.isBlank()) {
+            return Set.of();
+        }
+        return Arrays.stream(param.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private void retainFields(JsonNode node, Set<String> fields) {
+        if (node instanceof ObjectNode object) {
+            object.retain(fields);
+        }
+    }
+
+    private boolean isObjectArray(JsonNode tree) {
+        if (!tree.isArray()) {
+            return false;
+        }
+        for (JsonNode element : tree) {
+            if (!element.isObject()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 객체 배열 → 컬럼 배열 (컬럼은 처음 등장한 순서, 값이 없는 칸은 null)
+     */
+    private ObjectNode toColumnar(ArrayNode rows) {
+        int count = rows.size();
+        Map<String, ArrayNode> columns = new LinkedHashMap<>();
+
+        for (int index = 0; index < count; index++) {
+            JsonNode row = rows.get(index);
+            for (Map.Entry<String, JsonNode> field : row.properties()) {
+                ArrayNode column = columns.computeIfAbsent(field.getKey(), key -> nullColumn(count));
+                column.set(index, field.getValue());
+            }
+        }
+
+        ObjectNode result = objectMapper.createObjectNode();
+        result.put("layout", COLUMNAR);
+        result.put("count", count);
+        ObjectNode columnsNode = result.putObject("columns");
+        columns.forEach(columnsNode::set);
+        return result;
+    }
+
+    private ArrayNode nullColumn(int size) {
+        ArrayNode column = objectMapper.createArrayNode();
+        for (int i = 0; i < size; i++) {
+            column.addNull();
+        }
+        return column;
+    }
+}
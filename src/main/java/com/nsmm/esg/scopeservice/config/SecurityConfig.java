@@ -1,19 +1,31 @@
 package com.nsmm.esg.scopeservice.config;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    public static final String ADMIN_TOKEN_HEADER = "X-ADMIN-TOKEN";
+
+    // 관리자 API(/api/v1/scope/admin/**)와 actuator(상태/정보 제외) 토큰 (비어 있으면 전체 거부)
+    @Value("${scope.admin.token:}")
+    private String adminToken;
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -22,12 +34,28 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                        .requestMatchers("/api/v1/scope/admin/**").access((authentication, context) ->
+                                new AuthorizationDecision(isAdmin(context.getRequest())))
+                        // 상태 확인(프로브)은 공개, 메트릭/풀 세부 상태 등 나머지 actuator는 관리자 토큰 필요 (/** 보다 먼저 매칭)
+                        .requestMatchers("/actuator/health", "/actuator/info").permitAll()
+                        .requestMatchers("/actuator/**").access((authentication, context) ->
+                                new AuthorizationDecision(isAdmin(context.getRequest())))
                         .requestMatchers("/api/v1/**").permitAll()
                         .requestMatchers("/**").permitAll()
-                        .requestMatchers("/actuator/health", "/actuator/info").permitAll()
                         .anyRequest().denyAll()
                 );
 
         return http.build();
     }
+
+    /**
+     * 관리자 토큰 헤더 확인 (상수 시간 비교)
+     */
+    private boolean isAdmin(HttpServletRequest request) {
+        String token = request.getHeader(ADMIN_TOKEN_HEADER);
+        if (adminToken == null || adminToken.isBlank() || token == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(adminToken.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8));
+    }
 }
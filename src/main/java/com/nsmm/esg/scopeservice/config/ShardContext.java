@@ -0,0 +1,34 @@
+package com.nsmm.esg.scopeservice.config;
+
+import java.util.function.Supplier;
+
+/**
+ * 샤드 지정 컨텍스트
+ * 관리자 집계, 리밸런싱, 아웃박스 릴레이처럼 회원이 아닌 샤드 기준으로 실행해야 하는 작업에서
+ * 회원 디렉터리 조회 대신 사용할 샤드를 직접 지정합니다.
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<String> CURRENT_SHARD = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static String getShardKey() {
+        return CURRENT_SHARD.get();
+    }
+
+    public static <T> T callOn(String shardKey, Supplier<T> action) {
+        String previous = CURRENT_SHARD.get();
+        CURRENT_SHARD.set(shardKey);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT_SHARD.remove();
+            } else {
+                CURRENT_SHARD.set(previous);
+            }
+        }
+    }
+}
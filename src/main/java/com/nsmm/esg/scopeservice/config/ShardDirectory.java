@@ -0,0 +1,169 @@
+package com.nsmm.esg.scopeservice.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회원 → 샤드 디렉터리
+ * 기본 샤드의 scope_shard_directory 테이블에 회원별 샤드와 상태(ACTIVE/MOVING)를 저장하고 메모리에 캐시합니다.
+ * 처음 보는 회원은 렌데부 해싱으로 샤드를 정해 등록하므로, 샤드를 추가해도 기존 회원은 이동하지 않습니다.
+ * 캐시는 CACHE_TTL 동안만 유효하므로 다른 인스턴스의 이동 표시도 그 안에 반영됩니다.
+ */
+@Slf4j
+public class ShardDirectory implements AutoCloseable {
+
+    public static final String ACTIVE = "ACTIVE";
+    public static final String MOVING = "MOVING";
+    public static final Duration CACHE_TTL = Duration.ofSeconds(5);
+
+    private final JdbcTemplate directoryJdbcTemplate;
+    private final Map<String, DataSource> shardDataSources;
+    private final String defaultShard;
+    private final Map<Long, Assignment> cache = new ConcurrentHashMap<>();
+
+    public ShardDirectory(JdbcTemplate directoryJdbcTemplate, Map<String, DataSource> shardDataSources, String defaultShard) {
+        this.directoryJdbcTemplate = directoryJdbcTemplate;
+        this.shardDataSources = shardDataSources;
+        this.defaultShard = defaultShard;
+
+        directoryJdbcTemplate.execute("CREATE TABLE IF NOT EXISTS scope_shard_directory (" +
+                "member_id BIGINT NOT NULL PRIMARY KEY, " +
+                "shard_key VARCHAR(64) NOT NULL, " +
+                "status VARCHAR(16) NOT NULL, " +
+                "updated_at DATETIME NOT NULL)");
+    }
+
+    public String getDefaultShard() {
+        return defaultShard;
+    }
+
+    public List<String> shardKeys() {
+        return new ArrayList<>(shardDataSources.keySet());
+    }
+
+    public DataSource dataSourceOf(String shardKey) {
+        DataSource dataSource = shardDataSources.get(shardKey);
+        if (dataSource == null) {
+            throw new IllegalArgumentException("존재하지 않는 샤드입니다: " + shardKey);
+        }
+        return dataSource;
+    }
+
+    /**
+     * 회원의 샤드 조회 (없으면 배정 후 등록)
+     */
+    public String shardOf(Long memberId) {
+        return assignmentOf(memberId).shardKey();
+    }
+
+    /**
+     * 회원이 샤드 이동 중인지 여부
+     */
+    public boolean isMoving(Long memberId) {
+        return MOVING.equals(assignmentOf(memberId).status());
+    }
+
+    /**
+     * 이동 시작 표시 (이동 중에는 해당 회원의 쓰기를 거부)
+     */
+    public void markMoving(Long memberId) {
+        String shardKey = shardOf(memberId);
+        directoryJdbcTemplate.update(
+                "UPDATE scope_shard_directory SET status = ?, updated_at = NOW() WHERE member_id = ?",
+                MOVING, memberId);
+        cache.put(memberId, new Assignment(shardKey, MOVING, System.currentTimeMillis()));
+    }
+
+    /**
+     * 대상 샤드로 전환하고 이동 상태 해제
+     */
+    public void flip(Long memberId, String targetShard) {
+        directoryJdbcTemplate.update(
+                "UPDATE scope_shard_directory SET shard_key = ?, status = ?, updated_at = NOW() WHERE member_id = ?",
+                targetShard, ACTIVE, memberId);
+        cache.put(memberId, new Assignment(targetShard, ACTIVE, System.currentTimeMillis()));
+    }
+
+    /**
+     * 이동 취소 (원래 샤드 유지)
+     */
+    public void release(Long memberId) {
+        directoryJdbcTemplate.update(
+                "UPDATE scope_shard_directory SET status = ?, updated_at = NOW() WHERE member_id = ?",
+                ACTIVE, memberId);
+        cache.remove(memberId);
+    }
+
+    /**
+     * 기본 샤드를 제외한 샤드 풀 종료 (기본 샤드는 별도 빈으로 관리)
+     */
+    @Override
+    public void close() throws Exception {
+        for (Map.Entry<String, DataSource> entry : shardDataSources.entrySet()) {
+            if (!entry.getKey().equals(defaultShard) && entry.getValue() instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private Assignment assignmentOf(Long memberId) {
+        Assignment cached = cache.get(memberId);
+        if (cached != null && System.currentTimeMillis() - cached.loadedAt() < CACHE_TTL.toMillis()) {
+            return cached;
+        }
+
+        Assignment assignment = load(memberId);
+        if (assignment == null) {
+            String shardKey = pickShard(memberId);
+            directoryJdbcTemplate.update(
+                    "INSERT IGNORE INTO scope_shard_directory (member_id, shard_key, status, updated_at) VALUES (?, ?, ?, NOW())",
+                    memberId, shardKey, ACTIVE);
+            // 동시에 다른 인스턴스가 먼저 등록했을 수 있으므로 다시 조회
+            assignment = load(memberId);
+            log.info("회원 샤드 배정 - 회원: {}, 샤드: {}", memberId, assignment.shardKey());
+        }
+        cache.put(memberId, assignment);
+        return assignment;
+    }
+
+    private Assignment load(Long memberId) {
+        List<Assignment> rows = directoryJdbcTemplate.query(
+                "SELECT shard_key, status FROM scope_shard_directory WHERE member_id = ?",
+                (rs, rowNum) -> new Assignment(rs.getString("shard_key"), rs.getString("status"),
+                        System.currentTimeMillis()),
+                memberId);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    /**
+     * 렌데부(HRW) 해싱: 회원-샤드 조합 점수가 가장 높은 샤드 선택
+     */
+    private String pickShard(Long memberId) {
+        String best = defaultShard;
+        long bestScore = Long.MIN_VALUE;
+        for (String shardKey : shardDataSources.keySet()) {
+            long score = mix(memberId * 0x9E3779B97F4A7C15L ^ shardKey.hashCode());
+            if (score > bestScore) {
+                bestScore = score;
+                best = shardKey;
+            }
+        }
+        return best;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+
+    private record Assignment(String shardKey, String status, long loadedAt) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.nsmm.esg.scopeservice.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 회원 기준 샤드 라우팅 데이터소스
+ * ShardContext로 샤드가 지정되어 있으면 그 샤드를, 아니면 현재 회원(MemberContext)의 디렉터리 샤드를 사용합니다.
+ * 회원 정보가 없는 작업은 기본 샤드로 보내며, 이동 중인 회원의 쓰기는 거부합니다.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ShardDirectory shardDirectory;
+
+    public ShardRoutingDataSource(ShardDirectory shardDirectory) {
+        this.shardDirectory = shardDirectory;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String shardKey = ShardContext.getShardKey();
+        if (shardKey != null) {
+            return shardKey;
+        }
+
+        Long memberId = MemberContext.getMemberId();
+        if (memberId == null) {
+            return shardDirectory.getDefaultShard();
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() && shardDirectory.isMoving(memberId)) {
+            throw new IllegalStateException("샤드 이동 중인 회원입니다. 잠시 후 다시 시도해주세요: " + memberId);
+        }
+        return shardDirectory.shardOf(memberId);
+    }
+}
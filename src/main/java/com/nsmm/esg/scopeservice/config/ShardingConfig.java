@@ -0,0 +1,103 @@
+package com.nsmm.esg.scopeservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 회원 샤딩 설정
+ * scope.sharding.enabled=true 인 경우 기본 샤드(spring.datasource.*)와 scope.sharding.shards.* 풀을 만들고
+ * 모든 JPA 리포지토리가 회원의 샤드로 라우팅되는 데이터소스를 사용하도록 합니다.
+ * 기준정보(연료, 발열량, 배출계수) 테이블은 모든 샤드에 동일하게 존재해야 합니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "scope.sharding", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource defaultShardDataSource(DataSourceProperties properties, ShardingProperties shardingProperties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("scope-" + shardingProperties.getDefaultShard());
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "close")
+    public ShardDirectory shardDirectory(HikariDataSource defaultShardDataSource, ShardingProperties shardingProperties) {
+        Map<String, DataSource> shardDataSources = new LinkedHashMap<>();
+        shardDataSources.put(shardingProperties.getDefaultShard(), defaultShardDataSource);
+        shardingProperties.getShards().forEach((shardKey, shard) -> {
+            if (!shardKey.equals(shardingProperties.getDefaultShard())) {
+                shardDataSources.put(shardKey, createShardDataSource(shardKey, shard, defaultShardDataSource));
+            }
+        });
+        return new ShardDirectory(new JdbcTemplate(defaultShardDataSource), shardDataSources,
+                shardingProperties.getDefaultShard());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardDirectory shardDirectory) {
+        ShardRoutingDataSource routingDataSource = new ShardRoutingDataSource(shardDirectory);
+        Map<Object, Object> targets = new LinkedHashMap<>();
+        shardDirectory.shardKeys().forEach(shardKey -> targets.put(shardKey, shardDirectory.dataSourceOf(shardKey)));
+        routingDataSource.setTargetDataSources(targets);
+        routingDataSource.setDefaultTargetDataSource(shardDirectory.dataSourceOf(shardDirectory.getDefaultShard()));
+        routingDataSource.afterPropertiesSet();
+
+        // 커넥션 획득을 첫 SQL 실행 시점까지 미뤄 ShardContext/MemberContext가 반영되도록 함
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * 빈이 아닌 샤드 풀도 hikaricp.* 지표(획득 시간, 대기 스레드 등)를 노출하도록 MeterRegistry 연결
+     */
+    @Bean
+    public MeterBinder shardPoolMetrics(ShardDirectory shardDirectory) {
+        return registry -> shardDirectory.shardKeys().stream()
+                .filter(shardKey -> !shardKey.equals(shardDirectory.getDefaultShard()))
+                .map(shardDirectory::dataSourceOf)
+                .filter(HikariDataSource.class::isInstance)
+                .map(HikariDataSource.class::cast)
+                .filter(dataSource -> dataSource.getMetricRegistry() == null)
+                .forEach(dataSource -> dataSource.setMetricRegistry(registry));
+    }
+
+    /**
+     * 샤드 풀 생성 (크기를 제외한 타임아웃/누수 감지/문장 캐시 설정은 기본 샤드와 동일)
+     */
+    private HikariDataSource createShardDataSource(String shardKey, ShardingProperties.Shard shard,
+                                                   HikariDataSource defaultShardDataSource) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(shard.getUrl())
+                .username(shard.getUsername())
+                .password(shard.getPassword())
+                .build();
+        dataSource.setPoolName("scope-" + shardKey);
+        dataSource.setMaximumPoolSize(shard.getMaximumPoolSize());
+        dataSource.setMinimumIdle(Math.min(defaultShardDataSource.getMinimumIdle(), shard.getMaximumPoolSize()));
+        dataSource.setConnectionTimeout(defaultShardDataSource.getConnectionTimeout());
+        dataSource.setValidationTimeout(defaultShardDataSource.getValidationTimeout());
+        dataSource.setIdleTimeout(defaultShardDataSource.getIdleTimeout());
+        dataSource.setMaxLifetime(defaultShardDataSource.getMaxLifetime());
+        dataSource.setKeepaliveTime(defaultShardDataSource.getKeepaliveTime());
+        dataSource.setLeakDetectionThreshold(defaultShardDataSource.getLeakDetectionThreshold());
+        dataSource.setDataSourceProperties(defaultShardDataSource.getDataSourceProperties());
+        return dataSource;
+    }
+}
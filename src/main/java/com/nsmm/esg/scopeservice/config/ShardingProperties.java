@@ -0,0 +1,32 @@
+package com.nsmm.esg.scopeservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 회원 샤딩 설정 (scope.sharding.*)
+ * 기본 샤드는 spring.datasource.* 를 그대로 사용하며 샤드 디렉터리 테이블도 기본 샤드에 둡니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "scope.sharding")
+public class ShardingProperties {
+
+    private boolean enabled = false;
+    private String defaultShard = "shard-0";
+    private int aggregationParallelism = 4;
+    private Map<String, Shard> shards = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Shard {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,55 @@
+package com.nsmm.esg.scopeservice.controller;
+
+import com.nsmm.esg.scopeservice.dto.AggregationRequest;
+import com.nsmm.esg.scopeservice.dto.AggregationResponse;
+import com.nsmm.esg.scopeservice.service.AggregationQueryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 활동 데이터 집계 컨트롤러
+ * 배출원 전체(Scope 1, 2)를 대상으로 차원/측정값/필터를 골라 한 번에 집계합니다.
+ */
+@Tag(name = "Aggregation", description = "활동 데이터 임의 집계 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/scope/aggregations")
+public class AggregationController {
+
+    private final AggregationQueryService aggregationQueryService;
+
+    /**
+     * X-MEMBER-ID 헤더에서 회원 ID 추출
+     */
+    private Long extractMemberId(HttpServletRequest request) {
+        String memberIdHeader = request.getHeader("X-MEMBER-ID");
+        if (memberIdHeader == null || memberIdHeader.isBlank()) {
+            return 1L; // 개발용 기본값
+        }
+        return Long.parseLong(memberIdHeader);
+    }
+
+    @Operation(summary = "임의 집계",
+            description = "차원: MONTH, QUARTER, COMPANY_ID, FACILITY, FUEL_ID, CATEGORY, SCOPE / 측정값: EMISSION, USAGE, COUNT. "
+                    + "USAGE는 FUEL_ID 차원과 함께만 가능하며 배출원·입력 단위별 행으로 나뉩니다. "
+                    + "예: {\"year\": 2024, \"dimensions\": [\"QUARTER\", \"SCOPE\"], \"measures\": [\"EMISSION\", \"COUNT\"]}")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "집계 성공"),
+            @ApiResponse(responseCode = "400", description = "지원하지 않는 차원/측정값 또는 잘못된 필터")
+    })
+    @PostMapping("/query")
+    public ResponseEntity<AggregationResponse> query(
+            @Valid @RequestBody AggregationRequest request,
+            HttpServletRequest httpRequest) {
+
+        Long memberId = extractMemberId(httpRequest);
+        return ResponseEntity.ok(aggregationQueryService.query(memberId, request));
+    }
+}
@@ -0,0 +1,79 @@
+package com.nsmm.esg.scopeservice.controller;
+
+import com.nsmm.esg.scopeservice.dto.CalculationReproductionResponse;
+import com.nsmm.esg.scopeservice.dto.CalculationVerifyResponse;
+import com.nsmm.esg.scopeservice.dto.FactorSetSnapshotResponse;
+import com.nsmm.esg.scopeservice.service.CalculationAuditService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 배출량 계산 감사 컨트롤러
+ * 계수셋 스냅샷 조회, 행 단위 계산 재현, 연도 전체 재계산 검증 API를 제공합니다.
+ */
+@Tag(name = "CalculationAudit", description = "배출량 계산 감사 (계수셋 스냅샷 / 재현 / 검증) API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/scope/audit")
+public class CalculationAuditController {
+
+    private final CalculationAuditService calculationAuditService;
+
+    /**
+     * X-MEMBER-ID 헤더에서 회원 ID 추출
+     */
+    private Long extractMemberId(HttpServletRequest request) {
+        String memberIdHeader = request.getHeader("X-MEMBER-ID");
+        if (memberIdHeader == null || memberIdHeader.isBlank()) {
+            return 1L; // 개발용 기본값
+        }
+        return Long.parseLong(memberIdHeader);
+    }
+
+    @Operation(summary = "계수셋 스냅샷 조회", description = "스냅샷 ID로 당시 연료 타입/발열량/배출계수 전체를 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "존재하지 않는 스냅샷")
+    })
+    @GetMapping("/factor-sets/{id}")
+    public ResponseEntity<FactorSetSnapshotResponse> getFactorSet(
+            @Parameter(description = "계수셋 스냅샷 ID", required = true) @PathVariable Integer id) {
+
+        return ResponseEntity.ok(calculationAuditService.getFactorSet(id));
+    }
+
+    @Operation(summary = "고정연소 계산 재현", description = "행에 기록된 계수셋 스냅샷으로 배출량을 다시 계산해 저장값과 비교합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "재현 성공"),
+            @ApiResponse(responseCode = "400", description = "계수셋 ID가 기록되지 않은 데이터"),
+            @ApiResponse(responseCode = "404", description = "데이터 없음")
+    })
+    @GetMapping("/stationary-combustion/{id}/reproduce")
+    public ResponseEntity<CalculationReproductionResponse> reproduceStationary(
+            @Parameter(description = "고정연소 데이터 ID", required = true) @PathVariable Long id,
+            HttpServletRequest httpRequest) {
+
+        Long memberId = extractMemberId(httpRequest);
+        return calculationAuditService.reproduceStationary(memberId, id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @Operation(summary = "연도 전체 계산 검증", description = "해당 연도 고정연소 데이터를 기록된 계수셋으로 병렬 재계산해 드리프트를 보고합니다.")
+    @PostMapping("/stationary-combustion/verify")
+    public ResponseEntity<CalculationVerifyResponse> verifyStationaryYear(
+            @Parameter(description = "보고 연도", required = true, example = "2024")
+            @RequestParam Integer year,
+            HttpServletRequest httpRequest) {
+
+        Long memberId = extractMemberId(httpRequest);
+        return ResponseEntity.ok(calculationAuditService.verifyStationaryYear(memberId, year));
+    }
+}
@@ -0,0 +1,54 @@
+package com.nsmm.esg.scopeservice.controller;
+
+import com.nsmm.esg.scopeservice.dto.EmissionChangeFeedResponse;
+import com.nsmm.esg.scopeservice.service.EmissionChangeLogService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 배출량 변경 피드 컨트롤러
+ * 하위 시스템(대시보드, 리포트 등)이 마지막으로 받은 시퀀스 이후의 변경만 가져가도록 커서 기반 피드를 제공합니다.
+ */
+@Tag(name = "EmissionChangeLog", description = "배출량 활동 데이터 변경 피드 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/scope/changes")
+public class EmissionChangeLogController {
+
+    private final EmissionChangeLogService emissionChangeLogService;
+
+    /**
+     * X-MEMBER-ID 헤더에서 회원 ID 추출
+     */
+    private Long extractMemberId(HttpServletRequest request) {
+        String memberIdHeader = request.getHeader("X-MEMBER-ID");
+        if (memberIdHeader == null || memberIdHeader.isBlank()) {
+            return 1L; // 개발용 기본값
+        }
+        return Long.parseLong(memberIdHeader);
+    }
+
+    @Operation(summary = "변경 피드 조회", description = "커서(회원별 시퀀스) 이후의 활동 데이터 변경 내역을 시퀀스 순서로 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청")
+    })
+    @GetMapping
+    public ResponseEntity<EmissionChangeFeedResponse> getChanges(
+            @Parameter(description = "마지막으로 받은 시퀀스 (없으면 처음부터)", example = "0")
+            @RequestParam(required = false) Long cursor,
+            @Parameter(description = "최대 조회 건수 (기본 100, 최대 1000)", example = "100")
+            @RequestParam(required = false) Integer limit,
+            HttpServletRequest httpRequest) {
+
+        Long memberId = extractMemberId(httpRequest);
+        return ResponseEntity.ok(emissionChangeLogService.getChangesSince(memberId, cursor, limit));
+    }
+}
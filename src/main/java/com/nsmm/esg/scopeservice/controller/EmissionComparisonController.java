@@ -0,0 +1,91 @@
+package com.nsmm.esg.scopeservice.controller;
+
+import com.nsmm.esg.scopeservice.dto.EmissionBaselineRequest;
+import com.nsmm.esg.scopeservice.dto.EmissionBaselineResponse;
+import com.nsmm.esg.scopeservice.dto.EmissionComparisonResponse;
+import com.nsmm.esg.scopeservice.service.EmissionComparisonService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 배출량 비교 컨트롤러
+ * 전년 대비 / 기준연도 대비 증감을 월별, 연료별, 시설별, 협력사별로 한 번에 제공하고 감축 목표 진척도를 추적합니다.
+ */
+@Tag(name = "EmissionComparison", description = "배출량 전년 대비 / 기준연도 대비 비교 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/scope/comparison")
+public class EmissionComparisonController {
+
+    private final EmissionComparisonService emissionComparisonService;
+
+    /**
+     * X-MEMBER-ID 헤더에서 회원 ID 추출
+     */
+    private Long extractMemberId(HttpServletRequest request) {
+        String memberIdHeader = request.getHeader("X-MEMBER-ID");
+        if (memberIdHeader == null || memberIdHeader.isBlank()) {
+            return 1L; // 개발용 기본값
+        }
+        return Long.parseLong(memberIdHeader);
+    }
+
+    @Operation(summary = "기준연도 스냅샷 등록", description = "기준연도 집계 벡터를 계산해 수정 불가능한 스냅샷으로 저장합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "등록 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 또는 이미 등록된 기준 연도")
+    })
+    @PostMapping("/baselines")
+    public ResponseEntity<EmissionBaselineResponse> createBaseline(
+            @Valid @RequestBody EmissionBaselineRequest request,
+            HttpServletRequest httpRequest) {
+
+        Long memberId = extractMemberId(httpRequest);
+        EmissionBaselineResponse response = emissionComparisonService.createBaseline(memberId, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @Operation(summary = "기준연도 스냅샷 목록 조회", description = "등록된 기준연도 스냅샷을 최근 연도 순으로 조회합니다.")
+    @GetMapping("/baselines")
+    public ResponseEntity<List<EmissionBaselineResponse>> getBaselines(HttpServletRequest httpRequest) {
+        Long memberId = extractMemberId(httpRequest);
+        return ResponseEntity.ok(emissionComparisonService.getBaselines(memberId));
+    }
+
+    @Operation(summary = "전년 대비 비교", description = "해당 연도와 비교 연도(기본: 직전 연도)의 증감을 차원별로 조회합니다.")
+    @GetMapping("/yoy")
+    public ResponseEntity<EmissionComparisonResponse> compareYearOverYear(
+            @Parameter(description = "보고 연도", required = true, example = "2024")
+            @RequestParam Integer year,
+            @Parameter(description = "비교 연도 (기본: 직전 연도)", example = "2023")
+            @RequestParam(required = false) Integer compareYear,
+            HttpServletRequest httpRequest) {
+
+        Long memberId = extractMemberId(httpRequest);
+        return ResponseEntity.ok(emissionComparisonService.compareYearOverYear(memberId, year, compareYear));
+    }
+
+    @Operation(summary = "기준연도 대비 비교", description = "기준연도 스냅샷 대비 증감과 감축 목표 진척도를 조회합니다.")
+    @GetMapping("/baseline")
+    public ResponseEntity<EmissionComparisonResponse> compareWithBaseline(
+            @Parameter(description = "보고 연도", required = true, example = "2024")
+            @RequestParam Integer year,
+            @Parameter(description = "기준 연도 (기본: 최근 등록 스냅샷)", example = "2020")
+            @RequestParam(required = false) Integer baseYear,
+            HttpServletRequest httpRequest) {
+
+        Long memberId = extractMemberId(httpRequest);
+        return ResponseEntity.ok(emissionComparisonService.compareWithBaseline(memberId, year, baseYear));
+    }
+}
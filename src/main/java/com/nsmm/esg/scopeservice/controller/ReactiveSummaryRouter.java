@@ -0,0 +1,95 @@
+package com.nsmm.esg.scopeservice.controller;
+
+import com.nsmm.esg.scopeservice.exception.ErrorResponse;
+import com.nsmm.esg.scopeservice.service.ReactiveStationaryCombustionSummaryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * 고정연소 집계 리액티브 라우터
+ * 서블릿(MVC) 앱에 WebFlux를 함께 올릴 수 없으므로, 함수형 라우트(WebMvc.fn)의 비동기 응답으로
+ * R2DBC 조회 결과를 반환해 DB 대기 중에 요청 스레드를 점유하지 않도록 합니다.
+ * 기존 MVC 집계 API와 같은 파라미터/응답 형식을 /api/v1/scope/reactive 하위에서 제공합니다.
+ */
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "scope.reactive-read", name = "enabled", havingValue = "true")
+public class ReactiveSummaryRouter {
+
+    private static final String BASE_PATH = "/api/v1/scope/reactive/stationary-combustion";
+
+    private final ReactiveStationaryCombustionSummaryService summaryService;
+
+    @Bean
+    public RouterFunction<ServerResponse> reactiveSummaryRoutes() {
+        return RouterFunctions.route()
+                .path(BASE_PATH, builder -> builder
+                        .GET("/summary/monthly", request -> async(summaryService.getMonthlyEmissionSummary(
+                                extractMemberId(request), requiredYear(request), optionalCompanyId(request))))
+                        .GET("/summary/by-fuel", request -> async(summaryService.getEmissionSummaryByFuel(
+                                extractMemberId(request), requiredYear(request), optionalCompanyId(request))))
+                        .GET("/summary/by-facility", request -> async(summaryService.getEmissionSummaryByFacility(
+                                extractMemberId(request), requiredYear(request), optionalCompanyId(request))))
+                        .GET("/summary/by-partner", request -> async(summaryService.getEmissionSummaryByPartner(
+                                extractMemberId(request), requiredYear(request))))
+                        .GET("/total-emission/year/{year}", request -> async(summaryService.getTotalEmissionByYear(
+                                extractMemberId(request), parseYear(request.pathVariable("year")),
+                                optionalCompanyId(request))))
+                        .GET("/dashboard/stats", request -> async(summaryService.getDashboardStats(
+                                extractMemberId(request), requiredYear(request)))))
+                .onError(IllegalArgumentException.class, (e, request) -> ServerResponse
+                        .status(HttpStatus.BAD_REQUEST)
+                        .body(ErrorResponse.builder()
+                                .timestamp(LocalDateTime.now())
+                                .status(HttpStatus.BAD_REQUEST.value())
+                                .error("Bad Request")
+                                .message(e.getMessage())
+                                .build()))
+                .build();
+    }
+
+    /**
+     * Mono 결과를 비동기 서블릿 응답으로 변환
+     */
+    private ServerResponse async(Mono<?> body) {
+        return ServerResponse.async(body.map(result -> ServerResponse.ok().body(result)));
+    }
+
+    /**
+     * X-MEMBER-ID 헤더에서 회원 ID 추출
+     */
+    private Long extractMemberId(ServerRequest request) {
+        String memberIdHeader = request.headers().firstHeader("X-MEMBER-ID");
+        if (memberIdHeader == null || memberIdHeader.isBlank()) {
+            return 1L; // 개발용 기본값
+        }
+        return Long.parseLong(memberIdHeader);
+    }
+
+    private Integer requiredYear(ServerRequest request) {
+        return parseYear(request.param("year")
+                .orElseThrow(() -> new IllegalArgumentException("보고 연도는 필수입니다.")));
+    }
+
+    private Integer parseYear(String year) {
+        try {
+            return Integer.valueOf(year);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 보고 연도입니다: " + year);
+        }
+    }
+
+    private String optionalCompanyId(ServerRequest request) {
+        return request.param("companyId").filter(companyId -> !companyId.isBlank()).orElse(null);
+    }
+}
@@ -0,0 +1,121 @@
+package com.nsmm.esg.scopeservice.controller;
+
+import com.nsmm.esg.scopeservice.dto.ExportJobResponse;
+import com.nsmm.esg.scopeservice.service.ExportJobService;
+import com.nsmm.esg.scopeservice.service.ReportExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.net.URI;
+
+/**
+ * 배출량 보고서 내보내기 컨트롤러
+ * 연간 온실가스 인벤토리 제출용으로 활동 데이터 전체를 CSV 또는 XLSX로 스트리밍하거나,
+ * 비동기 작업으로 파일을 만든 뒤 이어받기(Range)가 가능한 다운로드로 제공합니다.
+ */
+@Tag(name = "ReportExport", description = "배출량 보고서 내보내기 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/scope/reports")
+public class ReportExportController {
+
+    private final ReportExportService reportExportService;
+    private final ExportJobService exportJobService;
+
+    /**
+     * X-MEMBER-ID 헤더에서 회원 ID 추출
+     */
+    private Long extractMemberId(HttpServletRequest request) {
+        String memberIdHeader = request.getHeader("X-MEMBER-ID");
+        if (memberIdHeader == null || memberIdHeader.isBlank()) {
+            return 1L; // 개발용 기본값
+        }
+        return Long.parseLong(memberIdHeader);
+    }
+
+    @Operation(summary = "배출량 보고서 내보내기",
+            description = "고정연소/이동연소/전력/스팀 활동 데이터와 배출원별·Scope별 소계를 CSV 또는 XLSX로 내려받습니다.")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @Parameter(description = "보고 연도", required = true, example = "2024")
+            @RequestParam Integer year,
+            @Parameter(description = "형식 (csv, xlsx)", example = "csv")
+            @RequestParam(defaultValue = "csv") String format,
+            @Parameter(description = "협력사 ID (선택사항)", example = "550e8400-e29b-41d4-a716-446655440000")
+            @RequestParam(required = false) String companyId,
+            HttpServletRequest httpRequest) {
+
+        Long memberId = extractMemberId(httpRequest);
+        String normalizedFormat = reportExportService.validateFormat(format);
+
+        StreamingResponseBody body = out -> reportExportService.export(memberId, year, companyId, normalizedFormat, out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(reportExportService.fileNameOf(year, companyId, normalizedFormat))
+                        .build().toString())
+                .contentType(MediaType.parseMediaType(reportExportService.contentTypeOf(normalizedFormat)))
+                .body(body);
+    }
+
+    @Operation(summary = "보고서 내보내기 작업 제출",
+            description = "비동기로 보고서 파일을 생성합니다. 같은 조건의 작업이 진행 중이거나 완료되어 있으면 해당 작업을 반환합니다.")
+    @PostMapping("/jobs")
+    public ResponseEntity<ExportJobResponse> submitJob(
+            @Parameter(description = "보고 연도", required = true, example = "2024")
+            @RequestParam Integer year,
+            @Parameter(description = "형식 (csv, xlsx)", example = "xlsx")
+            @RequestParam(defaultValue = "csv") String format,
+            @Parameter(description = "협력사 ID (선택사항)", example = "550e8400-e29b-41d4-a716-446655440000")
+            @RequestParam(required = false) String companyId,
+            HttpServletRequest httpRequest) {
+
+        Long memberId = extractMemberId(httpRequest);
+        ExportJobResponse job = exportJobService.submit(memberId, year, companyId, format);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .location(URI.create("/api/v1/scope/reports/jobs/" + job.getJobId()))
+                .body(job);
+    }
+
+    @Operation(summary = "보고서 내보내기 작업 상태 조회")
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<ExportJobResponse> getJob(
+            @Parameter(description = "작업 ID", required = true)
+            @PathVariable String jobId,
+            HttpServletRequest httpRequest) {
+
+        Long memberId = extractMemberId(httpRequest);
+        return ResponseEntity.ok(exportJobService.getStatus(memberId, jobId));
+    }
+
+    @Operation(summary = "보고서 파일 다운로드", description = "완료된 작업의 파일을 내려받습니다. Range 헤더로 이어받기를 지원합니다.")
+    @GetMapping("/jobs/{jobId}/download")
+    public ResponseEntity<Resource> download(
+            @Parameter(description = "작업 ID", required = true)
+            @PathVariable String jobId,
+            HttpServletRequest httpRequest) {
+
+        Long memberId = extractMemberId(httpRequest);
+        Resource file = exportJobService.getFile(memberId, jobId);
+
+        // Range 헤더가 있으면 스프링 MVC가 206 Partial Content(ResourceRegion)로 응답
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(exportJobService.fileNameOf(memberId, jobId))
+                        .build().toString())
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .eTag(jobId)
+                .contentType(MediaType.parseMediaType(exportJobService.contentTypeOf(memberId, jobId)))
+                .body(file);
+    }
+}
@@ -0,0 +1,53 @@
+package com.nsmm.esg.scopeservice.controller;
+
+import com.nsmm.esg.scopeservice.dto.ScenarioRequest;
+import com.nsmm.esg.scopeservice.dto.ScenarioResponse;
+import com.nsmm.esg.scopeservice.service.ScenarioService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 배출량 시나리오 컨트롤러
+ * 기준 연도 활동량에 배율 조정/연료 전환 규칙을 적용했을 때의 배출량 증감을 계산합니다. 데이터는 변경하지 않습니다.
+ */
+@Tag(name = "Scenario", description = "배출량 What-if 시나리오 계산 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/scope/scenarios")
+public class ScenarioController {
+
+    private final ScenarioService scenarioService;
+
+    /**
+     * X-MEMBER-ID 헤더에서 회원 ID 추출
+     */
+    private Long extractMemberId(HttpServletRequest request) {
+        String memberIdHeader = request.getHeader("X-MEMBER-ID");
+        if (memberIdHeader == null || memberIdHeader.isBlank()) {
+            return 1L; // 개발용 기본값
+        }
+        return Long.parseLong(memberIdHeader);
+    }
+
+    @Operation(summary = "시나리오 계산",
+            description = "예: 시설 X의 경유 40%를 LNG로 전환(SUBSTITUTE, ratio 0.4)하면 배출량이 얼마나 바뀌는지 연료/시설/협력사별로 계산합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "계산 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 규칙")
+    })
+    @PostMapping("/evaluate")
+    public ResponseEntity<ScenarioResponse> evaluate(
+            @Valid @RequestBody ScenarioRequest request,
+            HttpServletRequest httpRequest) {
+
+        Long memberId = extractMemberId(httpRequest);
+        return ResponseEntity.ok(scenarioService.evaluate(memberId, request));
+    }
+}
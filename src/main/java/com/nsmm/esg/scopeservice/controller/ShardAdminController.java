@@ -0,0 +1,53 @@
+package com.nsmm.esg.scopeservice.controller;
+
+import com.nsmm.esg.scopeservice.dto.ShardSummaryResponse;
+import com.nsmm.esg.scopeservice.service.ShardAdminService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * 샤드 관리 컨트롤러 (관리자용)
+ * 샤드 전체 집계와 회원 샤드 이동 API를 제공합니다.
+ * SecurityConfig에서 X-ADMIN-TOKEN 헤더가 scope.admin.token과 일치하는 요청만 허용합니다.
+ */
+@Tag(name = "ShardAdmin", description = "회원 샤드 관리 API (관리자용)")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/scope/admin/shards")
+@ConditionalOnProperty(prefix = "scope.sharding", name = "enabled", havingValue = "true")
+public class ShardAdminController {
+
+    private final ShardAdminService shardAdminService;
+
+    @Operation(summary = "샤드 전체 연도별 배출량 집계", description = "모든 샤드의 고정연소 배출량을 병렬로 집계합니다.")
+    @GetMapping("/summary")
+    public ResponseEntity<ShardSummaryResponse> getShardSummary(
+            @Parameter(description = "보고 연도", required = true, example = "2024")
+            @RequestParam Integer year) {
+
+        return ResponseEntity.ok(shardAdminService.aggregateStationaryEmissionByYear(year));
+    }
+
+    @Operation(summary = "회원 샤드 이동", description = "회원 데이터를 대상 샤드로 복사·검증한 뒤 디렉터리를 전환하고 원본을 삭제합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "이동 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 대상 샤드"),
+            @ApiResponse(responseCode = "403", description = "관리자 토큰(X-ADMIN-TOKEN) 없음 또는 불일치")
+    })
+    @PostMapping("/members/{memberId}/move")
+    public ResponseEntity<Map<String, Object>> moveMember(
+            @Parameter(description = "회원 ID", required = true) @PathVariable Long memberId,
+            @Parameter(description = "대상 샤드 키", required = true, example = "shard-1") @RequestParam String target) {
+
+        return ResponseEntity.ok(shardAdminService.moveMember(memberId, target));
+    }
+}
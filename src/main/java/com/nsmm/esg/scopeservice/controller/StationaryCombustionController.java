@@ -1,9 +1,21 @@
 package com.nsmm.esg.scopeservice.controller;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.nsmm.esg.scopeservice.dto.DataQualityResponse;
+import com.nsmm.esg.scopeservice.dto.IfMatch;
+import com.nsmm.esg.scopeservice.dto.StationaryCombustionBulkUpdateRequest;
 import com.nsmm.esg.scopeservice.dto.StationaryCombustionRequest;
 import com.nsmm.esg.scopeservice.dto.StationaryCombustionResponse;
+import com.nsmm.esg.scopeservice.dto.PeriodEmissionResponse;
 import com.nsmm.esg.scopeservice.dto.ScopeEmissionSummaryResponse;
+import com.nsmm.esg.scopeservice.dto.TopEmitterResponse;
+import com.nsmm.esg.scopeservice.service.DashboardStreamService;
+import com.nsmm.esg.scopeservice.service.DataQualityService;
+import com.nsmm.esg.scopeservice.service.EmissionBreakdownService;
+import com.nsmm.esg.scopeservice.service.IdempotencyKeyStore;
+import com.nsmm.esg.scopeservice.service.PeriodAggregationService;
 import com.nsmm.esg.scopeservice.service.StationaryCombustionService;
+import com.nsmm.esg.scopeservice.service.TopEmitterService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -12,8 +24,11 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -30,7 +45,15 @@ import java.util.Map;
 @RequestMapping("/api/v1/scope/stationary-combustion")
 public class StationaryCombustionController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final StationaryCombustionService stationaryCombustionService;
+    private final IdempotencyKeyStore idempotencyKeyStore;
+    private final DashboardStreamService dashboardStreamService;
+    private final TopEmitterService topEmitterService;
+    private final EmissionBreakdownService emissionBreakdownService;
+    private final PeriodAggregationService periodAggregationService;
+    private final DataQualityService dataQualityService;
 
     /**
      * X-MEMBER-ID 헤더에서 회원 ID 추출
@@ -43,14 +66,28 @@ public class StationaryCombustionController {
         return Long.parseLong(memberIdHeader);
     }
 
+    /**
+     * 버전이 있으면 ETag 헤더를 붙여 200 응답 생성
+     */
+    private ResponseEntity<StationaryCombustionResponse> okWithETag(StationaryCombustionResponse response) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (response.getVersion() != null) {
+            builder.eTag(String.valueOf(response.getVersion()));
+        }
+        return builder.body(response);
+    }
+
     // =============================================================================
     // 핵심 CRUD API - ScopeModal에서 사용
     // =============================================================================
 
-    @Operation(summary = "고정연소 데이터 생성", description = "ScopeModal에서 전송된 고정연소 데이터를 생성하고 배출량을 계산합니다.")
+    @Operation(summary = "고정연소 데이터 생성",
+               description = "ScopeModal에서 전송된 고정연소 데이터를 생성하고 배출량을 계산합니다. " +
+                             "같은 시설/월/연료 데이터가 이미 있으면 새로 추가하지 않고 갱신합니다.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "고정연소 데이터 생성 성공"),
         @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터"),
+        @ApiResponse(responseCode = "422", description = "같은 Idempotency-Key를 다른 요청 본문으로 재사용"),
         @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
     @PostMapping
@@ -62,15 +99,44 @@ public class StationaryCombustionController {
         Long memberId = extractMemberId(httpRequest);
         request.setMemberId(memberId);  // 헤더 값으로 덮어쓰기
             
-        StationaryCombustionResponse response = stationaryCombustionService.createStationaryCombustion(request);
+        StationaryCombustionResponse response = idempotencyKeyStore.execute(
+                memberId, httpRequest.getHeader(IDEMPOTENCY_KEY_HEADER), request,
+                new TypeReference<StationaryCombustionResponse>() { },
+                () -> stationaryCombustionService.createStationaryCombustion(request));
         return ResponseEntity.ok(response);
     }
 
-    @Operation(summary = "고정연소 데이터 수정", description = "기존 고정연소 데이터를 수정하고 배출량을 재계산합니다.")
+    @Operation(summary = "고정연소 데이터 일괄 생성",
+               description = "여러 건의 고정연소 데이터를 한 번에 저장합니다. 단건 생성과 동일하게 자연키 기준으로 업서트합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "일괄 저장 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터"),
+        @ApiResponse(responseCode = "422", description = "같은 Idempotency-Key를 다른 요청 본문으로 재사용")
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<List<StationaryCombustionResponse>> createStationaryCombustionBatch(
+            @Parameter(description = "고정연소 요청 데이터 목록", required = true)
+            @Valid @RequestBody List<StationaryCombustionRequest> requests,
+            HttpServletRequest httpRequest) {
+
+        Long memberId = extractMemberId(httpRequest);
+        List<StationaryCombustionResponse> responses = idempotencyKeyStore.execute(
+                memberId, httpRequest.getHeader(IDEMPOTENCY_KEY_HEADER), requests,
+                new TypeReference<List<StationaryCombustionResponse>>() { },
+                () -> stationaryCombustionService.createStationaryCombustionBatch(memberId, requests));
+        return ResponseEntity.ok(responses);
+    }
+
+    @Operation(summary = "고정연소 데이터 수정",
+               description = "기존 고정연소 데이터를 수정하고 배출량을 재계산합니다. " +
+                             "If-Match 헤더에 조회 시 받은 ETag를 넣으면 다른 사용자의 수정과 충돌할 때 412와 현재 상태를 반환합니다. " +
+                             "If-Match는 RFC 9110에 따라 \"*\" 또는 ETag 목록을 받으며, 약한 ETag(W/)는 일치하지 않는 것으로 처리합니다.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "수정 성공"),
         @ApiResponse(responseCode = "404", description = "데이터를 찾을 수 없음"),
-        @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터")
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터 또는 If-Match 헤더 형식 오류"),
+        @ApiResponse(responseCode = "409", description = "동시 수정 충돌 또는 같은 자연키의 데이터가 이미 있음"),
+        @ApiResponse(responseCode = "412", description = "버전 충돌 (현재 상태 포함)")
     })
     @PutMapping("/{id}")
     public ResponseEntity<StationaryCombustionResponse> updateStationaryCombustion(
@@ -81,8 +147,27 @@ public class StationaryCombustionController {
             HttpServletRequest httpRequest) {
         
         Long memberId = extractMemberId(httpRequest);
-        StationaryCombustionResponse response = stationaryCombustionService.updateStationaryCombustion(id, memberId, request);
-        return ResponseEntity.ok(response);
+        IfMatch ifMatch = IfMatch.parse(httpRequest.getHeader(HttpHeaders.IF_MATCH));
+        return stationaryCombustionService.updateStationaryCombustion(id, memberId, ifMatch, request)
+                .map(this::okWithETag)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @Operation(summary = "고정연소 데이터 다건 비배출 필드 수정",
+               description = "시설명, 시설 위치, 비고를 여러 건에 한 번에 반영합니다. 배출량 재계산은 수행하지 않습니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "수정 성공 (수정 건수 반환)"),
+        @ApiResponse(responseCode = "409", description = "시설명 변경으로 같은 자연키의 데이터가 생김 (수정하지 않음)")
+    })
+    @PatchMapping("/bulk")
+    public ResponseEntity<Map<String, Integer>> updateStationaryCombustionBulk(
+            @Parameter(description = "다건 수정 요청 데이터", required = true)
+            @RequestBody StationaryCombustionBulkUpdateRequest request,
+            HttpServletRequest httpRequest) {
+
+        Long memberId = extractMemberId(httpRequest);
+        int updatedCount = stationaryCombustionService.updateDescriptiveFieldsBulk(memberId, request);
+        return ResponseEntity.ok(Map.of("updatedCount", updatedCount));
     }
 
     @Operation(summary = "고정연소 데이터 삭제", description = "특정 고정연소 데이터를 삭제합니다.")
@@ -97,8 +182,40 @@ public class StationaryCombustionController {
             HttpServletRequest httpRequest) {
         
         Long memberId = extractMemberId(httpRequest);
-        stationaryCombustionService.deleteStationaryCombustion(id, memberId);
-        return ResponseEntity.noContent().build();
+        boolean deleted = stationaryCombustionService.deleteStationaryCombustion(id, memberId);
+        return deleted ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
+    }
+
+    @Operation(summary = "고정연소 데이터 다건 삭제", description = "ID 목록에 해당하는 회원의 고정연소 데이터를 한 번에 삭제합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "삭제 성공 (삭제 건수 반환)")
+    })
+    @DeleteMapping("/bulk")
+    public ResponseEntity<Map<String, Integer>> deleteStationaryCombustionBulk(
+            @Parameter(description = "삭제할 고정연소 데이터 ID 목록", required = true)
+            @RequestBody List<Long> ids,
+            HttpServletRequest httpRequest) {
+
+        Long memberId = extractMemberId(httpRequest);
+        int deletedCount = stationaryCombustionService.deleteStationaryCombustionBulk(ids, memberId);
+        return ResponseEntity.ok(Map.of("deletedCount", deletedCount));
+    }
+
+    @Operation(summary = "협력사별 연도별 고정연소 데이터 일괄 삭제", description = "특정 협력사의 해당 연도 고정연소 데이터를 한 번에 삭제합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "삭제 성공 (삭제 건수 반환)")
+    })
+    @DeleteMapping("/partner/{companyId}/year/{year}")
+    public ResponseEntity<Map<String, Integer>> deleteStationaryCombustionByPartnerAndYear(
+            @Parameter(description = "협력사 ID (UUID)", required = true, example = "550e8400-e29b-41d4-a716-446655440000")
+            @PathVariable String companyId,
+            @Parameter(description = "보고 연도", required = true, example = "2024")
+            @PathVariable Integer year,
+            HttpServletRequest httpRequest) {
+
+        Long memberId = extractMemberId(httpRequest);
+        int deletedCount = stationaryCombustionService.deleteByPartnerAndYear(memberId, companyId, year);
+        return ResponseEntity.ok(Map.of("deletedCount", deletedCount));
     }
 
     @Operation(summary = "고정연소 데이터 상세 조회", description = "특정 고정연소 데이터의 상세 정보를 조회합니다.")
@@ -114,7 +231,7 @@ public class StationaryCombustionController {
         
         Long memberId = extractMemberId(httpRequest);
         StationaryCombustionResponse response = stationaryCombustionService.getById(id, memberId);
-        return ResponseEntity.ok(response);
+        return okWithETag(response);
     }
 
     // =============================================================================
@@ -210,6 +327,77 @@ public class StationaryCombustionController {
         return ResponseEntity.ok(summaries);
     }
 
+    @Operation(summary = "기간별 배출량 집계", description = "분기(QUARTERLY), 반기(HALF_YEARLY), 연간(YEARLY), 회계연도 분기(FISCAL_YEAR), 최근 12개월(ROLLING_12) 단위로 배출량을 집계합니다.")
+    @GetMapping("/summary/period")
+    public ResponseEntity<PeriodEmissionResponse> getPeriodSummary(
+            @Parameter(description = "보고 연도 (회계연도는 시작 연도)", required = true, example = "2024")
+            @RequestParam Integer year,
+            @Parameter(description = "집계 유형", example = "QUARTERLY")
+            @RequestParam(defaultValue = "QUARTERLY") String type,
+            @Parameter(description = "회계연도 시작 월 (FISCAL_YEAR, 미지정 시 설정값)", example = "4")
+            @RequestParam(required = false) Integer fiscalStartMonth,
+            @Parameter(description = "협력사 ID (선택사항)", example = "550e8400-e29b-41d4-a716-446655440000")
+            @RequestParam(required = false) String companyId,
+            HttpServletRequest httpRequest) {
+
+        Long memberId = extractMemberId(httpRequest);
+        return ResponseEntity.ok(periodAggregationService.aggregate(memberId, year, companyId, type, fiscalStartMonth));
+    }
+
+    @Operation(summary = "연료 구성비 조회", description = "연료별 배출량/사용량/구성비와 연료 카테고리별 합계를 한 번에 조회합니다. 구성비 합계는 항상 100%입니다.")
+    @GetMapping("/summary/fuel-breakdown")
+    public ResponseEntity<ScopeEmissionSummaryResponse> getFuelBreakdown(
+            @Parameter(description = "보고 연도", required = true, example = "2024")
+            @RequestParam Integer year,
+            @Parameter(description = "협력사 ID (선택사항)", example = "550e8400-e29b-41d4-a716-446655440000")
+            @RequestParam(required = false) String companyId,
+            HttpServletRequest httpRequest) {
+
+        Long memberId = extractMemberId(httpRequest);
+        return ResponseEntity.ok(emissionBreakdownService.getFuelBreakdown(memberId, year, companyId));
+    }
+
+    @Operation(summary = "데이터 품질 요약", description = "계산 품질(정확/연도 대체/이름 기본값/실패)별 건수·배출량 구성과 품질 점수, 대체 계수를 사용한 연료를 조회합니다.")
+    @GetMapping("/summary/data-quality")
+    public ResponseEntity<DataQualityResponse> getDataQuality(
+            @Parameter(description = "보고 연도", required = true, example = "2024")
+            @RequestParam Integer year,
+            @Parameter(description = "협력사 ID (선택사항)", example = "550e8400-e29b-41d4-a716-446655440000")
+            @RequestParam(required = false) String companyId,
+            HttpServletRequest httpRequest) {
+
+        Long memberId = extractMemberId(httpRequest);
+        return ResponseEntity.ok(dataQualityService.getStationaryDataQuality(memberId, year, companyId));
+    }
+
+    @Operation(summary = "협력사별 배출량 상위 N개", description = "배출량 상위 N개 협력사와 나머지를 합친 기타 항목을 조회합니다.")
+    @GetMapping("/summary/top-partners")
+    public ResponseEntity<TopEmitterResponse> getTopPartners(
+            @Parameter(description = "보고 연도", required = true, example = "2024")
+            @RequestParam Integer year,
+            @Parameter(description = "조회 개수 (1~100)", example = "10")
+            @RequestParam(defaultValue = "10") Integer limit,
+            HttpServletRequest httpRequest) {
+
+        Long memberId = extractMemberId(httpRequest);
+        return ResponseEntity.ok(topEmitterService.getTopStationaryPartners(memberId, year, limit));
+    }
+
+    @Operation(summary = "시설별 배출량 상위 N개", description = "배출량 상위 N개 시설과 나머지를 합친 기타 항목을 조회합니다.")
+    @GetMapping("/summary/top-facilities")
+    public ResponseEntity<TopEmitterResponse> getTopFacilities(
+            @Parameter(description = "보고 연도", required = true, example = "2024")
+            @RequestParam Integer year,
+            @Parameter(description = "협력사 ID (선택사항)", example = "550e8400-e29b-41d4-a716-446655440000")
+            @RequestParam(required = false) String companyId,
+            @Parameter(description = "조회 개수 (1~100)", example = "10")
+            @RequestParam(defaultValue = "10") Integer limit,
+            HttpServletRequest httpRequest) {
+
+        Long memberId = extractMemberId(httpRequest);
+        return ResponseEntity.ok(topEmitterService.getTopStationaryFacilities(memberId, year, companyId, limit));
+    }
+
     @Operation(summary = "연도별 총 배출량 조회", description = "특정 연도의 총 고정연소 배출량을 조회합니다.")
     @GetMapping("/total-emission/year/{year}")
     public ResponseEntity<BigDecimal> getTotalEmissionByYear(
@@ -265,4 +453,16 @@ public class StationaryCombustionController {
         Map<String, Object> stats = stationaryCombustionService.getDashboardStats(memberId, year);
         return ResponseEntity.ok(stats);
     }
+
+    @Operation(summary = "대시보드 고정연소 통계 스트림 (SSE)",
+            description = "구독 즉시 현재 통계를 보내고, 이후 해당 연도의 활동 데이터가 변경될 때마다 최신 통계를 푸시합니다.")
+    @GetMapping(value = "/dashboard/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamDashboardStats(
+            @Parameter(description = "보고 연도", required = true, example = "2024")
+            @RequestParam Integer year,
+            HttpServletRequest httpRequest) {
+
+        Long memberId = extractMemberId(httpRequest);
+        return dashboardStreamService.subscribe(memberId, year);
+    }
 }
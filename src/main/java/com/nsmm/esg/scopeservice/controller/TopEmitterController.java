@@ -0,0 +1,48 @@
+package com.nsmm.esg.scopeservice.controller;
+
+import com.nsmm.esg.scopeservice.dto.TopEmitterResponse;
+import com.nsmm.esg.scopeservice.service.TopEmitterService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 배출원 통합 상위 N개 컨트롤러
+ * 고정연소와 이동연소를 합친 Scope 1 기준 상위 배출 협력사를 제공합니다.
+ */
+@Tag(name = "TopEmitter", description = "Scope 1 통합 상위 배출 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/scope/top-emitters")
+public class TopEmitterController {
+
+    private final TopEmitterService topEmitterService;
+
+    /**
+     * X-MEMBER-ID 헤더에서 회원 ID 추출
+     */
+    private Long extractMemberId(HttpServletRequest request) {
+        String memberIdHeader = request.getHeader("X-MEMBER-ID");
+        if (memberIdHeader == null || memberIdHeader.isBlank()) {
+            return 1L; // 개발용 기본값
+        }
+        return Long.parseLong(memberIdHeader);
+    }
+
+    @Operation(summary = "Scope 1 협력사별 배출량 상위 N개", description = "고정연소와 이동연소를 합산한 협력사별 상위 N개와 기타 항목을 조회합니다.")
+    @GetMapping("/partners")
+    public ResponseEntity<TopEmitterResponse> getTopPartners(
+            @Parameter(description = "보고 연도", required = true, example = "2024")
+            @RequestParam Integer year,
+            @Parameter(description = "조회 개수 (1~100)", example = "10")
+            @RequestParam(defaultValue = "10") Integer limit,
+            HttpServletRequest httpRequest) {
+
+        Long memberId = extractMemberId(httpRequest);
+        return ResponseEntity.ok(topEmitterService.getTopScope1Partners(memberId, year, limit));
+    }
+}
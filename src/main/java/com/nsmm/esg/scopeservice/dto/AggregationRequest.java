@@ -0,0 +1,44 @@
+package com.nsmm.esg.scopeservice.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 활동 데이터 임의 집계 요청 DTO
+ * 차원/측정값은 허용 목록의 이름만 받으며, 필터는 지정한 항목만 조건으로 사용합니다.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AggregationRequest {
+
+    @NotNull(message = "연도는 필수입니다.")
+    private Integer year;
+
+    @Size(max = 4, message = "차원은 최대 4개까지 지정할 수 있습니다.")
+    private List<String> dimensions;     // MONTH, QUARTER, COMPANY_ID, FACILITY, FUEL_ID, CATEGORY, SCOPE (생략 시 전체 합계)
+
+    @Size(max = 3, message = "측정값은 최대 3개까지 지정할 수 있습니다.")
+    private List<String> measures;       // EMISSION, USAGE, COUNT (생략 시 EMISSION)
+
+    // 필터 (선택)
+    private String companyId;
+    private String facility;
+    private String fuelId;
+    private String scope;                // SCOPE1 / SCOPE2
+
+    @Min(value = 1, message = "시작 월은 1 이상이어야 합니다.")
+    @Max(value = 12, message = "시작 월은 12 이하여야 합니다.")
+    private Integer fromMonth;
+
+    @Min(value = 1, message = "종료 월은 1 이상이어야 합니다.")
+    @Max(value = 12, message = "종료 월은 12 이하여야 합니다.")
+    private Integer toMonth;
+}
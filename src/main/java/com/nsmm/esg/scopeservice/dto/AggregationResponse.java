@@ -0,0 +1,44 @@
+package com.nsmm.esg.scopeservice.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 활동 데이터 임의 집계 응답 DTO
+ * 행은 차원 값 오름차순이며, 요청하지 않은 측정값은 null입니다.
+ * 사용량을 요청하면 같은 차원 값이라도 배출원·입력 단위가 다르면 별도 행입니다.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AggregationResponse {
+
+    private Long memberId;
+    private Integer year;
+    private List<String> dimensions;
+    private List<String> measures;
+    private String engine;               // CUBE (활동 큐브) / SQL
+    private List<Row> rows;
+    private Map<String, String> units;   // 측정값 → 단위 (EMISSION: tCO2eq, COUNT: 건 / USAGE는 행별 usageUnit)
+    private LocalDateTime calculatedAt;
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Row {
+        private Map<String, Object> keys;    // 차원 이름 → 값 (요청 순서)
+        private BigDecimal emission;
+        private BigDecimal usage;
+        private String usageUnit;            // 사용량 입력 단위 (USAGE 요청 시)
+        private String source;               // 배출원 STATIONARY / MOBILE / ELECTRICITY / STEAM (USAGE 요청 시)
+        private Long count;
+    }
+}
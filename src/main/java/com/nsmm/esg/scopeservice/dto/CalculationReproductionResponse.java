@@ -0,0 +1,63 @@
+package com.nsmm.esg.scopeservice.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 배출량 계산 재현 응답 DTO
+ * 행에 기록된 계수셋 스냅샷으로 다시 계산한 값과 저장된 값을 나란히 제공합니다.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalculationReproductionResponse {
+
+    private Long id;
+    private String fuelId;
+    private BigDecimal fuelUsage;
+    private String unit;
+    private Integer reportingYear;
+
+    private Integer factorSetId;         // 계산에 사용한 계수셋 스냅샷 ID
+    private Integer kernelVersion;       // 스냅샷의 계산 로직 버전
+    private Boolean kernelCurrent;       // 현재 계산 로직과 같은 버전인지 여부
+    private String yearPolicy;           // 스냅샷의 연도 결정 정책 (FLOOR / CEILING / STRICT)
+    private Factors factors;             // 재현에 사용한 계수 (스냅샷에 연료가 없으면 null)
+
+    private Emissions stored;            // 저장된 배출량
+    private Emissions recomputed;        // 재계산한 배출량
+    private BigDecimal drift;            // 재계산 총 배출량 - 저장 총 배출량
+    private Boolean matched;             // 네 배출량이 모두 같은지 여부
+
+    private LocalDateTime reproducedAt;
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Factors {
+        private BigDecimal calorificValue;
+        private String calorificUnit;    // 기본값 사용 시 null (단위 환산 생략)
+        private BigDecimal co2Factor;
+        private BigDecimal ch4Factor;
+        private BigDecimal n2oFactor;
+        private String quality;          // EXACT / YEAR_FALLBACK / NAME_DEFAULT
+    }
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Emissions {
+        private BigDecimal co2Emission;
+        private BigDecimal ch4Emission;
+        private BigDecimal n2oEmission;
+        private BigDecimal totalCo2Equivalent;
+    }
+}
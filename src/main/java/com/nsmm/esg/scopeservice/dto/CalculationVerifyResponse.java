@@ -0,0 +1,50 @@
+package com.nsmm.esg.scopeservice.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 연도 전체 계산 검증 응답 DTO
+ * 행마다 기록된 계수셋 스냅샷으로 재계산해 저장값과 다른 행(드리프트)을 집계합니다.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalculationVerifyResponse {
+
+    private Long memberId;
+    private Integer year;
+    private List<Integer> factorSetIds;  // 검증 대상 행이 참조한 계수셋 스냅샷 ID
+
+    private Long checkedCount;           // 재계산한 행 수
+    private Long matchedCount;           // 저장값과 같은 행 수
+    private Long driftedCount;           // 저장값과 다른 행 수
+    private Long unrecordedCount;        // 계수셋 ID가 기록되지 않은 행 수 (감사 도입 이전 데이터)
+    private Long missingSnapshotCount;   // 참조한 스냅샷이 없는 행 수
+    private BigDecimal totalDrift;       // 재계산 총 배출량 합계 - 저장 총 배출량 합계
+
+    private List<Drift> drifts;          // 드리프트 절대값 상위 행
+    private Boolean driftsTruncated;     // 드리프트 행이 상한을 넘어 일부만 포함되었는지 여부
+
+    private Long elapsedMillis;
+    private String unit;
+    private LocalDateTime verifiedAt;
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Drift {
+        private Long id;
+        private Integer factorSetId;
+        private BigDecimal storedTotal;
+        private BigDecimal recomputedTotal;
+        private BigDecimal drift;
+    }
+}
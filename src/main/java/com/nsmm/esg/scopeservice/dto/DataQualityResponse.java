@@ -0,0 +1,59 @@
+package com.nsmm.esg.scopeservice.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 배출량 데이터 품질 요약 응답 DTO
+ * 계산 품질별 건수/배출량 구성과, 보고 연도 계수를 쓰지 못한 연료 목록을 제공합니다.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DataQualityResponse {
+
+    private Long memberId;
+    private Integer year;
+    private String companyId;
+
+    private Long totalCount;
+    private BigDecimal totalEmission;
+    private BigDecimal qualityScore;     // 품질이 기록된 행 기준 점수 (0~100, 건수 가중)
+
+    private List<QualityShare> qualities; // 품질별 구성 (EXACT → FAILED 순, 미기록은 UNKNOWN)
+    private List<FuelQuality> fallbackFuels; // EXACT가 아닌 연료 (배출량 내림차순)
+
+    private String unit;
+    private LocalDateTime calculatedAt;
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class QualityShare {
+        private String quality;
+        private Long count;
+        private BigDecimal emission;
+        private BigDecimal countPercentage;    // 건수 구성비 (%)
+        private BigDecimal emissionPercentage; // 배출량 구성비 (%)
+    }
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FuelQuality {
+        private String fuelId;
+        private String fuelName;
+        private String quality;
+        private Long count;
+        private BigDecimal emission;
+    }
+}
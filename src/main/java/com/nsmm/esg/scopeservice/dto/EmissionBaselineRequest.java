@@ -0,0 +1,28 @@
+package com.nsmm.esg.scopeservice.dto;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * 기준연도 스냅샷 등록 요청 DTO
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmissionBaselineRequest {
+
+    @NotNull(message = "기준 연도는 필수입니다.")
+    private Integer baseYear;                   // 기준 연도
+
+    private Integer targetYear;                 // 감축 목표 연도
+
+    @DecimalMin(value = "0", message = "감축 목표율은 0 이상이어야 합니다.")
+    @DecimalMax(value = "100", message = "감축 목표율은 100 이하여야 합니다.")
+    private BigDecimal reductionTargetPercent;  // 기준연도 대비 감축 목표율 (%)
+}
@@ -0,0 +1,27 @@
+package com.nsmm.esg.scopeservice.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 기준연도 스냅샷 응답 DTO
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmissionBaselineResponse {
+
+    private Long id;
+    private Long memberId;
+    private Integer baseYear;
+    private Integer targetYear;
+    private BigDecimal reductionTargetPercent;
+    private BigDecimal totalEmission;
+    private BigDecimal targetEmission;          // 목표 연도 배출량 (기준 × (1 - 목표율))
+    private EmissionVector vectors;
+    private LocalDateTime createdAt;
+}
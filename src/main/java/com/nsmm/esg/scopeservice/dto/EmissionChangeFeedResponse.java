@@ -0,0 +1,22 @@
+package com.nsmm.esg.scopeservice.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 배출량 변경 피드 응답 DTO
+ * nextCursor를 다음 요청의 cursor로 넘기면 이어서 조회할 수 있습니다.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmissionChangeFeedResponse {
+
+    private Long memberId;                         // 회원 ID
+    private List<EmissionChangeResponse> changes;  // 변경 목록 (시퀀스 오름차순)
+    private Long nextCursor;                       // 다음 조회 커서
+    private Boolean hasMore;                       // 추가 변경 존재 여부
+}
@@ -0,0 +1,30 @@
+package com.nsmm.esg.scopeservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배출량 변경 이벤트 응답 DTO
+ * 변경 피드 조회와 브로커 발행에 공통으로 사용
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmissionChangeResponse {
+
+    private Long seq;                      // 회원별 변경 시퀀스 (커서)
+    private Long memberId;                 // 회원 ID
+    private Integer reportingYear;         // 보고 연도 (알 수 없으면 null)
+    private String entityType;             // 활동 데이터 유형
+    private Long entityId;                 // 활동 데이터 ID (다건 변경이면 null)
+    private String operation;              // 변경 유형
+
+    @JsonRawValue
+    private String payload;                // 변경 내용 (JSON)
+
+    private LocalDateTime changedAt;       // 변경 일시
+}
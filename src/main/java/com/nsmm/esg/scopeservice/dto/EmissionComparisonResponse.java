@@ -0,0 +1,61 @@
+package com.nsmm.esg.scopeservice.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 배출량 비교 응답 DTO (전년 대비 / 기준연도 대비)
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmissionComparisonResponse {
+
+    private Long memberId;
+    private Integer year;                   // 비교 연도
+    private Integer compareYear;            // 비교 대상 연도 (전년 또는 기준연도)
+    private String compareSource;           // BASELINE(스냅샷) / LIVE(실시간 집계)
+
+    private Delta total;
+    private List<Delta> monthly;
+    private List<Delta> byFuel;
+    private List<Delta> byFacility;
+    private List<Delta> byPartner;
+
+    private TargetProgress targetProgress;  // 기준연도 비교 시에만 포함
+
+    private String unit;
+    private LocalDateTime calculatedAt;
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Delta {
+        private String key;
+        private BigDecimal current;
+        private BigDecimal previous;
+        private BigDecimal delta;           // current - previous
+        private BigDecimal changePercent;   // 대상 값이 0이면 null
+    }
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TargetProgress {
+        private Integer targetYear;
+        private BigDecimal reductionTargetPercent;
+        private BigDecimal targetEmission;          // 목표 연도 배출량
+        private BigDecimal expectedEmission;        // 선형 감축 경로상 해당 연도 기대 배출량
+        private BigDecimal achievedReductionPercent; // 기준연도 대비 실제 감축률 (%)
+        private Boolean onTrack;                    // 실제 배출량 <= 기대 배출량
+    }
+}
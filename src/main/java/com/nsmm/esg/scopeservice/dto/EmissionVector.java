@@ -0,0 +1,59 @@
+package com.nsmm.esg.scopeservice.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 연도별 배출량 집계 벡터
+ * 월(1~12), 연료, 시설, 협력사 차원의 합계를 한 번의 롤업 조회로 채우며 기준연도 스냅샷의 저장 형식으로도 사용됩니다.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmissionVector {
+
+    public static final String UNASSIGNED = "미지정";
+
+    private BigDecimal total;
+    private List<BigDecimal> monthly;               // 인덱스 0 = 1월
+    private Map<String, BigDecimal> byFuel;
+    private Map<String, BigDecimal> byFacility;
+    private Map<String, BigDecimal> byPartner;
+
+    /**
+     * 빈 벡터 생성
+     */
+    public static EmissionVector empty() {
+        return EmissionVector.builder()
+                .total(BigDecimal.ZERO)
+                .monthly(new ArrayList<>(Collections.nCopies(12, BigDecimal.ZERO)))
+                .byFuel(new LinkedHashMap<>())
+                .byFacility(new LinkedHashMap<>())
+                .byPartner(new LinkedHashMap<>())
+                .build();
+    }
+
+    /**
+     * 롤업 행 하나(월, 연료, 시설, 협력사, 합계)를 모든 차원에 누적
+     */
+    public void accumulate(Integer month, String fuel, String facility, String partner, BigDecimal emission) {
+        if (emission == null) {
+            return;
+        }
+        total = total.add(emission);
+        if (month != null && month >= 1 && month <= 12) {
+            monthly.set(month - 1, monthly.get(month - 1).add(emission));
+        }
+        byFuel.merge(fuel != null ? fuel : UNASSIGNED, emission, BigDecimal::add);
+        byFacility.merge(facility != null ? facility : UNASSIGNED, emission, BigDecimal::add);
+        byPartner.merge(partner != null ? partner : UNASSIGNED, emission, BigDecimal::add);
+    }
+}
@@ -0,0 +1,34 @@
+package com.nsmm.esg.scopeservice.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보고서 내보내기 작업 상태 응답 DTO
+ * status가 COMPLETED이면 downloadUrl로 파일을 내려받을 수 있으며, Range 요청으로 이어받기가 가능합니다.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportJobResponse {
+
+    private String jobId;
+    private Long memberId;
+    private Integer year;
+    private String companyId;
+    private String format;               // csv / xlsx
+    private String status;               // PENDING / RUNNING / COMPLETED / FAILED
+    private Boolean deduplicated;        // 같은 조건의 기존 작업을 재사용했는지 여부
+
+    private String fileName;
+    private Long sizeBytes;              // 완료 시 파일 크기
+    private String downloadUrl;
+    private String errorMessage;         // 실패 사유
+
+    private LocalDateTime requestedAt;
+    private LocalDateTime completedAt;
+    private LocalDateTime expiresAt;     // 이 시각 이후 파일 삭제
+}
@@ -0,0 +1,59 @@
+package com.nsmm.esg.scopeservice.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 배출계수셋 스냅샷 내용
+ * 활성 연료 타입/발열량/배출계수를 연료 ID·연도 순으로 정렬하고 숫자는 문자열로 보관해,
+ * 같은 계수셋이면 항상 같은 JSON(같은 해시)이 되도록 합니다.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FactorSetContent {
+
+    private Integer kernelVersion;
+    private String yearPolicy;           // 보고 연도 값이 없을 때의 연도 결정 정책 (FactorTable.YearPolicy)
+    private List<Fuel> fuels;
+    private List<Calorific> calorificValues;
+    private List<Factor> emissionFactors;
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Fuel {
+        private String fuelId;
+        private String name;
+    }
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Calorific {
+        private String fuelId;
+        private Integer year;
+        private String value;
+        private String unit;
+    }
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Factor {
+        private String fuelId;
+        private Integer year;
+        private String co2Factor;
+        private String ch4Factor;
+        private String n2oFactor;
+    }
+}
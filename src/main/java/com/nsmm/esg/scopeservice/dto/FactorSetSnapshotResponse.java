@@ -0,0 +1,22 @@
+package com.nsmm.esg.scopeservice.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배출계수셋 스냅샷 응답 DTO
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FactorSetSnapshotResponse {
+
+    private Integer id;
+    private String contentHash;          // 정규화 JSON의 SHA-256
+    private Integer kernelVersion;       // 계산 로직 버전
+    private FactorSetContent content;
+    private LocalDateTime createdAt;
+}
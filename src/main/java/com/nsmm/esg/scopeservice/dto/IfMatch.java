@@ -0,0 +1,139 @@
+package com.nsmm.esg.scopeservice.dto;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * If-Match 요청 헤더 (RFC 9110 13.1.1)
+ * "*" 또는 쉼표로 구분한 엔티티 태그 목록입니다. If-Match는 강한 비교를 사용하므로 약한 태그(W/"3")는
+ * 어떤 버전과도 일치하지 않고, ETag가 버전 숫자이므로 숫자가 아닌 태그도 일치하지 않습니다(→ 412).
+ * 문법이 잘못된 헤더는 IllegalArgumentException(→ 400)으로 거절하며,
+ * 이전 클라이언트 호환을 위해 따옴표 없는 버전 숫자(3)는 강한 태그로 취급합니다.
+ */
+public final class IfMatch {
+
+    private static final IfMatch ANY = new IfMatch(true, Set.of());
+
+    private final boolean any;
+    private final Set<Long> versions;   // 일치 가능한 버전 (강한 숫자 태그)
+
+    private IfMatch(boolean any, Set<Long> versions) {
+        this.any = any;
+        this.versions = versions;
+    }
+
+    /**
+     * 헤더 파싱 (없거나 비어 있으면 null = 조건 없음)
+     */
+    public static IfMatch parse(String header) {
+        if (header == null || header.isBlank()) {
+            return null;
+        }
+        if ("*".equals(header.trim())) {
+            return ANY;
+        }
+
+        Set<Long> versions = new LinkedHashSet<>();
+        int tags = 0;
+        int i = 0;
+        int length = header.length();
+        while (i < length) {
+            char c = header.charAt(i);
+            if (c == ' ' || c == '\t' || c == ',') {
+                i++;
+                continue;
+            }
+
+            boolean weak = false;
+            if (c == 'W' && header.startsWith("W/", i)) {
+                weak = true;
+                i += 2;
+            }
+            String opaque;
+            if (i < length && header.charAt(i) == '"') {
+                int close = header.indexOf('"', i + 1);
+                if (close < 0) {
+                    throw invalid(header);
+                }
+                opaque = header.substring(i + 1, close);
+                i = close + 1;
+            } else if (!weak && i < length && Character.isDigit(header.charAt(i))) {
+                int end = i;
+                while (end < length && Character.isDigit(header.charAt(end))) {
+                    end++;
+                }
+                opaque = header.substring(i, end);
+                i = end;
+            } else {
+                throw invalid(header);
+            }
+            if (!isEntityTagText(opaque)) {
+                throw invalid(header);
+            }
+            // 태그 뒤에는 공백 후 쉼표 또는 끝만 올 수 있음
+            while (i < length && (header.charAt(i) == ' ' || header.charAt(i) == '\t')) {
+                i++;
+            }
+            if (i < length && header.charAt(i) != ',') {
+                throw invalid(header);
+            }
+
+            tags++;
+            if (!weak) {
+                Long version = toVersion(opaque);
+                if (version != null) {
+                    versions.add(version);
+                }
+            }
+        }
+        if (tags == 0) {
+            throw invalid(header);
+        }
+        return new IfMatch(false, Collections.unmodifiableSet(versions));
+    }
+
+    /**
+     * 현재 버전이 조건을 만족하는지 여부 ("*"는 대상이 있으면 항상 만족)
+     */
+    public boolean matches(Long currentVersion) {
+        return any || (currentVersion != null && versions.contains(currentVersion));
+    }
+
+    public boolean isAny() {
+        return any;
+    }
+
+    public Set<Long> getVersions() {
+        return versions;
+    }
+
+    /**
+     * etagc = %x21 / %x23-7E / obs-text
+     */
+    private static boolean isEntityTagText(String opaque) {
+        for (int i = 0; i < opaque.length(); i++) {
+            char c = opaque.charAt(i);
+            if (c == '"' || c < 0x21 || c == 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Long toVersion(String opaque) {
+        if (opaque.isEmpty() || opaque.length() > 18) {
+            return null;
+        }
+        for (int i = 0; i < opaque.length(); i++) {
+            if (!Character.isDigit(opaque.charAt(i))) {
+                return null;
+            }
+        }
+        return Long.parseLong(opaque);
+    }
+
+    private static IllegalArgumentException invalid(String header) {
+        return new IllegalArgumentException("잘못된 If-Match 헤더입니다: " + header);
+    }
+}
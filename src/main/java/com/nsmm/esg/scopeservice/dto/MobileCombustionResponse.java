@@ -40,4 +40,5 @@ public class MobileCombustionResponse {
     private String notes;                  // 비고
     private LocalDateTime createdAt;       // 생성일시
     private LocalDateTime updatedAt;       // 수정일시
+    private Long version;                  // 낙관적 잠금 버전 (ETag)
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.nsmm.esg.scopeservice.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 기간별 배출량 집계 응답 DTO
+ * 분기/반기/연간/회계연도/최근 12개월 집계 결과를 기간 목록으로 제공합니다.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PeriodEmissionResponse {
+
+    private Long memberId;
+    private Integer year;
+    private String companyId;                // 협력사 필터 (선택)
+    private String aggregationType;          // QUARTERLY / HALF_YEARLY / YEARLY / FISCAL_YEAR / ROLLING_12
+    private Integer fiscalYearStartMonth;    // 회계연도 시작 월 (FISCAL_YEAR)
+
+    private List<Period> periods;
+    private BigDecimal totalEmission;        // 기간 합계 (ROLLING_12는 마지막 기간 값)
+
+    private String unit;
+    private LocalDateTime calculatedAt;
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Period {
+        private String label;                // 예: 2024-Q1, 2024-H2, FY2024-Q3, R12-2024-06
+        private Integer startYear;
+        private Integer startMonth;
+        private Integer endYear;
+        private Integer endMonth;
+        private BigDecimal emission;
+    }
+}
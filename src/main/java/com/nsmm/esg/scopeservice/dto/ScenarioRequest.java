@@ -0,0 +1,55 @@
+package com.nsmm.esg.scopeservice.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 배출량 시나리오 계산 요청 DTO
+ * 기준 연도 활동량에 규칙을 순서대로 적용한 뒤 계수 연도의 계수로 다시 계산합니다.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScenarioRequest {
+
+    @NotNull(message = "기준 연도는 필수입니다.")
+    private Integer baseYear;            // 활동량을 가져올 연도
+
+    private Integer factorYear;          // 계수 적용 연도 (기본: 기준 연도)
+
+    private String companyId;            // 협력사 필터 (선택)
+
+    @Valid
+    @Size(max = 50, message = "규칙은 최대 50개까지 지정할 수 있습니다.")
+    private List<Rule> rules;
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Rule {
+
+        @NotBlank(message = "규칙 유형은 필수입니다.")
+        private String type;             // SCALE (사용량 배율) / SUBSTITUTE (연료 전환)
+
+        private String fuelId;           // 대상 연료 (SCALE은 생략 시 전체, SUBSTITUTE는 필수)
+        private String facilityLocation; // 대상 시설 (선택)
+        private String companyId;        // 대상 협력사 (선택)
+
+        private String targetFuelId;     // 전환할 연료 (SUBSTITUTE)
+
+        @NotNull(message = "비율은 필수입니다.")
+        @DecimalMin(value = "0", message = "비율은 0 이상이어야 합니다.")
+        private BigDecimal ratio;        // SCALE: 사용량 배율 (0.9 = 10% 감축), SUBSTITUTE: 전환 비율 (0~1)
+    }
+}
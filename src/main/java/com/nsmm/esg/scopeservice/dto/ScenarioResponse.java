@@ -0,0 +1,69 @@
+package com.nsmm.esg.scopeservice.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 배출량 시나리오 계산 응답 DTO
+ * 기준(baseline)과 시나리오 모두 같은 계수로 다시 계산한 값이므로 증감은 규칙의 효과만 반영합니다.
+ * 저장된 배출량(storedEmission)은 참고용입니다.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScenarioResponse {
+
+    private Long memberId;
+    private Integer baseYear;
+    private Integer factorYear;
+    private String companyId;
+    private Integer factorSetId;         // 계산에 사용한 계수셋 스냅샷 ID
+
+    private Integer activityGroups;      // 기준 활동 벡터 크기 (연료-단위-시설-협력사 조합 수)
+    private Integer scenarioGroups;      // 규칙 적용 후 벡터 크기 (연료 전환으로 늘어난 조합 포함)
+
+    private BigDecimal storedEmission;   // 저장된 배출량 합계
+    private BigDecimal baselineEmission; // 기준 활동량 재계산 배출량
+    private BigDecimal scenarioEmission; // 시나리오 배출량
+    private BigDecimal delta;            // 시나리오 - 기준
+    private BigDecimal changePercent;
+
+    private List<Delta> byFuel;          // 증감 절대값 큰 순
+    private List<Delta> byFacility;
+    private List<Delta> byPartner;
+    private List<RuleResult> rules;
+
+    private String unit;
+    private Long elapsedMillis;
+    private LocalDateTime calculatedAt;
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Delta {
+        private String key;
+        private BigDecimal baseline;
+        private BigDecimal scenario;
+        private BigDecimal delta;
+        private BigDecimal changePercent;
+    }
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RuleResult {
+        private Integer index;
+        private String type;
+        private Integer matchedGroups;   // 규칙이 적용된 조합 수
+        private BigDecimal affectedEnergy; // 배율 조정 또는 전환된 에너지 (TJ)
+    }
+}
@@ -43,6 +43,7 @@ public class ScopeEmissionSummaryResponse {
         private BigDecimal mobileEmission;
         private BigDecimal totalScope1Emission;
         private List<FuelTypeEmission> fuelTypeBreakdown;
+        private List<CategoryEmission> categoryBreakdown;   // 연료 카테고리별 합계
         
         // === 상세 정보 추가 ===
         private Integer stationaryDataCount;  // 고정연소 데이터 건수
@@ -80,4 +81,16 @@ public class ScopeEmissionSummaryResponse {
         private BigDecimal usage;          // 연료 사용량 추가
         private String unit;              // 사용량 단위 추가
     }
+
+    @Getter
+    @Setter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class CategoryEmission {
+        private String category;
+        private BigDecimal emission;
+        private BigDecimal percentage;
+        private Integer fuelCount;        // 카테고리에 포함된 연료 수
+    }
 }
\ No newline at end of file
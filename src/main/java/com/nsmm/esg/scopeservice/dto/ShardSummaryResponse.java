@@ -0,0 +1,35 @@
+package com.nsmm.esg.scopeservice.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 샤드 전체 집계 응답 DTO (관리자용)
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ShardSummaryResponse {
+
+    private Integer year;
+    private List<ShardTotal> shards;
+    private Long totalMemberCount;
+    private BigDecimal totalEmission;        // 전체 고정연소 배출량 (tCO2eq)
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ShardTotal {
+        private String shardKey;
+        private Long memberCount;
+        private Long rowCount;
+        private BigDecimal totalEmission;
+        private Long elapsedMillis;
+    }
+}
@@ -0,0 +1,22 @@
+package com.nsmm.esg.scopeservice.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Scope 1 고정연소 비배출 필드 다건 수정 요청 DTO
+ * 배출량 계산에 영향이 없는 필드만 포함 (null이면 기존 값 유지)
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StationaryCombustionBulkUpdateRequest {
+
+    private List<Long> ids;                // 수정 대상 ID 목록
+    private String facilityName;           // 시설명
+    private String facilityLocation;       // 시설 위치
+    private String notes;                  // 비고
+}
@@ -35,7 +35,11 @@ public class StationaryCombustionResponse {
     private BigDecimal n2oEmission;        // N2O 배출량
     private BigDecimal totalCo2Equivalent; // 총 배출량
     private LocalDateTime calculatedAt;    // 계산 일시
+    private String calculationQuality;     // 계산 품질 (EXACT / YEAR_FALLBACK / NAME_DEFAULT / FAILED)
     
+    private String createdBy;              // 생성자
+    private String notes;                  // 비고
     private LocalDateTime createdAt;       // 생성일시
     private LocalDateTime updatedAt;       // 수정일시
+    private Long version;                  // 낙관적 잠금 버전 (ETag)
 }
@@ -0,0 +1,46 @@
+package com.nsmm.esg.scopeservice.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 배출량 상위 N개 응답 DTO
+ * 상위 항목과 나머지 그룹을 합친 기타(others) 항목을 함께 제공합니다.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TopEmitterResponse {
+
+    private Long memberId;
+    private Integer year;
+    private String companyId;            // 협력사 필터 (시설별 조회 시)
+    private String dimension;            // PARTNER / FACILITY
+    private List<String> scopes;         // 집계 대상 배출원 (STATIONARY, MOBILE)
+    private Integer limit;
+
+    private List<Item> items;            // 상위 N개 (배출량 내림차순)
+    private Item others;                 // 상위 N개 외 나머지 합계 (없으면 null)
+    private BigDecimal totalEmission;    // 전체 배출량
+
+    private String unit;
+    private LocalDateTime calculatedAt;
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private Integer rank;            // 기타 항목은 null
+        private String key;
+        private BigDecimal totalEmission;
+        private BigDecimal percentage;   // 전체 대비 비율 (%)
+        private Long groupCount;         // 기타 항목에 포함된 그룹 수
+    }
+}
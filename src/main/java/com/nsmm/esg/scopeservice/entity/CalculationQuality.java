@@ -0,0 +1,39 @@
+package com.nsmm.esg.scopeservice.entity;
+
+/**
+ * 배출량 계산 품질
+ * 발열량과 배출계수 중 더 낮은 품질을 행의 품질로 기록하며, DB에는 1바이트 코드로 저장합니다.
+ */
+public enum CalculationQuality {
+
+    EXACT((byte) 0),          // 보고 연도의 마스터 데이터 사용
+    YEAR_FALLBACK((byte) 1),  // 가장 가까운 다른 연도의 마스터 데이터 사용
+    NAME_DEFAULT((byte) 2),   // 마스터 데이터가 없어 연료 이름 기반 기본값 사용
+    FAILED((byte) 3);         // 계산 실패 (배출량 0)
+
+    private final byte code;
+
+    CalculationQuality(byte code) {
+        this.code = code;
+    }
+
+    public byte getCode() {
+        return code;
+    }
+
+    /**
+     * 두 품질 중 낮은 쪽
+     */
+    public CalculationQuality worse(CalculationQuality other) {
+        return other != null && other.code > code ? other : this;
+    }
+
+    public static CalculationQuality fromCode(byte code) {
+        for (CalculationQuality quality : values()) {
+            if (quality.code == code) {
+                return quality;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 계산 품질 코드입니다: " + code);
+    }
+}
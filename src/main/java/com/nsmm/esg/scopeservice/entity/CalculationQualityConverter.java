@@ -0,0 +1,21 @@
+package com.nsmm.esg.scopeservice.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * 계산 품질 ↔ TINYINT 코드 변환 (enum 이름 대신 1바이트로 저장)
+ */
+@Converter(autoApply = true)
+public class CalculationQualityConverter implements AttributeConverter<CalculationQuality, Byte> {
+
+    @Override
+    public Byte convertToDatabaseColumn(CalculationQuality quality) {
+        return quality != null ? quality.getCode() : null;
+    }
+
+    @Override
+    public CalculationQuality convertToEntityAttribute(Byte code) {
+        return code != null ? CalculationQuality.fromCode(code) : null;
+    }
+}
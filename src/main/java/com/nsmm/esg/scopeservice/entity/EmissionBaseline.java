@@ -0,0 +1,52 @@
+package com.nsmm.esg.scopeservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 기준연도 배출량 스냅샷 엔티티
+ * 기준연도의 월별/연료별/시설별/협력사별 집계 벡터를 등록 시점에 한 번 계산해 JSON으로 보관하며 수정하지 않습니다.
+ * 비교 API는 기준연도 원본 데이터를 다시 집계하지 않고 이 스냅샷을 사용합니다.
+ */
+@Entity
+@Immutable
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "emission_baseline",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_emission_baseline_member_year",
+                columnNames = {"member_id", "base_year"}))
+public class EmissionBaseline {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long memberId;                  // 회원 ID
+
+    @Column(nullable = false)
+    private Integer baseYear;               // 기준 연도
+
+    private Integer targetYear;             // 감축 목표 연도
+
+    @Column(precision = 5, scale = 2)
+    private BigDecimal reductionTargetPercent; // 기준연도 대비 감축 목표율 (%)
+
+    @Column(nullable = false, precision = 15, scale = 4)
+    private BigDecimal totalEmission;       // 기준연도 총 배출량 (tCO2eq)
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String vectors;                 // 집계 벡터 (EmissionVector JSON)
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,56 @@
+package com.nsmm.esg.scopeservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배출량 활동 데이터 변경 로그 엔티티 (트랜잭셔널 아웃박스)
+ * 활동 데이터 생성/수정/삭제와 같은 트랜잭션에서 추가되며, 수정되지 않는 append-only 로그입니다.
+ * memberSeq는 회원별로 커밋 순서와 일치하는 단조 증가 시퀀스로, 변경 피드의 커서로 사용됩니다.
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "emission_change_log",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_emission_change_log_member_seq",
+                columnNames = {"member_id", "member_seq"}),
+        indexes = @Index(name = "idx_emission_change_log_published", columnList = "published, id"))
+public class EmissionChangeLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long memberId;         // 회원 ID
+
+    @Column(nullable = false)
+    private Long memberSeq;        // 회원별 변경 시퀀스 (커서)
+
+    private Integer reportingYear; // 보고 연도 (다건 삭제 등 알 수 없으면 null)
+
+    @Column(nullable = false, length = 50)
+    private String entityType;     // 활동 데이터 유형 (STATIONARY_COMBUSTION 등)
+
+    private Long entityId;         // 활동 데이터 ID (다건 변경이면 null)
+
+    @Column(nullable = false, length = 20)
+    private String operation;      // 변경 유형 (UPSERT, UPDATE, DELETE, BULK_UPDATE, BULK_DELETE)
+
+    @Column(columnDefinition = "TEXT")
+    private String payload;        // 변경 내용 (JSON)
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Boolean published = false; // 브로커 발행 여부
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,23 @@
+package com.nsmm.esg.scopeservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 회원별 변경 시퀀스 카운터 엔티티
+ * 변경 로그 추가 시 행 잠금으로 증가시켜, 같은 회원의 시퀀스가 커밋 순서대로 빈틈없이 증가하도록 보장합니다.
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "emission_change_sequence")
+public class EmissionChangeSequence {
+
+    @Id
+    private Long memberId;         // 회원 ID
+
+    @Column(nullable = false)
+    private Long lastSeq;          // 마지막으로 발급한 시퀀스
+}
@@ -0,0 +1,44 @@
+package com.nsmm.esg.scopeservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배출계수셋 스냅샷 엔티티
+ * 계산에 사용되는 연료 타입/발열량/배출계수 전체를 정규화한 JSON과 그 SHA-256 해시를 보관하며 수정하지 않습니다.
+ * 내용이 같으면 같은 스냅샷을 재사용하고(내용 주소), 새 내용이면 다음 번호를 발급합니다.
+ * 활동 데이터 행은 계수 값 대신 이 스냅샷의 4바이트 ID만 저장합니다.
+ */
+@Entity
+@Immutable
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "factor_set_snapshot",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_factor_set_snapshot_hash",
+                columnNames = {"content_hash"}))
+public class FactorSetSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(nullable = false, length = 64)
+    private String contentHash;             // 정규화 JSON의 SHA-256 (hex)
+
+    @Column(nullable = false)
+    private Integer kernelVersion;          // 계산 로직 버전
+
+    @Column(nullable = false, columnDefinition = "MEDIUMTEXT")
+    private String content;                 // 계수셋 내용 (FactorSetContent JSON)
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
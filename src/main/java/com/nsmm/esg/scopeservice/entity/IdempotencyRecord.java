@@ -0,0 +1,71 @@
+package com.nsmm.esg.scopeservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Idempotency-Key 처리 기록 엔티티
+ * 쓰기와 같은 트랜잭션에서 (회원, 키) 행을 선점하고 요청 본문 해시와 응답을 함께 저장합니다.
+ * 쓰기가 롤백되면 기록도 함께 사라지므로 같은 키로 다시 시도할 수 있습니다.
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "idempotency_key",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_idempotency_key_member_key",
+                columnNames = {"member_id", "idempotency_key"}),
+        indexes = @Index(name = "idx_idempotency_key_expires_at", columnList = "expires_at"))
+public class IdempotencyRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long memberId;              // 회원 ID
+
+    @Column(nullable = false, length = 255)
+    private String idempotencyKey;      // Idempotency-Key 헤더 값
+
+    @Column(nullable = false, length = 64)
+    private String requestHash;         // 요청 본문 SHA-256 (hex)
+
+    @Column(columnDefinition = "MEDIUMTEXT")
+    private String responseBody;        // 최초 처리 응답 (JSON, 처리 중이면 null)
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;    // 선점 일시
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;    // 만료 일시 (이후 같은 키는 새 요청으로 처리)
+
+    /**
+     * 처리 완료 응답 기록
+     */
+    public void complete(String responseBody) {
+        this.responseBody = responseBody;
+    }
+
+    /**
+     * 만료된 키를 새 요청으로 다시 선점
+     */
+    public void reclaim(String requestHash, LocalDateTime now, LocalDateTime expiresAt) {
+        this.requestHash = requestHash;
+        this.responseBody = null;
+        this.createdAt = now;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isCompleted() {
+        return responseBody != null;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt.isBefore(now);
+    }
+}
@@ -88,6 +88,9 @@ public class MobileCombustion {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    @Version
+    private Long version;          // 낙관적 잠금 버전 (ETag)
+
 /**
  * 수정: MobileCombustionRequest로 엔티티 업데이트
  */
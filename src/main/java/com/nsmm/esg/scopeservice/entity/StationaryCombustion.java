@@ -4,6 +4,7 @@ import com.nsmm.esg.scopeservice.dto.StationaryCombustionRequest;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
@@ -14,11 +15,15 @@ import java.time.LocalDateTime;
  * 사업장 내 보일러, 발전기 등의 고정연소 활동 데이터
  */
 @Entity
+@DynamicUpdate
 @Getter
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "stationary_combustion")
+@Table(name = "stationary_combustion",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_stationary_combustion_natural_key",
+                columnNames = {"member_id", "company_id", "reporting_year", "reporting_month", "facility_name", "fuel_id"}))
 public class StationaryCombustion {
 
     @Id
@@ -73,6 +78,19 @@ public class StationaryCombustion {
 
     private LocalDateTime calculatedAt;    // 계산 일시
 
+    private Long inputFingerprint;         // 배출량 입력값 지문 (연료, 사용량, 단위, 연도, 계수셋 버전)
+
+    private Integer factorSetId;           // 계산에 사용한 계수셋 스냅샷 ID (factor_set_snapshot.id)
+
+    @Column(columnDefinition = "TINYINT")
+    private CalculationQuality calculationQuality; // 계산 품질 (정확 / 연도 대체 / 이름 기본값 / 실패)
+
+    @Column(length = 100)
+    private String createdBy;      // 생성자 (ScopeModal의 createdBy)
+
+    @Column(length = 500)
+    private String notes;          // 비고
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -81,6 +99,9 @@ public class StationaryCombustion {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    @Version
+    private Long version;          // 낙관적 잠금 버전 (ETag)
+
     /**
      * 수정: StationaryCombustionRequest로 엔티티 업데이트
      */
@@ -96,6 +117,46 @@ public class StationaryCombustion {
         this.fuelName = request.getFuelName();
         this.fuelUsage = request.getFuelUsage();
         this.unit = request.getUnit();
+        this.notes = request.getNotes();
+    }
+
+    /**
+     * 배출량 입력값 지문 갱신
+     * 지문이 같으면 배출량 재계산 결과도 같으므로 재계산을 생략할 수 있습니다.
+     * 계수셋 버전은 스냅샷 ID이므로 계산 재현용으로 함께 기록합니다.
+     */
+    public void refreshInputFingerprint(long factorSetVersion) {
+        this.inputFingerprint = computeInputFingerprint(fuelId, fuelUsage, unit, reportingYear, factorSetVersion);
+        this.factorSetId = Math.toIntExact(factorSetVersion);
+    }
+
+    /**
+     * 입력값 지문 제거 (계산 실패 시)
+     * 지문이 비어 있으면 입력이 같아도 다음 수정 때 재계산하므로 실패한 계산이 고정되지 않습니다.
+     */
+    public void clearInputFingerprint() {
+        this.inputFingerprint = null;
+        this.factorSetId = null;
+    }
+
+    /**
+     * 배출량 입력값 지문 계산 (64bit FNV-1a)
+     * 사용량은 스케일 차이(100 vs 100.0000)에 영향받지 않도록 정규화합니다.
+     */
+    public static long computeInputFingerprint(String fuelId, BigDecimal fuelUsage, String unit,
+                                               Integer reportingYear, long factorSetVersion) {
+        String canonical = fuelId + '|'
+                + (fuelUsage == null ? "" : fuelUsage.stripTrailingZeros().toPlainString()) + '|'
+                + unit + '|'
+                + reportingYear + '|'
+                + factorSetVersion;
+
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < canonical.length(); i++) {
+            hash ^= canonical.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
     }
 
     /**
@@ -109,4 +170,18 @@ public class StationaryCombustion {
         this.totalCo2Equivalent = totalCo2Equivalent;
         this.calculatedAt = LocalDateTime.now();
     }
+
+    /**
+     * 계산 품질 기록
+     */
+    public void recordCalculationQuality(CalculationQuality calculationQuality) {
+        this.calculationQuality = calculationQuality;
+    }
+
+    /**
+     * 네이티브 업서트 바인딩용 계산 품질 코드 (컨버터가 적용되지 않으므로 직접 변환)
+     */
+    public Byte getCalculationQualityCode() {
+        return calculationQuality != null ? calculationQuality.getCode() : null;
+    }
 }
\ No newline at end of file
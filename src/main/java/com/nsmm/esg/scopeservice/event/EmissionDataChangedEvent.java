@@ -0,0 +1,16 @@
+package com.nsmm.esg.scopeservice.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 배출량 활동 데이터 변경 이벤트
+ * 보고 연도를 특정할 수 없는 변경(다건 수정/삭제 등)은 reportingYear가 null이며, 해당 회원의 모든 연도가 대상입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class EmissionDataChangedEvent {
+
+    private final Long memberId;
+    private final Integer reportingYear;
+}
@@ -0,0 +1,15 @@
+package com.nsmm.esg.scopeservice.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 배출계수 마스터 데이터(연료 타입, 발열량, 배출계수) 변경 이벤트
+ * 커밋 후 현재 계수셋 스냅샷 ID와 연료 카탈로그 캐시를 무효화하는 데 사용합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class FactorMasterDataChangedEvent {
+
+    private final String fuelId;
+}
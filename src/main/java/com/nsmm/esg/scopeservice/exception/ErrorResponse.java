@@ -19,4 +19,5 @@ public class ErrorResponse {
     private String error;
     private String message;
     private Map<String, String> validationErrors;
+    private Object currentState;       // 버전 충돌 시 현재 데이터 상태
 }
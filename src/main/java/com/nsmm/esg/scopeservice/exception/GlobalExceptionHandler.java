@@ -1,6 +1,8 @@
 package com.nsmm.esg.scopeservice.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -58,6 +60,77 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(errorResponse);
     }
 
+    /**
+     * 낙관적 잠금 버전 충돌 예외 처리 (If-Match 불일치)
+     */
+    @ExceptionHandler(VersionConflictException.class)
+    public ResponseEntity<ErrorResponse> handleVersionConflictException(VersionConflictException e) {
+        log.warn("버전 충돌: {}", e.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.PRECONDITION_FAILED.value())
+                .error("Precondition Failed")
+                .message(e.getMessage())
+                .currentState(e.getCurrentState())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                .eTag(String.valueOf(e.getCurrentVersion()))
+                .body(errorResponse);
+    }
+
+    /**
+     * 동시 수정 충돌 예외 처리 (조회 후 flush 전에 다른 수정이 먼저 커밋된 경우)
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(OptimisticLockingFailureException e) {
+        log.warn("동시 수정 충돌: {}", e.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.CONFLICT.value())
+                .error("Conflict")
+                .message("다른 사용자가 동시에 수정한 데이터입니다. 다시 조회한 뒤 시도해주세요.")
+                .build();
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    /**
+     * 유니크 키 충돌 예외 처리 (수정으로 자연키가 다른 행과 겹치는 경우)
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrityViolationException(DataIntegrityViolationException e) {
+        log.warn("데이터 무결성 충돌: {}", e.getMostSpecificCause().getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.CONFLICT.value())
+                .error("Conflict")
+                .message("같은 협력사/연도/월/시설/연료의 데이터가 이미 있습니다.")
+                .build();
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    /**
+     * Idempotency-Key 재사용 예외 처리 (같은 키, 다른 요청 본문)
+     */
+    @ExceptionHandler(IdempotencyKeyReuseException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyReuseException(IdempotencyKeyReuseException e) {
+        log.warn("Idempotency-Key 재사용: {}", e.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.UNPROCESSABLE_ENTITY.value())
+                .error("Unprocessable Entity")
+                .message(e.getMessage())
+                .build();
+
+        return ResponseEntity.unprocessableEntity().body(errorResponse);
+    }
+
     /**
      * 런타임 예외 처리
      */
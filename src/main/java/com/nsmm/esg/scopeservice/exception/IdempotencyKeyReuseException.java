@@ -0,0 +1,12 @@
+package com.nsmm.esg.scopeservice.exception;
+
+/**
+ * Idempotency-Key 재사용 예외
+ * 이미 처리된 키를 다른 요청 본문으로 다시 보냈을 때 발생합니다 (최초 결과를 돌려주지 않고 422로 거절).
+ */
+public class IdempotencyKeyReuseException extends RuntimeException {
+
+    public IdempotencyKeyReuseException(String idempotencyKey) {
+        super("이미 다른 요청에 사용된 Idempotency-Key입니다: " + idempotencyKey);
+    }
+}
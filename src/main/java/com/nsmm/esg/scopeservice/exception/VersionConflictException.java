@@ -0,0 +1,20 @@
+package com.nsmm.esg.scopeservice.exception;
+
+import lombok.Getter;
+
+/**
+ * 낙관적 잠금 버전 충돌 예외
+ * If-Match 버전이 현재 버전과 다를 때 발생하며, 클라이언트가 재조회 없이 병합할 수 있도록 현재 상태를 함께 전달합니다.
+ */
+@Getter
+public class VersionConflictException extends RuntimeException {
+
+    private final Long currentVersion;
+    private final transient Object currentState;
+
+    public VersionConflictException(Long currentVersion, Object currentState) {
+        super("다른 사용자가 먼저 수정한 데이터입니다. 현재 버전: " + currentVersion);
+        this.currentVersion = currentVersion;
+        this.currentState = currentState;
+    }
+}
@@ -0,0 +1,20 @@
+package com.nsmm.esg.scopeservice.repository;
+
+import com.nsmm.esg.scopeservice.entity.EmissionBaseline;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface EmissionBaselineRepository extends JpaRepository<EmissionBaseline, Long> {
+
+    Optional<EmissionBaseline> findByMemberIdAndBaseYear(Long memberId, Integer baseYear);
+
+    List<EmissionBaseline> findByMemberIdOrderByBaseYearDesc(Long memberId);
+
+    Optional<EmissionBaseline> findFirstByMemberIdOrderByCreatedAtDesc(Long memberId);
+
+    boolean existsByMemberIdAndBaseYear(Long memberId, Integer baseYear);
+}
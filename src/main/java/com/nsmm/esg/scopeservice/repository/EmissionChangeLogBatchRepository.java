@@ -0,0 +1,14 @@
+package com.nsmm.esg.scopeservice.repository;
+
+import com.nsmm.esg.scopeservice.entity.EmissionChangeLog;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 변경 로그 다건 추가 (일괄 입력 시 행마다 INSERT하지 않고 한 문장으로 기록)
+ */
+public interface EmissionChangeLogBatchRepository {
+
+    void insertAll(List<EmissionChangeLog> changeLogs, LocalDateTime now);
+}
@@ -0,0 +1,38 @@
+package com.nsmm.esg.scopeservice.repository;
+
+import com.nsmm.esg.scopeservice.entity.EmissionChangeLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 변경 로그 다건 추가 구현 (JPA 트랜잭션의 커넥션을 그대로 사용)
+ */
+@RequiredArgsConstructor
+public class EmissionChangeLogBatchRepositoryImpl implements EmissionChangeLogBatchRepository {
+
+    private static final int ROWS_PER_STATEMENT = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<EmissionChangeLog> changeLogs, LocalDateTime now) {
+        for (int from = 0; from < changeLogs.size(); from += ROWS_PER_STATEMENT) {
+            List<EmissionChangeLog> chunk = changeLogs.subList(from, Math.min(from + ROWS_PER_STATEMENT, changeLogs.size()));
+            StringBuilder sql = new StringBuilder("INSERT INTO emission_change_log (member_id, member_seq, reporting_year, " +
+                    "entity_type, entity_id, operation, payload, published, created_at) VALUES ");
+            List<Object> args = new ArrayList<>(chunk.size() * 8);
+            for (int i = 0; i < chunk.size(); i++) {
+                EmissionChangeLog c = chunk.get(i);
+                sql.append(i == 0 ? "" : ", ").append("(?, ?, ?, ?, ?, ?, ?, FALSE, ?)");
+                Collections.addAll(args, c.getMemberId(), c.getMemberSeq(), c.getReportingYear(), c.getEntityType(),
+                        c.getEntityId(), c.getOperation(), c.getPayload(), now);
+            }
+            jdbcTemplate.update(sql.toString(), args.toArray());
+        }
+    }
+}
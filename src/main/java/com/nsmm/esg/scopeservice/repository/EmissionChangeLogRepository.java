@@ -0,0 +1,43 @@
+package com.nsmm.esg.scopeservice.repository;
+
+import com.nsmm.esg.scopeservice.entity.EmissionChangeLog;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface EmissionChangeLogRepository extends JpaRepository<EmissionChangeLog, Long>,
+        EmissionChangeLogBatchRepository {
+
+    /**
+     * 회원별 커서 이후 변경 로그 조회 (GET /api/v1/scope/changes)
+     */
+    List<EmissionChangeLog> findByMemberIdAndMemberSeqGreaterThanOrderByMemberSeqAsc(
+            Long memberId, Long memberSeq, Limit limit);
+
+    /**
+     * 미발행 변경 로그 조회
+     */
+    List<EmissionChangeLog> findByPublishedFalseOrderByIdAsc(Limit limit);
+
+    /**
+     * 미발행 변경 로그 선점 (아웃박스 릴레이용)
+     * 행 잠금은 트랜잭션 커밋까지 유지되고, 다른 인스턴스의 릴레이는 잠긴 행을 건너뛰므로 같은 로그를 중복 발행하지 않습니다.
+     */
+    @Query(value = "SELECT * FROM emission_change_log WHERE published = FALSE " +
+                   "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<EmissionChangeLog> claimUnpublished(@Param("limit") int limit);
+
+    /**
+     * 발행 완료 표시
+     */
+    @Modifying
+    @Query("UPDATE EmissionChangeLog c SET c.published = true WHERE c.id IN :ids")
+    int markPublished(@Param("ids") List<Long> ids);
+}
@@ -0,0 +1,39 @@
+package com.nsmm.esg.scopeservice.repository;
+
+import com.nsmm.esg.scopeservice.entity.EmissionChangeSequence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface EmissionChangeSequenceRepository extends JpaRepository<EmissionChangeSequence, Long> {
+
+    /**
+     * 회원별 시퀀스 증가 (행이 없으면 1로 생성)
+     * 증가된 값은 LAST_INSERT_ID()로 노출되며, 행 잠금은 트랜잭션 커밋까지 유지됩니다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO emission_change_sequence (member_id, last_seq) " +
+                   "VALUES (:memberId, LAST_INSERT_ID(1)) " +
+                   "ON DUPLICATE KEY UPDATE last_seq = LAST_INSERT_ID(last_seq + 1)",
+           nativeQuery = true)
+    int increment(@Param("memberId") Long memberId);
+
+    /**
+     * 회원별 시퀀스를 count만큼 한 번에 증가 (다건 변경 로그용, 마지막 값이 LAST_INSERT_ID()로 노출됨)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO emission_change_sequence (member_id, last_seq) " +
+                   "VALUES (:memberId, LAST_INSERT_ID(:count)) " +
+                   "ON DUPLICATE KEY UPDATE last_seq = LAST_INSERT_ID(last_seq + :count)",
+           nativeQuery = true)
+    int incrementBy(@Param("memberId") Long memberId, @Param("count") int count);
+
+    /**
+     * 직전 증가로 발급된 시퀀스 (같은 커넥션 기준)
+     */
+    @Query(value = "SELECT LAST_INSERT_ID()", nativeQuery = true)
+    Long findLastInsertId();
+}
@@ -0,0 +1,13 @@
+package com.nsmm.esg.scopeservice.repository;
+
+import com.nsmm.esg.scopeservice.entity.FactorSetSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface FactorSetSnapshotRepository extends JpaRepository<FactorSetSnapshot, Integer> {
+
+    Optional<FactorSetSnapshot> findByContentHash(String contentHash);
+}
@@ -0,0 +1,43 @@
+package com.nsmm.esg.scopeservice.repository;
+
+import com.nsmm.esg.scopeservice.entity.IdempotencyRecord;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, Long> {
+
+    /**
+     * (회원, 키) 행 선점 (이미 있으면 그대로 둠)
+     * 다른 트랜잭션이 같은 키를 처리 중이면 그 트랜잭션이 끝날 때까지 행 잠금을 기다립니다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_key (member_id, idempotency_key, request_hash, created_at, expires_at) " +
+                   "VALUES (:memberId, :idempotencyKey, :requestHash, :now, :expiresAt) " +
+                   "ON DUPLICATE KEY UPDATE id = id",
+           nativeQuery = true)
+    int claim(@Param("memberId") Long memberId, @Param("idempotencyKey") String idempotencyKey,
+              @Param("requestHash") String requestHash, @Param("now") LocalDateTime now,
+              @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * 선점한 행을 잠금 조회 (트랜잭션 시작 이후 커밋된 상태까지 읽음)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<IdempotencyRecord> findByMemberIdAndIdempotencyKey(Long memberId, String idempotencyKey);
+
+    /**
+     * 만료된 키 정리 (한 번에 limit건)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM idempotency_key WHERE expires_at < :now LIMIT :limit", nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
@@ -1,8 +1,11 @@
 package com.nsmm.esg.scopeservice.repository;
 
 import com.nsmm.esg.scopeservice.entity.MobileCombustion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -10,6 +13,7 @@ import java.math.BigDecimal;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 @Repository
 public interface MobileCombustionRepository extends JpaRepository<MobileCombustion, Long> {
@@ -49,6 +53,31 @@ public interface MobileCombustionRepository extends JpaRepository<MobileCombusti
     @Query("SELECT m.vehicleType, COALESCE(SUM(m.totalCo2Equivalent), 0) FROM MobileCombustion m WHERE m.memberId = :memberId AND m.reportingYear = :year AND m.companyId = :companyId GROUP BY m.vehicleType ORDER BY SUM(m.totalCo2Equivalent) DESC")
     List<Object[]> findVehicleEmissionsByPartner(@Param("memberId") Long memberId, @Param("year") Integer year, @Param("companyId") String companyId);
 
+    @Query("SELECT m.companyId, COALESCE(SUM(m.totalCo2Equivalent), 0) FROM MobileCombustion m WHERE m.memberId = :memberId AND m.reportingYear = :year GROUP BY m.companyId")
+    List<Object[]> findPartnerTotalsUnordered(@Param("memberId") Long memberId, @Param("year") Integer year);
+
+    // 보고서 내보내기용 행 단위 스트림 조회 (트랜잭션 안에서 닫아야 함)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT m FROM MobileCombustion m " +
+           "WHERE m.memberId = :memberId AND m.reportingYear = :year " +
+           "AND (:companyId IS NULL OR m.companyId = :companyId) " +
+           "ORDER BY m.id")
+    Stream<MobileCombustion> streamForExport(@Param("memberId") Long memberId,
+                                             @Param("year") Integer year,
+                                             @Param("companyId") String companyId);
+
+    /**
+     * 활동 큐브 적재용 행 조회
+     * 반환: [companyId, fuelId, month, co2, ch4, n2o, total] (시설 컬럼 없음)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT m.companyId, m.fuelId, m.reportingMonth, m.co2Emission, m.ch4Emission, m.n2oEmission, m.totalCo2Equivalent " +
+           "FROM MobileCombustion m WHERE m.memberId = :memberId AND m.reportingYear = :year")
+    List<Object[]> findCubeRows(@Param("memberId") Long memberId, @Param("year") Integer year);
+
     default Map<Integer, BigDecimal> getMonthlyEmissionSummary(Long memberId, Integer year, String companyId) {
         List<Object[]> results = (companyId != null) ? findMonthlyEmissionsByPartner(memberId, year, companyId) : findMonthlyEmissions(memberId, year);
         Map<Integer, BigDecimal> map = new LinkedHashMap<>();
@@ -0,0 +1,113 @@
+package com.nsmm.esg.scopeservice.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.AbstractMap;
+import java.util.Map;
+
+/**
+ * 고정연소 집계 리액티브 리포지토리 (R2DBC)
+ * StationaryCombustionRepository의 집계 쿼리와 동일한 결과를 논블로킹으로 조회합니다.
+ * 샤드/레플리카 라우팅 없이 단일 프라이머리로만 조회합니다 (ReactiveReadConfig에서 구성 검증).
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "scope.reactive-read", name = "enabled", havingValue = "true")
+public class ReactiveStationaryCombustionSummaryRepository {
+
+    private static final String BASE_CONDITION =
+            "WHERE member_id = :memberId AND reporting_year = :year ";
+    private static final String PARTNER_CONDITION = "AND company_id = :companyId ";
+
+    private final DatabaseClient reactiveReadDatabaseClient;
+
+    /**
+     * 월별 배출량 집계
+     */
+    public Flux<Map.Entry<Integer, BigDecimal>> findMonthlyEmissionSummary(Long memberId, Integer year, String companyId) {
+        String sql = "SELECT reporting_month AS k, SUM(total_co2equivalent) AS total " +
+                     "FROM stationary_combustion " + BASE_CONDITION +
+                     (companyId != null ? PARTNER_CONDITION : "") +
+                     "GROUP BY reporting_month ORDER BY reporting_month";
+
+        return bind(sql, memberId, year, companyId)
+                .<Map.Entry<Integer, BigDecimal>>map(row -> new AbstractMap.SimpleImmutableEntry<>(
+                        row.get("k", Integer.class), row.get("total", BigDecimal.class)))
+                .all();
+    }
+
+    /**
+     * 연료-단위별 사용량/배출량/건수 합계 (StationaryCombustionRepository.findFuelUsageAndEmission과 같은 행 형식)
+     */
+    public Flux<Object[]> findFuelUsageAndEmission(Long memberId, Integer year, String companyId) {
+        String sql = "SELECT fuel_id, MAX(fuel_name) AS fuel_name, unit, SUM(fuel_usage) AS usage_total, " +
+                     "SUM(total_co2equivalent) AS total, COUNT(*) AS cnt " +
+                     "FROM stationary_combustion " + BASE_CONDITION +
+                     (companyId != null ? PARTNER_CONDITION : "") +
+                     "GROUP BY fuel_id, unit";
+
+        return bind(sql, memberId, year, companyId)
+                .map(row -> new Object[]{
+                        row.get("fuel_id", String.class), row.get("fuel_name", String.class), row.get("unit", String.class),
+                        row.get("usage_total", BigDecimal.class), row.get("total", BigDecimal.class),
+                        row.get("cnt", Long.class)})
+                .all();
+    }
+
+    /**
+     * 시설별 / 협력사별 배출량 집계 (그룹 컬럼은 고정 목록에서만 선택)
+     */
+    public Flux<Map.Entry<String, BigDecimal>> findEmissionSummaryBy(GroupColumn column, Long memberId,
+                                                                   Integer year, String companyId) {
+        String sql = "SELECT " + column.columnName + " AS k, SUM(total_co2equivalent) AS total " +
+                     "FROM stationary_combustion " + BASE_CONDITION +
+                     (companyId != null ? PARTNER_CONDITION : "") +
+                     "GROUP BY " + column.columnName + " ORDER BY total DESC";
+
+        return bind(sql, memberId, year, companyId)
+                .<Map.Entry<String, BigDecimal>>map(row -> new AbstractMap.SimpleImmutableEntry<>(
+                        String.valueOf(row.get("k", String.class)), row.get("total", BigDecimal.class)))
+                .all();
+    }
+
+    /**
+     * 연도별 총 배출량
+     */
+    public Mono<BigDecimal> getTotalEmission(Long memberId, Integer year, String companyId) {
+        String sql = "SELECT COALESCE(SUM(total_co2equivalent), 0) AS total " +
+                     "FROM stationary_combustion " + BASE_CONDITION +
+                     (companyId != null ? PARTNER_CONDITION : "");
+
+        return bind(sql, memberId, year, companyId)
+                .map(row -> row.get("total", BigDecimal.class))
+                .one()
+                .defaultIfEmpty(BigDecimal.ZERO);
+    }
+
+    private DatabaseClient.GenericExecuteSpec bind(String sql, Long memberId, Integer year, String companyId) {
+        DatabaseClient.GenericExecuteSpec spec = reactiveReadDatabaseClient.sql(sql)
+                .bind("memberId", memberId)
+                .bind("year", year);
+        return companyId != null ? spec.bind("companyId", companyId) : spec;
+    }
+
+    /**
+     * 집계 그룹 컬럼
+     */
+    public enum GroupColumn {
+        FACILITY("facility_location"),
+        PARTNER("company_id");
+
+        private final String columnName;
+
+        GroupColumn(String columnName) {
+            this.columnName = columnName;
+        }
+    }
+}
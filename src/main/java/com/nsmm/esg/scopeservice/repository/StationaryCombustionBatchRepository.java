@@ -0,0 +1,47 @@
+package com.nsmm.esg.scopeservice.repository;
+
+import com.nsmm.esg.scopeservice.entity.StationaryCombustion;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 고정연소 일괄 입력용 다건 SQL (POST /batch)
+ * 행마다 업서트와 LAST_INSERT_ID 조회를 반복하지 않고, 다건 업서트 한 문장과 자연키 ID 조회 한 문장으로 처리합니다.
+ */
+public interface StationaryCombustionBatchRepository {
+
+    /**
+     * 자연키(회원, 협력사, 연도, 월, 시설명, 연료) 기준 다건 업서트
+     */
+    void upsertAll(List<StationaryCombustion> entities, LocalDateTime now);
+
+    /**
+     * 자연키별 행 ID 조회 (업서트 직후 같은 트랜잭션에서 호출)
+     */
+    Map<NaturalKey, Long> findIdsByNaturalKeys(Long memberId, List<StationaryCombustion> entities);
+
+    /**
+     * 회원 내 자연키 (문자열은 DB 콜레이션처럼 대소문자/끝 공백을 무시하도록 정규화)
+     */
+    record NaturalKey(String companyId, Integer reportingYear, Integer reportingMonth,
+                      String facilityName, String fuelId) {
+
+        public static NaturalKey of(StationaryCombustion entity) {
+            return of(entity.getCompanyId(), entity.getReportingYear(), entity.getReportingMonth(),
+                    entity.getFacilityName(), entity.getFuelId());
+        }
+
+        public static NaturalKey of(String companyId, Integer reportingYear, Integer reportingMonth,
+                                    String facilityName, String fuelId) {
+            return new NaturalKey(normalize(companyId), reportingYear, reportingMonth,
+                    normalize(facilityName), normalize(fuelId));
+        }
+
+        private static String normalize(String value) {
+            return value == null ? null : value.stripTrailing().toLowerCase(Locale.ROOT);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.nsmm.esg.scopeservice.repository;
+
+import com.nsmm.esg.scopeservice.entity.StationaryCombustion;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 고정연소 다건 SQL 구현 (JPA 트랜잭션의 커넥션을 그대로 사용)
+ */
+@RequiredArgsConstructor
+public class StationaryCombustionBatchRepositoryImpl implements StationaryCombustionBatchRepository {
+
+    // 한 문장에 담는 행 수 (자리표시자 수 제한 65,535 이내)
+    private static final int ROWS_PER_STATEMENT = 500;
+
+    private static final String UPSERT_HEAD = "INSERT INTO stationary_combustion (" +
+            "member_id, company_id, reporting_year, reporting_month, facility_name, facility_location, " +
+            "combustion_type, fuel_id, fuel_name, fuel_usage, unit, " +
+            "co2emission, ch4emission, n2o_emission, total_co2equivalent, calculated_at, input_fingerprint, " +
+            "factor_set_id, calculation_quality, created_by, notes, created_at, updated_at, version) VALUES ";
+    private static final String UPSERT_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+    private static final String UPSERT_TAIL = " ON DUPLICATE KEY UPDATE " +
+            "facility_location = VALUES(facility_location), " +
+            "combustion_type = VALUES(combustion_type), " +
+            "fuel_name = VALUES(fuel_name), " +
+            "fuel_usage = VALUES(fuel_usage), " +
+            "unit = VALUES(unit), " +
+            "co2emission = VALUES(co2emission), " +
+            "ch4emission = VALUES(ch4emission), " +
+            "n2o_emission = VALUES(n2o_emission), " +
+            "total_co2equivalent = VALUES(total_co2equivalent), " +
+            "calculated_at = VALUES(calculated_at), " +
+            "input_fingerprint = VALUES(input_fingerprint), " +
+            "factor_set_id = VALUES(factor_set_id), " +
+            "calculation_quality = VALUES(calculation_quality), " +
+            "notes = VALUES(notes), " +
+            "updated_at = VALUES(updated_at), " +
+            "version = COALESCE(version, 0) + 1";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void upsertAll(List<StationaryCombustion> entities, LocalDateTime now) {
+        for (int from = 0; from < entities.size(); from += ROWS_PER_STATEMENT) {
+            List<StationaryCombustion> chunk = entities.subList(from, Math.min(from + ROWS_PER_STATEMENT, entities.size()));
+            StringBuilder sql = new StringBuilder(UPSERT_HEAD);
+            List<Object> args = new ArrayList<>(chunk.size() * 23);
+            for (int i = 0; i < chunk.size(); i++) {
+                StationaryCombustion e = chunk.get(i);
+                sql.append(i == 0 ? "" : ", ").append(UPSERT_ROW);
+                Collections.addAll(args, e.getMemberId(), e.getCompanyId(), e.getReportingYear(), e.getReportingMonth(),
+                        e.getFacilityName(), e.getFacilityLocation(), e.getCombustionType(), e.getFuelId(),
+                        e.getFuelName(), e.getFuelUsage(), e.getUnit(),
+                        e.getCo2Emission(), e.getCh4Emission(), e.getN2oEmission(), e.getTotalCo2Equivalent(),
+                        e.getCalculatedAt(), e.getInputFingerprint(), e.getFactorSetId(), e.getCalculationQualityCode(),
+                        e.getCreatedBy(), e.getNotes(), now, now);
+            }
+            sql.append(UPSERT_TAIL);
+            jdbcTemplate.update(sql.toString(), args.toArray());
+        }
+    }
+
+    @Override
+    public Map<NaturalKey, Long> findIdsByNaturalKeys(Long memberId, List<StationaryCombustion> entities) {
+        Map<NaturalKey, Long> ids = new HashMap<>();
+        for (int from = 0; from < entities.size(); from += ROWS_PER_STATEMENT) {
+            List<StationaryCombustion> chunk = entities.subList(from, Math.min(from + ROWS_PER_STATEMENT, entities.size()));
+            StringBuilder sql = new StringBuilder("SELECT id, company_id, reporting_year, reporting_month, facility_name, fuel_id " +
+                    "FROM stationary_combustion WHERE member_id = ? " +
+                    "AND (company_id, reporting_year, reporting_month, facility_name, fuel_id) IN (");
+            List<Object> args = new ArrayList<>(1 + chunk.size() * 5);
+            args.add(memberId);
+            for (int i = 0; i < chunk.size(); i++) {
+                StationaryCombustion e = chunk.get(i);
+                sql.append(i == 0 ? "" : ", ").append("(?, ?, ?, ?, ?)");
+                Collections.addAll(args, e.getCompanyId(), e.getReportingYear(), e.getReportingMonth(),
+                        e.getFacilityName(), e.getFuelId());
+            }
+            sql.append(')');
+            jdbcTemplate.query(sql.toString(), rs -> {
+                ids.put(NaturalKey.of(rs.getString("company_id"), rs.getInt("reporting_year"),
+                        rs.getInt("reporting_month"), rs.getString("facility_name"), rs.getString("fuel_id")),
+                        rs.getLong("id"));
+            }, args.toArray());
+        }
+        return ids;
+    }
+}
@@ -1,21 +1,30 @@
 package com.nsmm.esg.scopeservice.repository;
 
 import com.nsmm.esg.scopeservice.entity.StationaryCombustion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 고정연소 데이터 레포지토리
  * 컨트롤러와 서비스에서 실제로 사용하는 메서드만 포함
  */
 @Repository
-public interface StationaryCombustionRepository extends JpaRepository<StationaryCombustion, Long> {
+public interface StationaryCombustionRepository extends JpaRepository<StationaryCombustion, Long>,
+        StationaryCombustionBatchRepository {
 
     // =============================================================================
     // 기본 조회 메서드 (컨트롤러 API 대응)
@@ -42,6 +51,150 @@ public interface StationaryCombustionRepository extends JpaRepository<Stationary
     List<StationaryCombustion> findByMemberIdAndCompanyIdAndReportingYear(
             Long memberId, String companyId, Integer reportingYear);
 
+    // =============================================================================
+    // 업서트 (자연키 기준 중복 제거)
+    // =============================================================================
+
+    /**
+     * 자연키(회원, 협력사, 연도, 월, 시설명, 연료) 기준 업서트
+     * 동일 자연키 행이 있으면 값만 갱신하고, LAST_INSERT_ID(id)로 기존 행 ID를 노출합니다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO stationary_combustion (" +
+           "member_id, company_id, reporting_year, reporting_month, facility_name, facility_location, " +
+           "combustion_type, fuel_id, fuel_name, fuel_usage, unit, " +
+           "co2emission, ch4emission, n2o_emission, total_co2equivalent, calculated_at, input_fingerprint, " +
+           "factor_set_id, calculation_quality, created_by, notes, created_at, updated_at, version) " +
+           "VALUES (:#{#e.memberId}, :#{#e.companyId}, :#{#e.reportingYear}, :#{#e.reportingMonth}, " +
+           ":#{#e.facilityName}, :#{#e.facilityLocation}, :#{#e.combustionType}, :#{#e.fuelId}, " +
+           ":#{#e.fuelName}, :#{#e.fuelUsage}, :#{#e.unit}, " +
+           ":#{#e.co2Emission}, :#{#e.ch4Emission}, :#{#e.n2oEmission}, :#{#e.totalCo2Equivalent}, " +
+           ":#{#e.calculatedAt}, :#{#e.inputFingerprint}, :#{#e.factorSetId}, :#{#e.calculationQualityCode}, :#{#e.createdBy}, :#{#e.notes}, :now, :now, 0) " +
+           "ON DUPLICATE KEY UPDATE " +
+           "id = LAST_INSERT_ID(id), " +
+           "facility_location = VALUES(facility_location), " +
+           "combustion_type = VALUES(combustion_type), " +
+           "fuel_name = VALUES(fuel_name), " +
+           "fuel_usage = VALUES(fuel_usage), " +
+           "unit = VALUES(unit), " +
+           "co2emission = VALUES(co2emission), " +
+           "ch4emission = VALUES(ch4emission), " +
+           "n2o_emission = VALUES(n2o_emission), " +
+           "total_co2equivalent = VALUES(total_co2equivalent), " +
+           "calculated_at = VALUES(calculated_at), " +
+           "input_fingerprint = VALUES(input_fingerprint), " +
+           "factor_set_id = VALUES(factor_set_id), " +
+           "calculation_quality = VALUES(calculation_quality), " +
+           "notes = VALUES(notes), " +
+           "updated_at = VALUES(updated_at), " +
+           "version = COALESCE(version, 0) + 1",
+           nativeQuery = true)
+    int upsert(@Param("e") StationaryCombustion entity, @Param("now") LocalDateTime now);
+
+    /**
+     * 직전 업서트로 삽입/갱신된 행의 ID (같은 커넥션 기준)
+     */
+    @Query(value = "SELECT LAST_INSERT_ID()", nativeQuery = true)
+    Long findLastInsertId();
+
+    // =============================================================================
+    // 소유자 조건부 수정/삭제
+    // =============================================================================
+
+    /**
+     * 소유자 조건부 조회 (PUT /{id} 수정이 0건일 때 없음/버전 충돌/연도 이동 판별용)
+     */
+    Optional<StationaryCombustion> findByIdAndMemberId(Long id, Long memberId);
+
+    /**
+     * 소유자/버전/연도 조건부 수정 (PUT /{id})
+     * 영향받은 행 수가 0이면 데이터가 없거나, 다른 회원의 데이터이거나, If-Match 버전이 다르거나, 보고 연도를 옮기는 수정입니다.
+     * anyVersion이 false이면 versions 중 하나와 버전이 같을 때만 수정합니다.
+     * 입력값 지문이 그대로면 calculated_at을 유지하며(지문 갱신 전에 비교), 증가한 버전은 LAST_INSERT_ID()로 노출합니다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE stationary_combustion SET " +
+           "company_id = :#{#e.companyId}, " +
+           "reporting_year = :#{#e.reportingYear}, " +
+           "reporting_month = :#{#e.reportingMonth}, " +
+           "facility_name = :#{#e.facilityName}, " +
+           "facility_location = :#{#e.facilityLocation}, " +
+           "combustion_type = :#{#e.combustionType}, " +
+           "fuel_id = :#{#e.fuelId}, " +
+           "fuel_name = :#{#e.fuelName}, " +
+           "fuel_usage = :#{#e.fuelUsage}, " +
+           "unit = :#{#e.unit}, " +
+           "co2emission = :#{#e.co2Emission}, " +
+           "ch4emission = :#{#e.ch4Emission}, " +
+           "n2o_emission = :#{#e.n2oEmission}, " +
+           "total_co2equivalent = :#{#e.totalCo2Equivalent}, " +
+           "calculated_at = CASE WHEN input_fingerprint = :#{#e.inputFingerprint} THEN calculated_at " +
+           "ELSE :#{#e.calculatedAt} END, " +
+           "input_fingerprint = :#{#e.inputFingerprint}, " +
+           "factor_set_id = :#{#e.factorSetId}, " +
+           "calculation_quality = :#{#e.calculationQualityCode}, " +
+           "notes = :#{#e.notes}, " +
+           "updated_at = :now, " +
+           "version = LAST_INSERT_ID(COALESCE(version, 0) + 1) " +
+           "WHERE id = :id AND member_id = :memberId AND reporting_year = :currentYear " +
+           "AND (:anyVersion OR COALESCE(version, 0) IN (:versions))",
+           nativeQuery = true)
+    int updateByIdAndMemberId(
+            @Param("id") Long id,
+            @Param("memberId") Long memberId,
+            @Param("currentYear") Integer currentYear,
+            @Param("anyVersion") boolean anyVersion,
+            @Param("versions") List<Long> versions,
+            @Param("e") StationaryCombustion values,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * 비배출 필드 다건 수정 (PATCH /bulk)
+     * null인 항목은 기존 값을 유지하며, 배출량 재계산이 필요 없는 UPDATE 한 번으로 처리합니다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE StationaryCombustion sc SET " +
+           "sc.facilityName = COALESCE(:facilityName, sc.facilityName), " +
+           "sc.facilityLocation = COALESCE(:facilityLocation, sc.facilityLocation), " +
+           "sc.notes = COALESCE(:notes, sc.notes), " +
+           "sc.updatedAt = :now, " +
+           "sc.version = COALESCE(sc.version, 0) + 1 " +
+           "WHERE sc.memberId = :memberId AND sc.id IN :ids")
+    int updateDescriptiveFieldsByIdIn(
+            @Param("ids") List<Long> ids,
+            @Param("memberId") Long memberId,
+            @Param("facilityName") String facilityName,
+            @Param("facilityLocation") String facilityLocation,
+            @Param("notes") String notes,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * 소유자 조건부 단건 삭제 (DELETE /{id})
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM StationaryCombustion sc WHERE sc.id = :id AND sc.memberId = :memberId")
+    int deleteByIdAndMemberId(@Param("id") Long id, @Param("memberId") Long memberId);
+
+    /**
+     * 소유자 조건부 다건 삭제 (DELETE /bulk)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM StationaryCombustion sc WHERE sc.memberId = :memberId AND sc.id IN :ids")
+    int deleteAllByIdInAndMemberId(@Param("ids") List<Long> ids, @Param("memberId") Long memberId);
+
+    /**
+     * 협력사-연도 단위 일괄 삭제 (DELETE /partner/{companyId}/year/{year})
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM StationaryCombustion sc " +
+           "WHERE sc.memberId = :memberId " +
+           "AND sc.companyId = :companyId " +
+           "AND sc.reportingYear = :year")
+    int deleteByMemberIdAndCompanyIdAndReportingYear(
+            @Param("memberId") Long memberId,
+            @Param("companyId") String companyId,
+            @Param("year") Integer year);
+
     // =============================================================================
     // 집계 쿼리 (차트 및 통계용)
     // =============================================================================
@@ -126,6 +279,171 @@ public interface StationaryCombustionRepository extends JpaRepository<Stationary
             @Param("partnerCompanyId") String partnerCompanyId, 
             @Param("year") Integer year);
 
+    /**
+     * 연도별 배출량 롤업 (월, 연료, 시설, 협력사 조합별 합계)
+     * 한 번의 조회로 모든 차원의 집계 벡터를 만들 때 사용합니다.
+     */
+    @Query("SELECT sc.reportingMonth, sc.fuelName, sc.facilityLocation, sc.companyId, SUM(sc.totalCo2Equivalent) " +
+           "FROM StationaryCombustion sc " +
+           "WHERE sc.memberId = :memberId " +
+           "AND sc.reportingYear = :year " +
+           "GROUP BY sc.reportingMonth, sc.fuelName, sc.facilityLocation, sc.companyId")
+    List<Object[]> findEmissionRollup(@Param("memberId") Long memberId, @Param("year") Integer year);
+
+    /**
+     * 협력사별 배출량 상위 N개 (limit은 Pageable로 SQL에 전달)
+     */
+    @Query("SELECT sc.companyId, SUM(sc.totalCo2Equivalent) " +
+           "FROM StationaryCombustion sc " +
+           "WHERE sc.memberId = :memberId " +
+           "AND sc.reportingYear = :year " +
+           "GROUP BY sc.companyId " +
+           "ORDER BY SUM(sc.totalCo2Equivalent) DESC, sc.companyId")
+    List<Object[]> findTopEmissionByPartner(
+            @Param("memberId") Long memberId,
+            @Param("year") Integer year,
+            Pageable pageable);
+
+    /**
+     * 시설별 배출량 상위 N개 (limit은 Pageable로 SQL에 전달)
+     */
+    @Query("SELECT sc.facilityLocation, SUM(sc.totalCo2Equivalent) " +
+           "FROM StationaryCombustion sc " +
+           "WHERE sc.memberId = :memberId " +
+           "AND sc.reportingYear = :year " +
+           "AND (:partnerCompanyId IS NULL OR sc.companyId = :partnerCompanyId) " +
+           "GROUP BY sc.facilityLocation " +
+           "ORDER BY SUM(sc.totalCo2Equivalent) DESC, sc.facilityLocation")
+    List<Object[]> findTopEmissionByFacility(
+            @Param("memberId") Long memberId,
+            @Param("year") Integer year,
+            @Param("partnerCompanyId") String partnerCompanyId,
+            Pageable pageable);
+
+    /**
+     * 협력사 그룹 수 (상위 N개 외 기타 그룹 수 계산용)
+     */
+    @Query("SELECT COUNT(DISTINCT sc.companyId) " +
+           "FROM StationaryCombustion sc " +
+           "WHERE sc.memberId = :memberId " +
+           "AND sc.reportingYear = :year")
+    long countDistinctPartners(@Param("memberId") Long memberId, @Param("year") Integer year);
+
+    /**
+     * 시설 그룹 수 (시설 위치가 없는 행도 한 그룹으로 계산)
+     */
+    @Query("SELECT COUNT(DISTINCT COALESCE(sc.facilityLocation, '')) " +
+           "FROM StationaryCombustion sc " +
+           "WHERE sc.memberId = :memberId " +
+           "AND sc.reportingYear = :year " +
+           "AND (:partnerCompanyId IS NULL OR sc.companyId = :partnerCompanyId)")
+    long countDistinctFacilities(
+            @Param("memberId") Long memberId,
+            @Param("year") Integer year,
+            @Param("partnerCompanyId") String partnerCompanyId);
+
+    /**
+     * 협력사별 배출량 (정렬 없음, 범위 간 병합용)
+     */
+    @Query("SELECT sc.companyId, SUM(sc.totalCo2Equivalent) " +
+           "FROM StationaryCombustion sc " +
+           "WHERE sc.memberId = :memberId " +
+           "AND sc.reportingYear = :year " +
+           "GROUP BY sc.companyId")
+    List<Object[]> findPartnerTotalsUnordered(@Param("memberId") Long memberId, @Param("year") Integer year);
+
+    /**
+     * 연료-단위별 사용량/배출량/건수 합계 (연료 구성비 계산용)
+     */
+    @Query("SELECT sc.fuelId, MAX(sc.fuelName), sc.unit, SUM(sc.fuelUsage), SUM(sc.totalCo2Equivalent), COUNT(sc) " +
+           "FROM StationaryCombustion sc " +
+           "WHERE sc.memberId = :memberId " +
+           "AND sc.reportingYear = :year " +
+           "AND (:partnerCompanyId IS NULL OR sc.companyId = :partnerCompanyId) " +
+           "GROUP BY sc.fuelId, sc.unit")
+    List<Object[]> findFuelUsageAndEmission(
+            @Param("memberId") Long memberId,
+            @Param("year") Integer year,
+            @Param("partnerCompanyId") String partnerCompanyId);
+
+    /**
+     * 계산 품질-연료별 건수/배출량 롤업 (데이터 품질 요약용, 품질 미기록 행은 null 그룹)
+     */
+    @Query("SELECT sc.calculationQuality, sc.fuelId, MAX(sc.fuelName), COUNT(sc), SUM(sc.totalCo2Equivalent) " +
+           "FROM StationaryCombustion sc " +
+           "WHERE sc.memberId = :memberId " +
+           "AND sc.reportingYear = :year " +
+           "AND (:partnerCompanyId IS NULL OR sc.companyId = :partnerCompanyId) " +
+           "GROUP BY sc.calculationQuality, sc.fuelId")
+    List<Object[]> findCalculationQualityRollup(
+            @Param("memberId") Long memberId,
+            @Param("year") Integer year,
+            @Param("partnerCompanyId") String partnerCompanyId);
+
+    // =============================================================================
+    // 시나리오 분석
+    // =============================================================================
+
+    /**
+     * 연료-단위-시설-협력사별 사용량/저장 배출량 합계 (시나리오 활동 벡터용)
+     * 배출량은 사용량에 비례하므로 같은 조합의 행은 합쳐서 계산해도 결과가 같습니다.
+     */
+    @Query("SELECT sc.fuelId, sc.unit, sc.facilityLocation, sc.companyId, SUM(sc.fuelUsage), SUM(sc.totalCo2Equivalent) " +
+           "FROM StationaryCombustion sc " +
+           "WHERE sc.memberId = :memberId " +
+           "AND sc.reportingYear = :year " +
+           "AND (:partnerCompanyId IS NULL OR sc.companyId = :partnerCompanyId) " +
+           "GROUP BY sc.fuelId, sc.unit, sc.facilityLocation, sc.companyId")
+    List<Object[]> findScenarioActivity(
+            @Param("memberId") Long memberId,
+            @Param("year") Integer year,
+            @Param("partnerCompanyId") String partnerCompanyId);
+
+    // =============================================================================
+    // 계산 감사
+    // =============================================================================
+
+    /**
+     * 연도 전체 계산 검증용 입력값/저장 배출량 조회 (엔티티를 로드하지 않는 프로젝션)
+     * [id, fuelId, fuelUsage, unit, reportingYear, factorSetId, co2Emission, ch4Emission, n2oEmission, totalCo2Equivalent]
+     */
+    @Query("SELECT sc.id, sc.fuelId, sc.fuelUsage, sc.unit, sc.reportingYear, sc.factorSetId, " +
+           "sc.co2Emission, sc.ch4Emission, sc.n2oEmission, sc.totalCo2Equivalent " +
+           "FROM StationaryCombustion sc " +
+           "WHERE sc.memberId = :memberId AND sc.reportingYear = :year " +
+           "ORDER BY sc.id")
+    List<Object[]> findCalculationInputs(@Param("memberId") Long memberId, @Param("year") Integer year);
+
+    // =============================================================================
+    // 보고서 내보내기
+    // =============================================================================
+
+    /**
+     * 보고서 내보내기용 스트림 조회
+     * MySQL에서 fetch size Integer.MIN_VALUE는 행 단위 스트리밍이므로, 결과 전체를 메모리에 올리지 않습니다.
+     * 반드시 트랜잭션 안에서 try-with-resources로 닫아야 합니다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT sc FROM StationaryCombustion sc " +
+           "WHERE sc.memberId = :memberId AND sc.reportingYear = :year " +
+           "AND (:companyId IS NULL OR sc.companyId = :companyId) " +
+           "ORDER BY sc.id")
+    Stream<StationaryCombustion> streamForExport(@Param("memberId") Long memberId,
+                                                 @Param("year") Integer year,
+                                                 @Param("companyId") String companyId);
+
+    /**
+     * 활동 큐브 적재용 행 조회
+     * 반환: [companyId, fuelId, facilityLocation, month, co2, ch4, n2o, total]
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT sc.companyId, sc.fuelId, sc.facilityLocation, sc.reportingMonth, sc.co2Emission, sc.ch4Emission, sc.n2oEmission, sc.totalCo2Equivalent " +
+           "FROM StationaryCombustion sc WHERE sc.memberId = :memberId AND sc.reportingYear = :year")
+    List<Object[]> findCubeRows(@Param("memberId") Long memberId, @Param("year") Integer year);
+
     // =============================================================================
     // 헬퍼 메서드 (집계 데이터를 Map으로 변환하기 위한 default 메서드들)
     // =============================================================================
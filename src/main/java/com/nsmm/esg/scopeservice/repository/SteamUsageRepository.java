@@ -1,10 +1,13 @@
 package com.nsmm.esg.scopeservice.repository;
 
 import com.nsmm.esg.scopeservice.entity.SteamUsage;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -12,6 +15,7 @@ import java.math.BigDecimal;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 @Repository
 public interface SteamUsageRepository extends JpaRepository<SteamUsage, Long> {
@@ -74,6 +78,28 @@ public interface SteamUsageRepository extends JpaRepository<SteamUsage, Long> {
            "WHERE s.memberId = :memberId AND s.companyId = :companyId AND s.reportingYear = :year")
     BigDecimal getTotalEmissionByPartnerAndYear(@Param("memberId") Long memberId, @Param("companyId") String companyId, @Param("year") Integer year);
 
+    // 보고서 내보내기용 행 단위 스트림 조회 (트랜잭션 안에서 닫아야 함)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT s FROM SteamUsage s " +
+           "WHERE s.memberId = :memberId AND s.reportingYear = :year " +
+           "AND (:companyId IS NULL OR s.companyId = :companyId) " +
+           "ORDER BY s.id")
+    Stream<SteamUsage> streamForExport(@Param("memberId") Long memberId,
+                                       @Param("year") Integer year,
+                                       @Param("companyId") String companyId);
+
+    /**
+     * 활동 큐브 적재용 행 조회
+     * 반환: [companyId, facilityLocation, month, co2, total]
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT s.companyId, s.facilityLocation, s.reportingMonth, s.co2Emission, s.totalCo2Equivalent " +
+           "FROM SteamUsage s WHERE s.memberId = :memberId AND s.reportingYear = :year")
+    List<Object[]> findCubeRows(@Param("memberId") Long memberId, @Param("year") Integer year);
+
     // 헬퍼 메서드들
     default Map<String, BigDecimal> getMonthlyEmissionsMap(Long memberId, Integer year) {
         List<Object[]> results = findMonthlyEmissions(memberId, year);
@@ -0,0 +1,308 @@
+package com.nsmm.esg.scopeservice.service;
+
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 회원-연도 활동 데이터 컬럼형 큐브 (불변)
+ * 배출원/월은 byte, 협력사/연료/시설은 사전 인코딩한 int, 배출량은 소수 넷째 자리 고정소수점 long 컬럼으로 보관해
+ * 임의의 차원 조합 group-by/필터를 DB 조회 없이 한 번의 순회로 계산합니다.
+ * DB 컬럼이 scale 4이므로 고정소수점 합계는 SQL SUM과 정확히 같습니다.
+ */
+public final class ActivityCube {
+
+    public static final int SCALE = 4;
+
+    /**
+     * 배출원 (byte 코드 = ordinal)
+     */
+    public enum Source {
+        STATIONARY, MOBILE, ELECTRICITY, STEAM
+    }
+
+    /**
+     * 그룹/필터 차원
+     */
+    public enum Dimension {
+        SOURCE, COMPANY, FUEL, FACILITY, MONTH
+    }
+
+    private final Dictionary companies;
+    private final Dictionary fuels;
+    private final Dictionary facilities;
+
+    private final byte[] source;
+    private final byte[] month;
+    private final int[] company;
+    private final int[] fuel;
+    private final int[] facility;
+    private final long[] co2;
+    private final long[] ch4;
+    private final long[] n2o;
+    private final long[] total;
+    private final int size;
+
+    private ActivityCube(Builder builder) {
+        this.companies = builder.companies;
+        this.fuels = builder.fuels;
+        this.facilities = builder.facilities;
+        this.size = builder.size;
+        this.source = Arrays.copyOf(builder.source, size);
+        this.month = Arrays.copyOf(builder.month, size);
+        this.company = Arrays.copyOf(builder.company, size);
+        this.fuel = Arrays.copyOf(builder.fuel, size);
+        this.facility = Arrays.copyOf(builder.facility, size);
+        this.co2 = Arrays.copyOf(builder.co2, size);
+        this.ch4 = Arrays.copyOf(builder.ch4, size);
+        this.n2o = Arrays.copyOf(builder.n2o, size);
+        this.total = Arrays.copyOf(builder.total, size);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 대략적인 메모리 사용량 (컬럼 + 사전 문자열)
+     */
+    public long estimatedBytes() {
+        long columns = (long) size * (1 + 1 + 4 + 4 + 4 + 8 * 4);
+        return columns + companies.estimatedBytes() + fuels.estimatedBytes() + facilities.estimatedBytes() + 256;
+    }
+
+    /**
+     * 그룹별 합계 (groupBy가 비어 있으면 전체 합계 한 그룹)
+     * 필터 값이 큐브 사전에 없으면 빈 결과를 반환합니다.
+     */
+    public List<Group> aggregate(List<Dimension> groupBy, Filter filter) {
+        Filter f = filter != null ? filter : Filter.builder().build();
+        int companyCode = f.companyId != null ? companies.find(f.companyId) : -1;
+        int fuelCode = f.fuelId != null ? fuels.find(f.fuelId) : -1;
+        int facilityCode = f.facility != null ? facilities.find(f.facility) : -1;
+        if ((f.companyId != null && companyCode < 0) || (f.fuelId != null && fuelCode < 0)
+                || (f.facility != null && facilityCode < 0)) {
+            return List.of();
+        }
+        boolean[] sources = new boolean[Source.values().length];
+        for (Source s : f.sources != null && !f.sources.isEmpty() ? f.sources : EnumSet.allOf(Source.class)) {
+            sources[s.ordinal()] = true;
+        }
+        int fromMonth = f.fromMonth != null ? f.fromMonth : 0; // 0 = 보고 월 없음
+        int toMonth = f.toMonth != null ? f.toMonth : 12;
+
+        // 차원별 기수(radix)로 그룹 키를 long 하나로 합성
+        int dims = groupBy.size();
+        long[] radix = new long[dims];
+        for (int d = 0; d < dims; d++) {
+            radix[d] = cardinality(groupBy.get(d));
+        }
+
+        Map<Long, long[]> groups = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            if (!sources[source[i]]
+                    || month[i] < fromMonth || month[i] > toMonth
+                    || (companyCode >= 0 && company[i] != companyCode)
+                    || (fuelCode >= 0 && fuel[i] != fuelCode)
+                    || (facilityCode >= 0 && facility[i] != facilityCode)) {
+                continue;
+            }
+            long key = 0;
+            for (int d = 0; d < dims; d++) {
+                key = key * radix[d] + codeOf(groupBy.get(d), i);
+            }
+            long[] sums = groups.computeIfAbsent(key, k -> new long[5]);
+            sums[0] += total[i];
+            sums[1] += co2[i];
+            sums[2] += ch4[i];
+            sums[3] += n2o[i];
+            sums[4]++;
+        }
+
+        List<Group> result = new ArrayList<>(groups.size());
+        for (Map.Entry<Long, long[]> entry : groups.entrySet()) {
+            Object[] keys = new Object[dims];
+            long key = entry.getKey();
+            for (int d = dims - 1; d >= 0; d--) {
+                keys[d] = valueOf(groupBy.get(d), (int) (key % radix[d]));
+                key /= radix[d];
+            }
+            long[] sums = entry.getValue();
+            result.add(new Group(Arrays.asList(keys), sums[0], sums[1], sums[2], sums[3], sums[4]));
+        }
+        return result;
+    }
+
+    /**
+     * 고정소수점 → BigDecimal
+     */
+    public static BigDecimal toDecimal(long fixed) {
+        return BigDecimal.valueOf(fixed, SCALE);
+    }
+
+    /**
+     * BigDecimal → 고정소수점 (null은 0)
+     */
+    public static long toFixed(BigDecimal value) {
+        return value != null ? value.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact() : 0L;
+    }
+
+    private long cardinality(Dimension dimension) {
+        return switch (dimension) {
+            case SOURCE -> Source.values().length;
+            case MONTH -> 13;
+            case COMPANY -> Math.max(1, companies.size());
+            case FUEL -> Math.max(1, fuels.size());
+            case FACILITY -> Math.max(1, facilities.size());
+        };
+    }
+
+    private int codeOf(Dimension dimension, int row) {
+        return switch (dimension) {
+            case SOURCE -> source[row];
+            case MONTH -> month[row];
+            case COMPANY -> company[row];
+            case FUEL -> fuel[row];
+            case FACILITY -> facility[row];
+        };
+    }
+
+    private Object valueOf(Dimension dimension, int code) {
+        return switch (dimension) {
+            case SOURCE -> Source.values()[code].name();
+            case MONTH -> code == 0 ? null : code;
+            case COMPANY -> companies.valueOf(code);
+            case FUEL -> fuels.valueOf(code);
+            case FACILITY -> facilities.valueOf(code);
+        };
+    }
+
+    /**
+     * 그룹 결과 (keys는 groupBy 순서, MONTH는 Integer, 나머지는 String, 값이 없으면 null, 금액은 고정소수점)
+     */
+    public record Group(List<Object> keys, long total, long co2, long ch4, long n2o, long count) {
+    }
+
+    /**
+     * 필터 (null인 항목은 조건 없음, 큐브 적재용 Builder와 이름이 겹쳐 lombok.Builder를 정규화된 이름으로 사용)
+     */
+    @lombok.Builder
+    public static final class Filter {
+        private final Set<Source> sources;
+        private final String companyId;
+        private final String fuelId;
+        private final String facility;
+        private final Integer fromMonth;
+        private final Integer toMonth;
+    }
+
+    /**
+     * 큐브 적재용 빌더 (행을 추가하면서 배열을 늘림)
+     */
+    public static final class Builder {
+        private final Dictionary companies = new Dictionary();
+        private final Dictionary fuels = new Dictionary();
+        private final Dictionary facilities = new Dictionary();
+
+        private byte[] source = new byte[256];
+        private byte[] month = new byte[256];
+        private int[] company = new int[256];
+        private int[] fuel = new int[256];
+        private int[] facility = new int[256];
+        private long[] co2 = new long[256];
+        private long[] ch4 = new long[256];
+        private long[] n2o = new long[256];
+        private long[] total = new long[256];
+        private int size = 0;
+
+        public Builder add(Source sourceValue, String companyId, String fuelId, String facilityValue, Integer monthValue,
+                           BigDecimal co2Value, BigDecimal ch4Value, BigDecimal n2oValue, BigDecimal totalValue) {
+            if (size == source.length) {
+                grow();
+            }
+            source[size] = (byte) sourceValue.ordinal();
+            month[size] = (byte) (monthValue != null ? monthValue : 0);
+            company[size] = companies.indexOf(companyId);
+            fuel[size] = fuels.indexOf(fuelId);
+            facility[size] = facilities.indexOf(facilityValue);
+            co2[size] = toFixed(co2Value);
+            ch4[size] = toFixed(ch4Value);
+            n2o[size] = toFixed(n2oValue);
+            total[size] = toFixed(totalValue);
+            size++;
+            return this;
+        }
+
+        public ActivityCube build() {
+            return new ActivityCube(this);
+        }
+
+        private void grow() {
+            int capacity = source.length * 2;
+            source = Arrays.copyOf(source, capacity);
+            month = Arrays.copyOf(month, capacity);
+            company = Arrays.copyOf(company, capacity);
+            fuel = Arrays.copyOf(fuel, capacity);
+            facility = Arrays.copyOf(facility, capacity);
+            co2 = Arrays.copyOf(co2, capacity);
+            ch4 = Arrays.copyOf(ch4, capacity);
+            n2o = Arrays.copyOf(n2o, capacity);
+            total = Arrays.copyOf(total, capacity);
+        }
+    }
+
+    /**
+     * 문자열 ↔ 정수 코드 사전 (null도 하나의 값으로 인코딩)
+     */
+    private static final class Dictionary {
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+        private int nullCode = -1;
+
+        private int indexOf(String value) {
+            if (value == null) {
+                if (nullCode < 0) {
+                    values.add(null);
+                    nullCode = values.size() - 1;
+                }
+                return nullCode;
+            }
+            return codes.computeIfAbsent(value, key -> {
+                values.add(key);
+                return values.size() - 1;
+            });
+        }
+
+        private int find(String value) {
+            return codes.getOrDefault(Objects.requireNonNull(value), -1);
+        }
+
+        private String valueOf(int code) {
+            return values.get(code);
+        }
+
+        private int size() {
+            return values.size();
+        }
+
+        private long estimatedBytes() {
+            long bytes = 0;
+            for (String value : values) {
+                bytes += 64 + (value != null ? value.length() * 2L : 0);
+            }
+            return bytes;
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.nsmm.esg.scopeservice.service;
+
+import com.nsmm.esg.scopeservice.event.EmissionDataChangedEvent;
+import com.nsmm.esg.scopeservice.repository.ElectricityUsageRepository;
+import com.nsmm.esg.scopeservice.repository.MobileCombustionRepository;
+import com.nsmm.esg.scopeservice.repository.StationaryCombustionRepository;
+import com.nsmm.esg.scopeservice.repository.SteamUsageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 회원-연도 활동 큐브 캐시
+ * 자주 조회되는 (회원, 연도)의 전체 배출원 활동을 {@link ActivityCube}로 한 번 적재해 두고, 요약 조회를 메모리에서 처리합니다.
+ * 큐브는 처음 조회될 때 적재하며, 전체 추정 메모리가 예산을 넘으면 가장 오래 사용하지 않은 큐브부터 제거합니다.
+ * 같은 (회원, 연도)를 동시에 조회하면 적재는 한 번만 수행하고 나머지 조회는 그 결과를 기다립니다.
+ * 데이터 변경이 커밋되면 해당 회원(연도)의 큐브와 진행 중인 적재를 버리고 다음 조회 때 다시 적재합니다.
+ * (다른 회원/연도의 진행 중인 적재는 그대로 보관합니다.)
+ * (연도를 옮기는 수정은 이전 연도에도 변경 이벤트가 발행되므로 두 연도 모두 버립니다.)
+ * 변경 이벤트는 이 인스턴스의 커밋만 받으므로, 다른 인스턴스의 변경은 적재 후 TTL(scope.cube.ttl-ms)이 지나야 반영됩니다.
+ * scope.cube.enabled=false(기본)이면 호출 측은 기존 DB 집계 경로를 사용합니다.
+ */
+@Service
+@Slf4j
+public class ActivityCubeService {
+
+    private final StationaryCombustionRepository stationaryCombustionRepository;
+    private final MobileCombustionRepository mobileCombustionRepository;
+    private final ElectricityUsageRepository electricityUsageRepository;
+    private final SteamUsageRepository steamUsageRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final long maxBytes;
+    private final long ttlMillis;
+
+    // 접근 순서 LinkedHashMap (가장 오래 사용하지 않은 큐브가 맨 앞), this로 동기화
+    private final LinkedHashMap<Key, Entry> cubes = new LinkedHashMap<>(16, 0.75f, true);
+    private long usedBytes = 0;
+    // 키별 진행 중인 적재, this로 동기화 (무효화되면 목록에서 빠지므로 적재가 끝나도 결과를 보관하지 않음)
+    private final Map<Key, CompletableFuture<ActivityCube>> loading = new HashMap<>();
+
+    public ActivityCubeService(StationaryCombustionRepository stationaryCombustionRepository,
+                               MobileCombustionRepository mobileCombustionRepository,
+                               ElectricityUsageRepository electricityUsageRepository,
+                               SteamUsageRepository steamUsageRepository,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${scope.cube.enabled:false}") boolean enabled,
+                               @Value("${scope.cube.max-bytes:268435456}") long maxBytes,
+                               @Value("${scope.cube.ttl-ms:60000}") long ttlMillis) {
+        this.stationaryCombustionRepository = stationaryCombustionRepository;
+        this.mobileCombustionRepository = mobileCombustionRepository;
+        this.electricityUsageRepository = electricityUsageRepository;
+        this.steamUsageRepository = steamUsageRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.maxBytes = maxBytes;
+        this.ttlMillis = ttlMillis;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 회원-연도 큐브 조회 (없거나 TTL이 지났으면 적재, 같은 키의 적재가 진행 중이면 그 결과를 기다림)
+     */
+    public ActivityCube get(Long memberId, Integer year) {
+        Key key = new Key(memberId, year);
+        CompletableFuture<ActivityCube> pending;
+        boolean owner = false;
+        synchronized (this) {
+            Entry cached = cubes.get(key);
+            if (cached != null) {
+                if (System.currentTimeMillis() - cached.loadedAt() < ttlMillis) {
+                    return cached.cube();
+                }
+                cubes.remove(key);
+                usedBytes -= cached.cube().estimatedBytes();
+            }
+            pending = loading.get(key);
+            if (pending == null) {
+                pending = new CompletableFuture<>();
+                loading.put(key, pending);
+                owner = true;
+            }
+        }
+
+        if (!owner) {
+            try {
+                return pending.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        try {
+            long started = System.nanoTime();
+            ActivityCube loaded = readOnlyTransaction.execute(status -> load(memberId, year));
+            log.debug("활동 큐브 적재 - 회원: {}, 연도: {}, 행: {}, 약 {}바이트, {}ms", memberId, year,
+                    loaded.size(), loaded.estimatedBytes(), (System.nanoTime() - started) / 1_000_000);
+
+            synchronized (this) {
+                // 적재 중에 이 키가 무효화되었으면 목록에서 이미 빠져 있으므로 보관하지 않음
+                if (loading.remove(key, pending)) {
+                    put(key, new Entry(loaded, System.currentTimeMillis()));
+                }
+            }
+            pending.complete(loaded);
+            return loaded;
+
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                loading.remove(key, pending);
+            }
+            pending.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 단일 차원 합계 (총 배출량 기준, 키 → tCO2eq)
+     */
+    public Map<Object, BigDecimal> sumBy(Long memberId, Integer year, ActivityCube.Dimension dimension,
+                                         ActivityCube.Filter filter) {
+        Map<Object, BigDecimal> sums = new LinkedHashMap<>();
+        for (ActivityCube.Group group : get(memberId, year).aggregate(List.of(dimension), filter)) {
+            sums.put(group.keys().get(0), ActivityCube.toDecimal(group.total()));
+        }
+        return sums;
+    }
+
+    /**
+     * 필터 조건 전체 합계 (tCO2eq)
+     */
+    public BigDecimal total(Long memberId, Integer year, ActivityCube.Filter filter) {
+        List<ActivityCube.Group> groups = get(memberId, year).aggregate(List.of(), filter);
+        return groups.isEmpty() ? BigDecimal.ZERO : ActivityCube.toDecimal(groups.get(0).total());
+    }
+
+    /**
+     * 데이터 변경 커밋 후 해당 회원의 큐브와 진행 중인 적재 제거 (연도 미지정 변경은 모든 연도)
+     * 이미 기다리고 있는 조회는 진행 중인 적재 결과를 그대로 받고, 이후 조회는 새로 적재합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEmissionDataChanged(EmissionDataChangedEvent event) {
+        synchronized (this) {
+            Iterator<Map.Entry<Key, Entry>> it = cubes.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<Key, Entry> entry = it.next();
+                if (entry.getKey().matches(event)) {
+                    usedBytes -= entry.getValue().cube().estimatedBytes();
+                    it.remove();
+                }
+            }
+            loading.keySet().removeIf(key -> key.matches(event));
+        }
+    }
+
+    // =============================================================================
+    // 내부 유틸리티 메서드
+    // =============================================================================
+
+    /**
+     * 예산 안에서 큐브 보관 (예산보다 큰 큐브는 보관하지 않음)
+     */
+    private void put(Key key, Entry entry) {
+        long bytes = entry.cube().estimatedBytes();
+        if (bytes > maxBytes) {
+            log.debug("활동 큐브가 메모리 예산보다 커서 보관하지 않음 - 회원: {}, 연도: {}, 약 {}바이트", key.memberId(), key.year(), bytes);
+            return;
+        }
+        Entry previous = cubes.put(key, entry);
+        if (previous != null) {
+            usedBytes -= previous.cube().estimatedBytes();
+        }
+        usedBytes += bytes;
+
+        Iterator<Map.Entry<Key, Entry>> eldest = cubes.entrySet().iterator();
+        while (usedBytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<Key, Entry> oldest = eldest.next();
+            if (oldest.getKey().equals(key)) {
+                continue;
+            }
+            usedBytes -= oldest.getValue().cube().estimatedBytes();
+            eldest.remove();
+        }
+    }
+
+    private ActivityCube load(Long memberId, Integer year) {
+        ActivityCube.Builder builder = ActivityCube.builder();
+
+        for (Object[] row : stationaryCombustionRepository.findCubeRows(memberId, year)) {
+            builder.add(ActivityCube.Source.STATIONARY, (String) row[0], (String) row[1], (String) row[2], (Integer) row[3],
+                    (BigDecimal) row[4], (BigDecimal) row[5], (BigDecimal) row[6], (BigDecimal) row[7]);
+        }
+        for (Object[] row : mobileCombustionRepository.findCubeRows(memberId, year)) {
+            builder.add(ActivityCube.Source.MOBILE, (String) row[0], (String) row[1], null, (Integer) row[2],
+                    (BigDecimal) row[3], (BigDecimal) row[4], (BigDecimal) row[5], (BigDecimal) row[6]);
+        }
+        for (Object[] row : electricityUsageRepository.findCubeRows(memberId, year)) {
+            builder.add(ActivityCube.Source.ELECTRICITY, (String) row[0], null, (String) row[1], (Integer) row[2],
+                    (BigDecimal) row[3], null, null, (BigDecimal) row[4]);
+        }
+        for (Object[] row : steamUsageRepository.findCubeRows(memberId, year)) {
+            builder.add(ActivityCube.Source.STEAM, (String) row[0], null, (String) row[1], (Integer) row[2],
+                    (BigDecimal) row[3], null, null, (BigDecimal) row[4]);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 보관 중인 큐브와 적재 시각 (epoch ms)
+     */
+    private record Entry(ActivityCube cube, long loadedAt) {
+    }
+
+    private record Key(Long memberId, Integer year) {
+        private Key {
+            Objects.requireNonNull(memberId, "memberId");
+            Objects.requireNonNull(year, "year");
+        }
+
+        private boolean matches(EmissionDataChangedEvent event) {
+            return memberId.equals(event.getMemberId())
+                    && (event.getReportingYear() == null || year.equals(event.getReportingYear()));
+        }
+    }
+}
@@ -0,0 +1,468 @@
+package com.nsmm.esg.scopeservice.service;
+
+import com.nsmm.esg.scopeservice.dto.AggregationRequest;
+import com.nsmm.esg.scopeservice.dto.AggregationResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 활동 데이터 임의 집계 서비스
+ * 허용 목록의 차원/측정값/필터 조합을 고정연소·이동연소·전력·스팀 테이블의 UNION ALL 위에서 GROUP BY 하는
+ * 파라미터 바인딩 SQL 하나로 컴파일합니다. 컬럼명은 열거형에서만 오므로 요청 값이 SQL 문자열에 들어가지 않습니다.
+ * 컴파일한 SQL은 (차원, 측정값, 지정된 필터) 조합별로 캐시하며, 분기/카테고리/Scope처럼 파생되는 차원은
+ * 월/연료/배출원으로 묶은 결과를 메모리에서 한 번 더 접어 계산합니다.
+ * 활동 큐브가 켜져 있고 사용량을 요청하지 않았으면 DB 대신 큐브에서 집계합니다.
+ * 사용량은 배출원·연료마다 단위가 달라(L, kg, m³, kWh, GJ) 연료 차원과 함께일 때만 받으며,
+ * 배출원과 입력 단위별로 따로 합산해 행마다 단위를 붙입니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AggregationQueryService {
+
+    private static final int MAX_PLANS = 512;
+
+    // 측정값별 단위 (사용량은 행마다 usageUnit)
+    private static final Map<Measure, String> MEASURE_UNITS = Map.of(
+            Measure.EMISSION, "tCO2eq",
+            Measure.COUNT, "건");
+
+    /**
+     * 요청 가능한 차원 (base = DB/큐브에서 실제로 묶는 차원)
+     */
+    public enum Dimension {
+        MONTH(ActivityCube.Dimension.MONTH),
+        QUARTER(ActivityCube.Dimension.MONTH),
+        COMPANY_ID(ActivityCube.Dimension.COMPANY),
+        FACILITY(ActivityCube.Dimension.FACILITY),
+        FUEL_ID(ActivityCube.Dimension.FUEL),
+        CATEGORY(ActivityCube.Dimension.FUEL),
+        SCOPE(ActivityCube.Dimension.SOURCE);
+
+        private final ActivityCube.Dimension base;
+
+        Dimension(ActivityCube.Dimension base) {
+            this.base = base;
+        }
+    }
+
+    /**
+     * 요청 가능한 측정값
+     */
+    public enum Measure {
+        EMISSION, USAGE, COUNT
+    }
+
+    /**
+     * 배출원별 테이블/컬럼 (시설·연료 컬럼이 없는 배출원은 null)
+     */
+    private enum SourceTable {
+        STATIONARY(ActivityCube.Source.STATIONARY, "stationary_combustion", "fuel_id", "facility_location", "fuel_usage"),
+        MOBILE(ActivityCube.Source.MOBILE, "mobile_combustion", "fuel_id", null, "fuel_usage"),
+        ELECTRICITY(ActivityCube.Source.ELECTRICITY, "electricity_usage", null, "facility_location", "electricity_usage"),
+        STEAM(ActivityCube.Source.STEAM, "steam_usage", null, "facility_location", "steam_usage");
+
+        private final ActivityCube.Source source;
+        private final String table;
+        private final String fuelColumn;
+        private final String facilityColumn;
+        private final String usageColumn;
+
+        SourceTable(ActivityCube.Source source, String table, String fuelColumn, String facilityColumn, String usageColumn) {
+            this.source = source;
+            this.table = table;
+            this.fuelColumn = fuelColumn;
+            this.facilityColumn = facilityColumn;
+            this.usageColumn = usageColumn;
+        }
+    }
+
+    private final EntityManager entityManager;
+    private final ActivityCubeService activityCubeService;
+    private final FuelTypeCatalog fuelTypeCatalog;
+
+    private final Map<PlanKey, String> plans = new ConcurrentHashMap<>();
+
+    /**
+     * 임의 집계 (POST /api/v1/scope/aggregations/query)
+     */
+    @Transactional(readOnly = true)
+    public AggregationResponse query(Long memberId, AggregationRequest request) {
+        List<Dimension> dimensions = parseDimensions(request.getDimensions());
+        Set<Measure> measures = parseMeasures(request.getMeasures());
+        Set<ActivityCube.Source> sources = parseScope(request.getScope());
+        if (measures.contains(Measure.USAGE) && !dimensions.contains(Dimension.FUEL_ID)) {
+            throw new IllegalArgumentException("사용량(USAGE)은 연료마다 단위가 달라 FUEL_ID 차원과 함께 요청해야 합니다.");
+        }
+
+        Integer fromMonth = request.getFromMonth();
+        Integer toMonth = request.getToMonth();
+        if (fromMonth != null || toMonth != null) {
+            fromMonth = fromMonth != null ? fromMonth : 1;
+            toMonth = toMonth != null ? toMonth : 12;
+            if (fromMonth > toMonth) {
+                throw new IllegalArgumentException("시작 월이 종료 월보다 클 수 없습니다.");
+            }
+        }
+
+        List<ActivityCube.Dimension> baseDimensions = new ArrayList<>(new LinkedHashSet<>(
+                dimensions.stream().map(d -> d.base).toList()));
+
+        boolean useCube = activityCubeService.isEnabled() && !measures.contains(Measure.USAGE);
+        List<BaseRow> baseRows = useCube
+                ? fromCube(memberId, request, baseDimensions, sources, fromMonth, toMonth)
+                : fromSql(memberId, request, baseDimensions, measures, sources, fromMonth, toMonth);
+
+        List<AggregationResponse.Row> rows = rollUp(dimensions, baseDimensions, measures, baseRows);
+
+        Map<String, String> units = new LinkedHashMap<>();
+        for (Measure measure : measures) {
+            if (MEASURE_UNITS.containsKey(measure)) {
+                units.put(measure.name(), MEASURE_UNITS.get(measure));
+            }
+        }
+
+        return AggregationResponse.builder()
+                .memberId(memberId)
+                .year(request.getYear())
+                .dimensions(dimensions.stream().map(Enum::name).toList())
+                .measures(measures.stream().map(Enum::name).toList())
+                .engine(useCube ? "CUBE" : "SQL")
+                .rows(rows)
+                .units(units)
+                .calculatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    // =============================================================================
+    // 집계 엔진
+    // =============================================================================
+
+    private List<BaseRow> fromSql(Long memberId, AggregationRequest request, List<ActivityCube.Dimension> baseDimensions,
+                                  Set<Measure> measures, Set<ActivityCube.Source> sources,
+                                  Integer fromMonth, Integer toMonth) {
+        // 필터 컬럼이 없는 배출원은 조건을 만족하는 행이 없으므로 UNION에서 제외
+        Set<SourceTable> tables = EnumSet.noneOf(SourceTable.class);
+        for (SourceTable table : SourceTable.values()) {
+            if (sources.contains(table.source)
+                    && (request.getFacility() == null || table.facilityColumn != null)
+                    && (request.getFuelId() == null || table.fuelColumn != null)) {
+                tables.add(table);
+            }
+        }
+        if (tables.isEmpty()) {
+            return List.of();
+        }
+
+        boolean usage = measures.contains(Measure.USAGE);
+        PlanKey key = new PlanKey(baseDimensions, usage, tables, request.getCompanyId() != null,
+                request.getFacility() != null, request.getFuelId() != null, fromMonth != null);
+        String sql = plans.get(key);
+        if (sql == null) {
+            sql = compile(key);
+            if (plans.size() >= MAX_PLANS) {
+                plans.clear();
+            }
+            plans.put(key, sql);
+            log.debug("집계 SQL 컴파일 - {}", sql);
+        }
+
+        Query query = entityManager.createNativeQuery(sql)
+                .setParameter("memberId", memberId)
+                .setParameter("year", request.getYear());
+        if (key.companyFilter()) {
+            query.setParameter("companyId", request.getCompanyId());
+        }
+        if (key.facilityFilter()) {
+            query.setParameter("facility", request.getFacility());
+        }
+        if (key.fuelFilter()) {
+            query.setParameter("fuelId", request.getFuelId());
+        }
+        if (key.monthFilter()) {
+            query.setParameter("fromMonth", fromMonth);
+            query.setParameter("toMonth", toMonth);
+        }
+
+        // 결과 열: 차원..., [배출원, 사용량 단위], SUM(배출량), [SUM(사용량)], COUNT
+        int dims = baseDimensions.size();
+        int measureAt = usage ? dims + 2 : dims;
+        List<BaseRow> rows = new ArrayList<>();
+        for (Object result : query.getResultList()) {
+            Object[] row = result instanceof Object[] array ? array : new Object[]{result};
+            Object[] keys = new Object[dims];
+            for (int d = 0; d < dims; d++) {
+                Object value = row[d];
+                keys[d] = baseDimensions.get(d) == ActivityCube.Dimension.MONTH && value != null
+                        ? ((Number) value).intValue() : value;
+            }
+            rows.add(new BaseRow(keys,
+                    usage ? (String) row[dims] : null,
+                    usage ? (String) row[dims + 1] : null,
+                    decimalOf(row[measureAt]),
+                    usage ? decimalOf(row[measureAt + 1]) : null,
+                    ((Number) row[usage ? measureAt + 2 : measureAt + 1]).longValue()));
+        }
+        return rows;
+    }
+
+    private List<BaseRow> fromCube(Long memberId, AggregationRequest request, List<ActivityCube.Dimension> baseDimensions,
+                                   Set<ActivityCube.Source> sources, Integer fromMonth, Integer toMonth) {
+        ActivityCube.Filter filter = ActivityCube.Filter.builder()
+                .sources(sources)
+                .companyId(request.getCompanyId())
+                .facility(request.getFacility())
+                .fuelId(request.getFuelId())
+                .fromMonth(fromMonth)
+                .toMonth(toMonth)
+                .build();
+
+        List<BaseRow> rows = new ArrayList<>();
+        for (ActivityCube.Group group : activityCubeService.get(memberId, request.getYear()).aggregate(baseDimensions, filter)) {
+            rows.add(new BaseRow(group.keys().toArray(), null, null, ActivityCube.toDecimal(group.total()), null, group.count()));
+        }
+        return rows;
+    }
+
+    /**
+     * 컬럼은 열거형 상수에서만 가져오고 값은 모두 이름 있는 파라미터로 바인딩
+     * 사용량을 요청하면 배출원과 행의 입력 단위로도 묶어 단위가 다른 사용량이 한 합계에 섞이지 않게 합니다.
+     */
+    private String compile(PlanKey key) {
+        StringBuilder union = new StringBuilder();
+        for (SourceTable table : key.tables()) {
+            if (union.length() > 0) {
+                union.append(" UNION ALL ");
+            }
+            union.append("SELECT '").append(table.source.name()).append("' AS src, company_id, ")
+                    .append(table.fuelColumn != null ? table.fuelColumn : "NULL").append(" AS fuel_id, ")
+                    .append(table.facilityColumn != null ? table.facilityColumn : "NULL").append(" AS facility, ")
+                    .append("reporting_month AS activity_month, ")
+                    .append(key.usage() ? table.usageColumn : "NULL").append(" AS usage_amount, ")
+                    .append(key.usage() ? "unit" : "NULL").append(" AS usage_unit, ")
+                    .append("total_co2equivalent AS emission ")
+                    .append("FROM ").append(table.table)
+                    .append(" WHERE member_id = :memberId AND reporting_year = :year");
+            if (key.companyFilter()) {
+                union.append(" AND company_id = :companyId");
+            }
+            if (key.facilityFilter()) {
+                union.append(" AND ").append(table.facilityColumn).append(" = :facility");
+            }
+            if (key.fuelFilter()) {
+                union.append(" AND ").append(table.fuelColumn).append(" = :fuelId");
+            }
+            if (key.monthFilter()) {
+                union.append(" AND reporting_month BETWEEN :fromMonth AND :toMonth");
+            }
+        }
+
+        List<String> columns = new ArrayList<>(key.dimensions().stream().map(AggregationQueryService::columnOf).toList());
+        if (key.usage()) {
+            columns.add("src");
+            columns.add("usage_unit");
+        }
+        StringBuilder sql = new StringBuilder("SELECT ");
+        for (String column : columns) {
+            sql.append("a.").append(column).append(", ");
+        }
+        sql.append("SUM(a.emission), ");
+        if (key.usage()) {
+            sql.append("SUM(a.usage_amount), ");
+        }
+        sql.append("COUNT(*) FROM (").append(union).append(") a");
+        if (!columns.isEmpty()) {
+            sql.append(" GROUP BY ").append(String.join(", ", columns.stream().map(c -> "a." + c).toList()));
+        }
+        return sql.toString();
+    }
+
+    private static String columnOf(ActivityCube.Dimension dimension) {
+        return switch (dimension) {
+            case SOURCE -> "src";
+            case COMPANY -> "company_id";
+            case FUEL -> "fuel_id";
+            case FACILITY -> "facility";
+            case MONTH -> "activity_month";
+        };
+    }
+
+    // =============================================================================
+    // 파생 차원 접기
+    // =============================================================================
+
+    private List<AggregationResponse.Row> rollUp(List<Dimension> dimensions, List<ActivityCube.Dimension> baseDimensions,
+                                                 Set<Measure> measures, List<BaseRow> baseRows) {
+        int[] baseIndex = dimensions.stream().mapToInt(d -> baseDimensions.indexOf(d.base)).toArray();
+
+        boolean usage = measures.contains(Measure.USAGE);
+
+        // 사용량은 (배출원, 단위)가 같은 행끼리만 합산
+        Map<List<Object>, BaseRow> merged = new HashMap<>();
+        for (BaseRow row : baseRows) {
+            List<Object> keys = new ArrayList<>(dimensions.size() + 2);
+            for (int d = 0; d < dimensions.size(); d++) {
+                keys.add(derive(dimensions.get(d), row.keys()[baseIndex[d]]));
+            }
+            if (usage) {
+                keys.add(row.source());
+                keys.add(row.usageUnit());
+            }
+            merged.merge(keys, row, BaseRow::plus);
+        }
+
+        List<Map.Entry<List<Object>, BaseRow>> entries = new ArrayList<>(merged.entrySet());
+        entries.sort((a, b) -> compareKeys(a.getKey(), b.getKey()));
+
+        List<AggregationResponse.Row> rows = new ArrayList<>(entries.size());
+        for (Map.Entry<List<Object>, BaseRow> entry : entries) {
+            Map<String, Object> keys = new LinkedHashMap<>();
+            for (int d = 0; d < dimensions.size(); d++) {
+                keys.put(dimensions.get(d).name(), entry.getKey().get(d));
+            }
+            BaseRow row = entry.getValue();
+            rows.add(AggregationResponse.Row.builder()
+                    .keys(keys)
+                    .emission(measures.contains(Measure.EMISSION) ? row.emission() : null)
+                    .usage(usage ? row.usage() : null)
+                    .usageUnit(usage ? row.usageUnit() : null)
+                    .source(usage ? row.source() : null)
+                    .count(measures.contains(Measure.COUNT) ? row.count() : null)
+                    .build());
+        }
+        return rows;
+    }
+
+    private Object derive(Dimension dimension, Object baseValue) {
+        if (baseValue == null) {
+            return null;
+        }
+        return switch (dimension) {
+            case QUARTER -> ((Integer) baseValue + 2) / 3;
+            case CATEGORY -> {
+                FuelTypeCatalog.Entry fuel = fuelTypeCatalog.get((String) baseValue);
+                yield fuel != null ? fuel.category() : null;
+            }
+            case SCOPE -> switch (ActivityCube.Source.valueOf((String) baseValue)) {
+                case STATIONARY, MOBILE -> "SCOPE1";
+                case ELECTRICITY, STEAM -> "SCOPE2";
+            };
+            default -> baseValue;
+        };
+    }
+
+    /**
+     * 차원 값 순서대로 오름차순 (null은 뒤로)
+     */
+    @SuppressWarnings("unchecked")
+    private static int compareKeys(List<Object> a, List<Object> b) {
+        for (int i = 0; i < a.size(); i++) {
+            Object x = a.get(i);
+            Object y = b.get(i);
+            if (x == null || y == null) {
+                if (x != y) {
+                    return x == null ? 1 : -1;
+                }
+                continue;
+            }
+            int compared = ((Comparable<Object>) x).compareTo(y);
+            if (compared != 0) {
+                return compared;
+            }
+        }
+        return 0;
+    }
+
+    // =============================================================================
+    // 요청 검증
+    // =============================================================================
+
+    private List<Dimension> parseDimensions(List<String> names) {
+        if (names == null) {
+            return List.of();
+        }
+        List<Dimension> dimensions = new ArrayList<>();
+        for (String name : names) {
+            Dimension dimension = parse(Dimension.class, name, "차원");
+            if (dimensions.contains(dimension)) {
+                throw new IllegalArgumentException("중복된 차원입니다: " + name);
+            }
+            dimensions.add(dimension);
+        }
+        return dimensions;
+    }
+
+    private Set<Measure> parseMeasures(List<String> names) {
+        if (names == null || names.isEmpty()) {
+            return EnumSet.of(Measure.EMISSION);
+        }
+        Set<Measure> measures = EnumSet.noneOf(Measure.class);
+        for (String name : names) {
+            measures.add(parse(Measure.class, name, "측정값"));
+        }
+        return measures;
+    }
+
+    private Set<ActivityCube.Source> parseScope(String scope) {
+        if (scope == null || scope.isBlank()) {
+            return EnumSet.allOf(ActivityCube.Source.class);
+        }
+        return switch (scope.trim().toUpperCase(Locale.ROOT)) {
+            case "SCOPE1" -> EnumSet.of(ActivityCube.Source.STATIONARY, ActivityCube.Source.MOBILE);
+            case "SCOPE2" -> EnumSet.of(ActivityCube.Source.ELECTRICITY, ActivityCube.Source.STEAM);
+            default -> throw new IllegalArgumentException("지원하지 않는 Scope입니다: " + scope + " (SCOPE1, SCOPE2)");
+        };
+    }
+
+    private static <E extends Enum<E>> E parse(Class<E> type, String name, String label) {
+        try {
+            return Enum.valueOf(type, name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("지원하지 않는 " + label + "입니다: " + name
+                    + " " + Arrays.toString(type.getEnumConstants()));
+        }
+    }
+
+    private static BigDecimal decimalOf(Object value) {
+        if (value == null) {
+            return BigDecimal.ZERO;
+        }
+        return value instanceof BigDecimal decimal ? decimal : new BigDecimal(value.toString());
+    }
+
+    /**
+     * DB/큐브에서 묶은 한 그룹 (keys는 baseDimensions 순서)
+     */
+    private record BaseRow(Object[] keys, String source, String usageUnit,
+                           BigDecimal emission, BigDecimal usage, long count) {
+        private BaseRow plus(BaseRow other) {
+            return new BaseRow(keys, source, usageUnit, emission.add(other.emission),
+                    usage != null ? usage.add(other.usage) : null, count + other.count);
+        }
+    }
+
+    /**
+     * 컴파일한 SQL 캐시 키 (필터는 값이 아닌 지정 여부만)
+     */
+    private record PlanKey(List<ActivityCube.Dimension> dimensions, boolean usage, Set<SourceTable> tables,
+                           boolean companyFilter, boolean facilityFilter, boolean fuelFilter, boolean monthFilter) {
+    }
+}
@@ -0,0 +1,317 @@
+package com.nsmm.esg.scopeservice.service;
+
+import com.nsmm.esg.scopeservice.dto.CalculationReproductionResponse;
+import com.nsmm.esg.scopeservice.dto.CalculationVerifyResponse;
+import com.nsmm.esg.scopeservice.dto.FactorSetSnapshotResponse;
+import com.nsmm.esg.scopeservice.entity.CalculationQuality;
+import com.nsmm.esg.scopeservice.entity.FactorSetSnapshot;
+import com.nsmm.esg.scopeservice.repository.StationaryCombustionRepository;
+import com.nsmm.esg.scopeservice.service.EmissionCalculationService.EmissionResult;
+import com.nsmm.esg.scopeservice.service.EmissionCalculationService.StationaryFactors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 배출량 계산 감사 서비스
+ * 활동 데이터 행에는 계산에 사용한 계수셋 스냅샷 ID만 기록되어 있으므로,
+ * 스냅샷의 FactorTable로 당시 계수를 복원해 같은 계산식으로 다시 계산하고 저장값과 비교합니다.
+ * 연도 전체 검증은 행을 청크로 나눠 고정 크기 스레드 풀에서 병렬로 재계산합니다.
+ */
+@Service
+@Slf4j
+public class CalculationAuditService implements DisposableBean {
+
+    private static final int CHUNK_SIZE = 1_000;
+    private static final int MAX_DRIFT_ROWS = 100;
+
+    private static final Comparator<CalculationVerifyResponse.Drift> BY_DRIFT_DESC =
+            Comparator.comparing((CalculationVerifyResponse.Drift d) -> d.getDrift().abs()).reversed()
+                    .thenComparing(CalculationVerifyResponse.Drift::getId);
+
+    private final StationaryCombustionRepository stationaryCombustionRepository;
+    private final FactorSetSnapshotService factorSetSnapshotService;
+    private final EmissionCalculationService emissionCalculationService;
+    private final UnitConversionService unitConversionService;
+    private final ExecutorService verifyExecutor;
+
+    public CalculationAuditService(StationaryCombustionRepository stationaryCombustionRepository,
+                                   FactorSetSnapshotService factorSetSnapshotService,
+                                   EmissionCalculationService emissionCalculationService,
+                                   UnitConversionService unitConversionService,
+                                   @Value("${scope.audit.verify-parallelism:4}") int verifyParallelism) {
+        this.stationaryCombustionRepository = stationaryCombustionRepository;
+        this.factorSetSnapshotService = factorSetSnapshotService;
+        this.emissionCalculationService = emissionCalculationService;
+        this.unitConversionService = unitConversionService;
+        this.verifyExecutor = Executors.newFixedThreadPool(Math.max(1, verifyParallelism), runnable -> {
+            Thread thread = new Thread(runnable, "calculation-verify");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // =============================================================================
+    // 계수셋 스냅샷 / 단건 재현
+    // =============================================================================
+
+    /**
+     * 계수셋 스냅샷 조회 (GET /factor-sets/{id})
+     */
+    @Transactional(readOnly = true)
+    public FactorSetSnapshotResponse getFactorSet(Integer snapshotId) {
+        FactorSetSnapshot snapshot = factorSetSnapshotService.getSnapshot(snapshotId);
+        return FactorSetSnapshotResponse.builder()
+                .id(snapshot.getId())
+                .contentHash(snapshot.getContentHash())
+                .kernelVersion(snapshot.getKernelVersion())
+                .content(factorSetSnapshotService.getContent(snapshotId))
+                .createdAt(snapshot.getCreatedAt())
+                .build();
+    }
+
+    /**
+     * 고정연소 행 계산 재현 (GET /stationary-combustion/{id}/reproduce)
+     * 대상이 없거나 다른 회원의 데이터이면 빈 값을 반환합니다.
+     */
+    @Transactional(readOnly = true)
+    public Optional<CalculationReproductionResponse> reproduceStationary(Long memberId, Long id) {
+        return stationaryCombustionRepository.findByIdAndMemberId(id, memberId).map(entity -> {
+            if (entity.getFactorSetId() == null) {
+                throw new IllegalArgumentException("계수셋 ID가 기록되지 않은 데이터입니다. 배출량을 다시 계산한 뒤 재현할 수 있습니다: " + id);
+            }
+
+            FactorSetSnapshot snapshot = factorSetSnapshotService.getSnapshot(entity.getFactorSetId());
+            FactorTable table = factorSetSnapshotService.getFactorTable(snapshot.getId());
+            StationaryFactors factors = table.resolve(entity.getFuelId(), entity.getReportingYear());
+            EmissionResult recomputed = recompute(factors, entity.getFuelId(), entity.getFuelUsage(), entity.getUnit());
+
+            BigDecimal storedTotal = orZero(entity.getTotalCo2Equivalent());
+            return CalculationReproductionResponse.builder()
+                    .id(entity.getId())
+                    .fuelId(entity.getFuelId())
+                    .fuelUsage(entity.getFuelUsage())
+                    .unit(entity.getUnit())
+                    .reportingYear(entity.getReportingYear())
+                    .factorSetId(snapshot.getId())
+                    .kernelVersion(snapshot.getKernelVersion())
+                    .kernelCurrent(snapshot.getKernelVersion() == EmissionCalculationService.KERNEL_VERSION)
+                    .yearPolicy(table.getYearPolicy().name())
+                    .factors(factors == null ? null : CalculationReproductionResponse.Factors.builder()
+                            .calorificValue(factors.calorificValue())
+                            .calorificUnit(factors.calorificUnit())
+                            .co2Factor(factors.co2Factor())
+                            .ch4Factor(factors.ch4Factor())
+                            .n2oFactor(factors.n2oFactor())
+                            .quality(factors.quality().name())
+                            .build())
+                    .stored(CalculationReproductionResponse.Emissions.builder()
+                            .co2Emission(entity.getCo2Emission())
+                            .ch4Emission(entity.getCh4Emission())
+                            .n2oEmission(entity.getN2oEmission())
+                            .totalCo2Equivalent(entity.getTotalCo2Equivalent())
+                            .build())
+                    .recomputed(CalculationReproductionResponse.Emissions.builder()
+                            .co2Emission(recomputed.getCo2Emission())
+                            .ch4Emission(recomputed.getCh4Emission())
+                            .n2oEmission(recomputed.getN2oEmission())
+                            .totalCo2Equivalent(recomputed.getTotalCo2Equivalent())
+                            .build())
+                    .drift(recomputed.getTotalCo2Equivalent().subtract(storedTotal))
+                    .matched(matches(recomputed, entity.getCo2Emission(), entity.getCh4Emission(),
+                            entity.getN2oEmission(), entity.getTotalCo2Equivalent()))
+                    .reproducedAt(LocalDateTime.now())
+                    .build();
+        });
+    }
+
+    // =============================================================================
+    // 연도 전체 검증
+    // =============================================================================
+
+    /**
+     * 연도 전체 고정연소 계산 검증 (POST /verify)
+     * 스냅샷 내용은 샤드 라우팅 정보가 있는 요청 스레드에서 먼저 읽고, 작업 스레드는 메모리 안의 값으로만 계산합니다.
+     */
+    @Transactional(readOnly = true)
+    public CalculationVerifyResponse verifyStationaryYear(Long memberId, Integer year) {
+        long started = System.nanoTime();
+        List<Object[]> rows = stationaryCombustionRepository.findCalculationInputs(memberId, year);
+
+        // 1. 계수셋별 조회 테이블 준비 (행이 참조한 스냅샷만)
+        Map<Integer, FactorTable> tables = new HashMap<>();
+        TreeSet<Integer> missingSnapshots = new TreeSet<>();
+        List<Object[]> targets = new ArrayList<>(rows.size());
+        long unrecorded = 0;
+        long missing = 0;
+        for (Object[] row : rows) {
+            Integer factorSetId = (Integer) row[5];
+            if (factorSetId == null) {
+                unrecorded++;
+                continue;
+            }
+            if (!tables.containsKey(factorSetId) && !missingSnapshots.contains(factorSetId)) {
+                try {
+                    tables.put(factorSetId, factorSetSnapshotService.getFactorTable(factorSetId));
+                } catch (IllegalArgumentException e) {
+                    log.warn("계수셋 스냅샷 없음 - ID: {}", factorSetId);
+                    missingSnapshots.add(factorSetId);
+                }
+            }
+            if (missingSnapshots.contains(factorSetId)) {
+                missing++;
+                continue;
+            }
+            targets.add(row);
+        }
+
+        // 2. 청크 단위 병렬 재계산
+        List<CompletableFuture<ChunkResult>> futures = new ArrayList<>();
+        for (int from = 0; from < targets.size(); from += CHUNK_SIZE) {
+            List<Object[]> chunk = targets.subList(from, Math.min(targets.size(), from + CHUNK_SIZE));
+            futures.add(CompletableFuture.supplyAsync(() -> verifyChunk(chunk, tables), verifyExecutor));
+        }
+
+        ChunkResult total = new ChunkResult();
+        try {
+            for (CompletableFuture<ChunkResult> future : futures) {
+                total.merge(future.join());
+            }
+        } catch (CompletionException e) {
+            throw new RuntimeException("배출량 계산 검증 실패", e.getCause());
+        }
+
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        log.info("배출량 계산 검증 완료 - 회원: {}, 연도: {}, 검증: {}건, 드리프트: {}건, 소요: {}ms",
+                memberId, year, total.checked, total.drifted, elapsedMillis);
+
+        return CalculationVerifyResponse.builder()
+                .memberId(memberId)
+                .year(year)
+                .factorSetIds(new ArrayList<>(new TreeSet<>(tables.keySet())))
+                .checkedCount(total.checked)
+                .matchedCount(total.checked - total.drifted)
+                .driftedCount(total.drifted)
+                .unrecordedCount(unrecorded)
+                .missingSnapshotCount(missing)
+                .totalDrift(total.totalDrift)
+                .drifts(total.drifts)
+                .driftsTruncated(total.drifted > total.drifts.size())
+                .elapsedMillis(elapsedMillis)
+                .unit("tCO2eq")
+                .verifiedAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Override
+    public void destroy() {
+        verifyExecutor.shutdownNow();
+    }
+
+    // =============================================================================
+    // 내부 유틸리티 메서드
+    // =============================================================================
+
+    private ChunkResult verifyChunk(List<Object[]> chunk, Map<Integer, FactorTable> tables) {
+        ChunkResult result = new ChunkResult();
+        for (Object[] row : chunk) {
+            Long id = (Long) row[0];
+            String fuelId = (String) row[1];
+            Integer factorSetId = (Integer) row[5];
+
+            StationaryFactors factors = tables.get(factorSetId).resolve(fuelId, (Integer) row[4]);
+            EmissionResult recomputed = recompute(factors, fuelId, (BigDecimal) row[2], (String) row[3]);
+
+            result.checked++;
+            if (matches(recomputed, (BigDecimal) row[6], (BigDecimal) row[7], (BigDecimal) row[8], (BigDecimal) row[9])) {
+                continue;
+            }
+            BigDecimal storedTotal = orZero((BigDecimal) row[9]);
+            BigDecimal drift = recomputed.getTotalCo2Equivalent().subtract(storedTotal);
+            result.drifted++;
+            result.totalDrift = result.totalDrift.add(drift);
+            result.drifts.add(CalculationVerifyResponse.Drift.builder()
+                    .id(id)
+                    .factorSetId(factorSetId)
+                    .storedTotal(storedTotal)
+                    .recomputedTotal(recomputed.getTotalCo2Equivalent())
+                    .drift(drift)
+                    .build());
+        }
+        result.trim();
+        return result;
+    }
+
+    /**
+     * 복원한 계수로 재계산 (실시간 계산과 같이 계산할 수 없으면 0)
+     */
+    private EmissionResult recompute(StationaryFactors factors, String fuelId, BigDecimal usage, String unit) {
+        if (factors != null && usage != null) {
+            try {
+                return emissionCalculationService.computeStationaryEmission(
+                        fuelId, usage, unitConversionService.idOf(unit), factors);
+            } catch (RuntimeException e) {
+                log.debug("재계산 실패, 0으로 처리 - 연료: {}, 사유: {}", fuelId, e.getMessage());
+            }
+        }
+        return EmissionResult.builder()
+                .co2Emission(BigDecimal.ZERO)
+                .ch4Emission(BigDecimal.ZERO)
+                .n2oEmission(BigDecimal.ZERO)
+                .totalEmission(BigDecimal.ZERO)
+                .quality(CalculationQuality.FAILED)
+                .build();
+    }
+
+    private boolean matches(EmissionResult recomputed, BigDecimal co2, BigDecimal ch4, BigDecimal n2o, BigDecimal total) {
+        return recomputed.getCo2Emission().compareTo(orZero(co2)) == 0
+                && recomputed.getCh4Emission().compareTo(orZero(ch4)) == 0
+                && recomputed.getN2oEmission().compareTo(orZero(n2o)) == 0
+                && recomputed.getTotalCo2Equivalent().compareTo(orZero(total)) == 0;
+    }
+
+    private BigDecimal orZero(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
+    }
+
+    /**
+     * 청크별 검증 결과 (드리프트 행은 절대값 상위 MAX_DRIFT_ROWS개만 유지)
+     */
+    private static final class ChunkResult {
+        private long checked = 0;
+        private long drifted = 0;
+        private BigDecimal totalDrift = BigDecimal.ZERO;
+        private List<CalculationVerifyResponse.Drift> drifts = new ArrayList<>();
+
+        private void merge(ChunkResult other) {
+            checked += other.checked;
+            drifted += other.drifted;
+            totalDrift = totalDrift.add(other.totalDrift);
+            drifts.addAll(other.drifts);
+            trim();
+        }
+
+        private void trim() {
+            drifts.sort(BY_DRIFT_DESC);
+            if (drifts.size() > MAX_DRIFT_ROWS) {
+                drifts = new ArrayList<>(drifts.subList(0, MAX_DRIFT_ROWS));
+            }
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.nsmm.esg.scopeservice.service;
+
+import com.nsmm.esg.scopeservice.config.MemberContext;
+import com.nsmm.esg.scopeservice.event.EmissionDataChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 대시보드 실시간 스트림 서비스 (SSE)
+ * (회원, 연도) 키별로 구독자를 묶어 두고, 데이터 변경이 커밋되면 키를 dirty로 표시한 뒤
+ * 다음 주기에 키당 한 번만 통계를 계산해 모든 구독자에게 전달합니다.
+ * 마지막으로 계산한 통계는 키별로 보관해, 변경이 없는 동안 새 구독자에게 재계산 없이 보냅니다.
+ * 연결별 버퍼는 최신 값 1건만 보관하므로, 느린 클라이언트는 중간 갱신을 건너뛰고 최신 값만 받습니다.
+ * 전송은 고정 크기 스레드 풀에서 처리하며, 대기열이 가득 차면 해당 연결을 닫아 클라이언트가 재연결하도록 합니다.
+ */
+@Service
+@Slf4j
+public class DashboardStreamService implements DisposableBean {
+
+    private static final Duration EMITTER_TIMEOUT = Duration.ofMinutes(30);
+    private static final String EVENT_NAME = "dashboard-stats";
+
+    private final StationaryCombustionService stationaryCombustionService;
+
+    private final Map<StreamKey, List<Connection>> subscriptions = new ConcurrentHashMap<>();
+    private final Map<StreamKey, Map<String, Object>> latestStats = new ConcurrentHashMap<>();
+    private final Set<StreamKey> dirtyKeys = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor sendExecutor;
+
+    public DashboardStreamService(StationaryCombustionService stationaryCombustionService,
+                                  @Value("${scope.dashboard-stream.send-threads:4}") int sendThreads,
+                                  @Value("${scope.dashboard-stream.max-pending-sends:10000}") int maxPendingSends) {
+        this.stationaryCombustionService = stationaryCombustionService;
+        int threads = Math.max(1, sendThreads);
+        // 연결마다 대기 중인 전송 작업은 최대 1건이므로 대기열 크기 = 동시에 밀린 연결 수 상한
+        this.sendExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, maxPendingSends)), runnable -> {
+                    Thread thread = new Thread(runnable, "dashboard-sse");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 구독 등록 후 현재 통계를 즉시 1회 전송
+     * 계산 중에 커밋된 변경도 dirty로 잡히도록 먼저 등록하고, 계산이 실패하면 등록을 되돌린 뒤 예외를 그대로 던집니다.
+     */
+    public SseEmitter subscribe(Long memberId, Integer year) {
+        StreamKey key = new StreamKey(memberId, year);
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT.toMillis());
+        Connection connection = new Connection(emitter);
+
+        List<Connection> connections = subscriptions.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>());
+        connections.add(connection);
+
+        Runnable remove = () -> unsubscribe(key, connection);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+
+        Map<String, Object> stats;
+        try {
+            stats = currentStats(key);
+        } catch (RuntimeException e) {
+            unsubscribe(key, connection);
+            throw e;
+        }
+        connection.offer(stats);
+        log.debug("대시보드 스트림 구독 - 회원: {}, 연도: {}, 구독자: {}", memberId, year, connections.size());
+        return emitter;
+    }
+
+    /**
+     * 데이터 변경 커밋 후 구독 중인 키만 dirty 표시 (연도 미지정 변경은 해당 회원의 모든 키)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEmissionDataChanged(EmissionDataChangedEvent event) {
+        for (StreamKey key : subscriptions.keySet()) {
+            if (key.memberId().equals(event.getMemberId())
+                    && (event.getReportingYear() == null || key.year().equals(event.getReportingYear()))) {
+                latestStats.remove(key);
+                dirtyKeys.add(key);
+            }
+        }
+    }
+
+    /**
+     * dirty 키별로 통계를 한 번만 계산해 구독자 전체에 전달
+     */
+    @Scheduled(fixedDelayString = "${scope.dashboard-stream.flush-interval-ms:500}")
+    public void flushDirtyKeys() {
+        for (StreamKey key : List.copyOf(dirtyKeys)) {
+            dirtyKeys.remove(key);
+            List<Connection> connections = subscriptions.get(key);
+            if (connections == null || connections.isEmpty()) {
+                continue;
+            }
+            try {
+                Map<String, Object> stats = computeStats(key);
+                latestStats.put(key, stats);
+                connections.forEach(connection -> connection.offer(stats));
+            } catch (Exception e) {
+                log.error("대시보드 스트림 통계 계산 중 오류 발생 - 회원: {}, 연도: {}, 오류: {}",
+                        key.memberId(), key.year(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 키의 현재 통계 (변경 이후 계산한 값이 있으면 재사용)
+     */
+    private Map<String, Object> currentStats(StreamKey key) {
+        Map<String, Object> cached = latestStats.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        Map<String, Object> stats = computeStats(key);
+        if (!dirtyKeys.contains(key)) {
+            latestStats.putIfAbsent(key, stats);
+        }
+        return stats;
+    }
+
+    /**
+     * 요청 스레드가 아닐 수 있으므로 회원 컨텍스트를 지정해 회원의 샤드에서 조회
+     */
+    private Map<String, Object> computeStats(StreamKey key) {
+        return MemberContext.callAs(key.memberId(),
+                () -> stationaryCombustionService.getDashboardStats(key.memberId(), key.year()));
+    }
+
+    @Override
+    public void destroy() {
+        subscriptions.values().forEach(connections -> connections.forEach(c -> c.emitter.complete()));
+        sendExecutor.shutdownNow();
+    }
+
+    private void unsubscribe(StreamKey key, Connection connection) {
+        subscriptions.computeIfPresent(key, (k, connections) -> {
+            connections.remove(connection);
+            if (connections.isEmpty()) {
+                latestStats.remove(k);
+                return null;
+            }
+            return connections;
+        });
+    }
+
+    private record StreamKey(Long memberId, Integer year) {
+        private StreamKey {
+            Objects.requireNonNull(memberId, "memberId");
+            Objects.requireNonNull(year, "year");
+        }
+    }
+
+    /**
+     * 연결별 단일 슬롯 버퍼
+     * 전송 중에 들어온 값은 슬롯을 덮어쓰므로 중간 값은 버려지고 마지막 값만 전송됩니다.
+     */
+    private final class Connection {
+        private final SseEmitter emitter;
+        private final AtomicReference<Map<String, Object>> pending = new AtomicReference<>();
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+
+        private Connection(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private void offer(Map<String, Object> stats) {
+            pending.set(stats);
+            if (draining.compareAndSet(false, true)) {
+                schedule();
+            }
+        }
+
+        private void schedule() {
+            try {
+                sendExecutor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+                log.warn("대시보드 스트림 전송 대기열 초과, 연결 종료 (클라이언트 재연결 필요)");
+                emitter.complete();
+            }
+        }
+
+        private void drain() {
+            try {
+                Map<String, Object> stats;
+                while ((stats = pending.getAndSet(null)) != null) {
+                    emitter.send(SseEmitter.event().name(EVENT_NAME).data(stats));
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("대시보드 스트림 전송 실패, 연결 종료: {}", e.getMessage());
+                emitter.completeWithError(e);
+                return;
+            } finally {
+                draining.set(false);
+            }
+            // 전송 종료 직후 들어온 값 재확인
+            if (pending.get() != null && draining.compareAndSet(false, true)) {
+                schedule();
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.nsmm.esg.scopeservice.service;
+
+import com.nsmm.esg.scopeservice.dto.DataQualityResponse;
+import com.nsmm.esg.scopeservice.entity.CalculationQuality;
+import com.nsmm.esg.scopeservice.repository.StationaryCombustionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 배출량 데이터 품질 요약 서비스
+ * 행마다 기록된 계산 품질을 품질-연료별 롤업 한 번으로 집계합니다.
+ * 품질 점수는 EXACT 100, YEAR_FALLBACK 70, NAME_DEFAULT 30, FAILED 0점의 건수 가중 평균이며,
+ * 품질이 기록되기 전에 계산된 행(UNKNOWN)은 점수에서 제외합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DataQualityService {
+
+    private static final String UNKNOWN = "UNKNOWN";
+
+    private final StationaryCombustionRepository stationaryCombustionRepository;
+
+    /**
+     * 고정연소 데이터 품질 요약 (GET /summary/data-quality)
+     */
+    @Transactional(readOnly = true)
+    public DataQualityResponse getStationaryDataQuality(Long memberId, Integer year, String companyId) {
+        CalculationQuality[] qualities = CalculationQuality.values();
+        long[] counts = new long[qualities.length + 1];          // 마지막 칸은 UNKNOWN
+        BigDecimal[] emissions = new BigDecimal[qualities.length + 1];
+        Arrays.fill(emissions, BigDecimal.ZERO);
+        List<DataQualityResponse.FuelQuality> fallbackFuels = new ArrayList<>();
+
+        for (Object[] row : stationaryCombustionRepository.findCalculationQualityRollup(memberId, year, companyId)) {
+            CalculationQuality quality = (CalculationQuality) row[0];
+            long count = ((Number) row[3]).longValue();
+            BigDecimal emission = row[4] != null ? (BigDecimal) row[4] : BigDecimal.ZERO;
+
+            int slot = quality != null ? quality.ordinal() : qualities.length;
+            counts[slot] += count;
+            emissions[slot] = emissions[slot].add(emission);
+
+            if (quality != CalculationQuality.EXACT) {
+                fallbackFuels.add(DataQualityResponse.FuelQuality.builder()
+                        .fuelId((String) row[1])
+                        .fuelName((String) row[2])
+                        .quality(quality != null ? quality.name() : UNKNOWN)
+                        .count(count)
+                        .emission(emission)
+                        .build());
+            }
+        }
+        fallbackFuels.sort(Comparator.comparing(DataQualityResponse.FuelQuality::getEmission).reversed()
+                .thenComparing(DataQualityResponse.FuelQuality::getFuelId, Comparator.nullsLast(Comparator.naturalOrder())));
+
+        List<BigDecimal> countShares = PercentageAllocator.allocate(
+                Arrays.stream(counts).mapToObj(BigDecimal::valueOf).toList());
+        List<BigDecimal> emissionShares = PercentageAllocator.allocate(List.of(emissions));
+
+        List<DataQualityResponse.QualityShare> shares = new ArrayList<>();
+        long totalCount = 0;
+        BigDecimal totalEmission = BigDecimal.ZERO;
+        long scoredCount = 0;
+        long weightedScore = 0;
+        for (int slot = 0; slot < counts.length; slot++) {
+            totalCount += counts[slot];
+            totalEmission = totalEmission.add(emissions[slot]);
+            if (slot < qualities.length) {
+                scoredCount += counts[slot];
+                weightedScore += counts[slot] * scoreOf(qualities[slot]);
+            }
+            if (counts[slot] == 0) {
+                continue;
+            }
+            shares.add(DataQualityResponse.QualityShare.builder()
+                    .quality(slot < qualities.length ? qualities[slot].name() : UNKNOWN)
+                    .count(counts[slot])
+                    .emission(emissions[slot])
+                    .countPercentage(countShares.get(slot))
+                    .emissionPercentage(emissionShares.get(slot))
+                    .build());
+        }
+
+        return DataQualityResponse.builder()
+                .memberId(memberId)
+                .year(year)
+                .companyId(companyId)
+                .totalCount(totalCount)
+                .totalEmission(totalEmission)
+                .qualityScore(scoredCount == 0 ? null
+                        : BigDecimal.valueOf(weightedScore).divide(BigDecimal.valueOf(scoredCount), 2, RoundingMode.HALF_UP))
+                .qualities(shares)
+                .fallbackFuels(fallbackFuels)
+                .unit("tCO2eq")
+                .calculatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    // =============================================================================
+    // 내부 유틸리티 메서드
+    // =============================================================================
+
+    private int scoreOf(CalculationQuality quality) {
+        return switch (quality) {
+            case EXACT -> 100;
+            case YEAR_FALLBACK -> 70;
+            case NAME_DEFAULT -> 30;
+            case FAILED -> 0;
+        };
+    }
+}
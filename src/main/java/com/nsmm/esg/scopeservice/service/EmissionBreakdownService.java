@@ -0,0 +1,210 @@
+package com.nsmm.esg.scopeservice.service;
+
+import com.nsmm.esg.scopeservice.dto.ScopeEmissionSummaryResponse;
+import com.nsmm.esg.scopeservice.dto.ScopeEmissionSummaryResponse.CategoryEmission;
+import com.nsmm.esg.scopeservice.dto.ScopeEmissionSummaryResponse.FuelTypeEmission;
+import com.nsmm.esg.scopeservice.repository.StationaryCombustionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 연료 구성비 집계 서비스
+ * 연료-단위별 합계 조회 결과를 한 번 순회하면서 연료별 배출량/사용량, 카테고리 합계를 함께 누적하고,
+ * 연료 이름/카테고리/기본 단위는 DB 조인 대신 FuelTypeCatalog 캐시에서 채웁니다.
+ * 구성비는 최대 잔여 방식으로 배분해 합계가 항상 100.00%가 되도록 합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmissionBreakdownService {
+
+    private static final String UNCATEGORIZED = "기타";
+
+    private final StationaryCombustionRepository stationaryCombustionRepository;
+    private final FuelTypeCatalog fuelTypeCatalog;
+    private final UnitConversionService unitConversionService;
+
+    /**
+     * 고정연소 연료 구성비 (GET /summary/fuel-breakdown)
+     */
+    @Transactional(readOnly = true)
+    public ScopeEmissionSummaryResponse getFuelBreakdown(Long memberId, Integer year, String companyId) {
+        return fold(memberId, year, companyId, stationaryCombustionRepository.findFuelUsageAndEmission(memberId, year, companyId));
+    }
+
+    /**
+     * 연료-단위별 합계 행(연료 ID, 연료명, 단위, 사용량 합계, 배출량 합계, 건수)을 연료 구성비로 집계
+     * JPA 조회와 리액티브(R2DBC) 조회가 같은 행 형식으로 이 집계를 함께 사용합니다.
+     */
+    public ScopeEmissionSummaryResponse fold(Long memberId, Integer year, String companyId, List<Object[]> rows) {
+        Map<String, FuelAccumulator> fuels = new LinkedHashMap<>();
+        Map<String, CategoryAccumulator> categories = new LinkedHashMap<>();
+        BigDecimal total = BigDecimal.ZERO;
+        int dataCount = 0;
+
+        // 단일 순회: 연료별 / 카테고리별 / 전체 합계 동시 누적
+        for (Object[] row : rows) {
+            String fuelId = (String) row[0];
+            BigDecimal emission = row[4] != null ? (BigDecimal) row[4] : BigDecimal.ZERO;
+            int count = ((Number) row[5]).intValue();
+
+            FuelAccumulator fuel = fuels.computeIfAbsent(fuelId, id -> newFuelAccumulator(id, (String) row[1], (String) row[2]));
+            fuel.emission = fuel.emission.add(emission);
+            fuel.addUsage((BigDecimal) row[3], (String) row[2]);
+
+            CategoryAccumulator category = categories.computeIfAbsent(fuel.category, c -> new CategoryAccumulator());
+            category.emission = category.emission.add(emission);
+            if (!fuel.categoryCounted) {
+                category.fuelCount++;
+                fuel.categoryCounted = true;
+            }
+
+            total = total.add(emission);
+            dataCount += count;
+        }
+
+        ScopeEmissionSummaryResponse.Scope1Summary scope1 = ScopeEmissionSummaryResponse.Scope1Summary.builder()
+                .stationaryEmission(total)
+                .totalScope1Emission(total)
+                .fuelTypeBreakdown(buildFuelBreakdown(fuels))
+                .categoryBreakdown(buildCategoryBreakdown(categories))
+                .stationaryDataCount(dataCount)
+                .build();
+
+        return ScopeEmissionSummaryResponse.builder()
+                .memberId(memberId)
+                .year(year)
+                .companyId(companyId)
+                .aggregationType("FUEL_BREAKDOWN")
+                .scope1(scope1)
+                .totalEmission(total)
+                .totalDataCount(dataCount)
+                .unit("tCO2eq")
+                .calculatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 연료 구성비를 연료별 요약 목록으로 변환 (GET /summary/by-fuel, 대시보드 fuelTypeBreakdown)
+     * 항목마다 해당 연료의 이름/카테고리/사용량/구성비를 scope1.fuelTypeBreakdown에 담습니다.
+     */
+    public List<ScopeEmissionSummaryResponse> toFuelSummaries(ScopeEmissionSummaryResponse breakdown) {
+        return breakdown.getScope1().getFuelTypeBreakdown().stream()
+                .map(fuel -> ScopeEmissionSummaryResponse.builder()
+                        .memberId(breakdown.getMemberId())
+                        .year(breakdown.getYear())
+                        .companyId(breakdown.getCompanyId())
+                        .aggregationType("BY_FUEL")
+                        .scope1(ScopeEmissionSummaryResponse.Scope1Summary.builder()
+                                .stationaryEmission(fuel.getEmission())
+                                .totalScope1Emission(fuel.getEmission())
+                                .fuelTypeBreakdown(List.of(fuel))
+                                .build())
+                        .totalEmission(fuel.getEmission())
+                        .unit("tCO2eq")
+                        .calculatedAt(breakdown.getCalculatedAt())
+                        .build())
+                .toList();
+    }
+
+    // =============================================================================
+    // 내부 유틸리티 메서드
+    // =============================================================================
+
+    private List<FuelTypeEmission> buildFuelBreakdown(Map<String, FuelAccumulator> fuels) {
+        List<FuelAccumulator> sorted = new ArrayList<>(fuels.values());
+        sorted.sort(Comparator.comparing((FuelAccumulator f) -> f.emission).reversed()
+                .thenComparing(f -> f.fuelId, Comparator.nullsLast(Comparator.naturalOrder())));
+
+        List<BigDecimal> shares = PercentageAllocator.allocate(sorted.stream().map(f -> f.emission).toList());
+        List<FuelTypeEmission> result = new ArrayList<>(sorted.size());
+        for (int i = 0; i < sorted.size(); i++) {
+            FuelAccumulator fuel = sorted.get(i);
+            result.add(FuelTypeEmission.builder()
+                    .fuelId(fuel.fuelId)
+                    .fuelType(fuel.name)
+                    .category(fuel.category)
+                    .emission(fuel.emission)
+                    .percentage(shares.get(i))
+                    .usage(fuel.usageConvertible ? fuel.usage : null)
+                    .unit(fuel.unit)
+                    .build());
+        }
+        return result;
+    }
+
+    private List<CategoryEmission> buildCategoryBreakdown(Map<String, CategoryAccumulator> categories) {
+        List<Map.Entry<String, CategoryAccumulator>> sorted = new ArrayList<>(categories.entrySet());
+        sorted.sort(Comparator.comparing((Map.Entry<String, CategoryAccumulator> e) -> e.getValue().emission).reversed()
+                .thenComparing(Map.Entry::getKey));
+
+        List<BigDecimal> shares = PercentageAllocator.allocate(sorted.stream().map(e -> e.getValue().emission).toList());
+        List<CategoryEmission> result = new ArrayList<>(sorted.size());
+        for (int i = 0; i < sorted.size(); i++) {
+            Map.Entry<String, CategoryAccumulator> entry = sorted.get(i);
+            result.add(CategoryEmission.builder()
+                    .category(entry.getKey())
+                    .emission(entry.getValue().emission)
+                    .percentage(shares.get(i))
+                    .fuelCount(entry.getValue().fuelCount)
+                    .build());
+        }
+        return result;
+    }
+
+    private FuelAccumulator newFuelAccumulator(String fuelId, String fuelName, String firstUnit) {
+        FuelTypeCatalog.Entry entry = fuelTypeCatalog.get(fuelId);
+        FuelAccumulator fuel = new FuelAccumulator();
+        fuel.fuelId = fuelId;
+        fuel.name = entry != null ? entry.name() : fuelName;
+        fuel.category = entry != null && entry.category() != null ? entry.category() : UNCATEGORIZED;
+        fuel.unit = entry != null && entry.unit() != null ? entry.unit() : firstUnit;
+        return fuel;
+    }
+
+    /**
+     * 연료별 누적값 (사용량은 연료 기본 단위로 환산해 합산, 환산 불가 시 사용량 생략)
+     */
+    private final class FuelAccumulator {
+        private String fuelId;
+        private String name;
+        private String category;
+        private String unit;
+        private BigDecimal emission = BigDecimal.ZERO;
+        private BigDecimal usage = BigDecimal.ZERO;
+        private boolean usageConvertible = true;
+        private boolean categoryCounted = false;
+
+        private void addUsage(BigDecimal value, String fromUnit) {
+            if (value == null || !usageConvertible) {
+                return;
+            }
+            if (fromUnit == null || fromUnit.equals(unit)) {
+                usage = usage.add(value);
+                return;
+            }
+            try {
+                usage = usage.add(unitConversionService.convert(value,
+                        unitConversionService.idOf(fromUnit), unitConversionService.idOf(unit), fuelId));
+            } catch (IllegalArgumentException e) {
+                log.debug("연료 사용량 단위 환산 불가, 사용량 생략 - 연료: {}, {} → {}", fuelId, fromUnit, unit);
+                usageConvertible = false;
+            }
+        }
+    }
+
+    private static final class CategoryAccumulator {
+        private BigDecimal emission = BigDecimal.ZERO;
+        private int fuelCount = 0;
+    }
+}
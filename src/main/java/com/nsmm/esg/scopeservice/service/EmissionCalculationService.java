@@ -1,5 +1,6 @@
 package com.nsmm.esg.scopeservice.service;
 
+import com.nsmm.esg.scopeservice.entity.CalculationQuality;
 import com.nsmm.esg.scopeservice.entity.CalorificValue;
 import com.nsmm.esg.scopeservice.entity.EmissionFactor;
 import com.nsmm.esg.scopeservice.entity.FuelType;
@@ -26,11 +27,25 @@ public class EmissionCalculationService {
     private final FuelTypeRepository fuelTypeRepository;
     private final CalorificValueRepository calorificValueRepository;
     private final EmissionFactorRepository emissionFactorRepository;
+    private final UnitConversionService unitConversionService;
+    private final FactorSetSnapshotService factorSetSnapshotService;
 
     // 지구온난화지수 (Global Warming Potential)
     private static final BigDecimal CH4_GWP = new BigDecimal("25");
     private static final BigDecimal N2O_GWP = new BigDecimal("298");
 
+    // 계산 로직 버전 (계산식이 바뀌면 올려서 새 계수셋 스냅샷과 입력값 지문을 만들도록 함)
+    // 3: 보고 연도 값이 없을 때 가까운 연도 값 사용
+    public static final int KERNEL_VERSION = 3;
+
+    /**
+     * 현재 계수셋 버전 (= 계수셋 스냅샷 ID)
+     * 연료 타입, 발열량, 배출계수 전체와 계산 로직 버전이 같으면 같은 스냅샷이므로, 같은 입력에 대해 같은 배출량이 계산됩니다.
+     */
+    public long getFactorSetVersion() {
+        return factorSetSnapshotService.currentSnapshotId();
+    }
+
     /**
      * Scope 1 연소 배출량 계산
      * 연료 사용량 × 발열량 × 배출계수 × GWP로 배출량을 산정
@@ -98,67 +113,136 @@ public class EmissionCalculationService {
 
     /**
      * Scope 1 고정연소 배출량 계산 (fuelId 기반 전체 처리)
+     * 사용량 단위를 알 수 없는 기존 호출용으로, 사용량이 이미 발열량 기준 단위라고 가정합니다.
      */
     public EmissionResult calculateScope1StationaryEmission(String fuelId, BigDecimal usage, Integer year) {
+        return calculateScope1StationaryEmission(fuelId, usage, null, year);
+    }
+
+    /**
+     * Scope 1 고정연소 배출량 계산 (사용량 단위 포함)
+     * 사용량을 발열량 단위의 분모(kL, ton, 10^6m³ 등)로 환산한 뒤 계산합니다.
+     */
+    public EmissionResult calculateScope1StationaryEmission(String fuelId, BigDecimal usage, String unit, Integer year) {
+        return calculateScope1StationaryEmission(fuelId, usage, unitConversionService.idOf(unit), year);
+    }
+
+    /**
+     * Scope 1 고정연소 배출량 계산 (인터닝한 단위 ID 사용)
+     */
+    public EmissionResult calculateScope1StationaryEmission(String fuelId, BigDecimal usage, int unitId, Integer year) {
         try {
-            // 1. 연료 타입 조회
-            FuelType fuelType = fuelTypeRepository.findByFuelIdAndIsActiveTrue(fuelId)
-                    .orElseThrow(() -> new IllegalArgumentException("연료 ID를 찾을 수 없습니다: " + fuelId));
+            // 1~3. 현재 계수셋 테이블에서 연료/발열량/배출계수 확정 (DB 조회 없음)
+            FactorSetSnapshotService.CurrentFactorSet factorSet = factorSetSnapshotService.current();
+            StationaryFactors factors = factorSet.table().resolve(fuelId, year);
+            if (factors == null) {
+                throw new IllegalArgumentException("연료 ID를 찾을 수 없습니다: " + fuelId);
+            }
+            if (factors.quality() != CalculationQuality.EXACT) {
+                log.debug("보고 연도 계수 없음, {} 적용 - 연료: {}, 연도: {}", factors.quality(), fuelId, year);
+            }
 
-            // 2. 발열량 조회
-            Optional<CalorificValue> calorificValueOpt = calorificValueRepository
-                    .findByFuelType_IdAndYearAndIsActiveTrue(fuelType.getId(), year);
+            // 4~5. 에너지 소비량 및 GHG 배출량 계산
+            EmissionResult result = computeStationaryEmission(fuelId, usage, unitId, factors).toBuilder()
+                    .factorSetId(factorSet.id())
+                    .build();
 
-            BigDecimal calorificValueAmount = calorificValueOpt
-                    .map(CalorificValue::getValue)
-                    .orElseGet(() -> {
-                        log.warn("발열량 정보 없음, 기본값 사용 - 연료: {}, 연도: {}", fuelType.getName(), year);
-                        return getDefaultCalorificValue(fuelType.getName());
-                    });
+            log.debug("고정연소 배출량 계산 완료 - 연료: {}, 사용량: {}, 총 배출량: {}", fuelId, usage, result.getTotalEmission());
+            return result;
 
-            // 3. 배출계수 조회
-            Optional<EmissionFactor> emissionFactorOpt = emissionFactorRepository
-                    .findByFuelType_IdAndYearAndIsActiveTrue(fuelType.getId(), year);
+        } catch (Exception e) {
+            log.error("고정연소 배출량 계산 실패 - fuelId: {}, error: {}", fuelId, e.getMessage());
+            return createZeroEmissionResult();
+        }
+    }
 
-            BigDecimal co2Factor, ch4Factor, n2oFactor;
-            if (emissionFactorOpt.isPresent()) {
-                EmissionFactor factor = emissionFactorOpt.get();
-                co2Factor = factor.getCo2Factor();
-                ch4Factor = factor.getCh4Factor();
-                n2oFactor = factor.getN2oFactor();
-            } else {
-                log.warn("배출계수 정보 없음, 기본값 사용 - 연료: {}, 연도: {}", fuelType.getName(), year);
-                co2Factor = getDefaultEmissionFactor(fuelType.getName());
-                ch4Factor = new BigDecimal("0.001");
-                n2oFactor = new BigDecimal("0.0001");
+    /**
+     * 고정연소 사용량 단위 검증 및 인터닝 (요청 검증용)
+     * 알 수 없는 단위이거나 연료의 발열량 기준 단위로 환산할 수 없는 단위이면 IllegalArgumentException을 던집니다.
+     * 연료를 찾을 수 없는 경우는 여기서 판단하지 않습니다 (계산 품질 FAILED로 기록).
+     */
+    public int resolveStationaryUnitId(String fuelId, String unit, Integer year) {
+        int unitId = unitConversionService.idOf(unit);
+        if (unitId < 0) {
+            throw new IllegalArgumentException("알 수 없는 단위입니다: " + unit);
+        }
+        StationaryFactors factors = factorSetSnapshotService.current().table().resolve(fuelId, year);
+        if (factors != null && factors.calorificUnit() != null) {
+            int basis = unitConversionService.rateUnitIds(factors.calorificUnit())[1];
+            if (!unitConversionService.isConvertible(unitId, basis, fuelId)) {
+                throw new IllegalArgumentException(
+                        "연료 " + fuelId + "의 발열량 단위(" + factors.calorificUnit() + ")로 환산할 수 없는 단위입니다: " + unit);
             }
+        }
+        return unitId;
+    }
 
-            // 4. 에너지 소비량 계산 (TJ)
-            BigDecimal energyConsumption = usage.multiply(calorificValueAmount);
+    /**
+     * 고정연소 배출량 계산식
+     * 사용량을 발열량 단위의 분모(kL, ton, 10^6m³ 등)로, 발열량 분자를 TJ로 환산한 뒤
+     * 사용량 × 발열량 × 배출계수 × GWP로 배출량을 산정합니다. (unitId가 NONE이면 환산하지 않음)
+     */
+    public EmissionResult computeStationaryEmission(String fuelId, BigDecimal usage, int unitId, StationaryFactors factors) {
+        BigDecimal normalizedUsage = usage;
+        BigDecimal calorificValueAmount = factors.calorificValue();
+        if (unitId != UnitConversionService.NONE && factors.calorificUnit() != null) {
+            int[] rateUnit = unitConversionService.rateUnitIds(factors.calorificUnit());
+            normalizedUsage = unitConversionService.convert(usage, unitId, rateUnit[1], fuelId);
+            calorificValueAmount = unitConversionService.convert(
+                    calorificValueAmount, rateUnit[0], UnitConversionService.TJ, fuelId);
+        }
 
-            // 5. GHG 배출량 계산
-            BigDecimal co2Emission = energyConsumption.multiply(co2Factor).setScale(4, RoundingMode.HALF_UP);
-            BigDecimal ch4Emission = energyConsumption.multiply(ch4Factor).multiply(CH4_GWP).multiply(new BigDecimal("0.001")).setScale(4, RoundingMode.HALF_UP);
-            BigDecimal n2oEmission = energyConsumption.multiply(n2oFactor).multiply(N2O_GWP).multiply(new BigDecimal("0.001")).setScale(4, RoundingMode.HALF_UP);
+        // 에너지 소비량 계산 (TJ)
+        BigDecimal energyConsumption = normalizedUsage.multiply(calorificValueAmount);
 
-            BigDecimal totalEmission = co2Emission.add(ch4Emission).add(n2oEmission).setScale(4, RoundingMode.HALF_UP);
+        BigDecimal co2Emission = energyConsumption.multiply(factors.co2Factor()).setScale(4, RoundingMode.HALF_UP);
+        BigDecimal ch4Emission = energyConsumption.multiply(factors.ch4Factor()).multiply(CH4_GWP).multiply(new BigDecimal("0.001")).setScale(4, RoundingMode.HALF_UP);
+        BigDecimal n2oEmission = energyConsumption.multiply(factors.n2oFactor()).multiply(N2O_GWP).multiply(new BigDecimal("0.001")).setScale(4, RoundingMode.HALF_UP);
 
-            log.debug("고정연소 배출량 계산 완료 - 연료: {}, 사용량: {}, 총 배출량: {}", fuelType.getName(), usage, totalEmission);
+        BigDecimal totalEmission = co2Emission.add(ch4Emission).add(n2oEmission).setScale(4, RoundingMode.HALF_UP);
 
-            return EmissionResult.builder()
-                    .co2Emission(co2Emission)
-                    .ch4Emission(ch4Emission)
-                    .n2oEmission(n2oEmission)
-                    .totalEmission(totalEmission)
-                    .build();
+        return EmissionResult.builder()
+                .co2Emission(co2Emission)
+                .ch4Emission(ch4Emission)
+                .n2oEmission(n2oEmission)
+                .totalEmission(totalEmission)
+                .quality(factors.quality())
+                .build();
+    }
 
-        } catch (Exception e) {
-            log.error("고정연소 배출량 계산 실패 - fuelId: {}, error: {}", fuelId, e.getMessage());
-            return createZeroEmissionResult();
+    /**
+     * 고정연소 사용량 1단위당 에너지(TJ)와 배출량(tCO2eq) (반올림 없음)
+     * 배출량은 사용량에 비례하므로, 행이 많은 시나리오 계산은 연료-단위별로 한 번만 구해 곱합니다.
+     */
+    public UnitCoefficients stationaryUnitCoefficients(String fuelId, int unitId, StationaryFactors factors) {
+        BigDecimal normalizedUsage = BigDecimal.ONE;
+        BigDecimal calorificValueAmount = factors.calorificValue();
+        if (unitId != UnitConversionService.NONE && factors.calorificUnit() != null) {
+            int[] rateUnit = unitConversionService.rateUnitIds(factors.calorificUnit());
+            normalizedUsage = unitConversionService.convert(normalizedUsage, unitId, rateUnit[1], fuelId);
+            calorificValueAmount = unitConversionService.convert(
+                    calorificValueAmount, rateUnit[0], UnitConversionService.TJ, fuelId);
         }
+
+        BigDecimal energy = normalizedUsage.multiply(calorificValueAmount);
+        BigDecimal emissionPerEnergy = factors.co2Factor()
+                .add(factors.ch4Factor().multiply(CH4_GWP).multiply(new BigDecimal("0.001")))
+                .add(factors.n2oFactor().multiply(N2O_GWP).multiply(new BigDecimal("0.001")));
+        return new UnitCoefficients(energy.doubleValue(), energy.multiply(emissionPerEnergy).doubleValue());
     }
 
+    /**
+     * 사용량 1단위당 에너지(TJ) / 배출량(tCO2eq)
+     */
+    public record UnitCoefficients(double energy, double emission) {
+    }
 
+    /**
+     * 고정연소 계산에 사용한 계수 (발열량 단위가 null이면 단위 환산 없이 계산)
+     */
+    public record StationaryFactors(BigDecimal calorificValue, String calorificUnit, BigDecimal co2Factor,
+                                    BigDecimal ch4Factor, BigDecimal n2oFactor, CalculationQuality quality) {
+    }
 
     /**
      * Scope 1 고정연소 배출량 계산 (연도 기본값)
@@ -237,13 +321,15 @@ public class EmissionCalculationService {
      * 계산 결과 DTO 클래스
      */
     @lombok.Getter
-    @lombok.Builder
+    @lombok.Builder(toBuilder = true)
     @lombok.AllArgsConstructor
     public static class EmissionResult {
         private BigDecimal co2Emission;
         private BigDecimal ch4Emission;
         private BigDecimal n2oEmission;
         private BigDecimal totalEmission;
+        private CalculationQuality quality;   // 고정연소 계산과 실패 결과만 기록 (그 외 null)
+        private Integer factorSetId;          // 고정연소 계산에 사용한 계수셋 스냅샷 ID (실패 시 null)
 
         public BigDecimal getTotalCo2Equivalent() {
             return totalEmission;
@@ -259,13 +345,14 @@ public class EmissionCalculationService {
                 .ch4Emission(BigDecimal.ZERO)
                 .n2oEmission(BigDecimal.ZERO)
                 .totalEmission(BigDecimal.ZERO)
+                .quality(CalculationQuality.FAILED)
                 .build();
     }
 
     /**
-     * 연료 이름 기반 기본 CO2 배출계수 반환
+     * 연료 이름 기반 기본 CO2 배출계수 반환 (고정연소는 FactorTable 적재 시 연료별로 한 번만 계산)
      */
-    private BigDecimal getDefaultEmissionFactor(String fuelName) {
+    static BigDecimal getDefaultEmissionFactor(String fuelName) {
         if (fuelName == null) return new BigDecimal("2.3");
 
         String lower = fuelName.toLowerCase();
@@ -282,7 +369,7 @@ public class EmissionCalculationService {
     /**
      * 연료 이름 기반 기본 발열량 반환
      */
-    private BigDecimal getDefaultCalorificValue(String fuelName) {
+    static BigDecimal getDefaultCalorificValue(String fuelName) {
         if (fuelName == null) return new BigDecimal("10.0");
 
         String lower = fuelName.toLowerCase();
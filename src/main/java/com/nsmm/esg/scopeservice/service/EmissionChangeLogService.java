@@ -0,0 +1,235 @@
+package com.nsmm.esg.scopeservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nsmm.esg.scopeservice.config.ShardContext;
+import com.nsmm.esg.scopeservice.config.ShardDirectory;
+import com.nsmm.esg.scopeservice.dto.EmissionChangeFeedResponse;
+import com.nsmm.esg.scopeservice.dto.EmissionChangeResponse;
+import com.nsmm.esg.scopeservice.entity.EmissionChangeLog;
+import com.nsmm.esg.scopeservice.event.EmissionDataChangedEvent;
+import com.nsmm.esg.scopeservice.repository.EmissionChangeLogRepository;
+import com.nsmm.esg.scopeservice.repository.EmissionChangeSequenceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 배출량 변경 로그 서비스 (트랜잭셔널 아웃박스)
+ * 활동 데이터 변경과 같은 트랜잭션에서 변경 로그를 추가하고,
+ * 커서 기반 변경 피드 조회와 브로커 발행 릴레이를 제공합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmissionChangeLogService {
+
+    public static final String STATIONARY_COMBUSTION = "STATIONARY_COMBUSTION";
+
+    private static final int MAX_FEED_LIMIT = 1_000;
+    private static final int RELAY_BATCH_SIZE = 500;
+
+    private final EmissionChangeLogRepository emissionChangeLogRepository;
+    private final EmissionChangeSequenceRepository emissionChangeSequenceRepository;
+    private final EmissionChangePublisher emissionChangePublisher;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectProvider<ShardDirectory> shardDirectoryProvider;
+
+    /**
+     * 변경 로그 추가
+     * 호출한 쓰기 트랜잭션 안에서만 실행되며, 회원별 시퀀스 행 잠금으로 커밋 순서와 시퀀스 순서를 일치시킵니다.
+     * 커밋 후 리스너(대시보드 스트림 등)를 위해 데이터 변경 이벤트도 함께 발행합니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Long memberId, Integer reportingYear, String entityType, Long entityId,
+                       String operation, Object payload) {
+        record(memberId, reportingYear, null, entityType, entityId, operation, payload);
+    }
+
+    /**
+     * 변경 로그 추가 (수정으로 보고 연도가 바뀐 경우)
+     * 로그는 새 연도로 남기고, 데이터 변경 이벤트는 이전 연도에도 발행해 이전 연도의 캐시/작업도 무효화되도록 합니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Long memberId, Integer reportingYear, Integer previousReportingYear, String entityType,
+                       Long entityId, String operation, Object payload) {
+        emissionChangeSequenceRepository.increment(memberId);
+        Long memberSeq = emissionChangeSequenceRepository.findLastInsertId();
+
+        EmissionChangeLog changeLog = EmissionChangeLog.builder()
+                .memberId(memberId)
+                .memberSeq(memberSeq)
+                .reportingYear(reportingYear)
+                .entityType(entityType)
+                .entityId(entityId)
+                .operation(operation)
+                .payload(toJson(payload))
+                .build();
+
+        emissionChangeLogRepository.save(changeLog);
+        applicationEventPublisher.publishEvent(new EmissionDataChangedEvent(memberId, reportingYear));
+        if (previousReportingYear != null && !previousReportingYear.equals(reportingYear)) {
+            applicationEventPublisher.publishEvent(new EmissionDataChangedEvent(memberId, previousReportingYear));
+        }
+        log.debug("변경 로그 추가 - 회원: {}, 시퀀스: {}, 유형: {}", memberId, memberSeq, operation);
+    }
+
+    /**
+     * 변경 로그 다건 추가 (일괄 입력)
+     * 시퀀스를 건수만큼 한 번에 증가시켜 연속 구간을 할당하고, 로그는 한 문장으로 추가합니다.
+     * 데이터 변경 이벤트는 연도별로 한 번씩 발행합니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(Long memberId, String entityType, String operation, List<Change> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        emissionChangeSequenceRepository.incrementBy(memberId, changes.size());
+        long firstSeq = emissionChangeSequenceRepository.findLastInsertId() - changes.size() + 1;
+
+        List<EmissionChangeLog> changeLogs = new ArrayList<>(changes.size());
+        Set<Integer> years = new LinkedHashSet<>();
+        for (int i = 0; i < changes.size(); i++) {
+            Change change = changes.get(i);
+            changeLogs.add(EmissionChangeLog.builder()
+                    .memberId(memberId)
+                    .memberSeq(firstSeq + i)
+                    .reportingYear(change.reportingYear())
+                    .entityType(entityType)
+                    .entityId(change.entityId())
+                    .operation(operation)
+                    .payload(toJson(change.payload()))
+                    .build());
+            years.add(change.reportingYear());
+        }
+
+        emissionChangeLogRepository.insertAll(changeLogs, LocalDateTime.now());
+        years.forEach(year -> applicationEventPublisher.publishEvent(new EmissionDataChangedEvent(memberId, year)));
+        log.debug("변경 로그 다건 추가 - 회원: {}, 시퀀스: {}~{}, 유형: {}",
+                memberId, firstSeq, firstSeq + changes.size() - 1, operation);
+    }
+
+    /**
+     * 다건 변경 로그의 한 건 (연도, 대상 ID, 변경 내용)
+     */
+    public record Change(Integer reportingYear, Long entityId, Object payload) {
+    }
+
+    /**
+     * 커서 이후 변경 피드 조회 (GET /api/v1/scope/changes)
+     */
+    @Transactional(readOnly = true)
+    public EmissionChangeFeedResponse getChangesSince(Long memberId, Long cursor, Integer limit) {
+        long from = cursor != null ? cursor : 0L;
+        int size = (limit == null || limit <= 0) ? 100 : Math.min(limit, MAX_FEED_LIMIT);
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<EmissionChangeLog> logs = emissionChangeLogRepository
+                .findByMemberIdAndMemberSeqGreaterThanOrderByMemberSeqAsc(memberId, from, Limit.of(size + 1));
+
+        boolean hasMore = logs.size() > size;
+        List<EmissionChangeResponse> changes = logs.stream()
+                .limit(size)
+                .map(this::convertToResponse)
+                .collect(Collectors.toList());
+
+        long nextCursor = changes.isEmpty() ? from : changes.get(changes.size() - 1).getSeq();
+
+        return EmissionChangeFeedResponse.builder()
+                .memberId(memberId)
+                .changes(changes)
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    /**
+     * 아웃박스 릴레이
+     * 커밋된 미발행 로그를 순서대로 발행하고 발행 완료로 표시합니다. 발행 실패 시 해당 지점부터 다음 주기에 재시도합니다.
+     * 로그는 FOR UPDATE SKIP LOCKED로 선점하므로 여러 인스턴스가 동시에 돌아도 한 로그는 한 인스턴스만 발행합니다.
+     * (인스턴스 간 배치는 병렬로 발행될 수 있으므로 소비자는 회원별 seq로 순서를 맞춥니다.)
+     * 샤딩 사용 시 샤드마다 별도 트랜잭션으로 처리합니다.
+     */
+    @Scheduled(fixedDelayString = "${scope.change-log.relay-interval-ms:1000}")
+    public void relayUnpublished() {
+        ShardDirectory shardDirectory = shardDirectoryProvider.getIfAvailable();
+        if (shardDirectory == null) {
+            transactionTemplate.executeWithoutResult(status -> relayBatch());
+            return;
+        }
+        for (String shardKey : shardDirectory.shardKeys()) {
+            ShardContext.callOn(shardKey, () -> {
+                transactionTemplate.executeWithoutResult(status -> relayBatch());
+                return null;
+            });
+        }
+    }
+
+    private void relayBatch() {
+        List<EmissionChangeLog> pending = emissionChangeLogRepository.claimUnpublished(RELAY_BATCH_SIZE);
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Long> publishedIds = new ArrayList<>(pending.size());
+        try {
+            for (EmissionChangeLog changeLog : pending) {
+                emissionChangePublisher.publish(convertToResponse(changeLog));
+                publishedIds.add(changeLog.getId());
+            }
+        } catch (Exception e) {
+            log.warn("변경 이벤트 발행 실패, 다음 주기에 재시도 - 발행 완료: {}건, 오류: {}", publishedIds.size(), e.getMessage());
+        }
+
+        if (!publishedIds.isEmpty()) {
+            emissionChangeLogRepository.markPublished(publishedIds);
+            log.debug("변경 이벤트 릴레이 완료 - {}건", publishedIds.size());
+        }
+    }
+
+    /**
+     * 엔티티를 응답 DTO로 변환
+     */
+    private EmissionChangeResponse convertToResponse(EmissionChangeLog changeLog) {
+        return EmissionChangeResponse.builder()
+                .seq(changeLog.getMemberSeq())
+                .memberId(changeLog.getMemberId())
+                .reportingYear(changeLog.getReportingYear())
+                .entityType(changeLog.getEntityType())
+                .entityId(changeLog.getEntityId())
+                .operation(changeLog.getOperation())
+                .payload(changeLog.getPayload())
+                .changedAt(changeLog.getCreatedAt())
+                .build();
+    }
+
+    /**
+     * 변경 내용 JSON 직렬화
+     */
+    private String toJson(Object payload) {
+        if (payload == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("변경 로그 직렬화 실패", e);
+        }
+    }
+}
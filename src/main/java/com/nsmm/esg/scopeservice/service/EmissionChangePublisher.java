@@ -0,0 +1,15 @@
+package com.nsmm.esg.scopeservice.service;
+
+import com.nsmm.esg.scopeservice.dto.EmissionChangeResponse;
+
+/**
+ * 배출량 변경 이벤트 발행 포트
+ * 아웃박스 릴레이가 커밋된 변경 로그를 순서대로 전달합니다. 메시지 브로커 연동 시 이 인터페이스를 구현합니다.
+ */
+public interface EmissionChangePublisher {
+
+    /**
+     * 변경 이벤트 발행 (실패 시 예외를 던지면 다음 릴레이 주기에 재시도)
+     */
+    void publish(EmissionChangeResponse change);
+}
@@ -0,0 +1,265 @@
+package com.nsmm.esg.scopeservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nsmm.esg.scopeservice.dto.EmissionBaselineRequest;
+import com.nsmm.esg.scopeservice.dto.EmissionBaselineResponse;
+import com.nsmm.esg.scopeservice.dto.EmissionComparisonResponse;
+import com.nsmm.esg.scopeservice.dto.EmissionComparisonResponse.Delta;
+import com.nsmm.esg.scopeservice.dto.EmissionVector;
+import com.nsmm.esg.scopeservice.entity.EmissionBaseline;
+import com.nsmm.esg.scopeservice.repository.EmissionBaselineRepository;
+import com.nsmm.esg.scopeservice.repository.StationaryCombustionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 배출량 비교 서비스 (전년 대비 / 기준연도 대비)
+ * 연도별 집계는 롤업 조회 한 번으로 월/연료/시설/협력사 벡터를 만들고,
+ * 비교 대상 연도에 기준연도 스냅샷이 있으면 원본을 다시 집계하지 않고 스냅샷 벡터를 사용합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmissionComparisonService {
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private final StationaryCombustionRepository stationaryCombustionRepository;
+    private final EmissionBaselineRepository emissionBaselineRepository;
+    private final ObjectMapper objectMapper;
+
+    // =============================================================================
+    // 기준연도 스냅샷
+    // =============================================================================
+
+    /**
+     * 기준연도 스냅샷 등록 (POST /baselines)
+     * 등록 이후에는 수정되지 않으며, 같은 기준연도는 한 번만 등록할 수 있습니다.
+     */
+    @Transactional
+    public EmissionBaselineResponse createBaseline(Long memberId, EmissionBaselineRequest request) {
+        if (request.getTargetYear() != null && request.getTargetYear() <= request.getBaseYear()) {
+            throw new IllegalArgumentException("감축 목표 연도는 기준 연도 이후여야 합니다.");
+        }
+        if (emissionBaselineRepository.existsByMemberIdAndBaseYear(memberId, request.getBaseYear())) {
+            throw new IllegalArgumentException("이미 등록된 기준 연도입니다: " + request.getBaseYear());
+        }
+
+        EmissionVector vector = buildVector(memberId, request.getBaseYear());
+        EmissionBaseline baseline = EmissionBaseline.builder()
+                .memberId(memberId)
+                .baseYear(request.getBaseYear())
+                .targetYear(request.getTargetYear())
+                .reductionTargetPercent(request.getReductionTargetPercent())
+                .totalEmission(vector.getTotal())
+                .vectors(toJson(vector))
+                .build();
+
+        EmissionBaseline saved = emissionBaselineRepository.save(baseline);
+        log.info("기준연도 스냅샷 등록 완료 - 회원: {}, 기준 연도: {}, 총 배출량: {}",
+                memberId, saved.getBaseYear(), saved.getTotalEmission());
+
+        return convertToResponse(saved, vector);
+    }
+
+    /**
+     * 기준연도 스냅샷 목록 조회 (GET /baselines)
+     */
+    @Transactional(readOnly = true)
+    public List<EmissionBaselineResponse> getBaselines(Long memberId) {
+        return emissionBaselineRepository.findByMemberIdOrderByBaseYearDesc(memberId).stream()
+                .map(baseline -> convertToResponse(baseline, fromJson(baseline.getVectors())))
+                .collect(Collectors.toList());
+    }
+
+    // =============================================================================
+    // 비교
+    // =============================================================================
+
+    /**
+     * 전년 대비 비교 (GET /yoy)
+     * 비교 대상 연도를 지정하지 않으면 직전 연도와 비교합니다.
+     */
+    @Transactional(readOnly = true)
+    public EmissionComparisonResponse compareYearOverYear(Long memberId, Integer year, Integer compareYear) {
+        int previousYear = compareYear != null ? compareYear : year - 1;
+
+        EmissionVector current = buildVector(memberId, year);
+        Optional<EmissionBaseline> snapshot = emissionBaselineRepository.findByMemberIdAndBaseYear(memberId, previousYear);
+        EmissionVector previous = snapshot
+                .map(baseline -> fromJson(baseline.getVectors()))
+                .orElseGet(() -> buildVector(memberId, previousYear));
+
+        return compare(memberId, year, previousYear, snapshot.isPresent() ? "BASELINE" : "LIVE", current, previous)
+                .build();
+    }
+
+    /**
+     * 기준연도 대비 비교 및 감축 목표 추적 (GET /baseline)
+     * 기준 연도를 지정하지 않으면 가장 최근에 등록한 스냅샷을 사용합니다.
+     */
+    @Transactional(readOnly = true)
+    public EmissionComparisonResponse compareWithBaseline(Long memberId, Integer year, Integer baseYear) {
+        EmissionBaseline baseline = (baseYear != null
+                ? emissionBaselineRepository.findByMemberIdAndBaseYear(memberId, baseYear)
+                : emissionBaselineRepository.findFirstByMemberIdOrderByCreatedAtDesc(memberId))
+                .orElseThrow(() -> new IllegalArgumentException("등록된 기준연도 스냅샷이 없습니다."));
+
+        EmissionVector current = buildVector(memberId, year);
+        EmissionVector base = fromJson(baseline.getVectors());
+
+        return compare(memberId, year, baseline.getBaseYear(), "BASELINE", current, base)
+                .targetProgress(buildTargetProgress(baseline, year, current.getTotal()))
+                .build();
+    }
+
+    // =============================================================================
+    // 내부 유틸리티 메서드
+    // =============================================================================
+
+    /**
+     * 롤업 조회 한 번으로 연도 집계 벡터 생성
+     */
+    private EmissionVector buildVector(Long memberId, Integer year) {
+        EmissionVector vector = EmissionVector.empty();
+        for (Object[] row : stationaryCombustionRepository.findEmissionRollup(memberId, year)) {
+            vector.accumulate((Integer) row[0], (String) row[1], (String) row[2], (String) row[3], (BigDecimal) row[4]);
+        }
+        return vector;
+    }
+
+    private EmissionComparisonResponse.EmissionComparisonResponseBuilder compare(
+            Long memberId, Integer year, Integer compareYear, String compareSource,
+            EmissionVector current, EmissionVector previous) {
+
+        List<Delta> monthly = new ArrayList<>(12);
+        for (int month = 1; month <= 12; month++) {
+            monthly.add(delta(String.valueOf(month),
+                    current.getMonthly().get(month - 1), previous.getMonthly().get(month - 1)));
+        }
+
+        return EmissionComparisonResponse.builder()
+                .memberId(memberId)
+                .year(year)
+                .compareYear(compareYear)
+                .compareSource(compareSource)
+                .total(delta("TOTAL", current.getTotal(), previous.getTotal()))
+                .monthly(monthly)
+                .byFuel(deltas(current.getByFuel(), previous.getByFuel()))
+                .byFacility(deltas(current.getByFacility(), previous.getByFacility()))
+                .byPartner(deltas(current.getByPartner(), previous.getByPartner()))
+                .unit("tCO2eq")
+                .calculatedAt(LocalDateTime.now());
+    }
+
+    /**
+     * 두 차원 맵의 키 합집합 기준 증감 (증감 절대값 큰 순)
+     */
+    private List<Delta> deltas(Map<String, BigDecimal> current, Map<String, BigDecimal> previous) {
+        Set<String> keys = new LinkedHashSet<>(current.keySet());
+        keys.addAll(previous.keySet());
+
+        return keys.stream()
+                .map(key -> delta(key, current.getOrDefault(key, BigDecimal.ZERO), previous.getOrDefault(key, BigDecimal.ZERO)))
+                .sorted(Comparator.comparing((Delta d) -> d.getDelta().abs()).reversed())
+                .collect(Collectors.toList());
+    }
+
+    private Delta delta(String key, BigDecimal current, BigDecimal previous) {
+        BigDecimal diff = current.subtract(previous);
+        return Delta.builder()
+                .key(key)
+                .current(current)
+                .previous(previous)
+                .delta(diff)
+                .changePercent(previous.signum() == 0 ? null
+                        : diff.multiply(HUNDRED).divide(previous, 2, RoundingMode.HALF_UP))
+                .build();
+    }
+
+    /**
+     * 감축 목표 대비 진척도 (기준연도 → 목표연도 선형 감축 경로 기준)
+     */
+    private EmissionComparisonResponse.TargetProgress buildTargetProgress(
+            EmissionBaseline baseline, Integer year, BigDecimal currentTotal) {
+        BigDecimal baseTotal = baseline.getTotalEmission();
+        BigDecimal achieved = baseTotal.signum() == 0 ? null
+                : baseTotal.subtract(currentTotal).multiply(HUNDRED).divide(baseTotal, 2, RoundingMode.HALF_UP);
+
+        if (baseline.getReductionTargetPercent() == null || baseline.getTargetYear() == null) {
+            return EmissionComparisonResponse.TargetProgress.builder()
+                    .achievedReductionPercent(achieved)
+                    .build();
+        }
+
+        BigDecimal targetEmission = targetEmission(baseline);
+        int span = baseline.getTargetYear() - baseline.getBaseYear();
+        int elapsed = Math.max(0, Math.min(span, year - baseline.getBaseYear()));
+        BigDecimal expected = baseTotal.subtract(baseTotal.subtract(targetEmission)
+                .multiply(BigDecimal.valueOf(elapsed))
+                .divide(BigDecimal.valueOf(span), 4, RoundingMode.HALF_UP));
+
+        return EmissionComparisonResponse.TargetProgress.builder()
+                .targetYear(baseline.getTargetYear())
+                .reductionTargetPercent(baseline.getReductionTargetPercent())
+                .targetEmission(targetEmission)
+                .expectedEmission(expected)
+                .achievedReductionPercent(achieved)
+                .onTrack(currentTotal.compareTo(expected) <= 0)
+                .build();
+    }
+
+    private BigDecimal targetEmission(EmissionBaseline baseline) {
+        if (baseline.getReductionTargetPercent() == null) {
+            return null;
+        }
+        return baseline.getTotalEmission()
+                .multiply(HUNDRED.subtract(baseline.getReductionTargetPercent()))
+                .divide(HUNDRED, 4, RoundingMode.HALF_UP);
+    }
+
+    private EmissionBaselineResponse convertToResponse(EmissionBaseline baseline, EmissionVector vector) {
+        return EmissionBaselineResponse.builder()
+                .id(baseline.getId())
+                .memberId(baseline.getMemberId())
+                .baseYear(baseline.getBaseYear())
+                .targetYear(baseline.getTargetYear())
+                .reductionTargetPercent(baseline.getReductionTargetPercent())
+                .totalEmission(baseline.getTotalEmission())
+                .targetEmission(targetEmission(baseline))
+                .vectors(vector)
+                .createdAt(baseline.getCreatedAt())
+                .build();
+    }
+
+    private String toJson(EmissionVector vector) {
+        try {
+            return objectMapper.writeValueAsString(vector);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("기준연도 집계 벡터 직렬화 실패", e);
+        }
+    }
+
+    private EmissionVector fromJson(String json) {
+        try {
+            return objectMapper.readValue(json, EmissionVector.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("기준연도 집계 벡터 역직렬화 실패", e);
+        }
+    }
+}
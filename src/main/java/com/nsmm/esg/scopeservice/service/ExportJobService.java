@@ -0,0 +1,245 @@
+package com.nsmm.esg.scopeservice.service;
+
+import com.nsmm.esg.scopeservice.dto.ExportJobResponse;
+import com.nsmm.esg.scopeservice.event.EmissionDataChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 비동기 보고서 내보내기 작업 서비스
+ * 작업을 제출하면 작업 스레드에서 ReportExportService로 로컬 저장소에 파일을 만들고, 클라이언트는 상태를 조회한 뒤 내려받습니다.
+ * 같은 (회원, 연도, 협력사, 형식) 조건으로 진행 중이거나 완료된 작업이 있으면 새 작업을 만들지 않고 공유합니다.
+ * 작업 목록은 인스턴스 메모리에 보관하므로 게이트웨이에서 회원 단위 고정 라우팅이 필요합니다.
+ */
+@Service
+@Slf4j
+public class ExportJobService implements DisposableBean {
+
+    public static final String PENDING = "PENDING";
+    public static final String RUNNING = "RUNNING";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String FAILED = "FAILED";
+
+    private final ReportExportService reportExportService;
+    private final Path storageDir;
+    private final Duration retention;
+    private final ExecutorService workers;
+
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+    private final Map<String, String> jobIdsByKey = new ConcurrentHashMap<>();
+
+    public ExportJobService(ReportExportService reportExportService,
+                            @Value("${scope.export.storage-dir:${java.io.tmpdir}/scope-exports}") String storageDir,
+                            @Value("${scope.export.retention-minutes:60}") long retentionMinutes,
+                            @Value("${scope.export.worker-threads:2}") int workerThreads) throws IOException {
+        this.reportExportService = reportExportService;
+        this.storageDir = Files.createDirectories(Paths.get(storageDir));
+        this.retention = Duration.ofMinutes(retentionMinutes);
+        this.workers = Executors.newFixedThreadPool(Math.max(1, workerThreads), runnable -> {
+            Thread thread = new Thread(runnable, "report-export");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 내보내기 작업 제출 (같은 조건의 실패하지 않은 작업이 있으면 재사용)
+     */
+    public ExportJobResponse submit(Long memberId, Integer year, String companyId, String format) {
+        String normalizedFormat = reportExportService.validateFormat(format);
+        String key = memberId + "|" + year + "|" + (companyId != null ? companyId : "") + "|" + normalizedFormat;
+
+        ExportJob[] created = new ExportJob[1];
+        String jobId = jobIdsByKey.compute(key, (k, existingId) -> {
+            ExportJob existing = existingId != null ? jobs.get(existingId) : null;
+            if (existing != null && !FAILED.equals(existing.status)) {
+                return existingId;
+            }
+            ExportJob job = new ExportJob(UUID.randomUUID().toString(), key, memberId, year, companyId, normalizedFormat);
+            jobs.put(job.id, job);
+            created[0] = job;
+            return job.id;
+        });
+
+        if (created[0] == null) {
+            log.info("동일 조건 내보내기 작업 재사용 - 회원: {}, 작업: {}", memberId, jobId);
+            return convertToResponse(jobs.get(jobId), true);
+        }
+
+        workers.execute(() -> run(created[0]));
+        log.info("내보내기 작업 제출 - 회원: {}, 연도: {}, 형식: {}, 작업: {}", memberId, year, normalizedFormat, jobId);
+        return convertToResponse(created[0], false);
+    }
+
+    /**
+     * 작업 상태 조회
+     */
+    public ExportJobResponse getStatus(Long memberId, String jobId) {
+        return convertToResponse(findJob(memberId, jobId), false);
+    }
+
+    /**
+     * 완료된 작업의 파일 (Range 처리는 스프링 MVC의 Resource 응답 처리에 맡김)
+     */
+    public Resource getFile(Long memberId, String jobId) {
+        ExportJob job = findJob(memberId, jobId);
+        if (!COMPLETED.equals(job.status)) {
+            throw new IllegalArgumentException("아직 완료되지 않은 내보내기 작업입니다: " + job.status);
+        }
+        return new FileSystemResource(job.file);
+    }
+
+    public String contentTypeOf(Long memberId, String jobId) {
+        return reportExportService.contentTypeOf(findJob(memberId, jobId).format);
+    }
+
+    public String fileNameOf(Long memberId, String jobId) {
+        ExportJob job = findJob(memberId, jobId);
+        return reportExportService.fileNameOf(job.year, job.companyId, job.format);
+    }
+
+    /**
+     * 보관 기간이 지난 작업과 파일 정리
+     */
+    @Scheduled(fixedDelayString = "${scope.export.cleanup-interval-ms:600000}")
+    public void cleanupExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        for (ExportJob job : jobs.values()) {
+            if (job.completedAt != null && job.completedAt.plus(retention).isBefore(now)) {
+                jobIdsByKey.remove(job.key, job.id);
+                jobs.remove(job.id);
+                deleteQuietly(job.file);
+                log.debug("만료된 내보내기 작업 정리 - 작업: {}", job.id);
+            }
+        }
+    }
+
+    /**
+     * 데이터 변경 커밋 후 해당 회원(연도)의 작업은 더 이상 재사용하지 않음 (이미 받은 작업 ID로는 계속 조회 가능)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEmissionDataChanged(EmissionDataChangedEvent event) {
+        jobIdsByKey.values().removeIf(jobId -> {
+            ExportJob job = jobs.get(jobId);
+            return job != null && job.memberId.equals(event.getMemberId())
+                    && (event.getReportingYear() == null || job.year.equals(event.getReportingYear()));
+        });
+    }
+
+    @Override
+    public void destroy() {
+        workers.shutdownNow();
+    }
+
+    // =============================================================================
+    // 내부 유틸리티 메서드
+    // =============================================================================
+
+    private void run(ExportJob job) {
+        job.status = RUNNING;
+        Path partial = storageDir.resolve(job.id + ".part");
+        Path target = storageDir.resolve(job.id + "." + job.format);
+        try {
+            try (OutputStream out = Files.newOutputStream(partial)) {
+                reportExportService.export(job.memberId, job.year, job.companyId, job.format, out);
+            }
+            // 완성된 파일만 다운로드 대상이 되도록 이름 변경
+            Files.move(partial, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            job.file = target;
+            job.sizeBytes = Files.size(target);
+            job.completedAt = LocalDateTime.now();
+            job.status = COMPLETED;
+            log.info("내보내기 작업 완료 - 작업: {}, 크기: {} bytes", job.id, job.sizeBytes);
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(partial);
+            job.errorMessage = e.getMessage();
+            job.completedAt = LocalDateTime.now();
+            job.status = FAILED;
+            log.error("내보내기 작업 실패 - 작업: {}, 오류: {}", job.id, e.getMessage());
+        }
+    }
+
+    private ExportJob findJob(Long memberId, String jobId) {
+        ExportJob job = jobs.get(jobId);
+        if (job == null || !job.memberId.equals(memberId)) {
+            throw new IllegalArgumentException("존재하지 않는 내보내기 작업입니다: " + jobId);
+        }
+        return job;
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("내보내기 파일 삭제 실패: {}", path);
+        }
+    }
+
+    private ExportJobResponse convertToResponse(ExportJob job, boolean deduplicated) {
+        return ExportJobResponse.builder()
+                .jobId(job.id)
+                .memberId(job.memberId)
+                .year(job.year)
+                .companyId(job.companyId)
+                .format(job.format)
+                .status(job.status)
+                .deduplicated(deduplicated)
+                .fileName(reportExportService.fileNameOf(job.year, job.companyId, job.format))
+                .sizeBytes(job.sizeBytes)
+                .downloadUrl(COMPLETED.equals(job.status) ? "/api/v1/scope/reports/jobs/" + job.id + "/download" : null)
+                .errorMessage(job.errorMessage)
+                .requestedAt(job.requestedAt)
+                .completedAt(job.completedAt)
+                .expiresAt(job.completedAt != null ? job.completedAt.plus(retention) : null)
+                .build();
+    }
+
+    private static final class ExportJob {
+        private final String id;
+        private final String key;
+        private final Long memberId;
+        private final Integer year;
+        private final String companyId;
+        private final String format;
+        private final LocalDateTime requestedAt = LocalDateTime.now();
+
+        private volatile String status = PENDING;
+        private volatile Path file;
+        private volatile Long sizeBytes;
+        private volatile String errorMessage;
+        private volatile LocalDateTime completedAt;
+
+        private ExportJob(String id, String key, Long memberId, Integer year, String companyId, String format) {
+            this.id = id;
+            this.key = key;
+            this.memberId = memberId;
+            this.year = year;
+            this.companyId = companyId;
+            this.format = format;
+        }
+    }
+}
@@ -0,0 +1,374 @@
+package com.nsmm.esg.scopeservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nsmm.esg.scopeservice.config.MemberContext;
+import com.nsmm.esg.scopeservice.config.ShardContext;
+import com.nsmm.esg.scopeservice.config.ShardDirectory;
+import com.nsmm.esg.scopeservice.dto.FactorSetContent;
+import com.nsmm.esg.scopeservice.entity.CalorificValue;
+import com.nsmm.esg.scopeservice.entity.EmissionFactor;
+import com.nsmm.esg.scopeservice.entity.FactorSetSnapshot;
+import com.nsmm.esg.scopeservice.entity.FuelType;
+import com.nsmm.esg.scopeservice.event.FactorMasterDataChangedEvent;
+import com.nsmm.esg.scopeservice.repository.CalorificValueRepository;
+import com.nsmm.esg.scopeservice.repository.EmissionFactorRepository;
+import com.nsmm.esg.scopeservice.repository.FactorSetSnapshotRepository;
+import com.nsmm.esg.scopeservice.repository.FuelTypeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 배출계수셋 스냅샷 서비스
+ * 현재 마스터 데이터로 정규화한 계수셋 내용을 만들고, 같은 해시의 스냅샷이 없을 때만 새 번호로 저장합니다.
+ * 현재 스냅샷 ID는 샤딩 시 샤드마다 번호가 다를 수 있어 샤드별로 캐시합니다.
+ * 현재 ID 확인(마스터 데이터 전체 조회 + 해시)은 전용 스레드에서 샤드별로 하나씩만 실행하고, 계산 요청은 새 ID가 준비될 때까지
+ * 이전 ID를 그대로 사용합니다. 계산 요청이 기다리는 경우는 시작 직후 그 샤드의 ID가 아직 없을 때뿐입니다.
+ * 이 인스턴스의 마스터 데이터 변경은 커밋 직후, 다른 인스턴스나 DB에서 직접 바꾼 변경은 다음 주기 갱신 때 반영됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FactorSetSnapshotService implements DisposableBean {
+
+    private static final String DEFAULT_KEY = "default";
+
+    private final FuelTypeRepository fuelTypeRepository;
+    private final CalorificValueRepository calorificValueRepository;
+    private final EmissionFactorRepository emissionFactorRepository;
+    private final FactorSetSnapshotRepository factorSetSnapshotRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectProvider<ShardDirectory> shardDirectoryProvider;
+
+    // 연도 결정 정책은 계산 결과를 바꾸므로 스냅샷 내용에 포함
+    @Value("${scope.calculation.year-policy:FLOOR}")
+    private FactorTable.YearPolicy yearPolicy;
+
+    // 샤드 키 → 현재 스냅샷 ID
+    private final Map<String, Integer> currentIds = new ConcurrentHashMap<>();
+    // 샤드 키 → 진행 중인 현재 ID 확인 (같은 샤드는 하나만 실행하고 나머지는 결과를 공유)
+    private final Map<String, CompletableFuture<Integer>> refreshes = new ConcurrentHashMap<>();
+    // 확인 중에 무효화가 일어나면 변경된 마스터 데이터로 다시 확인하기 위한 세대 번호
+    private final AtomicLong generation = new AtomicLong();
+    // 현재 ID 확인 전용 스레드 (호출한 요청의 트랜잭션/커넥션과 분리)
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "factor-set-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // 스냅샷 ID → 내용 (스냅샷은 수정되지 않으므로 무효화하지 않음)
+    private final Map<String, FactorSetContent> contents = new ConcurrentHashMap<>();
+    // 스냅샷 ID → 계산용 조회 테이블
+    private final Map<String, FactorTable> tables = new ConcurrentHashMap<>();
+
+    /**
+     * 현재 계수셋의 스냅샷 ID (없으면 생성)
+     * 캐시된 ID가 있으면 바로 반환하고, 처음 보는 샤드만 전용 스레드의 확인이 끝날 때까지 기다립니다.
+     */
+    public int currentSnapshotId() {
+        String key = routingKey();
+        Integer cached = currentIds.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        try {
+            return refresh(key).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    /**
+     * 현재 계수셋 (스냅샷 ID와 그 스냅샷의 계산용 조회 테이블을 함께 반환)
+     * 계산에 쓴 계수와 기록하는 factor_set_id가 항상 같은 스냅샷을 가리키도록 이 값을 사용합니다.
+     */
+    public CurrentFactorSet current() {
+        int id = currentSnapshotId();
+        return new CurrentFactorSet(id, getFactorTable(id));
+    }
+
+    /**
+     * 현재 스냅샷 ID 무효화 (캐시된 샤드마다 새 스냅샷 확인 시작, 끝날 때까지는 이전 ID 사용)
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        refreshCurrentIds();
+    }
+
+    /**
+     * 주기적으로 현재 스냅샷 ID 재확인 (다른 인스턴스나 DB에서 직접 바꾼 마스터 데이터 반영)
+     * 확인 작업만 넘기고 바로 반환하므로 스케줄러 스레드를 붙잡지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${scope.calculation.factor-set-refresh-interval-ms:60000}")
+    public void refreshCurrentIds() {
+        currentIds.keySet().forEach(this::refresh);
+    }
+
+    /**
+     * 시작 시 샤드별 현재 스냅샷 ID 미리 확인 (첫 계산 요청이 기다리지 않도록)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        ShardDirectory shardDirectory = shardDirectoryProvider.getIfAvailable();
+        List<String> keys = shardDirectory != null ? shardDirectory.shardKeys() : List.of(DEFAULT_KEY);
+        keys.forEach(this::refresh);
+    }
+
+    /**
+     * 마스터 데이터 변경 커밋 후 무효화
+     * 커밋 전에 비우면 동시에 실행 중인 계산이 변경 전 계수로 스냅샷 ID를 다시 캐시할 수 있습니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFactorMasterDataChanged(FactorMasterDataChangedEvent event) {
+        invalidate();
+        log.debug("계수셋 스냅샷 캐시 무효화 - 연료: {}", event.getFuelId());
+    }
+
+    /**
+     * 스냅샷 내용 조회
+     */
+    public FactorSetContent getContent(Integer snapshotId) {
+        String key = routingKey() + ":" + snapshotId;
+        FactorSetContent cached = contents.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        FactorSetSnapshot snapshot = factorSetSnapshotRepository.findById(snapshotId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 계수셋 스냅샷입니다: " + snapshotId));
+        FactorSetContent content = fromJson(snapshot.getContent());
+        contents.put(key, content);
+        return content;
+    }
+
+    /**
+     * 스냅샷 기준 계산용 조회 테이블 (스냅샷별로 한 번만 생성)
+     */
+    public FactorTable getFactorTable(Integer snapshotId) {
+        String key = routingKey() + ":" + snapshotId;
+        FactorTable cached = tables.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        FactorTable table = FactorTable.from(getContent(snapshotId));
+        tables.put(key, table);
+        return table;
+    }
+
+    public FactorSetSnapshot getSnapshot(Integer snapshotId) {
+        return factorSetSnapshotRepository.findById(snapshotId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 계수셋 스냅샷입니다: " + snapshotId));
+    }
+
+    @Override
+    public void destroy() {
+        refreshExecutor.shutdownNow();
+    }
+
+    // =============================================================================
+    // 내부 유틸리티 메서드
+    // =============================================================================
+
+    /**
+     * 샤드의 현재 ID 확인 시작 (이미 진행 중이면 그 결과를 공유)
+     */
+    private CompletableFuture<Integer> refresh(String key) {
+        CompletableFuture<Integer> created = new CompletableFuture<>();
+        CompletableFuture<Integer> running = refreshes.putIfAbsent(key, created);
+        if (running != null) {
+            return running;
+        }
+
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    int id = load(key);
+                    refreshes.remove(key, created);
+                    created.complete(id);
+                } catch (RuntimeException e) {
+                    refreshes.remove(key, created);
+                    log.error("현재 계수셋 스냅샷 확인 실패 - 샤드: {}, 오류: {}", key, e.getMessage());
+                    created.completeExceptionally(e);
+                }
+            });
+        } catch (RuntimeException e) {
+            refreshes.remove(key, created);
+            created.completeExceptionally(e);
+        }
+        return created;
+    }
+
+    /**
+     * 전용 스레드에서 샤드의 현재 ID 확인 후 캐시에 반영
+     * 확인 도중 무효화되면 변경된 마스터 데이터로 다시 확인합니다.
+     */
+    private int load(String key) {
+        while (true) {
+            long loadedGeneration = generation.get();
+            int id = DEFAULT_KEY.equals(key)
+                    ? findOrCreateInTransaction()
+                    : ShardContext.callOn(key, this::findOrCreateInTransaction);
+            if (generation.get() == loadedGeneration) {
+                Integer previous = currentIds.put(key, id);
+                if (previous != null && previous != id) {
+                    log.info("현재 계수셋 스냅샷 변경 - 샤드: {}, {} → {}", key, previous, id);
+                }
+                return id;
+            }
+        }
+    }
+
+    private int findOrCreateInTransaction() {
+        try {
+            return transactionTemplate.execute(status -> findOrCreate());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 같은 내용을 먼저 등록한 경우 다시 조회
+            return transactionTemplate.execute(status -> findOrCreate());
+        }
+    }
+
+    private int findOrCreate() {
+        FactorSetContent content = buildContent();
+        String json = toJson(content);
+        String hash = sha256(json);
+
+        FactorSetSnapshot snapshot = factorSetSnapshotRepository.findByContentHash(hash).orElse(null);
+        if (snapshot == null) {
+            snapshot = factorSetSnapshotRepository.saveAndFlush(FactorSetSnapshot.builder()
+                    .contentHash(hash)
+                    .kernelVersion(content.getKernelVersion())
+                    .content(json)
+                    .build());
+            log.info("계수셋 스냅샷 등록 - ID: {}, 해시: {}", snapshot.getId(), hash);
+        }
+        return snapshot.getId();
+    }
+
+    /**
+     * 활성 마스터 데이터를 연료 ID/연도 순으로 정렬한 계수셋 내용
+     */
+    private FactorSetContent buildContent() {
+        List<FactorSetContent.Fuel> fuels = fuelTypeRepository.findAll().stream()
+                .filter(fuelType -> Boolean.TRUE.equals(fuelType.getIsActive()))
+                .map(fuelType -> FactorSetContent.Fuel.builder()
+                        .fuelId(fuelType.getFuelId())
+                        .name(fuelType.getName())
+                        .build())
+                .sorted(Comparator.comparing(FactorSetContent.Fuel::getFuelId))
+                .toList();
+
+        List<FactorSetContent.Calorific> calorificValues = calorificValueRepository.findAll().stream()
+                .filter(value -> Boolean.TRUE.equals(value.getIsActive()))
+                .map(this::toCalorific)
+                .sorted(Comparator.comparing(FactorSetContent.Calorific::getFuelId)
+                        .thenComparing(FactorSetContent.Calorific::getYear))
+                .toList();
+
+        List<FactorSetContent.Factor> emissionFactors = emissionFactorRepository.findAll().stream()
+                .filter(factor -> Boolean.TRUE.equals(factor.getIsActive()))
+                .map(this::toFactor)
+                .sorted(Comparator.comparing(FactorSetContent.Factor::getFuelId)
+                        .thenComparing(FactorSetContent.Factor::getYear))
+                .toList();
+
+        return FactorSetContent.builder()
+                .kernelVersion(EmissionCalculationService.KERNEL_VERSION)
+                .yearPolicy(yearPolicy.name())
+                .fuels(fuels)
+                .calorificValues(calorificValues)
+                .emissionFactors(emissionFactors)
+                .build();
+    }
+
+    private FactorSetContent.Calorific toCalorific(CalorificValue value) {
+        FuelType fuelType = value.getFuelType();
+        return FactorSetContent.Calorific.builder()
+                .fuelId(fuelType.getFuelId())
+                .year(value.getYear())
+                .value(value.getValue().toPlainString())
+                .unit(value.getUnit())
+                .build();
+    }
+
+    private FactorSetContent.Factor toFactor(EmissionFactor factor) {
+        return FactorSetContent.Factor.builder()
+                .fuelId(factor.getFuelType().getFuelId())
+                .year(factor.getYear())
+                .co2Factor(factor.getCo2Factor().toPlainString())
+                .ch4Factor(factor.getCh4Factor().toPlainString())
+                .n2oFactor(factor.getN2oFactor().toPlainString())
+                .build();
+    }
+
+    /**
+     * 스냅샷 번호가 발급되는 데이터소스 기준 키 (샤딩 미사용 시 단일 키)
+     */
+    private String routingKey() {
+        ShardDirectory shardDirectory = shardDirectoryProvider.getIfAvailable();
+        if (shardDirectory == null) {
+            return DEFAULT_KEY;
+        }
+        if (ShardContext.getShardKey() != null) {
+            return ShardContext.getShardKey();
+        }
+        Long memberId = MemberContext.getMemberId();
+        return memberId != null ? shardDirectory.shardOf(memberId) : shardDirectory.getDefaultShard();
+    }
+
+    private String toJson(FactorSetContent content) {
+        try {
+            return objectMapper.writeValueAsString(content);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("계수셋 스냅샷 직렬화 실패", e);
+        }
+    }
+
+    private FactorSetContent fromJson(String json) {
+        try {
+            return objectMapper.readValue(json, FactorSetContent.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("계수셋 스냅샷 역직렬화 실패", e);
+        }
+    }
+
+    /**
+     * 현재 계수셋 (ID와 조회 테이블이 같은 스냅샷)
+     */
+    public record CurrentFactorSet(int id, FactorTable table) {
+    }
+
+    private String sha256(String json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
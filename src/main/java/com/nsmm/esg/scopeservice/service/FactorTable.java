@@ -0,0 +1,168 @@
+package com.nsmm.esg.scopeservice.service;
+
+import com.nsmm.esg.scopeservice.dto.FactorSetContent;
+import com.nsmm.esg.scopeservice.entity.CalculationQuality;
+import com.nsmm.esg.scopeservice.service.EmissionCalculationService.StationaryFactors;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 계수셋 조회 테이블 (불변)
+ * 계수셋 스냅샷 내용을 연료별 정렬된 int[] 연도 배열과 같은 순서의 값 배열로 색인해,
+ * 연도 결정을 DB 조회 없이 이진 탐색(O(log n))으로 처리합니다.
+ * 연료 이름 기반 기본값은 적재 시 한 번만 계산해 두며, 실시간 계산과 감사 재현이 같은 테이블을 사용합니다.
+ */
+public final class FactorTable {
+
+    /**
+     * 보고 연도 값이 없을 때의 연도 결정 정책
+     */
+    public enum YearPolicy {
+        FLOOR,    // 이전 가장 가까운 연도 (없으면 이후 가장 가까운 연도)
+        CEILING,  // 이후 가장 가까운 연도 (없으면 이전 가장 가까운 연도)
+        STRICT    // 보고 연도만 사용 (없으면 연료 이름 기반 기본값)
+    }
+
+    private static final BigDecimal DEFAULT_CH4_FACTOR = new BigDecimal("0.001");
+    private static final BigDecimal DEFAULT_N2O_FACTOR = new BigDecimal("0.0001");
+
+    private final Map<String, FuelFactors> fuels;
+    private final YearPolicy yearPolicy;
+
+    private FactorTable(Map<String, FuelFactors> fuels, YearPolicy yearPolicy) {
+        this.fuels = fuels;
+        this.yearPolicy = yearPolicy;
+    }
+
+    /**
+     * 스냅샷 내용으로 테이블 생성 (정책이 기록되지 않은 이전 스냅샷은 FLOOR)
+     */
+    public static FactorTable from(FactorSetContent content) {
+        Map<String, List<FactorSetContent.Calorific>> calorificByFuel = new HashMap<>();
+        for (FactorSetContent.Calorific value : content.getCalorificValues()) {
+            calorificByFuel.computeIfAbsent(value.getFuelId(), id -> new ArrayList<>()).add(value);
+        }
+        Map<String, List<FactorSetContent.Factor>> factorsByFuel = new HashMap<>();
+        for (FactorSetContent.Factor factor : content.getEmissionFactors()) {
+            factorsByFuel.computeIfAbsent(factor.getFuelId(), id -> new ArrayList<>()).add(factor);
+        }
+
+        Map<String, FuelFactors> fuels = new HashMap<>();
+        for (FactorSetContent.Fuel fuel : content.getFuels()) {
+            fuels.put(fuel.getFuelId(), new FuelFactors(fuel.getName(),
+                    calorificByFuel.getOrDefault(fuel.getFuelId(), List.of()),
+                    factorsByFuel.getOrDefault(fuel.getFuelId(), List.of())));
+        }
+
+        YearPolicy yearPolicy = content.getYearPolicy() != null ? YearPolicy.valueOf(content.getYearPolicy()) : YearPolicy.FLOOR;
+        return new FactorTable(fuels, yearPolicy);
+    }
+
+    public YearPolicy getYearPolicy() {
+        return yearPolicy;
+    }
+
+    /**
+     * 연료/연도의 고정연소 계수 확정 (계수셋에 연료가 없으면 null)
+     */
+    public StationaryFactors resolve(String fuelId, Integer year) {
+        FuelFactors fuel = fuelId != null ? fuels.get(fuelId) : null;
+        if (fuel == null) {
+            return null;
+        }
+
+        int c = indexOf(fuel.calorificYears, year);
+        int f = indexOf(fuel.factorYears, year);
+
+        CalculationQuality quality = qualityOf(fuel.calorificYears, c, year).worse(qualityOf(fuel.factorYears, f, year));
+        return new StationaryFactors(
+                c >= 0 ? fuel.calorificValues[c] : fuel.defaultCalorificValue,
+                c >= 0 ? fuel.calorificUnits[c] : null,
+                f >= 0 ? fuel.co2Factors[f] : fuel.defaultCo2Factor,
+                f >= 0 ? fuel.ch4Factors[f] : DEFAULT_CH4_FACTOR,
+                f >= 0 ? fuel.n2oFactors[f] : DEFAULT_N2O_FACTOR,
+                quality);
+    }
+
+    /**
+     * 정책에 따른 연도 위치 (사용할 값이 없으면 -1)
+     */
+    private int indexOf(int[] years, Integer year) {
+        if (years.length == 0 || year == null) {
+            return -1;
+        }
+        int found = Arrays.binarySearch(years, year);
+        if (found >= 0) {
+            return found;
+        }
+        int insertion = -found - 1; // 보고 연도보다 큰 첫 위치
+        return switch (yearPolicy) {
+            case FLOOR -> insertion > 0 ? insertion - 1 : 0;
+            case CEILING -> insertion < years.length ? insertion : years.length - 1;
+            case STRICT -> -1;
+        };
+    }
+
+    private static CalculationQuality qualityOf(int[] years, int index, Integer year) {
+        if (index < 0) {
+            return CalculationQuality.NAME_DEFAULT;
+        }
+        return year != null && years[index] == year ? CalculationQuality.EXACT : CalculationQuality.YEAR_FALLBACK;
+    }
+
+    /**
+     * 연료별 연도 오름차순 배열 (연도 배열과 값 배열의 같은 위치가 같은 연도)
+     */
+    private static final class FuelFactors {
+        private final BigDecimal defaultCalorificValue;
+        private final BigDecimal defaultCo2Factor;
+
+        private final int[] calorificYears;
+        private final BigDecimal[] calorificValues;
+        private final String[] calorificUnits;
+
+        private final int[] factorYears;
+        private final BigDecimal[] co2Factors;
+        private final BigDecimal[] ch4Factors;
+        private final BigDecimal[] n2oFactors;
+
+        private FuelFactors(String fuelName, List<FactorSetContent.Calorific> calorific, List<FactorSetContent.Factor> factors) {
+            this.defaultCalorificValue = EmissionCalculationService.getDefaultCalorificValue(fuelName);
+            this.defaultCo2Factor = EmissionCalculationService.getDefaultEmissionFactor(fuelName);
+
+            List<FactorSetContent.Calorific> sortedCalorific = new ArrayList<>(calorific);
+            sortedCalorific.sort(Comparator.comparing(FactorSetContent.Calorific::getYear));
+            int n = sortedCalorific.size();
+            this.calorificYears = new int[n];
+            this.calorificValues = new BigDecimal[n];
+            this.calorificUnits = new String[n];
+            for (int i = 0; i < n; i++) {
+                FactorSetContent.Calorific value = sortedCalorific.get(i);
+                calorificYears[i] = value.getYear();
+                calorificValues[i] = new BigDecimal(value.getValue());
+                calorificUnits[i] = value.getUnit();
+            }
+
+            List<FactorSetContent.Factor> sortedFactors = new ArrayList<>(factors);
+            sortedFactors.sort(Comparator.comparing(FactorSetContent.Factor::getYear));
+            int m = sortedFactors.size();
+            this.factorYears = new int[m];
+            this.co2Factors = new BigDecimal[m];
+            this.ch4Factors = new BigDecimal[m];
+            this.n2oFactors = new BigDecimal[m];
+            for (int i = 0; i < m; i++) {
+                FactorSetContent.Factor factor = sortedFactors.get(i);
+                factorYears[i] = factor.getYear();
+                co2Factors[i] = new BigDecimal(factor.getCo2Factor());
+                ch4Factors[i] = new BigDecimal(factor.getCh4Factor());
+                n2oFactors[i] = new BigDecimal(factor.getN2oFactor());
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.nsmm.esg.scopeservice.service;
+
+import com.nsmm.esg.scopeservice.entity.FuelType;
+import com.nsmm.esg.scopeservice.event.FactorMasterDataChangedEvent;
+import com.nsmm.esg.scopeservice.repository.FuelTypeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 연료 타입 카탈로그 캐시
+ * 집계 시 연료별 이름/카테고리/기본 단위를 DB 조인 없이 조회하도록 fuelId 기준 불변 맵을 메모리에 보관합니다.
+ * 연료 타입 변경이 커밋되면 무효화하며, 다음 조회 시 다시 적재합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FuelTypeCatalog {
+
+    private final FuelTypeRepository fuelTypeRepository;
+
+    private volatile Map<String, Entry> entries;
+
+    /**
+     * 연료 정보 조회 (카탈로그에 없으면 null)
+     */
+    public Entry get(String fuelId) {
+        return fuelId != null ? entries().get(fuelId) : null;
+    }
+
+    /**
+     * 카탈로그 무효화
+     */
+    public void invalidate() {
+        entries = null;
+    }
+
+    /**
+     * 마스터 데이터 변경 커밋 후 무효화 (커밋 전에 비우면 다른 요청이 변경 전 데이터를 다시 적재할 수 있음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFactorMasterDataChanged(FactorMasterDataChangedEvent event) {
+        invalidate();
+    }
+
+    private Map<String, Entry> entries() {
+        Map<String, Entry> current = entries;
+        if (current == null) {
+            synchronized (this) {
+                current = entries;
+                if (current == null) {
+                    current = fuelTypeRepository.findAll().stream()
+                            .collect(Collectors.toUnmodifiableMap(FuelType::getFuelId,
+                                    f -> new Entry(f.getFuelId(), f.getName(), f.getCategory(), f.getUnit()),
+                                    (a, b) -> a));
+                    entries = current;
+                    log.debug("연료 타입 카탈로그 적재 완료 - {}건", current.size());
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 연료 카탈로그 항목 (불변)
+     */
+    public record Entry(String fuelId, String name, String category, String unit) {
+    }
+}
@@ -3,11 +3,13 @@ package com.nsmm.esg.scopeservice.service;
 import com.nsmm.esg.scopeservice.entity.FuelType;
 import com.nsmm.esg.scopeservice.entity.CalorificValue;
 import com.nsmm.esg.scopeservice.entity.EmissionFactor;
+import com.nsmm.esg.scopeservice.event.FactorMasterDataChangedEvent;
 import com.nsmm.esg.scopeservice.repository.FuelTypeRepository;
 import com.nsmm.esg.scopeservice.repository.CalorificValueRepository;
 import com.nsmm.esg.scopeservice.repository.EmissionFactorRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -25,6 +27,7 @@ public class FuelTypeService {
     private final FuelTypeRepository fuelTypeRepository;
     private final CalorificValueRepository calorificValueRepository;
     private final EmissionFactorRepository emissionFactorRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     public List<FuelType> findAll() {
         return fuelTypeRepository.findAllByOrderByName();
@@ -69,7 +72,9 @@ public class FuelTypeService {
             throw new IllegalArgumentException("이미 존재하는 연료 타입입니다: " + fuelType.getName());
         }
 
-        return fuelTypeRepository.save(fuelType);
+        FuelType saved = fuelTypeRepository.save(fuelType);
+        applicationEventPublisher.publishEvent(new FactorMasterDataChangedEvent(saved.getFuelId()));
+        return saved;
     }
 
     @Transactional
@@ -90,7 +95,9 @@ public class FuelTypeService {
         existingFuelType.setUnit(fuelType.getUnit());
         existingFuelType.setIsActive(fuelType.getIsActive());
 
-        return fuelTypeRepository.save(existingFuelType);
+        FuelType saved = fuelTypeRepository.save(existingFuelType);
+        applicationEventPublisher.publishEvent(new FactorMasterDataChangedEvent(saved.getFuelId()));
+        return saved;
     }
 
     @Transactional
@@ -112,6 +119,7 @@ public class FuelTypeService {
             fuelTypeRepository.deleteById(id);
             log.info("Fuel type deleted: {}", id);
         }
+        applicationEventPublisher.publishEvent(new FactorMasterDataChangedEvent(fuelType.getFuelId()));
     }
 
     public Optional<CalorificValue> getCalorificValue(Long fuelTypeId) {
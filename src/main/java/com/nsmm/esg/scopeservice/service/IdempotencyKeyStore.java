@@ -0,0 +1,140 @@
+package com.nsmm.esg.scopeservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nsmm.esg.scopeservice.config.ShardContext;
+import com.nsmm.esg.scopeservice.config.ShardDirectory;
+import com.nsmm.esg.scopeservice.entity.IdempotencyRecord;
+import com.nsmm.esg.scopeservice.exception.IdempotencyKeyReuseException;
+import com.nsmm.esg.scopeservice.repository.IdempotencyRecordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 헤더 처리 저장소 (MySQL)
+ * 같은 회원이 같은 키로 재시도하면 어느 인스턴스로 가든 최초 처리 결과를 그대로 반환합니다.
+ * 키 행은 쓰기와 같은 트랜잭션(같은 샤드)에 선점되므로, 동시에 들어온 중복 요청은 최초 요청의 커밋을 기다렸다가 결과를 공유하고,
+ * 최초 요청이 실패(롤백)하면 키도 남지 않아 다시 시도할 수 있습니다.
+ * 같은 키로 다른 본문을 보내면 422(IdempotencyKeyReuseException)로 거절합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyKeyStore {
+
+    private static final Duration TTL = Duration.ofHours(24);
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final int PURGE_BATCH_SIZE = 1_000;
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<ShardDirectory> shardDirectoryProvider;
+
+    /**
+     * 키가 없으면 그대로 실행하고, 키가 있으면 최초 1회만 실행한 결과를 재사용
+     *
+     * @param request      요청 본문 (해시 비교용)
+     * @param responseType 저장된 응답 역직렬화 타입
+     */
+    public <T> T execute(Long memberId, String idempotencyKey, Object request,
+                         TypeReference<T> responseType, Supplier<T> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+        String key = idempotencyKey.trim();
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key는 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+        String requestHash = hash(request);
+
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime expiresAt = now.plus(TTL);
+            idempotencyRecordRepository.claim(memberId, key, requestHash, now, expiresAt);
+            IdempotencyRecord record = idempotencyRecordRepository.findByMemberIdAndIdempotencyKey(memberId, key)
+                    .orElseThrow(() -> new IllegalStateException("Idempotency-Key 선점 실패: " + key));
+
+            if (record.isCompleted()) {
+                if (record.isExpired(now)) {
+                    record.reclaim(requestHash, now, expiresAt);
+                } else if (!record.getRequestHash().equals(requestHash)) {
+                    throw new IdempotencyKeyReuseException(key);
+                } else {
+                    log.debug("Idempotency-Key 재사용 - 기존 처리 결과 반환: {}:{}", memberId, key);
+                    return fromJson(record.getResponseBody(), responseType);
+                }
+            }
+
+            T result = action.get();
+            record.complete(toJson(result));
+            return result;
+        });
+    }
+
+    /**
+     * 만료된 키 정리 (샤딩 사용 시 샤드마다)
+     */
+    @Scheduled(fixedDelayString = "${scope.idempotency.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        ShardDirectory shardDirectory = shardDirectoryProvider.getIfAvailable();
+        if (shardDirectory == null) {
+            purgeBatch();
+            return;
+        }
+        for (String shardKey : shardDirectory.shardKeys()) {
+            ShardContext.callOn(shardKey, () -> {
+                purgeBatch();
+                return null;
+            });
+        }
+    }
+
+    private void purgeBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status -> idempotencyRecordRepository.deleteExpired(now, PURGE_BATCH_SIZE));
+        } while (deleted == PURGE_BATCH_SIZE);
+    }
+
+    /**
+     * 요청 본문 SHA-256 (hex)
+     */
+    private String hash(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("요청 본문 해시 계산 실패", e);
+        }
+    }
+
+    private String toJson(Object result) {
+        try {
+            return objectMapper.writeValueAsString(result);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Idempotency 응답 직렬화 실패", e);
+        }
+    }
+
+    private <T> T fromJson(String json, TypeReference<T> responseType) {
+        try {
+            return objectMapper.readValue(json, responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Idempotency 응답 역직렬화 실패", e);
+        }
+    }
+}
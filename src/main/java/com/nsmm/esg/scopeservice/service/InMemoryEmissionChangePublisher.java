@@ -0,0 +1,56 @@
+package com.nsmm.esg.scopeservice.service;
+
+import com.nsmm.esg.scopeservice.dto.EmissionChangeResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 인메모리 변경 이벤트 브로커
+ * 외부 브로커 없이 로컬/테스트 환경에서 아웃박스 릴레이를 검증하기 위한 대체 구현입니다.
+ * 최근 이벤트를 고정 크기로 보관하고, 등록된 구독자에게 동기적으로 전달합니다.
+ */
+@Component
+@Slf4j
+public class InMemoryEmissionChangePublisher implements EmissionChangePublisher {
+
+    private static final int MAX_RETAINED = 1_000;
+
+    private final Deque<EmissionChangeResponse> retained = new ArrayDeque<>();
+    private final List<Consumer<EmissionChangeResponse>> subscribers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(EmissionChangeResponse change) {
+        synchronized (retained) {
+            if (retained.size() == MAX_RETAINED) {
+                retained.pollFirst();
+            }
+            retained.addLast(change);
+        }
+        subscribers.forEach(subscriber -> subscriber.accept(change));
+        log.debug("변경 이벤트 발행 - 회원: {}, 시퀀스: {}, 유형: {}",
+                change.getMemberId(), change.getSeq(), change.getOperation());
+    }
+
+    /**
+     * 구독자 등록
+     */
+    public void subscribe(Consumer<EmissionChangeResponse> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    /**
+     * 최근 발행된 이벤트 목록 (오래된 순)
+     */
+    public List<EmissionChangeResponse> getRetained() {
+        synchronized (retained) {
+            return new ArrayList<>(retained);
+        }
+    }
+}
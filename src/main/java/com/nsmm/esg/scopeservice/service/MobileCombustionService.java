@@ -157,6 +157,7 @@
 //                .notes(entity.getNotes())
 //                .createdAt(entity.getCreatedAt())
 //                .updatedAt(entity.getUpdatedAt())
+//                .version(entity.getVersion())
 //                .build();
 //    }
 //}
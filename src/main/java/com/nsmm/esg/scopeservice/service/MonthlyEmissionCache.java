@@ -0,0 +1,106 @@
+package com.nsmm.esg.scopeservice.service;
+
+import com.nsmm.esg.scopeservice.event.EmissionDataChangedEvent;
+import com.nsmm.esg.scopeservice.repository.StationaryCombustionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 고정연소 월별 배출량 벡터 캐시
+ * (회원, 연도, 협력사) 키별로 12칸 월별 배출량 배열을 보관하고, 분기/반기/회계연도 등 기간 집계는 이 배열을 접어서 계산합니다.
+ * 데이터 변경이 커밋되면 해당 회원(연도)의 키를 제거합니다.
+ * 무효화 이벤트는 이 인스턴스의 커밋에서만 오므로, 다른 인스턴스의 변경은 TTL이 지나면 반영됩니다.
+ * (scope.period.cache-enabled=false면 캐시 없이 매번 조회)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MonthlyEmissionCache {
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final StationaryCombustionRepository stationaryCombustionRepository;
+
+    private final Map<Key, Entry> vectors = new ConcurrentHashMap<>();
+    // 조회 중에 무효화가 일어나면 조회 결과를 캐시에 넣지 않기 위한 세대 번호
+    private final AtomicLong generation = new AtomicLong();
+
+    @Value("${scope.period.cache-enabled:true}")
+    private boolean enabled;
+
+    // 캐시 항목 유효 시간 (다른 인스턴스에서 커밋된 변경의 최대 반영 지연)
+    @Value("${scope.period.cache-ttl-ms:60000}")
+    private long ttlMillis;
+
+    /**
+     * 월별 배출량 벡터 조회 (index 0 = 1월, 반환 배열은 수정하지 말 것)
+     */
+    public BigDecimal[] get(Long memberId, Integer year, String companyId) {
+        if (!enabled) {
+            return load(memberId, year, companyId);
+        }
+
+        Key key = new Key(memberId, year, companyId);
+        Entry cached = vectors.get(key);
+        if (cached != null && System.currentTimeMillis() - cached.loadedAt() < ttlMillis) {
+            return cached.monthly();
+        }
+
+        long loadedGeneration = generation.get();
+        Entry loaded = new Entry(load(memberId, year, companyId), System.currentTimeMillis());
+        if (vectors.size() >= MAX_ENTRIES) {
+            vectors.clear();
+        }
+        // 세대 확인과 저장을 키 단위로 원자적으로 수행 (무효화는 세대를 올린 뒤 키를 제거하므로
+        // 무효화 전에 저장된 항목은 제거되고, 무효화 후에는 저장되지 않음)
+        vectors.compute(key, (k, previous) -> generation.get() == loadedGeneration ? loaded : previous);
+        return loaded.monthly();
+    }
+
+    /**
+     * 데이터 변경 커밋 후 해당 회원의 키 제거 (연도 미지정 변경은 모든 연도)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEmissionDataChanged(EmissionDataChangedEvent event) {
+        generation.incrementAndGet();
+        vectors.keySet().removeIf(key -> key.memberId().equals(event.getMemberId())
+                && (event.getReportingYear() == null || key.year().equals(event.getReportingYear())));
+    }
+
+    private BigDecimal[] load(Long memberId, Integer year, String companyId) {
+        BigDecimal[] monthly = new BigDecimal[12];
+        Arrays.fill(monthly, BigDecimal.ZERO);
+
+        List<Object[]> rows = stationaryCombustionRepository.findMonthlyEmissionSummary(memberId, year, companyId);
+        for (Object[] row : rows) {
+            Integer month = (Integer) row[0];
+            if (month != null && month >= 1 && month <= 12 && row[1] != null) {
+                monthly[month - 1] = (BigDecimal) row[1];
+            }
+        }
+        log.debug("월별 배출량 벡터 적재 - 회원: {}, 연도: {}, 협력사: {}", memberId, year, companyId);
+        return monthly;
+    }
+
+    private record Entry(BigDecimal[] monthly, long loadedAt) {
+    }
+
+    private record Key(Long memberId, Integer year, String companyId) {
+        private Key {
+            Objects.requireNonNull(memberId, "memberId");
+            Objects.requireNonNull(year, "year");
+        }
+    }
+}
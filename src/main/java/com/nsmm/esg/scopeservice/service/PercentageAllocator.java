@@ -0,0 +1,58 @@
+package com.nsmm.esg.scopeservice.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 구성비 배분 (최대 잔여 방식)
+ * 각 값의 비율을 소수 둘째 자리까지 내림한 뒤, 남은 0.01%p 단위를 잔여가 큰 순서(같으면 앞 순서)로 나눠
+ * 반올림 오차 없이 합계가 정확히 100.00이 되도록 합니다.
+ */
+public final class PercentageAllocator {
+
+    private static final int SCALE = 2;
+    private static final BigDecimal TOTAL_UNITS = BigDecimal.valueOf(10_000); // 100.00% = 10000 단위
+
+    private PercentageAllocator() {
+    }
+
+    public static List<BigDecimal> allocate(List<BigDecimal> values) {
+        BigDecimal total = values.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+        List<BigDecimal> result = new ArrayList<>(values.size());
+        if (total.signum() <= 0) {
+            values.forEach(v -> result.add(BigDecimal.ZERO.setScale(SCALE)));
+            return result;
+        }
+
+        long[] units = new long[values.size()];
+        BigDecimal[] remainders = new BigDecimal[values.size()];
+        long allocated = 0;
+        for (int i = 0; i < values.size(); i++) {
+            BigDecimal exact = values.get(i).multiply(TOTAL_UNITS).divide(total, 10, RoundingMode.HALF_UP);
+            BigDecimal floor = exact.setScale(0, RoundingMode.FLOOR);
+            units[i] = floor.longValue();
+            remainders[i] = exact.subtract(floor);
+            allocated += units[i];
+        }
+
+        long leftover = TOTAL_UNITS.longValue() - allocated;
+        int[] order = IntStream.range(0, values.size())
+                .boxed()
+                .sorted(Comparator.comparing((Integer i) -> remainders[i]).reversed()
+                        .thenComparing(Comparator.naturalOrder()))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        for (int k = 0; k < leftover && k < order.length; k++) {
+            units[order[k]]++;
+        }
+
+        for (long unit : units) {
+            result.add(BigDecimal.valueOf(unit, SCALE));
+        }
+        return result;
+    }
+}
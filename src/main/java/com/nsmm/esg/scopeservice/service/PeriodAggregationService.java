@@ -0,0 +1,174 @@
+package com.nsmm.esg.scopeservice.service;
+
+import com.nsmm.esg.scopeservice.dto.PeriodEmissionResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기간별 배출량 집계 서비스
+ * 모든 기간 집계는 MonthlyEmissionCache의 12칸 월별 벡터를 접어서 계산하므로 추가 SQL이 필요 없습니다.
+ * 연도 경계를 넘는 기간(회계연도, 최근 12개월)은 두 연도의 벡터를 이어 붙여 계산합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PeriodAggregationService {
+
+    public static final String QUARTERLY = "QUARTERLY";
+    public static final String HALF_YEARLY = "HALF_YEARLY";
+    public static final String YEARLY = "YEARLY";
+    public static final String FISCAL_YEAR = "FISCAL_YEAR";
+    public static final String ROLLING_12 = "ROLLING_12";
+
+    private final MonthlyEmissionCache monthlyEmissionCache;
+
+    @Value("${scope.period.fiscal-year-start-month:1}")
+    private int defaultFiscalYearStartMonth;
+
+    /**
+     * 기간별 배출량 집계 (GET /summary/period)
+     *
+     * @param type             집계 유형 (QUARTERLY, HALF_YEARLY, YEARLY, FISCAL_YEAR, ROLLING_12)
+     * @param fiscalStartMonth 회계연도 시작 월 (FISCAL_YEAR, 미지정 시 설정값)
+     */
+    @Transactional(readOnly = true)
+    public PeriodEmissionResponse aggregate(Long memberId, Integer year, String companyId, String type,
+                                            Integer fiscalStartMonth) {
+        String aggregationType = type != null ? type.toUpperCase() : QUARTERLY;
+        Integer startMonth = null;
+
+        List<PeriodEmissionResponse.Period> periods;
+        BigDecimal total;
+        switch (aggregationType) {
+            case QUARTERLY -> periods = fold(calendarWindow(memberId, year, companyId), year, 1, 3, year + "-Q");
+            case HALF_YEARLY -> periods = fold(calendarWindow(memberId, year, companyId), year, 1, 6, year + "-H");
+            case YEARLY -> periods = fold(calendarWindow(memberId, year, companyId), year, 1, 12, String.valueOf(year));
+            case FISCAL_YEAR -> {
+                startMonth = validateMonth(fiscalStartMonth != null ? fiscalStartMonth : defaultFiscalYearStartMonth);
+                periods = fold(window(memberId, year, startMonth, companyId), year, startMonth, 3, "FY" + year + "-Q");
+            }
+            case ROLLING_12 -> periods = rolling12(memberId, year, companyId);
+            default -> throw new IllegalArgumentException("지원하지 않는 집계 유형입니다: " + type);
+        }
+
+        if (ROLLING_12.equals(aggregationType)) {
+            total = periods.get(periods.size() - 1).getEmission();
+        } else {
+            total = periods.stream().map(PeriodEmissionResponse.Period::getEmission).reduce(BigDecimal.ZERO, BigDecimal::add);
+        }
+
+        return PeriodEmissionResponse.builder()
+                .memberId(memberId)
+                .year(year)
+                .companyId(companyId)
+                .aggregationType(aggregationType)
+                .fiscalYearStartMonth(startMonth)
+                .periods(periods)
+                .totalEmission(total)
+                .unit("tCO2eq")
+                .calculatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    // =============================================================================
+    // 내부 유틸리티 메서드
+    // =============================================================================
+
+    private BigDecimal[] calendarWindow(Long memberId, Integer year, String companyId) {
+        return monthlyEmissionCache.get(memberId, year, companyId);
+    }
+
+    /**
+     * startYear년 startMonth월부터 12개월 창 (1월 시작이 아니면 다음 연도 벡터를 이어 붙임)
+     */
+    private BigDecimal[] window(Long memberId, int startYear, int startMonth, String companyId) {
+        BigDecimal[] first = monthlyEmissionCache.get(memberId, startYear, companyId);
+        if (startMonth == 1) {
+            return first;
+        }
+        BigDecimal[] second = monthlyEmissionCache.get(memberId, startYear + 1, companyId);
+
+        BigDecimal[] window = new BigDecimal[12];
+        int head = 12 - (startMonth - 1);
+        System.arraycopy(first, startMonth - 1, window, 0, head);
+        System.arraycopy(second, 0, window, head, 12 - head);
+        return window;
+    }
+
+    /**
+     * 12칸 창을 size개월 단위로 합산
+     */
+    private List<PeriodEmissionResponse.Period> fold(BigDecimal[] window, int startYear, int startMonth, int size,
+                                                     String labelPrefix) {
+        List<PeriodEmissionResponse.Period> periods = new ArrayList<>(12 / size);
+        for (int offset = 0; offset < 12; offset += size) {
+            BigDecimal sum = BigDecimal.ZERO;
+            for (int i = offset; i < offset + size; i++) {
+                sum = sum.add(window[i]);
+            }
+            int[] start = monthAt(startYear, startMonth, offset);
+            int[] end = monthAt(startYear, startMonth, offset + size - 1);
+            periods.add(PeriodEmissionResponse.Period.builder()
+                    .label(size == 12 ? labelPrefix : labelPrefix + (offset / size + 1))
+                    .startYear(start[0])
+                    .startMonth(start[1])
+                    .endYear(end[0])
+                    .endMonth(end[1])
+                    .emission(sum)
+                    .build());
+        }
+        return periods;
+    }
+
+    /**
+     * 해당 연도 각 월을 끝으로 하는 최근 12개월 합계 (전년도/당해 벡터 2개로 슬라이딩 합산)
+     */
+    private List<PeriodEmissionResponse.Period> rolling12(Long memberId, Integer year, String companyId) {
+        BigDecimal[] previous = monthlyEmissionCache.get(memberId, year - 1, companyId);
+        BigDecimal[] current = monthlyEmissionCache.get(memberId, year, companyId);
+
+        // 전년도 12월을 끝으로 하는 합계에서 시작해 한 달씩 밀면서 더하고 뺌
+        BigDecimal sum = BigDecimal.ZERO;
+        for (BigDecimal value : previous) {
+            sum = sum.add(value);
+        }
+
+        List<PeriodEmissionResponse.Period> periods = new ArrayList<>(12);
+        for (int month = 1; month <= 12; month++) {
+            sum = sum.add(current[month - 1]).subtract(previous[month - 1]);
+            int[] start = monthAt(year, month, -11);
+            periods.add(PeriodEmissionResponse.Period.builder()
+                    .label(String.format("R12-%d-%02d", year, month))
+                    .startYear(start[0])
+                    .startMonth(start[1])
+                    .endYear(year)
+                    .endMonth(month)
+                    .emission(sum)
+                    .build());
+        }
+        return periods;
+    }
+
+    /**
+     * (year, month)에서 offset개월 이동한 {연도, 월}
+     */
+    private int[] monthAt(int year, int month, int offset) {
+        int index = year * 12 + (month - 1) + offset;
+        return new int[]{Math.floorDiv(index, 12), Math.floorMod(index, 12) + 1};
+    }
+
+    private int validateMonth(int month) {
+        if (month < 1 || month > 12) {
+            throw new IllegalArgumentException("회계연도 시작 월은 1~12 사이여야 합니다.");
+        }
+        return month;
+    }
+}
@@ -0,0 +1,124 @@
+package com.nsmm.esg.scopeservice.service;
+
+import com.nsmm.esg.scopeservice.dto.ScopeEmissionSummaryResponse;
+import com.nsmm.esg.scopeservice.repository.ReactiveStationaryCombustionSummaryRepository;
+import com.nsmm.esg.scopeservice.repository.ReactiveStationaryCombustionSummaryRepository.GroupColumn;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Scope 1 고정연소 집계 리액티브 서비스
+ * StationaryCombustionService의 집계 메서드와 같은 응답 형식을 논블로킹으로 제공합니다.
+ * 연료별 집계는 MVC와 같은 연료 구성비 집계(EmissionBreakdownService)를 거쳐 연료 ID 기준으로 묶고 이름/카테고리/구성비를 채웁니다.
+ * 대시보드 통계는 4개 집계를 동시에 조회해 합칩니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "scope.reactive-read", name = "enabled", havingValue = "true")
+public class ReactiveStationaryCombustionSummaryService {
+
+    private final ReactiveStationaryCombustionSummaryRepository summaryRepository;
+    private final EmissionBreakdownService emissionBreakdownService;
+
+    /**
+     * 월별 배출량 집계
+     */
+    public Mono<List<ScopeEmissionSummaryResponse>> getMonthlyEmissionSummary(Long memberId, Integer year, String companyId) {
+        return summaryRepository.findMonthlyEmissionSummary(memberId, year, companyId)
+                .map(entry -> ScopeEmissionSummaryResponse.builder()
+                        .memberId(memberId)
+                        .year(year)
+                        .month(entry.getKey())
+                        .companyId(companyId)
+                        .aggregationType("MONTHLY")
+                        .totalEmission(entry.getValue())
+                        .unit("tCO2eq")
+                        .calculatedAt(LocalDateTime.now())
+                        .build())
+                .collectList();
+    }
+
+    /**
+     * 연료별 배출량 집계
+     */
+    public Mono<List<ScopeEmissionSummaryResponse>> getEmissionSummaryByFuel(Long memberId, Integer year, String companyId) {
+        return summaryRepository.findFuelUsageAndEmission(memberId, year, companyId)
+                .collectList()
+                // 연료 카탈로그는 처음 한 번 DB에서 적재하므로 블로킹 가능한 스케줄러에서 집계
+                .publishOn(Schedulers.boundedElastic())
+                .map(rows -> emissionBreakdownService.toFuelSummaries(
+                        emissionBreakdownService.fold(memberId, year, companyId, rows)));
+    }
+
+    /**
+     * 시설별 배출량 집계
+     */
+    public Mono<List<ScopeEmissionSummaryResponse>> getEmissionSummaryByFacility(Long memberId, Integer year, String companyId) {
+        return groupedSummary(GroupColumn.FACILITY, "BY_FACILITY", memberId, year, companyId);
+    }
+
+    /**
+     * 협력사별 배출량 집계
+     */
+    public Mono<List<ScopeEmissionSummaryResponse>> getEmissionSummaryByPartner(Long memberId, Integer year) {
+        return summaryRepository.findEmissionSummaryBy(GroupColumn.PARTNER, memberId, year, null)
+                .map(entry -> ScopeEmissionSummaryResponse.builder()
+                        .memberId(memberId)
+                        .year(year)
+                        .companyId(entry.getKey())
+                        .aggregationType("BY_PARTNER")
+                        .totalEmission(entry.getValue())
+                        .unit("tCO2eq")
+                        .calculatedAt(LocalDateTime.now())
+                        .build())
+                .collectList();
+    }
+
+    /**
+     * 연도별 총 배출량
+     */
+    public Mono<BigDecimal> getTotalEmissionByYear(Long memberId, Integer year, String companyId) {
+        return summaryRepository.getTotalEmission(memberId, year, companyId);
+    }
+
+    /**
+     * 대시보드용 통계 (4개 집계 동시 조회)
+     */
+    public Mono<Map<String, Object>> getDashboardStats(Long memberId, Integer year) {
+        return Mono.zip(
+                        getTotalEmissionByYear(memberId, year, null),
+                        getMonthlyEmissionSummary(memberId, year, null),
+                        getEmissionSummaryByFuel(memberId, year, null),
+                        getEmissionSummaryByFacility(memberId, year, null))
+                .map(tuple -> Map.<String, Object>of(
+                        "totalEmission", tuple.getT1(),
+                        "monthlyEmissions", tuple.getT2(),
+                        "fuelTypeBreakdown", tuple.getT3(),
+                        "facilityBreakdown", tuple.getT4()));
+    }
+
+    private Mono<List<ScopeEmissionSummaryResponse>> groupedSummary(GroupColumn column, String aggregationType,
+                                                                    Long memberId, Integer year, String companyId) {
+        return summaryRepository.findEmissionSummaryBy(column, memberId, year, companyId)
+                .map(entry -> ScopeEmissionSummaryResponse.builder()
+                        .memberId(memberId)
+                        .year(year)
+                        .companyId(companyId)
+                        .aggregationType(aggregationType)
+                        .totalEmission(entry.getValue())
+                        .unit("tCO2eq")
+                        .calculatedAt(LocalDateTime.now())
+                        .build())
+                .collectList();
+    }
+}
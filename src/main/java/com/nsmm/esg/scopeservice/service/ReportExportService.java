@@ -0,0 +1,400 @@
+package com.nsmm.esg.scopeservice.service;
+
+import com.nsmm.esg.scopeservice.config.MemberContext;
+import com.nsmm.esg.scopeservice.entity.ElectricityUsage;
+import com.nsmm.esg.scopeservice.entity.MobileCombustion;
+import com.nsmm.esg.scopeservice.entity.StationaryCombustion;
+import com.nsmm.esg.scopeservice.entity.SteamUsage;
+import com.nsmm.esg.scopeservice.repository.ElectricityUsageRepository;
+import com.nsmm.esg.scopeservice.repository.MobileCombustionRepository;
+import com.nsmm.esg.scopeservice.repository.StationaryCombustionRepository;
+import com.nsmm.esg.scopeservice.repository.SteamUsageRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.DataFormat;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 배출량 보고서 내보내기 서비스 (CSV / XLSX)
+ * 네 개의 활동 데이터 테이블을 행 단위 스트림으로 읽어 바로 출력 스트림에 쓰고,
+ * 쓴 엔티티는 즉시 영속성 컨텍스트에서 분리하므로 행 수와 관계없이 메모리 사용량이 일정합니다.
+ * 배출원별/Scope별 소계와 총계는 쓰는 동안 누적해 각 구간 끝에 기록합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReportExportService {
+
+    public static final String CSV = "csv";
+    public static final String XLSX = "xlsx";
+
+    // SXSSF가 메모리에 유지하는 행 수 (초과분은 임시 파일로 내려감)
+    private static final int XLSX_ROW_WINDOW = 100;
+
+    // 시트당 최대 행 수 (1,048,576행, 초과 시 다음 시트로 넘어감)
+    static final int XLSX_MAX_ROWS_PER_SHEET = SpreadsheetVersion.EXCEL2007.getMaxRows();
+
+    // 엑셀 숫자 셀(double)이 손실 없이 담을 수 있는 유효 자릿수
+    private static final int XLSX_MAX_NUMERIC_PRECISION = 15;
+
+    private static final String[] HEADER = {
+            "구분", "배출원", "ID", "협력사 ID", "보고 연도", "보고 월", "시설/차량", "연료/유형",
+            "사용량", "단위", "CO2 (tCO2)", "CH4 (tCO2eq)", "N2O (tCO2eq)", "총 배출량 (tCO2eq)"
+    };
+
+    private final StationaryCombustionRepository stationaryCombustionRepository;
+    private final MobileCombustionRepository mobileCombustionRepository;
+    private final ElectricityUsageRepository electricityUsageRepository;
+    private final SteamUsageRepository steamUsageRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 내보내기 형식 검증 (스트리밍 시작 전에 호출해 400으로 응답할 수 있도록 함)
+     */
+    public String validateFormat(String format) {
+        String normalized = format != null ? format.toLowerCase() : CSV;
+        if (!CSV.equals(normalized) && !XLSX.equals(normalized)) {
+            throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + format);
+        }
+        return normalized;
+    }
+
+    public String contentTypeOf(String format) {
+        return XLSX.equals(format)
+                ? "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"
+                : "text/csv; charset=UTF-8";
+    }
+
+    public String fileNameOf(Integer year, String companyId, String format) {
+        return "ghg-inventory-" + year + (companyId != null ? "-" + companyId : "") + "." + format;
+    }
+
+    /**
+     * 보고서를 출력 스트림에 기록
+     * 요청 스레드 밖(비동기 응답 스레드)에서 호출되므로 회원 컨텍스트와 읽기 전용 트랜잭션을 직접 엽니다.
+     */
+    public void export(Long memberId, Integer year, String companyId, String format, OutputStream out) throws IOException {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnly.setReadOnly(true);
+
+        long startedAt = System.currentTimeMillis();
+        try {
+            long rows = MemberContext.callAs(memberId, () -> readOnly.execute(status -> {
+                try (ReportWriter writer = XLSX.equals(format)
+                        ? new XlsxReportWriter(out, HEADER, XLSX_MAX_ROWS_PER_SHEET)
+                        : new CsvReportWriter(out)) {
+                    long written = writeReport(writer, memberId, year, companyId);
+                    writer.finish();
+                    return written;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }));
+            log.info("배출량 보고서 내보내기 완료 - 회원: {}, 연도: {}, 형식: {}, 행 수: {}, 소요: {}ms",
+                    memberId, year, format, rows, System.currentTimeMillis() - startedAt);
+        } catch (UncheckedIOException e) {
+            log.warn("배출량 보고서 내보내기 중단 - 회원: {}, 연도: {}, 오류: {}", memberId, year, e.getMessage());
+            throw e.getCause();
+        }
+    }
+
+    // =============================================================================
+    // 보고서 구성
+    // =============================================================================
+
+    private long writeReport(ReportWriter writer, Long memberId, Integer year, String companyId) throws IOException {
+        Counter counter = new Counter();
+        writer.write(true, (Object[]) HEADER);
+
+        BigDecimal scope1 = writeSection(writer, counter, "Scope 1", "고정연소",
+                stationaryCombustionRepository.streamForExport(memberId, year, companyId),
+                this::toRow, StationaryCombustion::getTotalCo2Equivalent)
+                .add(writeSection(writer, counter, "Scope 1", "이동연소",
+                        mobileCombustionRepository.streamForExport(memberId, year, companyId),
+                        this::toRow, MobileCombustion::getTotalCo2Equivalent));
+        writer.write(true, subtotalRow("Scope 1", "Scope 1 합계", scope1));
+
+        BigDecimal scope2 = writeSection(writer, counter, "Scope 2", "전력",
+                electricityUsageRepository.streamForExport(memberId, year, companyId),
+                this::toRow, ElectricityUsage::getTotalCo2Equivalent)
+                .add(writeSection(writer, counter, "Scope 2", "스팀",
+                        steamUsageRepository.streamForExport(memberId, year, companyId),
+                        this::toRow, SteamUsage::getTotalCo2Equivalent));
+        writer.write(true, subtotalRow("Scope 2", "Scope 2 합계", scope2));
+
+        writer.write(true, subtotalRow("전체", "총계", scope1.add(scope2)));
+        return counter.rows;
+    }
+
+    /**
+     * 한 배출원의 행을 스트림으로 쓰고 소계 행을 추가한 뒤 소계를 반환
+     */
+    private <T> BigDecimal writeSection(ReportWriter writer, Counter counter, String scope, String source,
+                                        Stream<T> rows, Function<T, Object[]> mapper,
+                                        Function<T, BigDecimal> emission) throws IOException {
+        BigDecimal subtotal = BigDecimal.ZERO;
+        try (Stream<T> stream = rows) {
+            Iterator<T> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                T entity = iterator.next();
+                writer.write(false, mapper.apply(entity));
+                BigDecimal value = emission.apply(entity);
+                if (value != null) {
+                    subtotal = subtotal.add(value);
+                }
+                entityManager.detach(entity);
+                counter.rows++;
+            }
+        }
+        writer.write(true, subtotalRow(scope, source + " 소계", subtotal));
+        return subtotal;
+    }
+
+    private Object[] subtotalRow(String scope, String label, BigDecimal total) {
+        Object[] row = new Object[HEADER.length];
+        row[0] = scope;
+        row[1] = label;
+        row[HEADER.length - 1] = total;
+        return row;
+    }
+
+    private Object[] toRow(StationaryCombustion sc) {
+        return new Object[]{"Scope 1", "고정연소", sc.getId(), sc.getCompanyId(), sc.getReportingYear(),
+                sc.getReportingMonth(), sc.getFacilityName(), sc.getFuelName() != null ? sc.getFuelName() : sc.getFuelId(),
+                sc.getFuelUsage(), sc.getUnit(), sc.getCo2Emission(), sc.getCh4Emission(), sc.getN2oEmission(),
+                sc.getTotalCo2Equivalent()};
+    }
+
+    private Object[] toRow(MobileCombustion mc) {
+        return new Object[]{"Scope 1", "이동연소", mc.getId(), mc.getCompanyId(), mc.getReportingYear(),
+                mc.getReportingMonth(), mc.getVehicleType(), mc.getFuelName() != null ? mc.getFuelName() : mc.getFuelId(),
+                mc.getFuelUsage(), mc.getUnit(), mc.getCo2Emission(), mc.getCh4Emission(), mc.getN2oEmission(),
+                mc.getTotalCo2Equivalent()};
+    }
+
+    private Object[] toRow(ElectricityUsage eu) {
+        String type = Boolean.TRUE.equals(eu.getIsRenewable())
+                ? (eu.getRenewableType() != null ? eu.getRenewableType() : "재생에너지")
+                : "일반 전력";
+        return new Object[]{"Scope 2", "전력", eu.getId(), eu.getCompanyId(), eu.getReportingYear(),
+                eu.getReportingMonth(), eu.getFacilityName(), type, eu.getElectricityUsage(), eu.getUnit(),
+                eu.getCo2Emission(), null, null, eu.getTotalCo2Equivalent()};
+    }
+
+    private Object[] toRow(SteamUsage su) {
+        return new Object[]{"Scope 2", "스팀", su.getId(), su.getCompanyId(), su.getReportingYear(),
+                su.getReportingMonth(), su.getFacilityName(), su.getSteamType(), su.getSteamUsage(), su.getUnit(),
+                su.getCo2Emission(), null, null, su.getTotalCo2Equivalent()};
+    }
+
+    private static final class Counter {
+        private long rows;
+    }
+
+    // =============================================================================
+    // 출력 형식
+    // =============================================================================
+
+    /**
+     * 행 단위 출력기 (finish()를 호출해야 완성본이 기록되며, close()는 자원만 정리)
+     */
+    interface ReportWriter extends Closeable {
+        void write(boolean emphasis, Object... cells) throws IOException;
+
+        void finish() throws IOException;
+    }
+
+    /**
+     * CSV (UTF-8 BOM 포함, 엑셀에서 한글이 깨지지 않도록 함)
+     * 시설명/비고 등 사용자 입력이 =, +, -, @로 시작하면 엑셀이 수식으로 실행하지 않도록 '를 앞에 붙입니다.
+     */
+    static final class CsvReportWriter implements ReportWriter {
+        private final Writer writer;
+
+        CsvReportWriter(OutputStream out) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+            writer.write('\uFEFF');
+        }
+
+        @Override
+        public void write(boolean emphasis, Object... cells) throws IOException {
+            for (int i = 0; i < cells.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(escape(cells[i]));
+            }
+            writer.write("\r\n");
+        }
+
+        private String escape(Object value) {
+            if (value == null) {
+                return "";
+            }
+            String text;
+            if (value instanceof BigDecimal decimal) {
+                text = decimal.toPlainString();
+            } else if (value instanceof Number) {
+                text = value.toString();
+            } else {
+                text = neutralizeFormula(value.toString());
+            }
+            if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+                return '"' + text.replace("\"", "\"\"") + '"';
+            }
+            return text;
+        }
+
+        /**
+         * 수식으로 해석될 수 있는 텍스트 셀 앞에 ' 추가 (숫자 셀은 음수 부호를 그대로 둠)
+         */
+        private static String neutralizeFormula(String text) {
+            if (text.isEmpty()) {
+                return text;
+            }
+            char first = text.charAt(0);
+            if (first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r') {
+                return "'" + text;
+            }
+            return text;
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+        }
+
+        @Override
+        public void close() {
+            // 응답 스트림은 컨테이너가 닫음
+        }
+    }
+
+    /**
+     * XLSX (SXSSF 행 윈도우 방식, 윈도우를 벗어난 행은 압축된 임시 파일로 내려감)
+     * 시트 최대 행 수에 도달하면 헤더를 반복한 새 시트로 넘어갑니다.
+     * 금액은 유효 자릿수 15자리 이내면 소수 자릿수 서식을 붙인 숫자 셀로, 넘으면 자릿수 손실이 없도록 텍스트 셀로 씁니다.
+     */
+    static final class XlsxReportWriter implements ReportWriter {
+        private static final String SHEET_NAME = "배출량 보고서";
+
+        private final OutputStream out;
+        private final SXSSFWorkbook workbook;
+        private final Object[] header;
+        private final int maxRowsPerSheet;
+        private final Font bold;
+        private final DataFormat dataFormat;
+        // (소수 자릿수, 강조 여부)별 셀 스타일 (워크북 스타일 수 제한이 있어 재사용)
+        private final Map<Integer, CellStyle> styles = new HashMap<>();
+        private SXSSFSheet sheet;
+        private int sheetCount = 0;
+        private int rowIndex = 0;
+
+        XlsxReportWriter(OutputStream out, Object[] header, int maxRowsPerSheet) {
+            this.out = out;
+            this.header = header;
+            this.maxRowsPerSheet = maxRowsPerSheet;
+            this.workbook = new SXSSFWorkbook(XLSX_ROW_WINDOW);
+            this.workbook.setCompressTempFiles(true);
+            this.bold = workbook.createFont();
+            this.bold.setBold(true);
+            this.dataFormat = workbook.createDataFormat();
+            nextSheet();
+        }
+
+        @Override
+        public void write(boolean emphasis, Object... cells) {
+            if (rowIndex >= maxRowsPerSheet) {
+                nextSheet();
+                writeRow(true, header);
+            }
+            writeRow(emphasis, cells);
+        }
+
+        private void nextSheet() {
+            sheetCount++;
+            sheet = workbook.createSheet(sheetCount == 1 ? SHEET_NAME : SHEET_NAME + " (" + sheetCount + ")");
+            rowIndex = 0;
+        }
+
+        private void writeRow(boolean emphasis, Object[] cells) {
+            Row row = sheet.createRow(rowIndex++);
+            for (int i = 0; i < cells.length; i++) {
+                Object value = cells[i];
+                if (value == null) {
+                    continue;
+                }
+                Cell cell = row.createCell(i);
+                CellStyle style = emphasis ? style(-1, true) : null;
+                if (value instanceof BigDecimal decimal) {
+                    if (decimal.stripTrailingZeros().precision() <= XLSX_MAX_NUMERIC_PRECISION) {
+                        cell.setCellValue(decimal.doubleValue());
+                        style = style(Math.max(decimal.scale(), 0), emphasis);
+                    } else {
+                        cell.setCellValue(decimal.toPlainString());
+                    }
+                } else if (value instanceof Number number) {
+                    cell.setCellValue(number.doubleValue());
+                } else {
+                    cell.setCellValue(value.toString());
+                }
+                if (style != null) {
+                    cell.setCellStyle(style);
+                }
+            }
+        }
+
+        /**
+         * 소수 자릿수(-1이면 숫자 서식 없음)와 강조 여부에 맞는 셀 스타일
+         */
+        private CellStyle style(int scale, boolean emphasis) {
+            return styles.computeIfAbsent(scale * 2 + (emphasis ? 1 : 0), key -> {
+                CellStyle style = workbook.createCellStyle();
+                if (scale >= 0) {
+                    style.setDataFormat(dataFormat.getFormat(scale == 0 ? "0" : "0." + "0".repeat(scale)));
+                }
+                if (emphasis) {
+                    style.setFont(bold);
+                }
+                return style;
+            });
+        }
+
+        @Override
+        public void finish() throws IOException {
+            workbook.write(out);
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            // 임시 파일까지 정리 (응답 스트림은 닫지 않음)
+            workbook.close();
+        }
+    }
+}
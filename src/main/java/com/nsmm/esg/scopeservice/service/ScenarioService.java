@@ -0,0 +1,438 @@
+package com.nsmm.esg.scopeservice.service;
+
+import com.nsmm.esg.scopeservice.dto.ScenarioRequest;
+import com.nsmm.esg.scopeservice.dto.ScenarioResponse;
+import com.nsmm.esg.scopeservice.repository.StationaryCombustionRepository;
+import com.nsmm.esg.scopeservice.service.EmissionCalculationService.StationaryFactors;
+import com.nsmm.esg.scopeservice.service.EmissionCalculationService.UnitCoefficients;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 배출량 시나리오(What-if) 계산 서비스
+ * 기준 연도 활동량을 연료-단위-시설-협력사 조합별 합계로 한 번 조회해 사전 인코딩된 int[]/double[] 벡터로 만들고,
+ * 규칙(배율 조정, 에너지 등가 연료 전환)을 벡터에 순서대로 적용한 뒤 청크 단위로 병렬 재계산합니다.
+ * 배출량은 사용량에 비례하므로 연료-단위 조합마다 단위당 계수를 한 번만 구하고, 행 계산은 곱셈만 수행합니다.
+ * 결과는 저장하지 않습니다.
+ */
+@Service
+@Slf4j
+public class ScenarioService implements DisposableBean {
+
+    public static final String SCALE = "SCALE";
+    public static final String SUBSTITUTE = "SUBSTITUTE";
+
+    private static final int CHUNK_SIZE = 16_384;
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private final StationaryCombustionRepository stationaryCombustionRepository;
+    private final EmissionCalculationService emissionCalculationService;
+    private final FactorSetSnapshotService factorSetSnapshotService;
+    private final FuelTypeCatalog fuelTypeCatalog;
+    private final UnitConversionService unitConversionService;
+    private final ExecutorService evaluationExecutor;
+
+    public ScenarioService(StationaryCombustionRepository stationaryCombustionRepository,
+                           EmissionCalculationService emissionCalculationService,
+                           FactorSetSnapshotService factorSetSnapshotService,
+                           FuelTypeCatalog fuelTypeCatalog,
+                           UnitConversionService unitConversionService,
+                           @Value("${scope.scenario.parallelism:4}") int parallelism) {
+        this.stationaryCombustionRepository = stationaryCombustionRepository;
+        this.emissionCalculationService = emissionCalculationService;
+        this.factorSetSnapshotService = factorSetSnapshotService;
+        this.fuelTypeCatalog = fuelTypeCatalog;
+        this.unitConversionService = unitConversionService;
+        this.evaluationExecutor = Executors.newFixedThreadPool(Math.max(1, parallelism), runnable -> {
+            Thread thread = new Thread(runnable, "scenario-eval");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 시나리오 계산 (POST /scenarios/evaluate)
+     */
+    @Transactional(readOnly = true)
+    public ScenarioResponse evaluate(Long memberId, ScenarioRequest request) {
+        long started = System.nanoTime();
+        List<ScenarioRequest.Rule> rules = request.getRules() != null ? request.getRules() : List.of();
+        validateRules(rules);
+
+        int factorYear = request.getFactorYear() != null ? request.getFactorYear() : request.getBaseYear();
+        FactorSetSnapshotService.CurrentFactorSet factorSet = factorSetSnapshotService.current();
+        int factorSetId = factorSet.id();
+        Kernel kernel = new Kernel(factorSet.table(), factorYear);
+
+        // 1. 기준 활동 벡터 (사전 인코딩)
+        List<Object[]> rows = stationaryCombustionRepository.findScenarioActivity(
+                memberId, request.getBaseYear(), request.getCompanyId());
+        ActivityVector vector = new ActivityVector(Math.max(16, rows.size()));
+        BigDecimal storedEmission = BigDecimal.ZERO;
+        for (Object[] row : rows) {
+            String fuelId = (String) row[0];
+            vector.add(kernel.fuelUnitIndex(fuelId, (String) row[1]), vector.fuels.indexOf(fuelId),
+                    vector.facilities.indexOf((String) row[2]), vector.partners.indexOf((String) row[3]),
+                    row[4] != null ? ((BigDecimal) row[4]).doubleValue() : 0.0);
+            if (row[5] != null) {
+                storedEmission = storedEmission.add((BigDecimal) row[5]);
+            }
+        }
+        int baseSize = vector.size;
+        double[] baselineUsage = Arrays.copyOf(vector.usage, baseSize);
+
+        // 2. 규칙 적용 (순서대로, 앞 규칙의 결과에 다음 규칙 적용)
+        List<ScenarioResponse.RuleResult> ruleResults = new ArrayList<>(rules.size());
+        for (int r = 0; r < rules.size(); r++) {
+            ruleResults.add(applyRule(r, rules.get(r), vector, kernel));
+        }
+
+        // 3. 기준 / 시나리오 병렬 재계산
+        double[] coefficients = kernel.emissionCoefficients();
+        Totals baseline = evaluateParallel(vector, baselineUsage, baseSize, coefficients);
+        Totals scenario = evaluateParallel(vector, vector.usage, vector.size, coefficients);
+
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        log.info("시나리오 계산 완료 - 회원: {}, 기준 연도: {}, 규칙: {}개, 조합: {} → {}, 소요: {}ms",
+                memberId, request.getBaseYear(), rules.size(), baseSize, vector.size, elapsedMillis);
+
+        BigDecimal baselineTotal = toDecimal(baseline.total);
+        BigDecimal scenarioTotal = toDecimal(scenario.total);
+        return ScenarioResponse.builder()
+                .memberId(memberId)
+                .baseYear(request.getBaseYear())
+                .factorYear(factorYear)
+                .companyId(request.getCompanyId())
+                .factorSetId(factorSetId)
+                .activityGroups(baseSize)
+                .scenarioGroups(vector.size)
+                .storedEmission(storedEmission)
+                .baselineEmission(baselineTotal)
+                .scenarioEmission(scenarioTotal)
+                .delta(scenarioTotal.subtract(baselineTotal))
+                .changePercent(changePercent(baselineTotal, scenarioTotal))
+                .byFuel(deltas(vector.fuels, baseline.byFuel, scenario.byFuel))
+                .byFacility(deltas(vector.facilities, baseline.byFacility, scenario.byFacility))
+                .byPartner(deltas(vector.partners, baseline.byPartner, scenario.byPartner))
+                .rules(ruleResults)
+                .unit("tCO2eq")
+                .elapsedMillis(elapsedMillis)
+                .calculatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Override
+    public void destroy() {
+        evaluationExecutor.shutdownNow();
+    }
+
+    // =============================================================================
+    // 규칙 적용
+    // =============================================================================
+
+    private void validateRules(List<ScenarioRequest.Rule> rules) {
+        for (int r = 0; r < rules.size(); r++) {
+            ScenarioRequest.Rule rule = rules.get(r);
+            String type = rule.getType() != null ? rule.getType().toUpperCase() : "";
+            if (!SCALE.equals(type) && !SUBSTITUTE.equals(type)) {
+                throw new IllegalArgumentException("지원하지 않는 규칙 유형입니다 (rules[" + r + "]): " + rule.getType());
+            }
+            if (SUBSTITUTE.equals(type)) {
+                if (rule.getFuelId() == null || rule.getTargetFuelId() == null) {
+                    throw new IllegalArgumentException("연료 전환 규칙은 fuelId와 targetFuelId가 필요합니다 (rules[" + r + "])");
+                }
+                if (rule.getRatio().compareTo(BigDecimal.ONE) > 0) {
+                    throw new IllegalArgumentException("연료 전환 비율은 0 이상 1 이하여야 합니다 (rules[" + r + "])");
+                }
+            }
+        }
+    }
+
+    /**
+     * 규칙 하나를 벡터에 적용
+     * SUBSTITUTE는 대상 조합의 사용량 일부를 에너지(TJ) 기준으로 전환 연료 사용량(전환 연료의 기본 단위)으로 옮겨 새 조합을 추가합니다.
+     */
+    private ScenarioResponse.RuleResult applyRule(int index, ScenarioRequest.Rule rule, ActivityVector vector, Kernel kernel) {
+        String type = rule.getType().toUpperCase();
+        double ratio = rule.getRatio().doubleValue();
+        int fuel = rule.getFuelId() != null ? vector.fuels.find(rule.getFuelId()) : -1;
+        int facility = rule.getFacilityLocation() != null ? vector.facilities.find(rule.getFacilityLocation()) : -1;
+        int partner = rule.getCompanyId() != null ? vector.partners.find(rule.getCompanyId()) : -1;
+
+        int matched = 0;
+        double affectedEnergy = 0.0;
+        boolean unmatchable = (rule.getFuelId() != null && fuel < 0)
+                || (rule.getFacilityLocation() != null && facility < 0)
+                || (rule.getCompanyId() != null && partner < 0);
+
+        if (!unmatchable) {
+            int target = -1;
+            int targetFuel = -1;
+            double targetEnergy = 0.0;
+            if (SUBSTITUTE.equals(type)) {
+                FuelTypeCatalog.Entry entry = fuelTypeCatalog.get(rule.getTargetFuelId());
+                if (entry == null) {
+                    throw new IllegalArgumentException("전환 연료를 찾을 수 없습니다: " + rule.getTargetFuelId());
+                }
+                target = kernel.fuelUnitIndex(rule.getTargetFuelId(), entry.unit());
+                targetFuel = vector.fuels.indexOf(rule.getTargetFuelId());
+                targetEnergy = kernel.energyCoefficient(target);
+                if (targetEnergy <= 0.0) {
+                    throw new IllegalArgumentException("전환 연료의 발열량을 계산할 수 없습니다: " + rule.getTargetFuelId());
+                }
+            }
+
+            int size = vector.size; // 이 규칙이 추가한 조합에는 다시 적용하지 않음
+            for (int i = 0; i < size; i++) {
+                if ((fuel >= 0 && vector.fuel[i] != fuel)
+                        || (facility >= 0 && vector.facility[i] != facility)
+                        || (partner >= 0 && vector.partner[i] != partner)) {
+                    continue;
+                }
+                double energyPerUnit = kernel.energyCoefficient(vector.fuelUnit[i]);
+                if (SCALE.equals(type)) {
+                    double before = vector.usage[i];
+                    vector.usage[i] = before * ratio;
+                    affectedEnergy += Math.abs(vector.usage[i] - before) * energyPerUnit;
+                } else {
+                    double moved = vector.usage[i] * ratio;
+                    double energy = moved * energyPerUnit;
+                    vector.usage[i] -= moved;
+                    vector.add(target, targetFuel, vector.facility[i], vector.partner[i], energy / targetEnergy);
+                    affectedEnergy += energy;
+                }
+                matched++;
+            }
+        }
+
+        return ScenarioResponse.RuleResult.builder()
+                .index(index)
+                .type(type)
+                .matchedGroups(matched)
+                .affectedEnergy(BigDecimal.valueOf(affectedEnergy).setScale(6, RoundingMode.HALF_UP))
+                .build();
+    }
+
+    // =============================================================================
+    // 병렬 재계산
+    // =============================================================================
+
+    private Totals evaluateParallel(ActivityVector vector, double[] usage, int size, double[] coefficients) {
+        List<CompletableFuture<Totals>> futures = new ArrayList<>();
+        for (int from = 0; from < size; from += CHUNK_SIZE) {
+            int start = from;
+            int end = Math.min(size, from + CHUNK_SIZE);
+            futures.add(CompletableFuture.supplyAsync(
+                    () -> evaluateChunk(vector, usage, coefficients, start, end), evaluationExecutor));
+        }
+
+        Totals totals = new Totals(vector);
+        try {
+            for (CompletableFuture<Totals> future : futures) {
+                totals.merge(future.join());
+            }
+        } catch (CompletionException e) {
+            throw new RuntimeException("시나리오 계산 실패", e.getCause());
+        }
+        return totals;
+    }
+
+    private Totals evaluateChunk(ActivityVector vector, double[] usage, double[] coefficients, int from, int to) {
+        Totals totals = new Totals(vector);
+        for (int i = from; i < to; i++) {
+            double emission = usage[i] * coefficients[vector.fuelUnit[i]];
+            totals.total += emission;
+            totals.byFuel[vector.fuel[i]] += emission;
+            totals.byFacility[vector.facility[i]] += emission;
+            totals.byPartner[vector.partner[i]] += emission;
+        }
+        return totals;
+    }
+
+    // =============================================================================
+    // 내부 유틸리티 메서드
+    // =============================================================================
+
+    private List<ScenarioResponse.Delta> deltas(Dictionary dictionary, double[] baseline, double[] scenario) {
+        List<ScenarioResponse.Delta> result = new ArrayList<>(dictionary.size());
+        for (int i = 0; i < dictionary.size(); i++) {
+            BigDecimal base = toDecimal(baseline[i]);
+            BigDecimal next = toDecimal(scenario[i]);
+            result.add(ScenarioResponse.Delta.builder()
+                    .key(dictionary.values.get(i))
+                    .baseline(base)
+                    .scenario(next)
+                    .delta(next.subtract(base))
+                    .changePercent(changePercent(base, next))
+                    .build());
+        }
+        result.sort(Comparator.comparing((ScenarioResponse.Delta d) -> d.getDelta().abs()).reversed()
+                .thenComparing(ScenarioResponse.Delta::getKey, Comparator.nullsLast(Comparator.naturalOrder())));
+        return result;
+    }
+
+    private BigDecimal changePercent(BigDecimal baseline, BigDecimal scenario) {
+        if (baseline.signum() == 0) {
+            return null;
+        }
+        return scenario.subtract(baseline).multiply(HUNDRED).divide(baseline, 2, RoundingMode.HALF_UP);
+    }
+
+    private BigDecimal toDecimal(double value) {
+        return BigDecimal.valueOf(value).setScale(4, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 연료-단위 조합별 단위당 계수 (조합이 처음 나올 때 계산 커널로 한 번만 계산)
+     * 계수를 구할 수 없는 조합은 실시간 계산과 같이 배출량 0으로 처리합니다.
+     */
+    private final class Kernel {
+        private final FactorTable table;
+        private final int factorYear;
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private final List<UnitCoefficients> coefficients = new ArrayList<>();
+
+        private Kernel(FactorTable table, int factorYear) {
+            this.table = table;
+            this.factorYear = factorYear;
+        }
+
+        private int fuelUnitIndex(String fuelId, String unit) {
+            return indexes.computeIfAbsent(fuelId + "|" + unit, key -> {
+                coefficients.add(compute(fuelId, unit));
+                return coefficients.size() - 1;
+            });
+        }
+
+        private UnitCoefficients compute(String fuelId, String unit) {
+            StationaryFactors factors = table.resolve(fuelId, factorYear);
+            if (factors == null) {
+                return new UnitCoefficients(0.0, 0.0);
+            }
+            try {
+                return emissionCalculationService.stationaryUnitCoefficients(
+                        fuelId, unitConversionService.idOf(unit), factors);
+            } catch (RuntimeException e) {
+                log.debug("시나리오 계수 계산 불가, 0으로 처리 - 연료: {}, 단위: {}, 사유: {}", fuelId, unit, e.getMessage());
+                return new UnitCoefficients(0.0, 0.0);
+            }
+        }
+
+        private double energyCoefficient(int fuelUnit) {
+            return coefficients.get(fuelUnit).energy();
+        }
+
+        private double[] emissionCoefficients() {
+            double[] result = new double[coefficients.size()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = coefficients.get(i).emission();
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 문자열 차원값 ↔ 정수 코드 사전
+     */
+    private static final class Dictionary {
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        private int indexOf(String value) {
+            return codes.computeIfAbsent(Objects.toString(value, ""), key -> {
+                values.add(value);
+                return values.size() - 1;
+            });
+        }
+
+        private int find(String value) {
+            return codes.getOrDefault(value, -1);
+        }
+
+        private int size() {
+            return values.size();
+        }
+    }
+
+    /**
+     * 사전 인코딩된 활동 벡터 (같은 위치가 같은 조합, 연료 전환으로 조합이 추가되면 배열을 늘림)
+     */
+    private static final class ActivityVector {
+        private final Dictionary fuels = new Dictionary();
+        private final Dictionary facilities = new Dictionary();
+        private final Dictionary partners = new Dictionary();
+
+        private int[] fuelUnit;
+        private int[] fuel;
+        private int[] facility;
+        private int[] partner;
+        private double[] usage;
+        private int size = 0;
+
+        private ActivityVector(int capacity) {
+            this.fuelUnit = new int[capacity];
+            this.fuel = new int[capacity];
+            this.facility = new int[capacity];
+            this.partner = new int[capacity];
+            this.usage = new double[capacity];
+        }
+
+        private void add(int fuelUnitCode, int fuelCode, int facilityCode, int partnerCode, double value) {
+            if (size == usage.length) {
+                int capacity = usage.length * 2;
+                fuelUnit = Arrays.copyOf(fuelUnit, capacity);
+                fuel = Arrays.copyOf(fuel, capacity);
+                facility = Arrays.copyOf(facility, capacity);
+                partner = Arrays.copyOf(partner, capacity);
+                usage = Arrays.copyOf(usage, capacity);
+            }
+            fuelUnit[size] = fuelUnitCode;
+            fuel[size] = fuelCode;
+            facility[size] = facilityCode;
+            partner[size] = partnerCode;
+            usage[size] = value;
+            size++;
+        }
+    }
+
+    /**
+     * 차원별 배출량 누적 (청크별로 만들고 병합)
+     */
+    private static final class Totals {
+        private double total = 0.0;
+        private final double[] byFuel;
+        private final double[] byFacility;
+        private final double[] byPartner;
+
+        private Totals(ActivityVector vector) {
+            this.byFuel = new double[vector.fuels.size()];
+            this.byFacility = new double[vector.facilities.size()];
+            this.byPartner = new double[vector.partners.size()];
+        }
+
+        private void merge(Totals other) {
+            total += other.total;
+            for (int i = 0; i < byFuel.length; i++) byFuel[i] += other.byFuel[i];
+            for (int i = 0; i < byFacility.length; i++) byFacility[i] += other.byFacility[i];
+            for (int i = 0; i < byPartner.length; i++) byPartner[i] += other.byPartner[i];
+        }
+    }
+}
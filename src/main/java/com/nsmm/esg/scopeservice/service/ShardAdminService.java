@@ -0,0 +1,394 @@
+package com.nsmm.esg.scopeservice.service;
+
+import com.nsmm.esg.scopeservice.config.ShardDirectory;
+import com.nsmm.esg.scopeservice.config.ShardingProperties;
+import com.nsmm.esg.scopeservice.dto.ShardSummaryResponse;
+import com.nsmm.esg.scopeservice.entity.StationaryCombustion;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * 샤드 관리 서비스 (관리자용)
+ * 샤드 전체 집계는 샤드별 쿼리를 병렬로 실행해 합치고,
+ * 회원 이동은 이동 표시 → 복사 → 검증 → 디렉터리 전환 → 원본 삭제 순서로 온라인 처리합니다.
+ * 샤드마다 AUTO_INCREMENT가 따로이므로 id는 복사하지 않고 대상 샤드에서 새로 발급하며,
+ * 변경 로그의 활동 데이터 참조(entity_id)는 새 id로 바꿔 씁니다.
+ * 계수셋 스냅샷 번호도 샤드마다 따로 발급되므로, 활동 데이터의 factor_set_id는 내용 해시가 같은 대상 샤드의 스냅샷 번호로
+ * 바꿔 쓰고(없으면 대상 샤드에 등록) 그 번호가 들어간 입력값 지문도 다시 계산합니다.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(prefix = "scope.sharding", name = "enabled", havingValue = "true")
+public class ShardAdminService implements DisposableBean {
+
+    // 회원 데이터 테이블 (변경 로그가 참조하는 활동 데이터를 먼저 복사)
+    static final List<MemberTable> MEMBER_TABLES = List.of(
+            new MemberTable("stationary_combustion", true, EmissionChangeLogService.STATIONARY_COMBUSTION, true),
+            new MemberTable("mobile_combustion", true, null, false),
+            new MemberTable("electricity_usage", true, null, false),
+            new MemberTable("steam_usage", true, null, false),
+            new MemberTable("emission_baseline", true, null, false),
+            new MemberTable("idempotency_key", true, null, false),
+            new MemberTable("emission_change_log", true, null, false),
+            new MemberTable("emission_change_sequence", false, null, false));
+
+    private static final String CHANGE_LOG_TABLE = "emission_change_log";
+    private static final String SNAPSHOT_TABLE = "factor_set_snapshot";
+
+    private static final int COPY_BATCH_SIZE = 1_000;
+
+    private final ShardDirectory shardDirectory;
+    private final ExecutorService aggregationExecutor;
+
+    public ShardAdminService(ShardDirectory shardDirectory, ShardingProperties shardingProperties) {
+        this.shardDirectory = shardDirectory;
+        this.aggregationExecutor = Executors.newFixedThreadPool(Math.max(1, shardingProperties.getAggregationParallelism()));
+    }
+
+    // =============================================================================
+    // 샤드 전체 집계
+    // =============================================================================
+
+    /**
+     * 연도별 고정연소 배출량 샤드 전체 집계 (샤드별 병렬 실행)
+     */
+    public ShardSummaryResponse aggregateStationaryEmissionByYear(Integer year) {
+        List<CompletableFuture<ShardSummaryResponse.ShardTotal>> futures = shardDirectory.shardKeys().stream()
+                .map(shardKey -> CompletableFuture.supplyAsync(() -> aggregateShard(shardKey, year), aggregationExecutor))
+                .collect(Collectors.toList());
+
+        try {
+            List<ShardSummaryResponse.ShardTotal> totals = futures.stream()
+                    .map(CompletableFuture::join)
+                    .collect(Collectors.toList());
+
+            return ShardSummaryResponse.builder()
+                    .year(year)
+                    .shards(totals)
+                    .totalMemberCount(totals.stream().mapToLong(ShardSummaryResponse.ShardTotal::getMemberCount).sum())
+                    .totalEmission(totals.stream()
+                            .map(ShardSummaryResponse.ShardTotal::getTotalEmission)
+                            .reduce(BigDecimal.ZERO, BigDecimal::add))
+                    .build();
+
+        } catch (CompletionException e) {
+            log.error("샤드 전체 집계 중 오류 발생: {}", e.getMessage());
+            throw new RuntimeException("샤드 전체 집계 실패", e.getCause());
+        }
+    }
+
+    private ShardSummaryResponse.ShardTotal aggregateShard(String shardKey, Integer year) {
+        long startedAt = System.currentTimeMillis();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(shardDirectory.dataSourceOf(shardKey));
+
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(DISTINCT member_id) AS member_count, COUNT(*) AS row_count, " +
+                "COALESCE(SUM(total_co2equivalent), 0) AS total " +
+                "FROM stationary_combustion WHERE reporting_year = ?",
+                (rs, rowNum) -> ShardSummaryResponse.ShardTotal.builder()
+                        .shardKey(shardKey)
+                        .memberCount(rs.getLong("member_count"))
+                        .rowCount(rs.getLong("row_count"))
+                        .totalEmission(rs.getBigDecimal("total"))
+                        .elapsedMillis(System.currentTimeMillis() - startedAt)
+                        .build(),
+                year);
+    }
+
+    // =============================================================================
+    // 회원 샤드 이동 (온라인 리밸런싱)
+    // =============================================================================
+
+    /**
+     * 회원을 대상 샤드로 이동
+     * 이동 중에는 해당 회원의 쓰기가 거부되고 읽기는 원본 샤드에서 계속 처리됩니다.
+     */
+    public Map<String, Object> moveMember(Long memberId, String targetShard) {
+        String sourceShard = shardDirectory.shardOf(memberId);
+        shardDirectory.dataSourceOf(targetShard);
+        if (sourceShard.equals(targetShard)) {
+            throw new IllegalArgumentException("이미 대상 샤드에 있는 회원입니다: " + targetShard);
+        }
+
+        JdbcTemplate source = new JdbcTemplate(shardDirectory.dataSourceOf(sourceShard));
+        JdbcTemplate target = new JdbcTemplate(shardDirectory.dataSourceOf(targetShard));
+
+        // 1. 이동 표시 후 다른 인스턴스의 디렉터리 캐시가 만료될 때까지 대기
+        shardDirectory.markMoving(memberId);
+        log.info("회원 샤드 이동 시작 - 회원: {}, {} → {}", memberId, sourceShard, targetShard);
+
+        Map<String, Integer> copied;
+        try {
+            Thread.sleep(ShardDirectory.CACHE_TTL.toMillis());
+            copied = copyMember(source, target, memberId);
+        } catch (Exception e) {
+            MEMBER_TABLES.forEach(table ->
+                    target.update("DELETE FROM " + table.name() + " WHERE member_id = ?", memberId));
+            shardDirectory.release(memberId);
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            log.error("회원 샤드 이동 중 오류 발생, 원본 샤드 유지 - 회원: {}, 오류: {}", memberId, e.getMessage());
+            throw new RuntimeException("회원 샤드 이동 실패", e);
+        }
+
+        // 4. 디렉터리 전환
+        shardDirectory.flip(memberId, targetShard);
+
+        // 5. 원본 삭제
+        for (MemberTable table : MEMBER_TABLES) {
+            source.update("DELETE FROM " + table.name() + " WHERE member_id = ?", memberId);
+        }
+        log.info("회원 샤드 이동 완료 - 회원: {}, {} → {}, 복사: {}", memberId, sourceShard, targetShard, copied);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("memberId", memberId);
+        result.put("sourceShard", sourceShard);
+        result.put("targetShard", targetShard);
+        result.put("copiedRows", copied);
+        return result;
+    }
+
+    /**
+     * 회원 데이터 전체 복사 후 검증 (2~3단계, 테이블별 복사 행 수 반환)
+     */
+    Map<String, Integer> copyMember(JdbcTemplate source, JdbcTemplate target, Long memberId) {
+        Map<String, Integer> copied = new LinkedHashMap<>();
+        Map<String, Map<Long, Long>> idMaps = new HashMap<>();   // 엔티티 유형 → (원본 id → 대상 id)
+        Map<Long, Long> snapshotIds = new HashMap<>();          // 원본 스냅샷 번호 → 대상 스냅샷 번호
+        for (MemberTable table : MEMBER_TABLES) {
+            target.update("DELETE FROM " + table.name() + " WHERE member_id = ?", memberId);
+            if (table.factorSetRef()) {
+                mapSnapshots(source, target, table, memberId, snapshotIds);
+            }
+            Map<Long, Long> idMap = table.entityType() != null
+                    ? idMaps.computeIfAbsent(table.entityType(), key -> new HashMap<>()) : null;
+            copied.put(table.name(), copyTable(source, target, table, memberId, idMap, idMaps, snapshotIds));
+        }
+        for (MemberTable table : MEMBER_TABLES) {
+            verifyTable(source, target, table, memberId);
+        }
+        return copied;
+    }
+
+    /**
+     * 회원 데이터가 참조하는 계수셋 스냅샷을 내용 해시로 대상 샤드 번호에 대응 (없으면 대상 샤드에 등록)
+     */
+    private static void mapSnapshots(JdbcTemplate source, JdbcTemplate target, MemberTable table, Long memberId,
+                                     Map<Long, Long> snapshotIds) {
+        List<Long> sourceIds = source.queryForList(
+                "SELECT DISTINCT factor_set_id FROM " + table.name() + " WHERE member_id = ? AND factor_set_id IS NOT NULL",
+                Long.class, memberId);
+        for (Long sourceId : sourceIds) {
+            if (snapshotIds.containsKey(sourceId)) {
+                continue;
+            }
+            List<Map<String, Object>> snapshots = source.queryForList(
+                    "SELECT content_hash, kernel_version, content FROM " + SNAPSHOT_TABLE + " WHERE id = ?", sourceId);
+            if (snapshots.isEmpty()) {
+                throw new IllegalStateException("원본 샤드에 없는 계수셋 스냅샷을 참조합니다: " + sourceId);
+            }
+            Map<String, Object> snapshot = snapshots.get(0);
+            // 같은 내용이 이미 있으면 무시되고, 동시에 등록되어도 content_hash 유니크 키로 하나만 남음
+            target.update("INSERT IGNORE INTO " + SNAPSHOT_TABLE + " (content_hash, kernel_version, content, created_at) " +
+                          "VALUES (?, ?, ?, NOW())",
+                    snapshot.get("content_hash"), snapshot.get("kernel_version"), snapshot.get("content"));
+            Long targetId = target.queryForObject("SELECT id FROM " + SNAPSHOT_TABLE + " WHERE content_hash = ?",
+                    Long.class, snapshot.get("content_hash"));
+            snapshotIds.put(sourceId, targetId);
+        }
+    }
+
+    /**
+     * 키셋 페이징으로 회원 데이터 복사
+     * id는 빼고 넣어 대상 샤드가 새로 발급하게 하고, 새 id는 idMap에 기록합니다.
+     */
+    private int copyTable(JdbcTemplate source, JdbcTemplate target, MemberTable table, Long memberId,
+                          Map<Long, Long> idMap, Map<String, Map<Long, Long>> idMaps, Map<Long, Long> snapshotIds) {
+        String keyColumn = table.surrogateId() ? "id" : "member_id";
+        int total = 0;
+        Object lastKey = null;
+        while (true) {
+            List<Map<String, Object>> rows = lastKey == null
+                    ? source.queryForList("SELECT * FROM " + table.name() + " WHERE member_id = ? ORDER BY " + keyColumn +
+                                          " LIMIT " + COPY_BATCH_SIZE, memberId)
+                    : source.queryForList("SELECT * FROM " + table.name() + " WHERE member_id = ? AND " + keyColumn + " > ?" +
+                                          " ORDER BY " + keyColumn + " LIMIT " + COPY_BATCH_SIZE, memberId, lastKey);
+            if (rows.isEmpty()) {
+                return total;
+            }
+
+            List<String> columns = new ArrayList<>(rows.get(0).keySet());
+            if (table.surrogateId()) {
+                columns.remove("id");
+            }
+            String sql = "INSERT INTO " + table.name() + " (" +
+                         columns.stream().map(c -> "`" + c + "`").collect(Collectors.joining(", ")) +
+                         ") VALUES (" + columns.stream().map(c -> "?").collect(Collectors.joining(", ")) + ")";
+            List<Object[]> batch = new ArrayList<>(rows.size());
+            for (Map<String, Object> row : rows) {
+                Object[] values = columns.stream().map(row::get).toArray();
+                if (CHANGE_LOG_TABLE.equals(table.name())) {
+                    remapEntityId(columns, values, idMaps);
+                }
+                if (table.factorSetRef()) {
+                    remapFactorSetId(columns, values, snapshotIds);
+                }
+                batch.add(values);
+            }
+
+            if (idMap != null) {
+                List<Long> newIds = insertReturningKeys(target, sql, batch);
+                for (int i = 0; i < rows.size(); i++) {
+                    idMap.put(((Number) rows.get(i).get("id")).longValue(), newIds.get(i));
+                }
+            } else {
+                target.batchUpdate(sql, batch);
+            }
+
+            total += rows.size();
+            lastKey = rows.get(rows.size() - 1).get(keyColumn);
+            if (rows.size() < COPY_BATCH_SIZE) {
+                return total;
+            }
+        }
+    }
+
+    /**
+     * 변경 로그의 entity_id를 대상 샤드의 새 id로 교체 (이미 삭제된 활동 데이터면 null)
+     */
+    private static void remapEntityId(List<String> columns, Object[] values, Map<String, Map<Long, Long>> idMaps) {
+        int entityIdAt = columns.indexOf("entity_id");
+        Object entityId = values[entityIdAt];
+        if (entityId == null) {
+            return;
+        }
+        Map<Long, Long> idMap = idMaps.get((String) values[columns.indexOf("entity_type")]);
+        values[entityIdAt] = idMap != null ? idMap.get(((Number) entityId).longValue()) : null;
+    }
+
+    /**
+     * factor_set_id를 대상 샤드의 스냅샷 번호로 교체하고 그 번호로 입력값 지문 재계산
+     * 원본 번호로 만든 지문을 그대로 두면 대상 샤드의 다른 스냅샷과 우연히 같아져 재계산이 생략될 수 있습니다.
+     */
+    private static void remapFactorSetId(List<String> columns, Object[] values, Map<Long, Long> snapshotIds) {
+        int factorSetIdAt = columns.indexOf("factor_set_id");
+        if (factorSetIdAt < 0 || values[factorSetIdAt] == null) {
+            return;
+        }
+        Long targetId = snapshotIds.get(((Number) values[factorSetIdAt]).longValue());
+        values[factorSetIdAt] = targetId;
+
+        int fingerprintAt = columns.indexOf("input_fingerprint");
+        if (fingerprintAt >= 0 && values[fingerprintAt] != null) {
+            values[fingerprintAt] = StationaryCombustion.computeInputFingerprint(
+                    (String) values[columns.indexOf("fuel_id")],
+                    (BigDecimal) values[columns.indexOf("fuel_usage")],
+                    (String) values[columns.indexOf("unit")],
+                    (Integer) values[columns.indexOf("reporting_year")],
+                    targetId);
+        }
+    }
+
+    /**
+     * 배치 INSERT 후 발급된 id를 입력 순서대로 반환
+     */
+    private static List<Long> insertReturningKeys(JdbcTemplate target, String sql, List<Object[]> batch) {
+        GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+        target.batchUpdate(con -> con.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Object[] values = batch.get(i);
+                        for (int c = 0; c < values.length; c++) {
+                            ps.setObject(c + 1, values[c]);
+                        }
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return batch.size();
+                    }
+                },
+                keyHolder);
+
+        List<Long> ids = new ArrayList<>(batch.size());
+        for (Map<String, Object> keys : keyHolder.getKeyList()) {
+            ids.add(((Number) keys.values().iterator().next()).longValue());
+        }
+        if (ids.size() != batch.size()) {
+            throw new IllegalStateException("발급된 id 수가 복사 행 수와 다릅니다: " + ids.size() + " / " + batch.size());
+        }
+        return ids;
+    }
+
+    /**
+     * 원본/대상 행 수와 행 체크섬(CRC32 XOR) 비교
+     * 대상 샤드에서 새로 발급한 id와 그에 맞춰 바꾼 entity_id는 비교에서 제외합니다.
+     * factor_set_id는 번호 대신 참조하는 스냅샷의 내용 해시로 비교하고, 그 번호로 만든 입력값 지문은 제외합니다.
+     */
+    private void verifyTable(JdbcTemplate source, JdbcTemplate target, MemberTable table, Long memberId) {
+        List<String> columns = new ArrayList<>(source.queryForList(
+                "SELECT column_name FROM information_schema.columns " +
+                "WHERE table_schema = DATABASE() AND table_name = ? ORDER BY ordinal_position",
+                String.class, table.name()));
+        if (table.surrogateId()) {
+            columns.remove("id");
+        }
+        if (CHANGE_LOG_TABLE.equals(table.name())) {
+            columns.remove("entity_id");
+        }
+        String from = table.name() + " t";
+        String snapshotHash = "";
+        if (table.factorSetRef() && columns.remove("factor_set_id")) {
+            columns.remove("input_fingerprint");
+            from += " LEFT JOIN " + SNAPSHOT_TABLE + " s ON s.id = t.factor_set_id";
+            snapshotHash = ", s.content_hash";
+        }
+        String checksumSql = "SELECT COUNT(*), COALESCE(BIT_XOR(CRC32(CONCAT_WS('|', " +
+                             columns.stream().map(c -> "t.`" + c + "`").collect(Collectors.joining(", ")) + snapshotHash +
+                             "))), 0) FROM " + from + " WHERE t.member_id = ?";
+
+        String sourceChecksum = source.queryForObject(checksumSql,
+                (rs, rowNum) -> rs.getLong(1) + ":" + rs.getLong(2), memberId);
+        String targetChecksum = target.queryForObject(checksumSql,
+                (rs, rowNum) -> rs.getLong(1) + ":" + rs.getLong(2), memberId);
+
+        if (!sourceChecksum.equals(targetChecksum)) {
+            throw new IllegalStateException("샤드 이동 검증 실패 - 테이블: " + table.name() +
+                                            ", 원본: " + sourceChecksum + ", 대상: " + targetChecksum);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        aggregationExecutor.shutdown();
+    }
+
+    /**
+     * 회원 데이터 테이블 (surrogateId: AUTO_INCREMENT id 보유, entityType: 변경 로그가 참조하는 활동 데이터 유형,
+     * factorSetRef: 계수셋 스냅샷 번호(factor_set_id) 보유)
+     */
+    record MemberTable(String name, boolean surrogateId, String entityType, boolean factorSetRef) {
+    }
+}
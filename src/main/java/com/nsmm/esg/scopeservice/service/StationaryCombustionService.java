@@ -1,19 +1,33 @@
 package com.nsmm.esg.scopeservice.service;
 
+import com.nsmm.esg.scopeservice.dto.IfMatch;
+import com.nsmm.esg.scopeservice.dto.StationaryCombustionBulkUpdateRequest;
 import com.nsmm.esg.scopeservice.dto.StationaryCombustionRequest;
 import com.nsmm.esg.scopeservice.dto.StationaryCombustionResponse;
 import com.nsmm.esg.scopeservice.dto.ScopeEmissionSummaryResponse;
+import com.nsmm.esg.scopeservice.entity.CalculationQuality;
 import com.nsmm.esg.scopeservice.entity.StationaryCombustion;
+import com.nsmm.esg.scopeservice.exception.VersionConflictException;
 import com.nsmm.esg.scopeservice.repository.FuelTypeRepository;
+import com.nsmm.esg.scopeservice.repository.StationaryCombustionBatchRepository;
 import com.nsmm.esg.scopeservice.repository.StationaryCombustionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 /**
@@ -25,9 +39,15 @@ import java.util.stream.Collectors;
 @Slf4j
 public class StationaryCombustionService {
 
+    // If-Match가 없거나 "*"일 때 버전 목록 자리 (IN 절이 비지 않도록)
+    private static final List<Long> NO_VERSIONS = List.of(-1L);
+
     private final StationaryCombustionRepository stationaryCombustionRepository;
     private final FuelTypeRepository fuelTypeRepository;
     private final EmissionCalculationService emissionCalculationService;
+    private final EmissionChangeLogService emissionChangeLogService;
+    private final EmissionBreakdownService emissionBreakdownService;
+    private final ActivityCubeService activityCubeService;
 
     // =============================================================================
     // 핵심 CRUD 메서드 (컨트롤러 1:1 대응)
@@ -35,39 +55,26 @@ public class StationaryCombustionService {
 
     /**
      * 고정연소 데이터 생성 (POST /)
+     * 자연키(회원, 협력사, 연도, 월, 시설명, 연료)가 같은 행이 이미 있으면 새로 추가하지 않고 갱신합니다.
      */
     @Transactional
     public StationaryCombustionResponse createStationaryCombustion(StationaryCombustionRequest request) {
         try {
             // 1. Request 검증
-            validateRequest(request);
-
-            // 2. 엔티티 생성
-            StationaryCombustion entity = StationaryCombustion.builder()
-                    .memberId(request.getMemberId())
-                    .companyId(request.getCompanyId())
-                    .reportingYear(request.getReportingYear())
-                    .reportingMonth(request.getReportingMonth())
-                    .facilityName(request.getFacilityName())
-                    .facilityLocation(request.getFacilityLocation())
-                    .combustionType(request.getCombustionType())
-                    .fuelId(request.getFuelId())
-                    .fuelName(request.getFuelName())
-                    .fuelUsage(request.getFuelUsage())
-                    .unit(request.getUnit())
-                    .createdBy(request.getCreatedBy())
-                    .notes(request.getNotes())
-                    .build();
-
-            // 3. 배출량 계산 및 설정
-            calculateAndSetEmissions(entity);
-
-            // 4. 저장
-            StationaryCombustion saved = stationaryCombustionRepository.save(entity);
-            log.info("고정연소 데이터 생성 완료 - ID: {}", saved.getId());
-
-            return convertToResponse(saved);
+            int unitId = validateRequest(request);
+
+            // 2. 엔티티 생성 및 배출량 계산
+            StationaryCombustion entity = buildEntity(request);
+            calculateAndSetEmissions(entity, unitId);
+
+            // 3. 업서트
+            StationaryCombustionResponse response = upsert(entity);
+            log.info("고정연소 데이터 저장 완료 - ID: {}", response.getId());
 
+            return response;
+
+        } catch (IllegalArgumentException e) {
+            throw e;
         } catch (Exception e) {
             log.error("고정연소 데이터 생성 중 오류 발생: {}", e.getMessage());
             throw new RuntimeException("고정연소 데이터 생성 실패", e);
@@ -75,34 +82,122 @@ public class StationaryCombustionService {
     }
 
     /**
-     * 고정연소 데이터 수정 (PUT /{id})
+     * 고정연소 데이터 일괄 생성 (POST /batch)
+     * 단건 생성과 같은 자연키 업서트를 다건 업서트 한 문장으로 수행하고, ID는 자연키로 한 번에 조회합니다.
+     * 변경 로그도 한 번에 추가하므로 행 수와 관계없이 DB 왕복 횟수가 일정합니다.
      */
     @Transactional
-    public StationaryCombustionResponse updateStationaryCombustion(Long id, Long memberId, StationaryCombustionRequest request) {
+    public List<StationaryCombustionResponse> createStationaryCombustionBatch(
+            Long memberId, List<StationaryCombustionRequest> requests) {
         try {
-            // 1. 기존 데이터 조회 및 권한 확인
-            StationaryCombustion entity = stationaryCombustionRepository.findById(id)
-                    .orElseThrow(() -> new IllegalArgumentException("고정연소 데이터를 찾을 수 없습니다: " + id));
-
-            if (!entity.getMemberId().equals(memberId)) {
-                throw new IllegalArgumentException("해당 데이터에 대한 접근 권한이 없습니다.");
+            // 1. 검증 및 배출량 계산
+            List<StationaryCombustion> entities = new ArrayList<>(requests.size());
+            for (StationaryCombustionRequest request : requests) {
+                request.setMemberId(memberId);
+                int unitId = validateRequest(request);
+
+                StationaryCombustion entity = buildEntity(request);
+                calculateAndSetEmissions(entity, unitId);
+                entities.add(entity);
+            }
+            if (entities.isEmpty()) {
+                return List.of();
             }
 
-            // 2. Request 검증
-            validateRequest(request);
-
-            // 3. 엔티티 업데이트
-            entity.updateFromRequest(request);
-
-            // 4. 배출량 재계산
-            calculateAndSetEmissions(entity);
+            // 2. 다건 업서트 후 자연키별 ID 조회
+            LocalDateTime now = LocalDateTime.now();
+            stationaryCombustionRepository.upsertAll(entities, now);
+            Map<StationaryCombustionBatchRepository.NaturalKey, Long> ids =
+                    stationaryCombustionRepository.findIdsByNaturalKeys(memberId, entities);
+
+            // 3. 응답 생성 및 변경 로그 추가
+            List<StationaryCombustionResponse> responses = new ArrayList<>(entities.size());
+            List<EmissionChangeLogService.Change> changes = new ArrayList<>(entities.size());
+            for (StationaryCombustion entity : entities) {
+                StationaryCombustionResponse response = convertToResponse(entity);
+                response.setId(ids.get(StationaryCombustionBatchRepository.NaturalKey.of(entity)));
+                response.setUpdatedAt(now);
+                responses.add(response);
+                changes.add(new EmissionChangeLogService.Change(entity.getReportingYear(), response.getId(), response));
+            }
+            emissionChangeLogService.recordAll(memberId, EmissionChangeLogService.STATIONARY_COMBUSTION, "UPSERT", changes);
+            log.info("고정연소 데이터 일괄 저장 완료 - 건수: {}", responses.size());
 
-            // 5. 저장
-            StationaryCombustion updated = stationaryCombustionRepository.save(entity);
-            log.info("고정연소 데이터 수정 완료 - ID: {}", id);
+            return responses;
 
-            return convertToResponse(updated);
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("고정연소 데이터 일괄 생성 중 오류 발생: {}", e.getMessage());
+            throw new RuntimeException("고정연소 데이터 일괄 생성 실패", e);
+        }
+    }
 
+    /**
+     * 고정연소 데이터 수정 (PUT /{id})
+     * 기존 행을 미리 조회하지 않고 회원/버전/연도 조건이 포함된 UPDATE 한 번으로 처리하며, 응답은 요청 값과 계산 결과,
+     * LAST_INSERT_ID()로 받은 새 버전으로 만듭니다. 지문이 같아 유지된 calculated_at과 createdAt은 응답에 채우지 않습니다.
+     * 배출량은 메모리의 계수셋 조회 테이블로 계산하고, 입력값 지문(연료, 사용량, 단위, 연도, 계수셋 버전)이 그대로면
+     * UPDATE가 calculated_at을 유지합니다.
+     * 수정된 행이 없을 때만 현재 행을 조회해 원인을 판별합니다. 대상이 없거나 다른 회원의 데이터이면 빈 값을,
+     * If-Match 조건(null이면 조건 없음)을 만족하지 않으면 현재 상태와 함께 충돌 예외를 반환하고,
+     * 보고 연도를 옮기는 수정이면 현재 연도/버전 조건으로 다시 UPDATE합니다.
+     * 자연키(협력사, 연도, 월, 시설명, 연료)가 다른 행과 겹치면 DataIntegrityViolationException(→ 409)이 발생합니다.
+     */
+    @Transactional
+    public Optional<StationaryCombustionResponse> updateStationaryCombustion(
+            Long id, Long memberId, IfMatch ifMatch, StationaryCombustionRequest request) {
+        try {
+            // 1. Request 검증 및 배출량 계산
+            int unitId = validateRequest(request);
+            StationaryCombustion values = buildEntity(request);
+            calculateAndSetEmissions(values, unitId);
+            LocalDateTime now = LocalDateTime.now();
+
+            // 2. 소유자/버전 조건부 수정 (같은 연도 안의 수정)
+            boolean anyVersion = ifMatch == null || ifMatch.isAny();
+            List<Long> versions = anyVersion ? NO_VERSIONS : List.copyOf(ifMatch.getVersions());
+            Integer previousYear = values.getReportingYear();
+            int updated = !anyVersion && versions.isEmpty() ? 0
+                    : stationaryCombustionRepository.updateByIdAndMemberId(
+                            id, memberId, previousYear, anyVersion, versions, values, now);
+
+            // 3. 수정된 행이 없으면 원인 판별 (없음/권한 없음, 버전 충돌, 연도 이동)
+            if (updated == 0) {
+                StationaryCombustion current = stationaryCombustionRepository.findByIdAndMemberId(id, memberId)
+                        .orElse(null);
+                if (current == null) {
+                    log.warn("수정 대상 고정연소 데이터 없음 - ID: {}, 회원: {}", id, memberId);
+                    return Optional.empty();
+                }
+                if (ifMatch != null && !ifMatch.matches(current.getVersion())) {
+                    throw new VersionConflictException(current.getVersion(), convertToResponse(current));
+                }
+                // 연도를 옮기는 수정이면 이전 연도의 집계도 무효화해야 하므로 현재 연도를 보관
+                previousYear = current.getReportingYear();
+                long currentVersion = current.getVersion() != null ? current.getVersion() : 0L;
+                updated = stationaryCombustionRepository.updateByIdAndMemberId(
+                        id, memberId, previousYear, false, List.of(currentVersion), values, now);
+                if (updated == 0) {
+                    throw new OptimisticLockingFailureException("고정연소 데이터 동시 수정 - ID: " + id);
+                }
+            }
+            // 변경 로그 시퀀스가 LAST_INSERT_ID()를 덮어쓰기 전에 새 버전을 읽음
+            Long version = stationaryCombustionRepository.findLastInsertId();
+            log.info("고정연소 데이터 수정 완료 - ID: {}, 버전: {}", id, version);
+
+            StationaryCombustionResponse response = convertToResponse(values);
+            response.setId(id);
+            response.setVersion(version);
+            response.setCalculatedAt(null);
+            response.setUpdatedAt(now);
+            emissionChangeLogService.record(memberId, response.getReportingYear(), previousYear,
+                    EmissionChangeLogService.STATIONARY_COMBUSTION, id, "UPDATE", response);
+            return Optional.of(response);
+
+        } catch (VersionConflictException | OptimisticLockingFailureException | DataIntegrityViolationException
+                 | IllegalArgumentException e) {
+            throw e;
         } catch (Exception e) {
             log.error("고정연소 데이터 수정 중 오류 발생: {}", e.getMessage());
             throw new RuntimeException("고정연소 데이터 수정 실패", e);
@@ -110,20 +205,49 @@ public class StationaryCombustionService {
     }
 
     /**
-     * 고정연소 데이터 삭제 (DELETE /{id})
+     * 비배출 필드 다건 수정 (PATCH /bulk)
+     * 시설명/시설 위치/비고는 배출량과 무관하므로 재계산 없이 UPDATE 한 번으로 처리합니다.
+     * 시설명은 자연키의 일부라 여러 건에 같은 이름을 넣으면 충돌할 수 있으며, 이때는 한 건도 수정하지 않고 409로 응답합니다.
      */
     @Transactional
-    public void deleteStationaryCombustion(Long id, Long memberId) {
+    public int updateDescriptiveFieldsBulk(Long memberId, StationaryCombustionBulkUpdateRequest request) {
+        if (request.getIds() == null || request.getIds().isEmpty()) {
+            return 0;
+        }
         try {
-            StationaryCombustion entity = stationaryCombustionRepository.findById(id)
-                    .orElseThrow(() -> new IllegalArgumentException("고정연소 데이터를 찾을 수 없습니다: " + id));
-
-            if (!entity.getMemberId().equals(memberId)) {
-                throw new IllegalArgumentException("해당 데이터에 대한 접근 권한이 없습니다.");
+            int updated = stationaryCombustionRepository.updateDescriptiveFieldsByIdIn(
+                    request.getIds(), memberId,
+                    request.getFacilityName(), request.getFacilityLocation(), request.getNotes(),
+                    LocalDateTime.now());
+            log.info("고정연소 데이터 다건 수정 완료 - 요청: {}건, 수정: {}건", request.getIds().size(), updated);
+            if (updated > 0) {
+                recordChange(memberId, null, null, "BULK_UPDATE", request);
             }
+            return updated;
 
-            stationaryCombustionRepository.delete(entity);
+        } catch (DataIntegrityViolationException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("고정연소 데이터 다건 수정 중 오류 발생: {}", e.getMessage());
+            throw new RuntimeException("고정연소 데이터 다건 수정 실패", e);
+        }
+    }
+
+    /**
+     * 고정연소 데이터 삭제 (DELETE /{id})
+     * 회원 조건이 포함된 DELETE 한 번으로 처리하며, 삭제 여부를 반환합니다.
+     */
+    @Transactional
+    public boolean deleteStationaryCombustion(Long id, Long memberId) {
+        try {
+            int deleted = stationaryCombustionRepository.deleteByIdAndMemberId(id, memberId);
+            if (deleted == 0) {
+                log.warn("삭제 대상 고정연소 데이터 없음 - ID: {}, 회원: {}", id, memberId);
+                return false;
+            }
             log.info("고정연소 데이터 삭제 완료 - ID: {}", id);
+            recordChange(memberId, null, id, "DELETE", Map.of("id", id));
+            return true;
 
         } catch (Exception e) {
             log.error("고정연소 데이터 삭제 중 오류 발생: {}", e.getMessage());
@@ -131,6 +255,48 @@ public class StationaryCombustionService {
         }
     }
 
+    /**
+     * 고정연소 데이터 다건 삭제 (DELETE /bulk)
+     */
+    @Transactional
+    public int deleteStationaryCombustionBulk(List<Long> ids, Long memberId) {
+        if (ids == null || ids.isEmpty()) {
+            return 0;
+        }
+        try {
+            int deleted = stationaryCombustionRepository.deleteAllByIdInAndMemberId(ids, memberId);
+            log.info("고정연소 데이터 다건 삭제 완료 - 요청: {}건, 삭제: {}건", ids.size(), deleted);
+            if (deleted > 0) {
+                recordChange(memberId, null, null, "BULK_DELETE", Map.of("ids", ids));
+            }
+            return deleted;
+
+        } catch (Exception e) {
+            log.error("고정연소 데이터 다건 삭제 중 오류 발생: {}", e.getMessage());
+            throw new RuntimeException("고정연소 데이터 다건 삭제 실패", e);
+        }
+    }
+
+    /**
+     * 협력사-연도 단위 고정연소 데이터 일괄 삭제 (DELETE /partner/{companyId}/year/{year})
+     */
+    @Transactional
+    public int deleteByPartnerAndYear(Long memberId, String companyId, Integer year) {
+        try {
+            int deleted = stationaryCombustionRepository
+                    .deleteByMemberIdAndCompanyIdAndReportingYear(memberId, companyId, year);
+            log.info("협력사-연도 고정연소 데이터 삭제 완료 - 협력사: {}, 연도: {}, 삭제: {}건", companyId, year, deleted);
+            if (deleted > 0) {
+                recordChange(memberId, year, null, "BULK_DELETE", Map.of("companyId", companyId, "year", year));
+            }
+            return deleted;
+
+        } catch (Exception e) {
+            log.error("협력사-연도 고정연소 데이터 삭제 중 오류 발생: {}", e.getMessage());
+            throw new RuntimeException("협력사-연도 고정연소 데이터 삭제 실패", e);
+        }
+    }
+
     /**
      * 고정연소 데이터 상세 조회 (GET /{id})
      */
@@ -216,7 +382,15 @@ public class StationaryCombustionService {
      */
     @Transactional(readOnly = true)
     public List<ScopeEmissionSummaryResponse> getMonthlyEmissionSummary(Long memberId, Integer year, String companyId) {
-        Map<Integer, BigDecimal> monthlyData = stationaryCombustionRepository.getMonthlyEmissionSummary(memberId, year, companyId);
+        Map<Integer, BigDecimal> monthlyData;
+        if (activityCubeService.isEnabled()) {
+            Map<Integer, BigDecimal> byMonth = new TreeMap<>(Comparator.nullsLast(Comparator.naturalOrder()));
+            cubeSum(memberId, year, ActivityCube.Dimension.MONTH, companyId)
+                    .forEach((month, emission) -> byMonth.put((Integer) month, emission));
+            monthlyData = byMonth;
+        } else {
+            monthlyData = stationaryCombustionRepository.getMonthlyEmissionSummary(memberId, year, companyId);
+        }
         
         return monthlyData.entrySet().stream()
                 .map(entry -> ScopeEmissionSummaryResponse.builder()
@@ -234,22 +408,11 @@ public class StationaryCombustionService {
 
     /**
      * 연료별 배출량 집계
+     * 항목마다 해당 연료의 이름/카테고리/사용량/구성비를 scope1.fuelTypeBreakdown에 담습니다.
      */
     @Transactional(readOnly = true)
     public List<ScopeEmissionSummaryResponse> getEmissionSummaryByFuel(Long memberId, Integer year, String companyId) {
-        Map<String, BigDecimal> fuelData = stationaryCombustionRepository.getEmissionSummaryByFuel(memberId, year, companyId);
-        
-        return fuelData.entrySet().stream()
-                .map(entry -> ScopeEmissionSummaryResponse.builder()
-                        .memberId(memberId)
-                        .year(year)
-                        .companyId(companyId)
-                        .aggregationType("BY_FUEL")
-                        .totalEmission(entry.getValue())
-                        .unit("tCO2eq")
-                        .calculatedAt(java.time.LocalDateTime.now())
-                        .build())
-                .collect(Collectors.toList());
+        return emissionBreakdownService.toFuelSummaries(emissionBreakdownService.getFuelBreakdown(memberId, year, companyId));
     }
 
     /**
@@ -257,7 +420,9 @@ public class StationaryCombustionService {
      */
     @Transactional(readOnly = true)
     public List<ScopeEmissionSummaryResponse> getEmissionSummaryByFacility(Long memberId, Integer year, String companyId) {
-        Map<String, BigDecimal> facilityData = stationaryCombustionRepository.getEmissionSummaryByFacility(memberId, year, companyId);
+        Map<String, BigDecimal> facilityData = activityCubeService.isEnabled()
+                ? byEmissionDesc(cubeSum(memberId, year, ActivityCube.Dimension.FACILITY, companyId))
+                : stationaryCombustionRepository.getEmissionSummaryByFacility(memberId, year, companyId);
         
         return facilityData.entrySet().stream()
                 .map(entry -> ScopeEmissionSummaryResponse.builder()
@@ -277,7 +442,9 @@ public class StationaryCombustionService {
      */
     @Transactional(readOnly = true)
     public List<ScopeEmissionSummaryResponse> getEmissionSummaryByPartner(Long memberId, Integer year) {
-        Map<String, BigDecimal> partnerData = stationaryCombustionRepository.getEmissionSummaryByPartner(memberId, year);
+        Map<String, BigDecimal> partnerData = activityCubeService.isEnabled()
+                ? byEmissionDesc(cubeSum(memberId, year, ActivityCube.Dimension.COMPANY, null))
+                : stationaryCombustionRepository.getEmissionSummaryByPartner(memberId, year);
         
         return partnerData.entrySet().stream()
                 .map(entry -> ScopeEmissionSummaryResponse.builder()
@@ -297,6 +464,9 @@ public class StationaryCombustionService {
      */
     @Transactional(readOnly = true)
     public BigDecimal getTotalEmissionByYear(Long memberId, Integer year, String companyId) {
+        if (activityCubeService.isEnabled()) {
+            return activityCubeService.total(memberId, year, stationaryFilter(companyId));
+        }
         if (companyId != null) {
             return stationaryCombustionRepository.getTotalEmissionByMemberAndPartnerAndYear(memberId, companyId, year);
         } else {
@@ -322,9 +492,34 @@ public class StationaryCombustionService {
     // =============================================================================
 
     /**
-     * Request 검증
+     * 활동 큐브의 고정연소 행만 대상으로 한 단일 차원 합계
+     */
+    private Map<Object, BigDecimal> cubeSum(Long memberId, Integer year, ActivityCube.Dimension dimension, String companyId) {
+        return activityCubeService.sumBy(memberId, year, dimension, stationaryFilter(companyId));
+    }
+
+    private ActivityCube.Filter stationaryFilter(String companyId) {
+        return ActivityCube.Filter.builder()
+                .sources(EnumSet.of(ActivityCube.Source.STATIONARY))
+                .companyId(companyId)
+                .build();
+    }
+
+    /**
+     * DB 집계 쿼리와 같은 배출량 내림차순
+     */
+    private Map<String, BigDecimal> byEmissionDesc(Map<Object, BigDecimal> sums) {
+        Map<String, BigDecimal> sorted = new LinkedHashMap<>();
+        sums.entrySet().stream()
+                .sorted(Map.Entry.<Object, BigDecimal>comparingByValue().reversed())
+                .forEach(entry -> sorted.put((String) entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+
+    /**
+     * Request 검증 (검증한 사용량 단위 ID 반환)
      */
-    private void validateRequest(StationaryCombustionRequest request) {
+    private int validateRequest(StationaryCombustionRequest request) {
         if (request.getCompanyId() == null || request.getCompanyId().trim().isEmpty()) {
             throw new IllegalArgumentException("회사 ID는 필수입니다.");
         }
@@ -337,16 +532,66 @@ public class StationaryCombustionService {
         if (request.getFuelUsage() == null || request.getFuelUsage().compareTo(BigDecimal.ZERO) <= 0) {
             throw new IllegalArgumentException("연료 사용량은 0보다 커야 합니다.");
         }
+        // 알 수 없거나 연료의 발열량 단위로 환산할 수 없는 단위는 배출량 0으로 저장하지 않고 거부
+        return emissionCalculationService.resolveStationaryUnitId(
+                request.getFuelId(), request.getUnit(), request.getReportingYear());
+    }
+
+    /**
+     * Request로부터 신규 엔티티 생성
+     */
+    private StationaryCombustion buildEntity(StationaryCombustionRequest request) {
+        return StationaryCombustion.builder()
+                .memberId(request.getMemberId())
+                .companyId(request.getCompanyId())
+                .reportingYear(request.getReportingYear())
+                .reportingMonth(request.getReportingMonth())
+                .facilityName(request.getFacilityName())
+                .facilityLocation(request.getFacilityLocation())
+                .combustionType(request.getCombustionType())
+                .fuelId(request.getFuelId())
+                .fuelName(request.getFuelName())
+                .fuelUsage(request.getFuelUsage())
+                .unit(request.getUnit())
+                .createdBy(request.getCreatedBy())
+                .notes(request.getNotes())
+                .build();
+    }
+
+    /**
+     * 자연키 기준 업서트 후 응답 생성
+     * 단일 INSERT … ON DUPLICATE KEY UPDATE 문으로 처리하며 저장된 행을 다시 조회하지 않습니다.
+     * (기존 행이 갱신된 경우 응답의 createdAt은 채워지지 않습니다)
+     */
+    private StationaryCombustionResponse upsert(StationaryCombustion entity) {
+        LocalDateTime now = LocalDateTime.now();
+        stationaryCombustionRepository.upsert(entity, now);
+        Long id = stationaryCombustionRepository.findLastInsertId();
+
+        StationaryCombustionResponse response = convertToResponse(entity);
+        response.setId(id);
+        response.setUpdatedAt(now);
+
+        recordChange(entity.getMemberId(), entity.getReportingYear(), id, "UPSERT", response);
+        return response;
+    }
+
+    /**
+     * 같은 트랜잭션에 변경 로그 추가
+     */
+    private void recordChange(Long memberId, Integer reportingYear, Long entityId, String operation, Object payload) {
+        emissionChangeLogService.record(memberId, reportingYear,
+                EmissionChangeLogService.STATIONARY_COMBUSTION, entityId, operation, payload);
     }
 
     /**
      * 배출량 계산 및 엔티티에 설정
      */
-    private void calculateAndSetEmissions(StationaryCombustion entity) {
+    private void calculateAndSetEmissions(StationaryCombustion entity, int unitId) {
         try {
-            // EmissionCalculationService를 통한 배출량 계산
+            // EmissionCalculationService를 통한 배출량 계산 (검증 때 인터닝한 단위 ID 사용)
             var emissionResult = emissionCalculationService.calculateScope1StationaryEmission(
-                    entity.getFuelId(), entity.getFuelUsage(), entity.getReportingYear());
+                    entity.getFuelId(), entity.getFuelUsage(), unitId, entity.getReportingYear());
             
             entity.updateEmissions(
                     emissionResult.getCo2Emission(),
@@ -354,6 +599,14 @@ public class StationaryCombustionService {
                     emissionResult.getN2oEmission(),
                     emissionResult.getTotalCo2Equivalent()
             );
+            entity.recordCalculationQuality(emissionResult.getQuality());
+            // 실제로 적용한 계수셋 스냅샷 ID로 지문/계수셋 기록 (계산 도중 계수셋이 바뀌어도 어긋나지 않음)
+            // 실패한 계산은 지문을 남기지 않아 같은 입력으로 다시 수정하면 재계산됨
+            if (emissionResult.getQuality() != CalculationQuality.FAILED && emissionResult.getFactorSetId() != null) {
+                entity.refreshInputFingerprint(emissionResult.getFactorSetId());
+            } else {
+                entity.clearInputFingerprint();
+            }
             
             log.debug("고정연소 배출량 계산 완료 - 연료: {}, 사용량: {}, 총 배출량: {}", 
                     entity.getFuelName(), entity.getFuelUsage(), emissionResult.getTotalCo2Equivalent());
@@ -362,6 +615,8 @@ public class StationaryCombustionService {
             log.warn("배출량 계산 실패, 기본값 사용: {}", e.getMessage());
             // 계산 실패 시 0으로 설정
             entity.updateEmissions(BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
+            entity.recordCalculationQuality(CalculationQuality.FAILED);
+            entity.clearInputFingerprint();
         }
     }
 
@@ -385,10 +640,12 @@ public class StationaryCombustionService {
                 .n2oEmission(entity.getN2oEmission())
                 .totalCo2Equivalent(entity.getTotalCo2Equivalent())
                 .calculatedAt(entity.getCalculatedAt())
+                .calculationQuality(entity.getCalculationQuality() != null ? entity.getCalculationQuality().name() : null)
                 .createdBy(entity.getCreatedBy())
                 .notes(entity.getNotes())
                 .createdAt(entity.getCreatedAt())
                 .updatedAt(entity.getUpdatedAt())
+                .version(entity.getVersion())
                 .build();
     }
 }
@@ -0,0 +1,168 @@
+package com.nsmm.esg.scopeservice.service;
+
+import com.nsmm.esg.scopeservice.dto.TopEmitterResponse;
+import com.nsmm.esg.scopeservice.repository.MobileCombustionRepository;
+import com.nsmm.esg.scopeservice.repository.StationaryCombustionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 배출량 상위 N개 조회 서비스
+ * 단일 배출원은 LIMIT을 SQL로 내려 상위 N개만 조회하고, 기타 항목은 전체 합계 - 상위 합계로 계산합니다.
+ * 여러 배출원을 합치는 경우에는 그룹별 합계를 병합한 뒤 크기 N의 힙으로 상위 N개만 선택합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TopEmitterService {
+
+    public static final int MAX_LIMIT = 100;
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private final StationaryCombustionRepository stationaryCombustionRepository;
+    private final MobileCombustionRepository mobileCombustionRepository;
+
+    /**
+     * 고정연소 협력사별 상위 N개 (GET /summary/top-partners)
+     */
+    @Transactional(readOnly = true)
+    public TopEmitterResponse getTopStationaryPartners(Long memberId, Integer year, Integer limit) {
+        int n = validateLimit(limit);
+        List<Map.Entry<String, BigDecimal>> top = toEntries(
+                stationaryCombustionRepository.findTopEmissionByPartner(memberId, year, PageRequest.of(0, n)));
+        BigDecimal total = stationaryCombustionRepository.getTotalEmissionByMemberAndYear(memberId, year);
+
+        long groupCount = top.size() < n ? top.size() : stationaryCombustionRepository.countDistinctPartners(memberId, year);
+        return buildResponse(memberId, year, null, "PARTNER", List.of("STATIONARY"), n, top, total, groupCount);
+    }
+
+    /**
+     * 고정연소 시설별 상위 N개 (GET /summary/top-facilities)
+     */
+    @Transactional(readOnly = true)
+    public TopEmitterResponse getTopStationaryFacilities(Long memberId, Integer year, String companyId, Integer limit) {
+        int n = validateLimit(limit);
+        List<Map.Entry<String, BigDecimal>> top = toEntries(
+                stationaryCombustionRepository.findTopEmissionByFacility(memberId, year, companyId, PageRequest.of(0, n)));
+        BigDecimal total = companyId != null
+                ? stationaryCombustionRepository.getTotalEmissionByMemberAndPartnerAndYear(memberId, companyId, year)
+                : stationaryCombustionRepository.getTotalEmissionByMemberAndYear(memberId, year);
+
+        long groupCount = top.size() < n ? top.size()
+                : stationaryCombustionRepository.countDistinctFacilities(memberId, year, companyId);
+        return buildResponse(memberId, year, companyId, "FACILITY", List.of("STATIONARY"), n, top, total, groupCount);
+    }
+
+    /**
+     * Scope 1 전체(고정연소 + 이동연소) 협력사별 상위 N개 (GET /api/v1/scope/top-emitters/partners)
+     * 협력사 합계가 배출원별로 나뉘어 있어 배출원별 상위 N개만으로는 정확하지 않으므로,
+     * 정렬 없는 그룹 합계를 병합한 뒤 힙으로 선택합니다.
+     */
+    @Transactional(readOnly = true)
+    public TopEmitterResponse getTopScope1Partners(Long memberId, Integer year, Integer limit) {
+        int n = validateLimit(limit);
+
+        Map<String, BigDecimal> merged = new HashMap<>();
+        mergeInto(merged, stationaryCombustionRepository.findPartnerTotalsUnordered(memberId, year));
+        mergeInto(merged, mobileCombustionRepository.findPartnerTotalsUnordered(memberId, year));
+
+        List<Map.Entry<String, BigDecimal>> top = TopNSelector.select(merged.entrySet(), n);
+        BigDecimal total = merged.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        return buildResponse(memberId, year, null, "PARTNER", List.of("STATIONARY", "MOBILE"),
+                n, top, total, merged.size());
+    }
+
+    // =============================================================================
+    // 내부 유틸리티 메서드
+    // =============================================================================
+
+    private int validateLimit(Integer limit) {
+        int n = limit != null ? limit : 10;
+        if (n < 1 || n > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit은 1 이상 " + MAX_LIMIT + " 이하여야 합니다.");
+        }
+        return n;
+    }
+
+    private List<Map.Entry<String, BigDecimal>> toEntries(List<Object[]> rows) {
+        List<Map.Entry<String, BigDecimal>> entries = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            entries.add(new AbstractMap.SimpleImmutableEntry<>((String) row[0], (BigDecimal) row[1]));
+        }
+        return entries;
+    }
+
+    private void mergeInto(Map<String, BigDecimal> merged, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            if (row[1] != null) {
+                merged.merge((String) row[0], (BigDecimal) row[1], BigDecimal::add);
+            }
+        }
+    }
+
+    private TopEmitterResponse buildResponse(Long memberId, Integer year, String companyId, String dimension,
+                                             List<String> scopes, int limit, List<Map.Entry<String, BigDecimal>> top,
+                                             BigDecimal total, long groupCount) {
+        BigDecimal totalEmission = total != null ? total : BigDecimal.ZERO;
+
+        List<TopEmitterResponse.Item> items = new ArrayList<>(top.size());
+        BigDecimal topSum = BigDecimal.ZERO;
+        for (Map.Entry<String, BigDecimal> entry : top) {
+            BigDecimal emission = entry.getValue() != null ? entry.getValue() : BigDecimal.ZERO;
+            topSum = topSum.add(emission);
+            items.add(TopEmitterResponse.Item.builder()
+                    .rank(items.size() + 1)
+                    .key(entry.getKey())
+                    .totalEmission(emission)
+                    .percentage(percentage(emission, totalEmission))
+                    .build());
+        }
+
+        // 기타 = 전체 - 상위 합계 (나머지 그룹을 조회하지 않음)
+        TopEmitterResponse.Item others = null;
+        long otherGroups = groupCount - top.size();
+        if (otherGroups > 0) {
+            BigDecimal othersEmission = totalEmission.subtract(topSum);
+            others = TopEmitterResponse.Item.builder()
+                    .key("OTHERS")
+                    .totalEmission(othersEmission)
+                    .percentage(percentage(othersEmission, totalEmission))
+                    .groupCount(otherGroups)
+                    .build();
+        }
+
+        return TopEmitterResponse.builder()
+                .memberId(memberId)
+                .year(year)
+                .companyId(companyId)
+                .dimension(dimension)
+                .scopes(scopes)
+                .limit(limit)
+                .items(items)
+                .others(others)
+                .totalEmission(totalEmission)
+                .unit("tCO2eq")
+                .calculatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private BigDecimal percentage(BigDecimal value, BigDecimal total) {
+        if (total.signum() == 0) {
+            return BigDecimal.ZERO;
+        }
+        return value.multiply(HUNDRED).divide(total, 2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,48 @@
+package com.nsmm.esg.scopeservice.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 상위 N개 선택 (크기 N의 최소 힙)
+ * 전체 그룹을 정렬하지 않고 O(G log N)으로 상위 N개만 골라 내림차순으로 반환합니다.
+ * 값이 같으면 키 오름차순으로 순위를 고정합니다.
+ */
+public final class TopNSelector {
+
+    private static final Comparator<Map.Entry<String, BigDecimal>> DESCENDING =
+            Map.Entry.<String, BigDecimal>comparingByValue().reversed()
+                    .thenComparing(Map.Entry.<String, BigDecimal>comparingByKey(
+                            Comparator.nullsLast(Comparator.<String>naturalOrder())));
+
+    private TopNSelector() {
+    }
+
+    public static List<Map.Entry<String, BigDecimal>> select(Iterable<Map.Entry<String, BigDecimal>> entries, int n) {
+        if (n <= 0) {
+            return List.of();
+        }
+
+        // 힙의 루트가 현재 상위 N개 중 가장 작은 값
+        PriorityQueue<Map.Entry<String, BigDecimal>> heap = new PriorityQueue<>(n + 1, DESCENDING.reversed());
+        for (Map.Entry<String, BigDecimal> entry : entries) {
+            if (entry.getValue() == null) {
+                continue;
+            }
+            if (heap.size() < n) {
+                heap.offer(entry);
+            } else if (DESCENDING.compare(entry, heap.peek()) < 0) {
+                heap.poll();
+                heap.offer(entry);
+            }
+        }
+
+        List<Map.Entry<String, BigDecimal>> result = new ArrayList<>(heap);
+        result.sort(DESCENDING);
+        return result;
+    }
+}
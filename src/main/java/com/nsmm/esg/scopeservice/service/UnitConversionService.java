@@ -0,0 +1,214 @@
+package com.nsmm.esg.scopeservice.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 단위 변환 서비스
+ * 단위 코드를 작은 정수 ID로 인터닝하고, 같은 차원(부피/질량/에너지) 간 변환계수를 조밀 행렬로 미리 계산해 둡니다.
+ * 부피↔질량 변환은 연료별 밀도(kg/L)를 사용합니다.
+ */
+@Service
+@Slf4j
+public class UnitConversionService {
+
+    public static final int UNKNOWN = -1;
+    public static final int NONE = -2;   // 단위 미지정 (환산하지 않음)
+
+    private static final MathContext MC = MathContext.DECIMAL64;
+
+    /**
+     * 단위 차원
+     */
+    public enum Dimension {
+        VOLUME,   // 기준: L
+        MASS,     // 기준: kg
+        ENERGY    // 기준: MJ
+    }
+
+    // 단위 정의 (코드, 차원, 기준 단위 환산값) - 배열 순서가 곧 단위 ID
+    private static final String[] CODES = {
+            "L", "kL", "m³", "Nm³", "10^6m³",
+            "g", "kg", "ton",
+            "MJ", "GJ", "TJ", "kWh", "MWh"
+    };
+    private static final Dimension[] DIMENSIONS = {
+            Dimension.VOLUME, Dimension.VOLUME, Dimension.VOLUME, Dimension.VOLUME, Dimension.VOLUME,
+            Dimension.MASS, Dimension.MASS, Dimension.MASS,
+            Dimension.ENERGY, Dimension.ENERGY, Dimension.ENERGY, Dimension.ENERGY, Dimension.ENERGY
+    };
+    private static final String[] TO_BASE = {
+            "1", "1000", "1000", "1000", "1000000000",
+            "0.001", "1", "1000",
+            "1", "1000", "1000000", "3.6", "3600"
+    };
+
+    // 표기 변형 → 표준 코드
+    private static final Map<String, String> ALIASES = Map.ofEntries(
+            Map.entry("l", "L"), Map.entry("liter", "L"), Map.entry("ℓ", "L"),
+            Map.entry("kl", "kL"), Map.entry("㎘", "kL"),
+            Map.entry("m3", "m³"), Map.entry("㎥", "m³"),
+            Map.entry("nm3", "Nm³"), Map.entry("nm³", "Nm³"), Map.entry("N㎥", "Nm³"),
+            Map.entry("10^6m3", "10^6m³"), Map.entry("백만m³", "10^6m³"),
+            Map.entry("t", "ton"), Map.entry("tonne", "ton"), Map.entry("톤", "ton"),
+            Map.entry("kwh", "kWh"), Map.entry("mwh", "MWh"),
+            Map.entry("mj", "MJ"), Map.entry("gj", "GJ"), Map.entry("tj", "TJ")
+    );
+
+    // 연료별 밀도 (kg/L, 기체연료는 표준상태 기준)
+    private static final Map<String, BigDecimal> DENSITY_KG_PER_L = Map.ofEntries(
+            Map.entry("CRUDE_OIL", new BigDecimal("0.85")),
+            Map.entry("NAPHTHA", new BigDecimal("0.70")),
+            Map.entry("GASOLINE", new BigDecimal("0.745")),
+            Map.entry("AVIATION_GASOLINE", new BigDecimal("0.72")),
+            Map.entry("JET_FUEL_KEROSENE", new BigDecimal("0.80")),
+            Map.entry("JET_FUEL_GASOLINE", new BigDecimal("0.75")),
+            Map.entry("KEROSENE", new BigDecimal("0.79")),
+            Map.entry("DIESEL", new BigDecimal("0.84")),
+            Map.entry("HEAVY_OIL_A", new BigDecimal("0.86")),
+            Map.entry("HEAVY_OIL_B", new BigDecimal("0.92")),
+            Map.entry("HEAVY_OIL_C", new BigDecimal("0.95")),
+            Map.entry("BUNKER_A_OIL", new BigDecimal("0.86")),
+            Map.entry("BUNKER_B_OIL", new BigDecimal("0.92")),
+            Map.entry("BUNKER_C_OIL", new BigDecimal("0.95")),
+            Map.entry("LUBRICANTS", new BigDecimal("0.90")),
+            Map.entry("NATURAL_GAS", new BigDecimal("0.00078")),
+            Map.entry("LIQUEFIED_NATURAL_GAS", new BigDecimal("0.45")),
+            Map.entry("LIQUEFIED_PETROLEUM_GAS", new BigDecimal("0.54")),
+            Map.entry("PROPANE", new BigDecimal("0.51")),
+            Map.entry("BUTANE", new BigDecimal("0.58")),
+            Map.entry("MOTOR_GASOLINE", new BigDecimal("0.745")),
+            Map.entry("AUTOMOTIVE_DIESEL", new BigDecimal("0.84")),
+            Map.entry("LIQUEFIED_PETROLEUM_GAS_VEHICLE", new BigDecimal("0.54")),
+            Map.entry("AVIATION_GASOLINE_MOBILE", new BigDecimal("0.72")),
+            Map.entry("JET_FUEL_KEROSENE_MOBILE", new BigDecimal("0.80")),
+            Map.entry("JET_FUEL_GASOLINE_MOBILE", new BigDecimal("0.75")),
+            Map.entry("BIODIESEL", new BigDecimal("0.88")),
+            Map.entry("BIOETHANOL", new BigDecimal("0.79"))
+    );
+
+    private static final int L = 0;
+    private static final int KG = 6;
+    public static final int TJ = 10;
+
+    private final Map<String, Integer> unitIds = new HashMap<>();
+    private final BigDecimal[][] matrix = new BigDecimal[CODES.length][CODES.length];
+
+    // 발열량 단위 문자열("TJ/kL") → {분자 ID, 분모 ID} 캐시
+    private final Map<String, int[]> rateUnitCache = new ConcurrentHashMap<>();
+
+    public UnitConversionService() {
+        for (int i = 0; i < CODES.length; i++) {
+            unitIds.put(CODES[i], i);
+        }
+        ALIASES.forEach((alias, code) -> unitIds.put(alias, unitIds.get(code)));
+
+        // 같은 차원 간 변환계수 행렬 (다른 차원은 null)
+        for (int from = 0; from < CODES.length; from++) {
+            for (int to = 0; to < CODES.length; to++) {
+                if (DIMENSIONS[from] == DIMENSIONS[to]) {
+                    matrix[from][to] = new BigDecimal(TO_BASE[from]).divide(new BigDecimal(TO_BASE[to]), MC);
+                }
+            }
+        }
+    }
+
+    /**
+     * 단위 코드 → 단위 ID (알 수 없으면 UNKNOWN, null이면 NONE)
+     * 계산 커널은 이 ID만 받으므로 행마다 한 번만 호출합니다.
+     */
+    public int idOf(String unit) {
+        if (unit == null) {
+            return NONE;
+        }
+        Integer id = unitIds.get(unit.trim());
+        if (id == null) {
+            id = unitIds.get(unit.trim().toLowerCase());
+        }
+        return id != null ? id : UNKNOWN;
+    }
+
+    /**
+     * 단위 ID → 단위 코드
+     */
+    public String codeOf(int unitId) {
+        return CODES[unitId];
+    }
+
+    /**
+     * 단위 ID → 차원
+     */
+    public Dimension dimensionOf(int unitId) {
+        return DIMENSIONS[unitId];
+    }
+
+    /**
+     * 비율 단위("TJ/kL")를 {분자 ID, 분모 ID}로 분해 (최초 1회만 파싱)
+     */
+    public int[] rateUnitIds(String rateUnit) {
+        if (rateUnit == null) {
+            return new int[]{UNKNOWN, UNKNOWN};
+        }
+        return rateUnitCache.computeIfAbsent(rateUnit, key -> {
+            int slash = key.indexOf('/');
+            if (slash < 0) {
+                return new int[]{UNKNOWN, UNKNOWN};
+            }
+            return new int[]{idOf(key.substring(0, slash)), idOf(key.substring(slash + 1))};
+        });
+    }
+
+    /**
+     * 변환 가능 여부 (같은 차원이거나, 연료 밀도가 있는 부피↔질량)
+     */
+    public boolean isConvertible(int fromId, int toId, String fuelId) {
+        if (fromId < 0 || toId < 0) {
+            return false;
+        }
+        if (matrix[fromId][toId] != null) {
+            return true;
+        }
+        return fuelId != null && DENSITY_KG_PER_L.containsKey(fuelId)
+                && DIMENSIONS[fromId] != Dimension.ENERGY && DIMENSIONS[toId] != Dimension.ENERGY;
+    }
+
+    /**
+     * 단위 변환 (같은 차원은 행렬 조회, 부피↔질량은 연료 밀도 사용)
+     */
+    public BigDecimal convert(BigDecimal value, int fromId, int toId, String fuelId) {
+        if (fromId < 0 || toId < 0) {
+            throw new IllegalArgumentException("알 수 없는 단위입니다: " + fromId + " → " + toId);
+        }
+        if (fromId == toId) {
+            return value;
+        }
+
+        BigDecimal factor = matrix[fromId][toId];
+        if (factor != null) {
+            return value.multiply(factor, MC);
+        }
+
+        BigDecimal density = fuelId != null ? DENSITY_KG_PER_L.get(fuelId) : null;
+        if (density == null) {
+            throw new IllegalArgumentException(
+                    "밀도 정보가 없어 단위를 변환할 수 없습니다 - 연료: " + fuelId + ", " + CODES[fromId] + " → " + CODES[toId]);
+        }
+
+        if (DIMENSIONS[fromId] == Dimension.VOLUME && DIMENSIONS[toId] == Dimension.MASS) {
+            BigDecimal kg = value.multiply(matrix[fromId][L], MC).multiply(density, MC);
+            return kg.multiply(matrix[KG][toId], MC);
+        }
+        if (DIMENSIONS[fromId] == Dimension.MASS && DIMENSIONS[toId] == Dimension.VOLUME) {
+            BigDecimal liters = value.multiply(matrix[fromId][KG], MC).divide(density, MC);
+            return liters.multiply(matrix[L][toId], MC);
+        }
+
+        throw new IllegalArgumentException("변환할 수 없는 단위입니다: " + CODES[fromId] + " → " + CODES[toId]);
+    }
+}
@@ -0,0 +1,75 @@
+package com.nsmm.esg.scopeservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 커넥션 풀 헬스 체크 테스트 (대기 스레드가 임계값 이상이면 SATURATED, 시작 전 풀은 UP, 같은 풀은 한 번만)
+ */
+class ConnectionPoolHealthIndicatorTest {
+
+    private static final int THRESHOLD = 5;
+
+    @Test
+    void poolBelowThresholdIsUp() {
+        Health health = indicator(runningPool("primary", 4)).health();
+
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat((Map<?, ?>) health.getDetails().get("primary")).containsEntry("pending", 4);
+    }
+
+    @Test
+    void poolAtThresholdIsSaturated() {
+        Health health = indicator(runningPool("primary", 0), runningPool("replica", THRESHOLD)).health();
+
+        assertThat(health.getStatus()).isEqualTo(ConnectionPoolHealthIndicator.SATURATED);
+        assertThat(health.getDetails()).containsKeys("primary", "replica");
+    }
+
+    @Test
+    void notStartedPoolIsUp() {
+        HikariDataSource pool = mock(HikariDataSource.class);
+        when(pool.getPoolName()).thenReturn("shard-1");
+
+        Health health = indicator(pool).health();
+
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat((Map<?, ?>) health.getDetails().get("shard-1")).containsEntry("state", "NOT_STARTED");
+    }
+
+    @Test
+    void samePoolIsReportedOnce() {
+        HikariDataSource pool = runningPool("primary", 0);
+
+        Health health = indicator(pool, pool).health();
+
+        assertThat(health.getDetails()).containsOnlyKeys("primary", "saturationPendingThreads");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ConnectionPoolHealthIndicator indicator(HikariDataSource... pools) {
+        ObjectProvider<HikariDataSource> poolProvider = mock(ObjectProvider.class);
+        when(poolProvider.orderedStream()).thenAnswer(invocation -> Stream.of(pools));
+        return new ConnectionPoolHealthIndicator(poolProvider, mock(ObjectProvider.class), THRESHOLD);
+    }
+
+    private static HikariDataSource runningPool(String name, int pending) {
+        HikariPoolMXBean mxBean = mock(HikariPoolMXBean.class);
+        when(mxBean.getThreadsAwaitingConnection()).thenReturn(pending);
+        HikariDataSource pool = mock(HikariDataSource.class);
+        when(pool.getPoolName()).thenReturn(name);
+        when(pool.getHikariPoolMXBean()).thenReturn(mxBean);
+        return pool;
+    }
+}
@@ -0,0 +1,45 @@
+package com.nsmm.esg.scopeservice.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 리액티브 조회 경로 구성 검증 테스트 (샤딩 사용 또는 레플리카를 가리키면 기동 실패)
+ */
+class ReactiveReadConfigTest {
+
+    private static final String PRIMARY = "r2dbc:mysql://db-primary:3306/scope_service";
+
+    @Test
+    void singleShardPrimaryIsAccepted() {
+        assertThatCode(() -> ReactiveReadConfig.validateTopology(PRIMARY, false, null)).doesNotThrowAnyException();
+        assertThatCode(() -> ReactiveReadConfig.validateTopology(PRIMARY, false,
+                "jdbc:mysql://db-replica:3306/scope_service")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void shardingIsRejected() {
+        assertThatThrownBy(() -> ReactiveReadConfig.validateTopology(PRIMARY, true, null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("scope.sharding.enabled");
+    }
+
+    @Test
+    void replicaUrlIsRejected() {
+        assertThatThrownBy(() -> ReactiveReadConfig.validateTopology(
+                "r2dbc:mysql://db-replica/scope_service", false,
+                "jdbc:mysql://DB-REPLICA:3306/scope_service?useSSL=false"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void endpointIgnoresSchemeAndParameters() {
+        assertThat(ReactiveReadConfig.endpointOf("jdbc:mysql://localhost:3307/scope_service?serverTimezone=UTC"))
+                .isEqualTo("localhost:3307/scope_service");
+        assertThat(ReactiveReadConfig.endpointOf("r2dbcs:mysql://localhost/scope_service"))
+                .isEqualTo("localhost:3306/scope_service");
+    }
+}
@@ -0,0 +1,120 @@
+package com.nsmm.esg.scopeservice.config;
+
+import com.nsmm.esg.scopeservice.event.EmissionDataChangedEvent;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기-후-쓰기 마커 테스트 (다른 인스턴스에서도 마커로 프라이머리 라우팅, 회원 없는 요청은 프라이머리,
+ * 응답의 다른 Set-Cookie 보존)
+ * 인스턴스마다 트래커를 따로 만들어, 상태가 인스턴스가 아닌 클라이언트 마커에만 있음을 확인합니다.
+ */
+class ReadYourWritesTrackerTest {
+
+    private static final long MEMBER_ID = 7L;
+    private static final long WINDOW_MS = 10_000;
+
+    private final ReadYourWritesTracker instanceA = new ReadYourWritesTracker(WINDOW_MS);
+    private final ReadYourWritesTracker instanceB = new ReadYourWritesTracker(WINDOW_MS);
+
+    @Test
+    void writeOnOneInstanceRoutesNextReadOnAnotherInstanceToPrimary() throws Exception {
+        MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+        AtomicBoolean primaryAfterWrite = new AtomicBoolean();
+        instanceA.doFilter(new MockHttpServletRequest(), writeResponse, chain(() -> {
+            instanceA.onEmissionDataChanged(new EmissionDataChangedEvent(MEMBER_ID, 2024));
+            primaryAfterWrite.set(instanceA.requiresPrimary(MEMBER_ID));
+        }));
+
+        String marker = writeResponse.getHeader(ReadYourWritesTracker.HEADER);
+        assertThat(marker).startsWith(MEMBER_ID + ".");
+        assertThat(writeResponse.getHeader(HttpHeaders.SET_COOKIE))
+                .startsWith(ReadYourWritesTracker.COOKIE + "=" + marker).contains("HttpOnly");
+        assertThat(primaryAfterWrite).isTrue();
+
+        MockHttpServletRequest headerRead = new MockHttpServletRequest();
+        headerRead.addHeader(ReadYourWritesTracker.HEADER, marker);
+        assertThat(requiresPrimaryOn(instanceB, headerRead, MEMBER_ID)).isTrue();
+
+        MockHttpServletRequest cookieRead = new MockHttpServletRequest();
+        cookieRead.setCookies(new Cookie(ReadYourWritesTracker.COOKIE, marker));
+        assertThat(requiresPrimaryOn(instanceB, cookieRead, MEMBER_ID)).isTrue();
+    }
+
+    @Test
+    void markerCookieKeepsOtherCookiesOfResponse() throws Exception {
+        MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+        instanceA.doFilter(new MockHttpServletRequest(), writeResponse, chain(() -> {
+            writeResponse.addHeader(HttpHeaders.SET_COOKIE, "SESSION=abc; Path=/; HttpOnly");
+            instanceA.onEmissionDataChanged(new EmissionDataChangedEvent(MEMBER_ID, 2024));
+        }));
+
+        assertThat(writeResponse.getHeaders(HttpHeaders.SET_COOKIE)).hasSize(2)
+                .anySatisfy(cookie -> assertThat(cookie).startsWith("SESSION=abc"))
+                .anySatisfy(cookie -> assertThat(cookie).startsWith(ReadYourWritesTracker.COOKIE + "="));
+    }
+
+    @Test
+    void readWithoutMarkerUsesReplica() throws Exception {
+        assertThat(requiresPrimaryOn(instanceB, new MockHttpServletRequest(), MEMBER_ID)).isFalse();
+    }
+
+    @Test
+    void markerOfAnotherMemberIsIgnored() throws Exception {
+        assertThat(requiresPrimaryOn(instanceB, withMarker((MEMBER_ID + 1) + "." + System.currentTimeMillis()), MEMBER_ID))
+                .isFalse();
+    }
+
+    @Test
+    void markerOutsideWindowIsIgnored() throws Exception {
+        long now = System.currentTimeMillis();
+        assertThat(requiresPrimaryOn(instanceB, withMarker(MEMBER_ID + "." + (now - WINDOW_MS - 1_000)), MEMBER_ID))
+                .isFalse();
+        assertThat(requiresPrimaryOn(instanceB, withMarker(MEMBER_ID + "." + (now + WINDOW_MS * 100)), MEMBER_ID))
+                .isFalse();
+    }
+
+    @Test
+    void malformedMarkerIsIgnored() throws Exception {
+        assertThat(requiresPrimaryOn(instanceB, withMarker("abc.def"), MEMBER_ID)).isFalse();
+        assertThat(requiresPrimaryOn(instanceB, withMarker("12345"), MEMBER_ID)).isFalse();
+    }
+
+    @Test
+    void unknownMemberDefaultsToPrimary() throws Exception {
+        assertThat(requiresPrimaryOn(instanceB, new MockHttpServletRequest(), null)).isTrue();
+        assertThat(instanceB.requiresPrimary(null)).isTrue();
+    }
+
+    @Test
+    void writeOutsideRequestIsIgnored() {
+        instanceA.onEmissionDataChanged(new EmissionDataChangedEvent(MEMBER_ID, 2024));
+
+        assertThat(instanceA.requiresPrimary(MEMBER_ID)).isFalse();
+    }
+
+    private static boolean requiresPrimaryOn(ReadYourWritesTracker tracker, MockHttpServletRequest request,
+                                             Long memberId) throws Exception {
+        AtomicBoolean primary = new AtomicBoolean();
+        tracker.doFilter(request, new MockHttpServletResponse(), chain(() -> primary.set(tracker.requiresPrimary(memberId))));
+        return primary.get();
+    }
+
+    private static MockHttpServletRequest withMarker(String marker) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(ReadYourWritesTracker.HEADER, marker);
+        return request;
+    }
+
+    private static FilterChain chain(Runnable body) {
+        return (request, response) -> body.run();
+    }
+}
@@ -0,0 +1,83 @@
+package com.nsmm.esg.scopeservice.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 응답 형태 조정 테스트 (요청한 경우에만 변환, 객체가 아닌 목록은 컬럼 변환하지 않음)
+ */
+class ResponseShapingAdviceTest {
+
+    private final ObjectMapper objectMapper = spy(new ObjectMapper());
+    private final ResponseShapingAdvice advice = new ResponseShapingAdvice(objectMapper);
+
+    @Test
+    void objectListIsConvertedToColumnsWhenRequested() {
+        Object result = shape(List.of(row(1, "경유"), row(2, "LNG")), "columnar", null, MediaType.APPLICATION_JSON);
+
+        JsonNode tree = (JsonNode) result;
+        assertThat(tree.path("layout").asText()).isEqualTo("columnar");
+        assertThat(tree.path("count").asInt()).isEqualTo(2);
+        assertThat(tree.path("columns").path("fuelName").toString()).isEqualTo("[\"경유\",\"LNG\"]");
+    }
+
+    @Test
+    void scalarListIsPassedThroughUnderColumnarLayout() {
+        Object result = shape(List.of("LIQUID", "SOLID", "GAS"), "columnar", null, MediaType.APPLICATION_JSON);
+
+        assertThat(result.toString()).isEqualTo("[\"LIQUID\",\"SOLID\",\"GAS\"]");
+    }
+
+    @Test
+    void binaryEncodingAloneDoesNotReshapeOrReserialize() {
+        List<Map<String, Object>> body = List.of(row(1, "경유"));
+
+        Object result = shape(body, null, null, MediaType.APPLICATION_CBOR);
+
+        assertThat(result).isSameAs(body);
+        verify(objectMapper, never()).valueToTree(any());
+    }
+
+    @Test
+    void fieldsSelectionKeepsOnlyRequestedFields() {
+        Object result = shape(List.of(row(1, "경유")), null, "fuelName", MediaType.APPLICATION_JSON);
+
+        assertThat(result.toString()).isEqualTo("[{\"fuelName\":\"경유\"}]");
+    }
+
+    private Object shape(Object body, String layout, String fields, MediaType contentType) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/fuel-types");
+        if (layout != null) {
+            request.setParameter(ResponseShapingAdvice.LAYOUT_PARAM, layout);
+        }
+        if (fields != null) {
+            request.setParameter(ResponseShapingAdvice.FIELDS_PARAM, fields);
+        }
+        return advice.beforeBodyWrite(body, null, contentType, MappingJackson2HttpMessageConverter.class,
+                new ServletServerHttpRequest(request), new ServletServerHttpResponse(new MockHttpServletResponse()));
+    }
+
+    private static Map<String, Object> row(long id, String fuelName) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", id);
+        row.put("fuelName", fuelName);
+        return row;
+    }
+}
@@ -0,0 +1,81 @@
+package com.nsmm.esg.scopeservice.controller;
+
+import com.nsmm.esg.scopeservice.config.SecurityConfig;
+import com.nsmm.esg.scopeservice.service.ExportJobService;
+import com.nsmm.esg.scopeservice.service.ReportExportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 내보내기 파일 다운로드 테스트 (Range 요청은 206으로 이어받기, 미완료 작업은 400)
+ */
+@WebMvcTest(ReportExportController.class)
+@Import(SecurityConfig.class)
+@TestPropertySource(properties = "spring.cloud.config.enabled=false")
+class ReportExportControllerTest {
+
+    private static final String JOB_ID = "job-1";
+    private static final byte[] FILE = "0123456789abcdefghij".getBytes(StandardCharsets.UTF_8);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ReportExportService reportExportService;
+    @MockitoBean
+    private ExportJobService exportJobService;
+
+    @BeforeEach
+    void setUp() {
+        when(exportJobService.fileNameOf(7L, JOB_ID)).thenReturn("ghg-inventory-2024.csv");
+        when(exportJobService.contentTypeOf(7L, JOB_ID)).thenReturn("text/csv; charset=UTF-8");
+    }
+
+    @Test
+    void wholeFileIsServedWithRangeSupport() throws Exception {
+        when(exportJobService.getFile(7L, JOB_ID)).thenReturn(new ByteArrayResource(FILE));
+
+        mockMvc.perform(get("/api/v1/scope/reports/jobs/{jobId}/download", JOB_ID).header("X-MEMBER-ID", "7"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + JOB_ID + "\""))
+                .andExpect(content().bytes(FILE));
+    }
+
+    @Test
+    void rangeRequestResumesFromOffset() throws Exception {
+        when(exportJobService.getFile(7L, JOB_ID)).thenReturn(new ByteArrayResource(FILE));
+
+        mockMvc.perform(get("/api/v1/scope/reports/jobs/{jobId}/download", JOB_ID)
+                        .header("X-MEMBER-ID", "7")
+                        .header(HttpHeaders.RANGE, "bytes=10-"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 10-19/20"))
+                .andExpect(content().string("abcdefghij"));
+    }
+
+    @Test
+    void unfinishedJobIsBadRequest() throws Exception {
+        when(exportJobService.getFile(7L, JOB_ID))
+                .thenThrow(new IllegalArgumentException("아직 완료되지 않은 내보내기 작업입니다: RUNNING"));
+
+        mockMvc.perform(get("/api/v1/scope/reports/jobs/{jobId}/download", JOB_ID).header("X-MEMBER-ID", "7"))
+                .andExpect(status().isBadRequest());
+    }
+}
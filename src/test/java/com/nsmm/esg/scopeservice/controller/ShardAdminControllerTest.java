@@ -0,0 +1,84 @@
+package com.nsmm.esg.scopeservice.controller;
+
+import com.nsmm.esg.scopeservice.config.SecurityConfig;
+import com.nsmm.esg.scopeservice.service.ShardAdminService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 관리자 API / actuator 접근 제어 테스트 (X-ADMIN-TOKEN)
+ * 슬라이스 테스트에는 actuator 엔드포인트가 없으므로, 보안 필터를 통과한 actuator 요청은 404로 확인합니다.
+ */
+@WebMvcTest(ShardAdminController.class)
+@Import(SecurityConfig.class)
+@TestPropertySource(properties = {
+        "spring.cloud.config.enabled=false",
+        "scope.sharding.enabled=true",
+        "scope.admin.token=s3cret"
+})
+class ShardAdminControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ShardAdminService shardAdminService;
+
+    @Test
+    void moveWithoutTokenIsForbidden() throws Exception {
+        mockMvc.perform(post("/api/v1/scope/admin/shards/members/42/move").param("target", "shard-1"))
+                .andExpect(status().isForbidden());
+
+        verify(shardAdminService, never()).moveMember(anyLong(), any());
+    }
+
+    @Test
+    void moveWithWrongTokenIsForbidden() throws Exception {
+        mockMvc.perform(post("/api/v1/scope/admin/shards/members/42/move").param("target", "shard-1")
+                        .header(SecurityConfig.ADMIN_TOKEN_HEADER, "guess"))
+                .andExpect(status().isForbidden());
+
+        verify(shardAdminService, never()).moveMember(anyLong(), any());
+    }
+
+    @Test
+    void moveWithAdminTokenIsAllowed() throws Exception {
+        when(shardAdminService.moveMember(42L, "shard-1")).thenReturn(Map.of("memberId", 42L));
+
+        mockMvc.perform(post("/api/v1/scope/admin/shards/members/42/move").param("target", "shard-1")
+                        .header(SecurityConfig.ADMIN_TOKEN_HEADER, "s3cret"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void actuatorMetricsAndPoolDetailsRequireAdminToken() throws Exception {
+        mockMvc.perform(get("/actuator/metrics/hikaricp.connections.pending"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/health/pool"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/metrics").header(SecurityConfig.ADMIN_TOKEN_HEADER, "s3cret"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void actuatorHealthAndInfoStayPublic() throws Exception {
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isNotFound());
+        mockMvc.perform(get("/actuator/info")).andExpect(status().isNotFound());
+    }
+}
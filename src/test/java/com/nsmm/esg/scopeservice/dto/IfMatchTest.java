@@ -0,0 +1,66 @@
+package com.nsmm.esg.scopeservice.dto;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * If-Match 헤더 파싱 테스트 (RFC 9110: "*", 태그 목록, 약한 태그는 강한 비교에서 불일치, 형식 오류는 400)
+ */
+class IfMatchTest {
+
+    @Test
+    void missingHeaderMeansNoPrecondition() {
+        assertThat(IfMatch.parse(null)).isNull();
+        assertThat(IfMatch.parse("  ")).isNull();
+    }
+
+    @Test
+    void wildcardMatchesAnyExistingVersion() {
+        IfMatch ifMatch = IfMatch.parse(" * ");
+
+        assertThat(ifMatch.isAny()).isTrue();
+        assertThat(ifMatch.matches(7L)).isTrue();
+    }
+
+    @Test
+    void listMatchesAnyOfItsStrongVersions() {
+        IfMatch ifMatch = IfMatch.parse("\"1\", \"2\",\"5\"");
+
+        assertThat(ifMatch.getVersions()).containsExactly(1L, 2L, 5L);
+        assertThat(ifMatch.matches(2L)).isTrue();
+        assertThat(ifMatch.matches(3L)).isFalse();
+    }
+
+    @Test
+    void weakTagsNeverMatch() {
+        IfMatch ifMatch = IfMatch.parse("W/\"3\", \"4\"");
+
+        assertThat(ifMatch.getVersions()).containsExactly(4L);
+        assertThat(ifMatch.matches(3L)).isFalse();
+        assertThat(IfMatch.parse("W/\"3\"").matches(3L)).isFalse();
+    }
+
+    @Test
+    void nonNumericOrOversizedTagsAreValidButNeverMatch() {
+        assertThat(IfMatch.parse("\"abc\"").matches(1L)).isFalse();
+        assertThat(IfMatch.parse("\"99999999999999999999999\"").getVersions()).isEmpty();
+        assertThat(IfMatch.parse("\"\"").getVersions()).isEmpty();
+    }
+
+    @Test
+    void bareVersionNumberIsAcceptedForOlderClients() {
+        assertThat(IfMatch.parse("3").matches(3L)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"\"1", "abc", "W/3", "\"1\" \"2\"", "*, \"1\"", ",", "\"a b\""})
+    void malformedHeaderIsRejected(String header) {
+        assertThatThrownBy(() -> IfMatch.parse(header))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("If-Match");
+    }
+}
@@ -0,0 +1,91 @@
+package com.nsmm.esg.scopeservice.repository;
+
+import com.nsmm.esg.scopeservice.entity.EmissionChangeLog;
+import com.nsmm.esg.scopeservice.entity.StationaryCombustion;
+import com.nsmm.esg.scopeservice.support.MySqlJpaTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일괄 입력 다건 SQL 테스트 (다건 업서트, 자연키 ID 조회, 변경 로그 시퀀스 구간 할당)
+ */
+class StationaryCombustionBatchRepositoryTest extends MySqlJpaTestSupport {
+
+    private static final long MEMBER_ID = 7L;
+    private static final String COMPANY = "11111111-1111-1111-1111-111111111111";
+
+    @Autowired
+    private StationaryCombustionRepository stationaryCombustionRepository;
+
+    @Autowired
+    private EmissionChangeLogRepository emissionChangeLogRepository;
+
+    @Autowired
+    private EmissionChangeSequenceRepository emissionChangeSequenceRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void multiRowUpsertUpdatesExistingNaturalKeyAndInsertsTheRest() {
+        Long existingId = entityManager.persistAndFlush(row(1, "공장A", "100")).getId();
+
+        List<StationaryCombustion> batch = List.of(row(1, "공장A", "150"), row(2, "공장A", "200"), row(3, "공장B", "300"));
+        stationaryCombustionRepository.upsertAll(batch, LocalDateTime.now());
+        Map<StationaryCombustionBatchRepository.NaturalKey, Long> ids =
+                stationaryCombustionRepository.findIdsByNaturalKeys(MEMBER_ID, batch);
+        entityManager.clear();
+
+        assertThat(ids).hasSize(3);
+        assertThat(ids.get(StationaryCombustionBatchRepository.NaturalKey.of(batch.get(0)))).isEqualTo(existingId);
+        assertThat(stationaryCombustionRepository.count()).isEqualTo(3);
+
+        StationaryCombustion updated = stationaryCombustionRepository.findById(existingId).orElseThrow();
+        assertThat(updated.getFuelUsage()).isEqualByComparingTo("150");
+        assertThat(updated.getVersion()).isEqualTo(1L);
+        for (StationaryCombustion entity : batch) {
+            Long id = ids.get(StationaryCombustionBatchRepository.NaturalKey.of(entity));
+            assertThat(stationaryCombustionRepository.findById(id).orElseThrow().getReportingMonth())
+                    .isEqualTo(entity.getReportingMonth());
+        }
+    }
+
+    @Test
+    void changeLogBatchGetsContiguousSequenceAfterSingleIncrements() {
+        emissionChangeSequenceRepository.increment(MEMBER_ID);
+        emissionChangeSequenceRepository.incrementBy(MEMBER_ID, 3);
+        long last = emissionChangeSequenceRepository.findLastInsertId();
+
+        emissionChangeLogRepository.insertAll(List.of(log(last - 2), log(last - 1), log(last)), LocalDateTime.now());
+
+        assertThat(last).isEqualTo(4L);
+        assertThat(emissionChangeLogRepository.findByMemberIdAndMemberSeqGreaterThanOrderByMemberSeqAsc(
+                MEMBER_ID, 0L, Limit.of(10)))
+                .extracting(EmissionChangeLog::getMemberSeq)
+                .containsExactly(2L, 3L, 4L);
+        assertThat(emissionChangeLogRepository.findByPublishedFalseOrderByIdAsc(Limit.of(10))).hasSize(3);
+    }
+
+    private static StationaryCombustion row(int month, String facility, String usage) {
+        return StationaryCombustion.builder()
+                .memberId(MEMBER_ID).companyId(COMPANY).reportingYear(2024).reportingMonth(month)
+                .facilityName(facility).facilityLocation(facility).combustionType("LIQUID").fuelId("DIESEL")
+                .fuelUsage(new BigDecimal(usage)).unit("L").totalCo2Equivalent(new BigDecimal("1.0000")).build();
+    }
+
+    private static EmissionChangeLog log(long seq) {
+        return EmissionChangeLog.builder()
+                .memberId(MEMBER_ID).memberSeq(seq).reportingYear(2024)
+                .entityType("STATIONARY_COMBUSTION").entityId(seq).operation("UPSERT").payload("{}")
+                .build();
+    }
+}
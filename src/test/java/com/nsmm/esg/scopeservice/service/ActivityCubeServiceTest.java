@@ -0,0 +1,207 @@
+package com.nsmm.esg.scopeservice.service;
+
+import com.nsmm.esg.scopeservice.event.EmissionDataChangedEvent;
+import com.nsmm.esg.scopeservice.repository.ElectricityUsageRepository;
+import com.nsmm.esg.scopeservice.repository.MobileCombustionRepository;
+import com.nsmm.esg.scopeservice.repository.StationaryCombustionRepository;
+import com.nsmm.esg.scopeservice.repository.SteamUsageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 회원-연도 활동 큐브 캐시 테스트 (TTL 안에서는 재사용, TTL이 지나면 재적재, 변경 이벤트로 해당 연도만 제거,
+ * 같은 키의 동시 적재는 한 번만, 적재 중 변경은 해당 키의 적재만 버림, 필터 빌더)
+ */
+class ActivityCubeServiceTest {
+
+    private static final long MEMBER_ID = 7L;
+
+    private final StationaryCombustionRepository stationaryCombustionRepository = mock(StationaryCombustionRepository.class);
+    private final MobileCombustionRepository mobileCombustionRepository = mock(MobileCombustionRepository.class);
+    private final ElectricityUsageRepository electricityUsageRepository = mock(ElectricityUsageRepository.class);
+    private final SteamUsageRepository steamUsageRepository = mock(SteamUsageRepository.class);
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+    /** 적재 시점의 고정연소 사용량 (적재할 때마다 1씩 증가해 다시 읽었는지 구분) */
+    private final AtomicInteger loads = new AtomicInteger();
+    /** 설정되어 있으면 2024년 적재가 이 래치가 열릴 때까지 멈춤 */
+    private volatile CountDownLatch gate;
+
+    @BeforeEach
+    void setUp() {
+        when(stationaryCombustionRepository.findCubeRows(anyLong(), eq(2024))).thenAnswer(invocation -> {
+            BigDecimal total = BigDecimal.valueOf(loads.incrementAndGet());
+            if (gate != null) {
+                gate.await(5, TimeUnit.SECONDS);
+            }
+            List<Object[]> rows = new ArrayList<>();
+            rows.add(new Object[]{"C1", "DIESEL", "공장A", 3, total, BigDecimal.ZERO, BigDecimal.ZERO, total});
+            rows.add(new Object[]{"C1", "LNG", "공장A", 4, BigDecimal.TEN, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.TEN});
+            return rows;
+        });
+        when(stationaryCombustionRepository.findCubeRows(anyLong(), eq(2023))).thenReturn(List.of());
+        when(mobileCombustionRepository.findCubeRows(anyLong(), eq(2024))).thenReturn(List.of());
+        when(electricityUsageRepository.findCubeRows(anyLong(), eq(2024))).thenReturn(List.<Object[]>of(
+                new Object[]{"C1", "공장A", 3, new BigDecimal("5"), new BigDecimal("5")}));
+        when(steamUsageRepository.findCubeRows(anyLong(), eq(2024))).thenReturn(List.of());
+    }
+
+    @Test
+    void cubeIsReusedWithinTtl() {
+        ActivityCubeService service = service(60_000);
+
+        assertThat(service.total(MEMBER_ID, 2024, null)).isEqualByComparingTo("16");
+        assertThat(service.total(MEMBER_ID, 2024, null)).isEqualByComparingTo("16");
+
+        verify(stationaryCombustionRepository, times(1)).findCubeRows(MEMBER_ID, 2024);
+    }
+
+    @Test
+    void cubeIsReloadedAfterTtl() {
+        ActivityCubeService service = service(0);
+
+        assertThat(service.total(MEMBER_ID, 2024, null)).isEqualByComparingTo("16");
+        // 다른 인스턴스에서 변경되어 이 인스턴스에는 이벤트가 오지 않아도 TTL이 지나면 새 값을 읽음
+        assertThat(service.total(MEMBER_ID, 2024, null)).isEqualByComparingTo("17");
+
+        verify(stationaryCombustionRepository, times(2)).findCubeRows(MEMBER_ID, 2024);
+    }
+
+    @Test
+    void changeEventEvictsOnlyThatYear() {
+        ActivityCubeService service = service(60_000);
+        service.get(MEMBER_ID, 2024);
+        service.get(MEMBER_ID, 2023);
+
+        service.onEmissionDataChanged(new EmissionDataChangedEvent(MEMBER_ID, 2024));
+        service.get(MEMBER_ID, 2024);
+        service.get(MEMBER_ID, 2023);
+
+        verify(stationaryCombustionRepository, times(2)).findCubeRows(MEMBER_ID, 2024);
+        verify(stationaryCombustionRepository, times(1)).findCubeRows(MEMBER_ID, 2023);
+    }
+
+    @Test
+    void yearMoveEvictsBothYears() {
+        ActivityCubeService service = service(60_000);
+        service.get(MEMBER_ID, 2024);
+        service.get(MEMBER_ID, 2023);
+
+        // 2023 → 2024로 옮긴 수정은 두 연도 모두 변경 이벤트를 발행
+        service.onEmissionDataChanged(new EmissionDataChangedEvent(MEMBER_ID, 2024));
+        service.onEmissionDataChanged(new EmissionDataChangedEvent(MEMBER_ID, 2023));
+        service.get(MEMBER_ID, 2024);
+        service.get(MEMBER_ID, 2023);
+
+        verify(stationaryCombustionRepository, times(2)).findCubeRows(MEMBER_ID, 2024);
+        verify(stationaryCombustionRepository, times(2)).findCubeRows(MEMBER_ID, 2023);
+    }
+
+    @Test
+    void changeOfAnotherMemberKeepsCube() {
+        ActivityCubeService service = service(60_000);
+        service.get(MEMBER_ID, 2024);
+
+        service.onEmissionDataChanged(new EmissionDataChangedEvent(MEMBER_ID + 1, null));
+        service.get(MEMBER_ID, 2024);
+
+        verify(stationaryCombustionRepository, times(1)).findCubeRows(MEMBER_ID, 2024);
+    }
+
+    @Test
+    void concurrentLoadsOfSameKeyAreCoalesced() throws Exception {
+        ActivityCubeService service = service(60_000);
+        gate = new CountDownLatch(1);
+
+        CompletableFuture<BigDecimal> first = CompletableFuture.supplyAsync(() -> service.total(MEMBER_ID, 2024, null));
+        await(() -> loads.get() == 1);
+        Thread waiter = new Thread(() -> service.get(MEMBER_ID, 2024));
+        waiter.start();
+        await(() -> waiter.getState() == Thread.State.WAITING);
+        gate.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualByComparingTo("16");
+        waiter.join(5_000);
+        verify(stationaryCombustionRepository, times(1)).findCubeRows(MEMBER_ID, 2024);
+    }
+
+    @Test
+    void changeOfSameKeyDuringLoadDiscardsOnlyThatLoad() throws Exception {
+        ActivityCubeService service = service(60_000);
+        gate = new CountDownLatch(1);
+
+        CompletableFuture<BigDecimal> inFlight = CompletableFuture.supplyAsync(() -> service.total(MEMBER_ID, 2024, null));
+        await(() -> loads.get() == 1);
+        service.onEmissionDataChanged(new EmissionDataChangedEvent(MEMBER_ID, 2024));
+        gate.countDown();
+
+        // 변경 전에 시작한 조회는 적재 결과를 받지만 캐시에는 남지 않음
+        assertThat(inFlight.get(5, TimeUnit.SECONDS)).isEqualByComparingTo("16");
+        gate = null;
+        assertThat(service.total(MEMBER_ID, 2024, null)).isEqualByComparingTo("17");
+        verify(stationaryCombustionRepository, times(2)).findCubeRows(MEMBER_ID, 2024);
+    }
+
+    @Test
+    void changeOfAnotherYearDuringLoadKeepsResult() throws Exception {
+        ActivityCubeService service = service(60_000);
+        gate = new CountDownLatch(1);
+
+        CompletableFuture<BigDecimal> inFlight = CompletableFuture.supplyAsync(() -> service.total(MEMBER_ID, 2024, null));
+        await(() -> loads.get() == 1);
+        service.onEmissionDataChanged(new EmissionDataChangedEvent(MEMBER_ID, 2023));
+        service.onEmissionDataChanged(new EmissionDataChangedEvent(MEMBER_ID + 1, null));
+        gate.countDown();
+
+        assertThat(inFlight.get(5, TimeUnit.SECONDS)).isEqualByComparingTo("16");
+        assertThat(service.total(MEMBER_ID, 2024, null)).isEqualByComparingTo("16");
+        verify(stationaryCombustionRepository, times(1)).findCubeRows(MEMBER_ID, 2024);
+    }
+
+    @Test
+    void filterBuilderRestrictsSourcesAndFuel() {
+        ActivityCubeService service = service(60_000);
+
+        assertThat(service.total(MEMBER_ID, 2024, ActivityCube.Filter.builder()
+                .sources(Set.of(ActivityCube.Source.STATIONARY)).build())).isEqualByComparingTo("11");
+        assertThat(service.sumBy(MEMBER_ID, 2024, ActivityCube.Dimension.FUEL, ActivityCube.Filter.builder()
+                .fuelId("LNG").build())).containsOnlyKeys("LNG");
+        assertThat(service.total(MEMBER_ID, 2024, ActivityCube.Filter.builder()
+                .fromMonth(4).toMonth(12).build())).isEqualByComparingTo("10");
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("조건을 기다리다 시간 초과");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private ActivityCubeService service(long ttlMillis) {
+        return new ActivityCubeService(stationaryCombustionRepository, mobileCombustionRepository,
+                electricityUsageRepository, steamUsageRepository, transactionTemplate, true, 268_435_456L, ttlMillis);
+    }
+}
@@ -0,0 +1,132 @@
+package com.nsmm.esg.scopeservice.service;
+
+import com.nsmm.esg.scopeservice.dto.AggregationRequest;
+import com.nsmm.esg.scopeservice.dto.AggregationResponse;
+import com.nsmm.esg.scopeservice.entity.ElectricityUsage;
+import com.nsmm.esg.scopeservice.entity.MobileCombustion;
+import com.nsmm.esg.scopeservice.entity.StationaryCombustion;
+import com.nsmm.esg.scopeservice.entity.SteamUsage;
+import com.nsmm.esg.scopeservice.support.MySqlJpaTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 임의 집계 SQL 엔진 테스트 (컴파일한 UNION ALL 쿼리를 MySQL에서 실제로 실행)
+ */
+@Import({AggregationQueryService.class, FuelTypeCatalog.class})
+class AggregationQueryServiceTest extends MySqlJpaTestSupport {
+
+    private static final long MEMBER_ID = 7L;
+    private static final String COMPANY = "11111111-1111-1111-1111-111111111111";
+
+    @Autowired
+    private AggregationQueryService aggregationQueryService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @MockitoBean
+    private ActivityCubeService activityCubeService;   // 비활성 (isEnabled=false) → SQL 엔진
+
+    @BeforeEach
+    void setUp() {
+        entityManager.persist(stationary(1, "공장A", "DIESEL", "1000", "L", "2.5000"));
+        entityManager.persist(stationary(2, "공장A", "DIESEL", "500", "L", "1.2500"));
+        entityManager.persist(stationary(2, "공장B", "LNG", "300", "m³", "0.6000"));
+        entityManager.persist(MobileCombustion.builder()
+                .memberId(MEMBER_ID).companyId(COMPANY).reportingYear(2024).reportingMonth(4)
+                .vehicleType("트럭").transportType("ROAD").fuelId("DIESEL").fuelUsage(new BigDecimal("200"))
+                .unit("L").totalCo2Equivalent(new BigDecimal("0.5000")).build());
+        entityManager.persist(ElectricityUsage.builder()
+                .memberId(MEMBER_ID).companyId(COMPANY).reportingYear(2024).reportingMonth(1)
+                .facilityName("공장A").facilityLocation("공장A").electricityUsage(new BigDecimal("10000"))
+                .unit("kWh").totalCo2Equivalent(new BigDecimal("4.5000")).build());
+        entityManager.persist(SteamUsage.builder()
+                .memberId(MEMBER_ID).companyId(COMPANY).reportingYear(2024).reportingMonth(7)
+                .facilityName("공장B").facilityLocation("공장B").steamType("저압").steamUsage(new BigDecimal("40"))
+                .unit("GJ").totalCo2Equivalent(new BigDecimal("2.0000")).build());
+        // 다른 회원의 행은 제외되어야 함
+        entityManager.persist(StationaryCombustion.builder()
+                .memberId(MEMBER_ID + 1).companyId(COMPANY).reportingYear(2024).reportingMonth(1)
+                .facilityName("공장A").facilityLocation("공장A").combustionType("LIQUID").fuelId("DIESEL")
+                .fuelUsage(new BigDecimal("999")).unit("L").totalCo2Equivalent(new BigDecimal("99")).build());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void emissionByScopeSumsAllSourceTables() {
+        AggregationResponse response = aggregationQueryService.query(MEMBER_ID, AggregationRequest.builder()
+                .year(2024).dimensions(List.of("SCOPE")).measures(List.of("EMISSION", "COUNT")).build());
+
+        assertThat(response.getEngine()).isEqualTo("SQL");
+        assertThat(response.getUnits()).containsEntry("EMISSION", "tCO2eq").containsEntry("COUNT", "건");
+        assertThat(response.getRows()).hasSize(2);
+        assertRow(response.getRows().get(0), Map.of("SCOPE", "SCOPE1"), "4.8500", 4L);
+        assertRow(response.getRows().get(1), Map.of("SCOPE", "SCOPE2"), "6.5000", 2L);
+    }
+
+    @Test
+    void filtersByFacilityAndMonthRange() {
+        AggregationResponse response = aggregationQueryService.query(MEMBER_ID, AggregationRequest.builder()
+                .year(2024).dimensions(List.of("QUARTER")).measures(List.of("EMISSION", "COUNT"))
+                .facility("공장A").fromMonth(2).toMonth(12).build());
+
+        // 공장A 2월 고정연소 1건만 (이동연소는 시설 컬럼이 없어 제외, 1월 전력은 기간 밖)
+        assertThat(response.getRows()).hasSize(1);
+        assertRow(response.getRows().get(0), Map.of("QUARTER", 1), "1.2500", 1L);
+    }
+
+    @Test
+    void usageIsSummedPerSourceAndUnit() {
+        AggregationResponse response = aggregationQueryService.query(MEMBER_ID, AggregationRequest.builder()
+                .year(2024).dimensions(List.of("FUEL_ID")).measures(List.of("USAGE")).build());
+
+        assertThat(response.getUnits()).doesNotContainKey("USAGE");
+        assertThat(response.getRows())
+                .extracting(row -> row.getKeys().get("FUEL_ID"), AggregationResponse.Row::getSource,
+                        AggregationResponse.Row::getUsageUnit, row -> row.getUsage().stripTrailingZeros().toPlainString())
+                .containsExactlyInAnyOrder(
+                        tuple("DIESEL", "STATIONARY", "L", "1500"),
+                        tuple("DIESEL", "MOBILE", "L", "200"),
+                        tuple("LNG", "STATIONARY", "m³", "300"),
+                        tuple(null, "ELECTRICITY", "kWh", "10000"),
+                        tuple(null, "STEAM", "GJ", "40"));
+    }
+
+    @Test
+    void usageWithoutFuelDimensionIsRejected() {
+        AggregationRequest request = AggregationRequest.builder()
+                .year(2024).dimensions(List.of("MONTH")).measures(List.of("USAGE")).build();
+
+        assertThatThrownBy(() -> aggregationQueryService.query(MEMBER_ID, request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("FUEL_ID");
+    }
+
+    private static StationaryCombustion stationary(int month, String facility, String fuelId, String usage,
+                                                   String unit, String total) {
+        return StationaryCombustion.builder()
+                .memberId(MEMBER_ID).companyId(COMPANY).reportingYear(2024).reportingMonth(month)
+                .facilityName(facility).facilityLocation(facility).combustionType("LIQUID").fuelId(fuelId)
+                .fuelUsage(new BigDecimal(usage)).unit(unit).totalCo2Equivalent(new BigDecimal(total)).build();
+    }
+
+    private static void assertRow(AggregationResponse.Row row, Map<String, Object> keys, String emission, long count) {
+        assertThat(row.getKeys()).isEqualTo(keys);
+        assertThat(row.getEmission()).isEqualByComparingTo(emission);
+        assertThat(row.getCount()).isEqualTo(count);
+    }
+}
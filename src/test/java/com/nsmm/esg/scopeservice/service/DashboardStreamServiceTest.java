@@ -0,0 +1,117 @@
+package com.nsmm.esg.scopeservice.service;
+
+import com.nsmm.esg.scopeservice.event.EmissionDataChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 대시보드 스트림 테스트 (구독자 수와 무관하게 변경당 키별 1회 계산, 고정 크기 전송 풀, 초기 통계 실패 시 구독 해제)
+ */
+class DashboardStreamServiceTest {
+
+    private static final long MEMBER_ID = 7L;
+
+    private final StationaryCombustionService stationaryCombustionService = mock(StationaryCombustionService.class);
+    private DashboardStreamService dashboardStreamService;
+
+    @BeforeEach
+    void setUp() {
+        when(stationaryCombustionService.getDashboardStats(anyLong(), anyInt())).thenReturn(Map.of("total", 1));
+        dashboardStreamService = new DashboardStreamService(stationaryCombustionService, 2, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dashboardStreamService.destroy();
+    }
+
+    @Test
+    void subscribersOfSameKeyShareInitialStats() {
+        for (int i = 0; i < 10; i++) {
+            dashboardStreamService.subscribe(MEMBER_ID, 2024);
+        }
+
+        verify(stationaryCombustionService, times(1)).getDashboardStats(MEMBER_ID, 2024);
+    }
+
+    @Test
+    void changeIsComputedOncePerKeyAndFannedOut() {
+        for (int i = 0; i < 10; i++) {
+            dashboardStreamService.subscribe(MEMBER_ID, 2024);
+        }
+        dashboardStreamService.subscribe(MEMBER_ID, 2023);
+        dashboardStreamService.subscribe(MEMBER_ID + 1, 2024);
+
+        // 같은 주기 안의 변경 여러 건은 한 번으로 합쳐짐
+        dashboardStreamService.onEmissionDataChanged(new EmissionDataChangedEvent(MEMBER_ID, 2024));
+        dashboardStreamService.onEmissionDataChanged(new EmissionDataChangedEvent(MEMBER_ID, 2024));
+        dashboardStreamService.flushDirtyKeys();
+
+        verify(stationaryCombustionService, times(2)).getDashboardStats(MEMBER_ID, 2024);
+        verify(stationaryCombustionService, times(1)).getDashboardStats(MEMBER_ID, 2023);
+        verify(stationaryCombustionService, times(1)).getDashboardStats(eq(MEMBER_ID + 1), anyInt());
+    }
+
+    @Test
+    void changeWithoutYearRecomputesEachSubscribedYearOfMember() {
+        dashboardStreamService.subscribe(MEMBER_ID, 2024);
+        dashboardStreamService.subscribe(MEMBER_ID, 2023);
+
+        dashboardStreamService.onEmissionDataChanged(new EmissionDataChangedEvent(MEMBER_ID, null));
+        dashboardStreamService.flushDirtyKeys();
+
+        verify(stationaryCombustionService, times(2)).getDashboardStats(MEMBER_ID, 2024);
+        verify(stationaryCombustionService, times(2)).getDashboardStats(MEMBER_ID, 2023);
+    }
+
+    @Test
+    void subscriberAfterChangeGetsFreshStats() {
+        dashboardStreamService.subscribe(MEMBER_ID, 2024);
+        dashboardStreamService.onEmissionDataChanged(new EmissionDataChangedEvent(MEMBER_ID, 2024));
+        dashboardStreamService.subscribe(MEMBER_ID, 2024);
+
+        verify(stationaryCombustionService, times(2)).getDashboardStats(MEMBER_ID, 2024);
+    }
+
+    @Test
+    void failedInitialStatsLeavesNoSubscription() {
+        when(stationaryCombustionService.getDashboardStats(MEMBER_ID, 2024)).thenThrow(new IllegalStateException("DB 오류"));
+
+        assertThatThrownBy(() -> dashboardStreamService.subscribe(MEMBER_ID, 2024))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat((Map<?, ?>) ReflectionTestUtils.getField(dashboardStreamService, "subscriptions")).isEmpty();
+
+        // 남은 연결이 없으므로 이후 변경은 재계산하지 않음
+        dashboardStreamService.onEmissionDataChanged(new EmissionDataChangedEvent(MEMBER_ID, 2024));
+        dashboardStreamService.flushDirtyKeys();
+        verify(stationaryCombustionService, times(1)).getDashboardStats(MEMBER_ID, 2024);
+    }
+
+    @Test
+    void sendPoolIsBounded() {
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) ReflectionTestUtils.getField(dashboardStreamService, "sendExecutor");
+
+        for (int i = 0; i < 50; i++) {
+            dashboardStreamService.subscribe(MEMBER_ID + i, 2024);
+        }
+
+        assertThat(executor.getMaximumPoolSize()).isEqualTo(2);
+        assertThat(executor.getLargestPoolSize()).isLessThanOrEqualTo(2);
+        assertThat(executor.getQueue().remainingCapacity() + executor.getQueue().size()).isEqualTo(100);
+    }
+}
@@ -0,0 +1,83 @@
+package com.nsmm.esg.scopeservice.service;
+
+import com.nsmm.esg.scopeservice.dto.DataQualityResponse;
+import com.nsmm.esg.scopeservice.entity.CalculationQuality;
+import com.nsmm.esg.scopeservice.repository.StationaryCombustionRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * 데이터 품질 요약 테스트 (건수 가중 점수, 품질 미기록 행은 점수 제외, EXACT가 아닌 연료 목록, 품질 코드)
+ */
+@ExtendWith(MockitoExtension.class)
+class DataQualityServiceTest {
+
+    private static final long MEMBER_ID = 7L;
+
+    @Mock
+    private StationaryCombustionRepository stationaryCombustionRepository;
+
+    @InjectMocks
+    private DataQualityService dataQualityService;
+
+    @Test
+    void scoreIsCountWeightedAndExcludesUnrecordedRows() {
+        rollup(row(CalculationQuality.EXACT, "DIESEL", 6, "60"),
+                row(CalculationQuality.YEAR_FALLBACK, "LNG", 3, "30"),
+                row(CalculationQuality.NAME_DEFAULT, "KEROSENE", 1, "10"),
+                row(null, "BIOGAS", 2, "0"));
+
+        DataQualityResponse response = dataQualityService.getStationaryDataQuality(MEMBER_ID, 2024, null);
+
+        // (6 × 100 + 3 × 70 + 1 × 30) / 10
+        assertThat(response.getQualityScore()).isEqualByComparingTo("84.00");
+        assertThat(response.getTotalCount()).isEqualTo(12L);
+        assertThat(response.getTotalEmission()).isEqualByComparingTo("100");
+        assertThat(response.getQualities()).extracting(DataQualityResponse.QualityShare::getQuality)
+                .containsExactly("EXACT", "YEAR_FALLBACK", "NAME_DEFAULT", "UNKNOWN");
+        assertThat(response.getQualities().stream().map(DataQualityResponse.QualityShare::getCountPercentage)
+                .reduce(BigDecimal.ZERO, BigDecimal::add)).isEqualByComparingTo("100.00");
+        assertThat(response.getFallbackFuels()).extracting(DataQualityResponse.FuelQuality::getFuelId)
+                .containsExactly("LNG", "KEROSENE", "BIOGAS");
+    }
+
+    @Test
+    void onlyUnrecordedRowsHaveNoScore() {
+        rollup(row(null, "DIESEL", 4, "40"));
+
+        DataQualityResponse response = dataQualityService.getStationaryDataQuality(MEMBER_ID, 2024, null);
+
+        assertThat(response.getQualityScore()).isNull();
+        assertThat(response.getQualities()).singleElement()
+                .satisfies(share -> assertThat(share.getCountPercentage()).isEqualByComparingTo("100"));
+    }
+
+    @Test
+    void qualityCodesRoundTripAndWorseWins() {
+        for (CalculationQuality quality : CalculationQuality.values()) {
+            assertThat(CalculationQuality.fromCode(quality.getCode())).isEqualTo(quality);
+        }
+        assertThat(CalculationQuality.EXACT.worse(CalculationQuality.YEAR_FALLBACK)).isEqualTo(CalculationQuality.YEAR_FALLBACK);
+        assertThat(CalculationQuality.NAME_DEFAULT.worse(CalculationQuality.YEAR_FALLBACK)).isEqualTo(CalculationQuality.NAME_DEFAULT);
+        assertThat(CalculationQuality.EXACT.worse(null)).isEqualTo(CalculationQuality.EXACT);
+    }
+
+    private void rollup(Object[]... rows) {
+        when(stationaryCombustionRepository.findCalculationQualityRollup(MEMBER_ID, 2024, null))
+                .thenReturn(new ArrayList<>(List.of(rows)));
+    }
+
+    private static Object[] row(CalculationQuality quality, String fuelId, long count, String emission) {
+        return new Object[]{quality, fuelId, fuelId + " 이름", count, new BigDecimal(emission)};
+    }
+}
@@ -0,0 +1,108 @@
+package com.nsmm.esg.scopeservice.service;
+
+import com.nsmm.esg.scopeservice.dto.ScopeEmissionSummaryResponse;
+import com.nsmm.esg.scopeservice.dto.ScopeEmissionSummaryResponse.FuelTypeEmission;
+import com.nsmm.esg.scopeservice.repository.StationaryCombustionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 연료 구성비 테스트 (구성비 합계 100.00%, 사용량은 연료 기본 단위로 환산, 환산 불가 시 사용량 생략, 카테고리 합계)
+ */
+class EmissionBreakdownServiceTest {
+
+    private static final long MEMBER_ID = 7L;
+
+    private final StationaryCombustionRepository stationaryCombustionRepository = mock(StationaryCombustionRepository.class);
+    private final FuelTypeCatalog fuelTypeCatalog = mock(FuelTypeCatalog.class);
+    private final EmissionBreakdownService emissionBreakdownService =
+            new EmissionBreakdownService(stationaryCombustionRepository, fuelTypeCatalog, new UnitConversionService());
+
+    @BeforeEach
+    void setUp() {
+        when(fuelTypeCatalog.get(anyString())).thenAnswer(invocation -> {
+            String fuelId = invocation.getArgument(0);
+            return switch (fuelId) {
+                case "DIESEL" -> new FuelTypeCatalog.Entry("DIESEL", "경유", "LIQUID", "L");
+                case "KEROSENE" -> new FuelTypeCatalog.Entry("KEROSENE", "등유", "LIQUID", "L");
+                case "LNG" -> new FuelTypeCatalog.Entry("LNG", "LNG", "GAS", "Nm³");
+                default -> null;
+            };
+        });
+    }
+
+    @Test
+    void sharesAlwaysSumToExactlyHundredPercent() {
+        rows(row("DIESEL", "L", "1", "1", 1), row("KEROSENE", "L", "1", "1", 1), row("LNG", "Nm³", "1", "1", 1));
+
+        ScopeEmissionSummaryResponse.Scope1Summary scope1 = breakdown().getScope1();
+
+        assertThat(scope1.getFuelTypeBreakdown()).extracting(FuelTypeEmission::getPercentage)
+                .containsExactly(new BigDecimal("33.34"), new BigDecimal("33.33"), new BigDecimal("33.33"));
+        assertThat(scope1.getCategoryBreakdown()).extracting(c -> c.getPercentage().toPlainString())
+                .containsExactly("66.67", "33.33");
+    }
+
+    @Test
+    void usageIsConvertedToFuelBaseUnitAcrossRows() {
+        rows(row("DIESEL", "L", "1000", "2.6", 3), row("DIESEL", "kL", "1", "2.6", 2), row("KEROSENE", "L", "500", "1.2", 1));
+
+        ScopeEmissionSummaryResponse response = breakdown();
+        FuelTypeEmission diesel = response.getScope1().getFuelTypeBreakdown().get(0);
+
+        assertThat(diesel.getFuelId()).isEqualTo("DIESEL");
+        assertThat(diesel.getUsage()).isEqualByComparingTo("2000");
+        assertThat(diesel.getUnit()).isEqualTo("L");
+        assertThat(diesel.getEmission()).isEqualByComparingTo("5.2");
+        assertThat(response.getTotalEmission()).isEqualByComparingTo("6.4");
+        assertThat(response.getTotalDataCount()).isEqualTo(6);
+        assertThat(response.getScope1().getCategoryBreakdown()).singleElement()
+                .satisfies(category -> assertThat(category.getFuelCount()).isEqualTo(2));
+    }
+
+    @Test
+    void unconvertibleUsageIsOmittedInsteadOfMixingUnits() {
+        rows(row("DIESEL", "L", "1000", "2.6", 1), row("DIESEL", "MWh", "5", "1.0", 1));
+
+        FuelTypeEmission diesel = breakdown().getScope1().getFuelTypeBreakdown().get(0);
+
+        assertThat(diesel.getUsage()).isNull();
+        assertThat(diesel.getEmission()).isEqualByComparingTo("3.6");
+    }
+
+    @Test
+    void unknownFuelFallsBackToRowNameAndUncategorized() {
+        rows(row("BIOGAS", "m³", "10", "0", 1));
+
+        FuelTypeEmission fuel = breakdown().getScope1().getFuelTypeBreakdown().get(0);
+
+        assertThat(fuel.getFuelType()).isEqualTo("BIOGAS 이름");
+        assertThat(fuel.getCategory()).isEqualTo("기타");
+        assertThat(fuel.getUnit()).isEqualTo("m³");
+        assertThat(fuel.getPercentage()).isEqualByComparingTo("0");
+    }
+
+    private ScopeEmissionSummaryResponse breakdown() {
+        return emissionBreakdownService.getFuelBreakdown(MEMBER_ID, 2024, null);
+    }
+
+    private void rows(Object[]... rows) {
+        when(stationaryCombustionRepository.findFuelUsageAndEmission(anyLong(), any(), any()))
+                .thenReturn(new ArrayList<>(List.of(rows)));
+    }
+
+    private static Object[] row(String fuelId, String unit, String usage, String emission, long count) {
+        return new Object[]{fuelId, fuelId + " 이름", unit, new BigDecimal(usage), new BigDecimal(emission), count};
+    }
+}
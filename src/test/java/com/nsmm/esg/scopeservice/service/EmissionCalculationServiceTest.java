@@ -0,0 +1,108 @@
+package com.nsmm.esg.scopeservice.service;
+
+import com.nsmm.esg.scopeservice.dto.FactorSetContent;
+import com.nsmm.esg.scopeservice.entity.CalculationQuality;
+import com.nsmm.esg.scopeservice.repository.CalorificValueRepository;
+import com.nsmm.esg.scopeservice.repository.EmissionFactorRepository;
+import com.nsmm.esg.scopeservice.repository.FuelTypeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 고정연소 배출량 계산 테스트 (계산에 쓴 계수셋과 기록되는 계수셋 ID의 일치, 가까운 연도 값 사용 시 품질 표시,
+ * 알 수 없거나 발열량 단위로 환산할 수 없는 사용량 단위 거부)
+ */
+@ExtendWith(MockitoExtension.class)
+class EmissionCalculationServiceTest {
+
+    @Mock
+    private FuelTypeRepository fuelTypeRepository;
+    @Mock
+    private CalorificValueRepository calorificValueRepository;
+    @Mock
+    private EmissionFactorRepository emissionFactorRepository;
+    @Spy
+    private UnitConversionService unitConversionService;
+    @Mock
+    private FactorSetSnapshotService factorSetSnapshotService;
+
+    @InjectMocks
+    private EmissionCalculationService emissionCalculationService;
+
+    @BeforeEach
+    void setUp() {
+        FactorTable table = FactorTable.from(FactorSetContent.builder()
+                .kernelVersion(EmissionCalculationService.KERNEL_VERSION)
+                .yearPolicy("FLOOR")
+                .fuels(List.of(FactorSetContent.Fuel.builder().fuelId("DIESEL").name("경유").build()))
+                .calorificValues(List.of(FactorSetContent.Calorific.builder()
+                        .fuelId("DIESEL").year(2024).value("0.0355").unit("TJ/kL").build()))
+                .emissionFactors(List.of(FactorSetContent.Factor.builder()
+                        .fuelId("DIESEL").year(2024).co2Factor("74.1").ch4Factor("3.9").n2oFactor("0.6").build()))
+                .build());
+        when(factorSetSnapshotService.current()).thenReturn(new FactorSetSnapshotService.CurrentFactorSet(7, table));
+    }
+
+    @Test
+    void resultCarriesIdOfSnapshotUsedForFactors() {
+        EmissionCalculationService.EmissionResult result = emissionCalculationService
+                .calculateScope1StationaryEmission("DIESEL", new BigDecimal("1000"), null, 2024);
+
+        assertThat(result.getFactorSetId()).isEqualTo(7);
+        assertThat(result.getQuality()).isEqualTo(CalculationQuality.EXACT);
+        assertThat(result.getCo2Emission()).isEqualByComparingTo("2630.5500");   // 1000 × 0.0355 TJ × 74.1
+        verify(factorSetSnapshotService, never()).currentSnapshotId();
+    }
+
+    @Test
+    void nearestYearValuesAreUsedAndFlagged() {
+        EmissionCalculationService.EmissionResult result = emissionCalculationService
+                .calculateScope1StationaryEmission("DIESEL", new BigDecimal("1000"), null, 2026);
+
+        assertThat(result.getQuality()).isEqualTo(CalculationQuality.YEAR_FALLBACK);
+        assertThat(result.getCo2Emission()).isEqualByComparingTo("2630.5500");   // 2024년 값 사용
+        assertThat(result.getFactorSetId()).isEqualTo(7);
+    }
+
+    @Test
+    void unknownFuelFailsWithoutFactorSetId() {
+        EmissionCalculationService.EmissionResult result = emissionCalculationService
+                .calculateScope1StationaryEmission("UNKNOWN", new BigDecimal("1000"), null, 2024);
+
+        assertThat(result.getQuality()).isEqualTo(CalculationQuality.FAILED);
+        assertThat(result.getFactorSetId()).isNull();
+        assertThat(result.getTotalEmission()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    void unknownOrUnconvertibleUnitIsRejected() {
+        assertThat(emissionCalculationService.resolveStationaryUnitId("DIESEL", " l ", 2024))
+                .isEqualTo(unitConversionService.idOf("L"));
+        assertThat(emissionCalculationService.resolveStationaryUnitId("DIESEL", "ton", 2024))
+                .isEqualTo(unitConversionService.idOf("ton"));   // 경유 밀도로 환산
+        // 알 수 없는 연료는 계산 품질 FAILED로 처리하므로 단위만 확인
+        assertThat(emissionCalculationService.resolveStationaryUnitId("UNKNOWN", "kWh", 2024))
+                .isEqualTo(unitConversionService.idOf("kWh"));
+
+        assertThatThrownBy(() -> emissionCalculationService.resolveStationaryUnitId("DIESEL", "barrel", 2024))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("barrel");
+        assertThatThrownBy(() -> emissionCalculationService.resolveStationaryUnitId("DIESEL", null, 2024))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> emissionCalculationService.resolveStationaryUnitId("DIESEL", "kWh", 2024))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("TJ/kL");
+    }
+}
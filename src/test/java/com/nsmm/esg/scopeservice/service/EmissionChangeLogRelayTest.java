@@ -0,0 +1,162 @@
+package com.nsmm.esg.scopeservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.nsmm.esg.scopeservice.dto.EmissionChangeResponse;
+import com.nsmm.esg.scopeservice.entity.EmissionChangeLog;
+import com.nsmm.esg.scopeservice.repository.EmissionChangeLogRepository;
+import com.nsmm.esg.scopeservice.repository.EmissionChangeSequenceRepository;
+import com.nsmm.esg.scopeservice.support.MySqlJpaTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * 트랜잭셔널 아웃박스 테스트 (쓰기 트랜잭션과 함께 커밋/롤백되는 변경 로그, 인스턴스가 여럿이어도 한 번만 발행하는 릴레이)
+ * 릴레이의 행 잠금을 확인하기 위해 테스트 트랜잭션 없이 실제로 커밋합니다.
+ */
+@Import({EmissionChangeLogService.class, EmissionChangeLogRelayTest.JacksonConfig.class})
+@TestPropertySource(properties = "scope.change-log.relay-interval-ms=3600000")   // 스케줄 릴레이는 시작 시 1회만
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EmissionChangeLogRelayTest extends MySqlJpaTestSupport {
+
+    private static final long MEMBER_ID = 7L;
+
+    @Autowired
+    private EmissionChangeLogService emissionChangeLogService;
+
+    @Autowired
+    private EmissionChangeLogRepository emissionChangeLogRepository;
+
+    @Autowired
+    private EmissionChangeSequenceRepository emissionChangeSequenceRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockitoBean
+    private EmissionChangePublisher emissionChangePublisher;
+
+    private final List<Long> publishedSeqs = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        emissionChangeLogRepository.deleteAll();
+        emissionChangeSequenceRepository.deleteAll();
+    }
+
+    @Test
+    void changeLogCommitsAndRollsBackWithTheWrite() {
+        record(1L);
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            emissionChangeLogService.record(MEMBER_ID, 2024, EmissionChangeLogService.STATIONARY_COMBUSTION,
+                    2L, "UPSERT", Map.of("id", 2L));
+            throw new IllegalStateException("쓰기 실패");
+        })).isInstanceOf(IllegalStateException.class);
+        record(3L);
+
+        assertThat(emissionChangeLogRepository.findByMemberIdAndMemberSeqGreaterThanOrderByMemberSeqAsc(
+                MEMBER_ID, 0L, Limit.of(10)))
+                .extracting(EmissionChangeLog::getEntityId, EmissionChangeLog::getMemberSeq)
+                .containsExactly(tuple(1L, 1L), tuple(3L, 2L));
+    }
+
+    @Test
+    void recordOutsideWriteTransactionIsRejected() {
+        assertThatThrownBy(() -> emissionChangeLogService.record(MEMBER_ID, 2024,
+                EmissionChangeLogService.STATIONARY_COMBUSTION, 1L, "UPSERT", null))
+                .isInstanceOf(IllegalTransactionStateException.class);
+    }
+
+    @Test
+    void concurrentRelaysPublishEachLogExactlyOnce() throws Exception {
+        for (long id = 1; id <= 20; id++) {
+            record(id);
+        }
+        CountDownLatch firstPublishing = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            EmissionChangeResponse change = invocation.getArgument(0);
+            publishedSeqs.add(change.getSeq());
+            firstPublishing.countDown();
+            Thread.sleep(20);
+            return null;
+        }).when(emissionChangePublisher).publish(any());
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> first = executor.submit(emissionChangeLogService::relayUnpublished);
+            assertThat(firstPublishing.await(10, TimeUnit.SECONDS)).isTrue();
+            // 첫 릴레이가 행을 잠근 채 발행 중 → 두 번째 릴레이는 건너뛰고 빈 손으로 끝남
+            Future<?> second = executor.submit(emissionChangeLogService::relayUnpublished);
+            second.get(10, TimeUnit.SECONDS);
+            first.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        emissionChangeLogService.relayUnpublished();
+
+        assertThat(publishedSeqs).hasSize(20).doesNotHaveDuplicates();
+        assertThat(emissionChangeLogRepository.findByPublishedFalseOrderByIdAsc(Limit.of(100))).isEmpty();
+    }
+
+    @Test
+    void publishFailureResumesFromFailedLog() {
+        for (long id = 1; id <= 5; id++) {
+            record(id);
+        }
+        AtomicInteger calls = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (calls.incrementAndGet() == 3) {
+                throw new IllegalStateException("브로커 연결 실패");
+            }
+            EmissionChangeResponse change = invocation.getArgument(0);
+            publishedSeqs.add(change.getSeq());
+            return null;
+        }).when(emissionChangePublisher).publish(any());
+
+        emissionChangeLogService.relayUnpublished();
+        assertThat(publishedSeqs).containsExactly(1L, 2L);
+
+        emissionChangeLogService.relayUnpublished();
+        assertThat(publishedSeqs).containsExactly(1L, 2L, 3L, 4L, 5L);
+    }
+
+    private void record(long entityId) {
+        transactionTemplate.executeWithoutResult(status -> emissionChangeLogService.record(MEMBER_ID, 2024,
+                EmissionChangeLogService.STATIONARY_COMBUSTION, entityId, "UPSERT", Map.of("id", entityId)));
+    }
+
+    @TestConfiguration
+    static class JacksonConfig {
+        @Bean
+        ObjectMapper objectMapper() {
+            return JsonMapper.builder().findAndAddModules().build();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.nsmm.esg.scopeservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nsmm.esg.scopeservice.config.ShardDirectory;
+import com.nsmm.esg.scopeservice.event.EmissionDataChangedEvent;
+import com.nsmm.esg.scopeservice.repository.EmissionChangeLogRepository;
+import com.nsmm.esg.scopeservice.repository.EmissionChangeSequenceRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 변경 로그 기록 테스트 (연도를 옮기는 수정은 이전 연도와 새 연도 모두 변경 이벤트 발행)
+ */
+@ExtendWith(MockitoExtension.class)
+class EmissionChangeLogServiceTest {
+
+    private static final long MEMBER_ID = 7L;
+
+    @Mock
+    private EmissionChangeLogRepository emissionChangeLogRepository;
+    @Mock
+    private EmissionChangeSequenceRepository emissionChangeSequenceRepository;
+    @Mock
+    private EmissionChangePublisher emissionChangePublisher;
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private ObjectProvider<ShardDirectory> shardDirectoryProvider;
+
+    @InjectMocks
+    private EmissionChangeLogService emissionChangeLogService;
+
+    @Test
+    void yearMovePublishesChangeForBothYears() {
+        emissionChangeLogService.record(MEMBER_ID, 2024, 2023, EmissionChangeLogService.STATIONARY_COMBUSTION,
+                1L, "UPDATE", Map.of("reportingYear", 2024));
+
+        ArgumentCaptor<EmissionDataChangedEvent> events = ArgumentCaptor.forClass(EmissionDataChangedEvent.class);
+        verify(applicationEventPublisher, times(2)).publishEvent(events.capture());
+        assertThat(events.getAllValues())
+                .extracting(EmissionDataChangedEvent::getMemberId, EmissionDataChangedEvent::getReportingYear)
+                .containsExactly(tuple(MEMBER_ID, 2024), tuple(MEMBER_ID, 2023));
+    }
+
+    @Test
+    void sameYearUpdatePublishesOnce() {
+        emissionChangeLogService.record(MEMBER_ID, 2024, 2024, EmissionChangeLogService.STATIONARY_COMBUSTION,
+                1L, "UPDATE", null);
+
+        ArgumentCaptor<EmissionDataChangedEvent> events = ArgumentCaptor.forClass(EmissionDataChangedEvent.class);
+        verify(applicationEventPublisher, times(1)).publishEvent(events.capture());
+        assertThat(events.getValue().getReportingYear()).isEqualTo(2024);
+    }
+}
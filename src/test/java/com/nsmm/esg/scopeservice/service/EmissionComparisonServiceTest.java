@@ -0,0 +1,142 @@
+package com.nsmm.esg.scopeservice.service;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.nsmm.esg.scopeservice.dto.EmissionBaselineRequest;
+import com.nsmm.esg.scopeservice.dto.EmissionComparisonResponse;
+import com.nsmm.esg.scopeservice.entity.EmissionBaseline;
+import com.nsmm.esg.scopeservice.repository.EmissionBaselineRepository;
+import com.nsmm.esg.scopeservice.repository.StationaryCombustionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 배출량 비교 테스트 (스냅샷이 없으면 실시간 집계, 있으면 원본이 바뀌어도 스냅샷 사용, 선형 감축 경로 진척도)
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class EmissionComparisonServiceTest {
+
+    private static final long MEMBER_ID = 7L;
+
+    @Mock
+    private StationaryCombustionRepository stationaryCombustionRepository;
+    @Mock
+    private EmissionBaselineRepository emissionBaselineRepository;
+
+    private EmissionComparisonService emissionComparisonService;
+
+    @BeforeEach
+    void setUp() {
+        emissionComparisonService = new EmissionComparisonService(stationaryCombustionRepository,
+                emissionBaselineRepository, JsonMapper.builder().findAndAddModules().build());
+        when(emissionBaselineRepository.findByMemberIdAndBaseYear(any(), any())).thenReturn(Optional.empty());
+        when(emissionBaselineRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        rollup(2020, row(1, "경유", "공장A", "C1", "600"), row(2, "LNG", "공장B", "C1", "400"));
+        rollup(2021, row(1, "경유", "공장A", "C1", "450"), row(2, "LNG", "공장B", "C2", "350"));
+    }
+
+    @Test
+    void yearOverYearWithoutSnapshotUsesLiveRollup() {
+        EmissionComparisonResponse response = emissionComparisonService.compareYearOverYear(MEMBER_ID, 2021, null);
+
+        assertThat(response.getCompareYear()).isEqualTo(2020);
+        assertThat(response.getCompareSource()).isEqualTo("LIVE");
+        assertThat(response.getTotal().getDelta()).isEqualByComparingTo("-200");
+        assertThat(response.getTotal().getChangePercent()).isEqualByComparingTo("-20.00");
+        assertThat(response.getMonthly().get(0).getDelta()).isEqualByComparingTo("-150");
+        // 증감 절대값 큰 순, 한쪽에만 있는 키는 0과 비교
+        assertThat(response.getByFuel().get(0).getKey()).isEqualTo("경유");
+        assertThat(response.getByPartner()).filteredOn(d -> "C2".equals(d.getKey()))
+                .singleElement().satisfies(d -> {
+                    assertThat(d.getPrevious()).isEqualByComparingTo("0");
+                    assertThat(d.getChangePercent()).isNull();
+                });
+    }
+
+    @Test
+    void snapshotIsUsedEvenAfterSourceRowsChange() {
+        EmissionBaseline baseline = createBaseline(2020, 2030, "30");
+        when(emissionBaselineRepository.findByMemberIdAndBaseYear(MEMBER_ID, 2020)).thenReturn(Optional.of(baseline));
+        // 스냅샷 등록 후 2020년 원본이 바뀜
+        rollup(2020, row(1, "경유", "공장A", "C1", "5000"));
+
+        EmissionComparisonResponse response = emissionComparisonService.compareYearOverYear(MEMBER_ID, 2021, null);
+
+        assertThat(response.getCompareSource()).isEqualTo("BASELINE");
+        assertThat(response.getTotal().getPrevious()).isEqualByComparingTo("1000");
+    }
+
+    @Test
+    void baselineComparisonTracksLinearReductionPath() {
+        EmissionBaseline baseline = createBaseline(2020, 2030, "30");
+        when(emissionBaselineRepository.findFirstByMemberIdOrderByCreatedAtDesc(MEMBER_ID)).thenReturn(Optional.of(baseline));
+        rollup(2025, row(3, "경유", "공장A", "C1", "800"));
+
+        EmissionComparisonResponse.TargetProgress progress =
+                emissionComparisonService.compareWithBaseline(MEMBER_ID, 2025, null).getTargetProgress();
+
+        // 목표 1000 × 70% = 700, 2025년은 10년 경로의 절반 → 기대 850
+        assertThat(progress.getTargetEmission()).isEqualByComparingTo("700");
+        assertThat(progress.getExpectedEmission()).isEqualByComparingTo("850");
+        assertThat(progress.getAchievedReductionPercent()).isEqualByComparingTo("20.00");
+        assertThat(progress.getOnTrack()).isTrue();
+    }
+
+    @Test
+    void invalidOrDuplicateBaselineIsRejected() {
+        assertThatThrownBy(() -> emissionComparisonService.createBaseline(MEMBER_ID, baselineRequest(2020, 2020, "30")))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        when(emissionBaselineRepository.existsByMemberIdAndBaseYear(MEMBER_ID, 2020)).thenReturn(true);
+        assertThatThrownBy(() -> emissionComparisonService.createBaseline(MEMBER_ID, baselineRequest(2020, 2030, "30")))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(emissionBaselineRepository, never()).save(any());
+    }
+
+    @Test
+    void missingBaselineIsRejected() {
+        when(emissionBaselineRepository.findFirstByMemberIdOrderByCreatedAtDesc(MEMBER_ID)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> emissionComparisonService.compareWithBaseline(MEMBER_ID, 2025, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private EmissionBaseline createBaseline(int baseYear, int targetYear, String reductionPercent) {
+        emissionComparisonService.createBaseline(MEMBER_ID, baselineRequest(baseYear, targetYear, reductionPercent));
+        ArgumentCaptor<EmissionBaseline> saved = ArgumentCaptor.forClass(EmissionBaseline.class);
+        verify(emissionBaselineRepository).save(saved.capture());
+        return saved.getValue();
+    }
+
+    private void rollup(int year, Object[]... rows) {
+        when(stationaryCombustionRepository.findEmissionRollup(MEMBER_ID, year)).thenReturn(new ArrayList<>(List.of(rows)));
+    }
+
+    private static Object[] row(int month, String fuel, String facility, String partner, String emission) {
+        return new Object[]{month, fuel, facility, partner, new BigDecimal(emission)};
+    }
+
+    private static EmissionBaselineRequest baselineRequest(int baseYear, int targetYear, String reductionPercent) {
+        return EmissionBaselineRequest.builder()
+                .baseYear(baseYear).targetYear(targetYear).reductionTargetPercent(new BigDecimal(reductionPercent))
+                .build();
+    }
+}
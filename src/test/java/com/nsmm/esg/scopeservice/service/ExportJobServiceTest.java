@@ -0,0 +1,160 @@
+package com.nsmm.esg.scopeservice.service;
+
+import com.nsmm.esg.scopeservice.dto.ExportJobResponse;
+import com.nsmm.esg.scopeservice.event.EmissionDataChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 비동기 내보내기 작업 테스트 (완료 파일만 제공, 진행 중 작업 공유, 실패 시 부분 파일 삭제 후 재제출 허용, 데이터 변경 후 재사용 중단)
+ */
+class ExportJobServiceTest {
+
+    private static final long MEMBER_ID = 7L;
+    private static final String CONTENT = "연도,배출원,배출량\n2024,고정연소,2.64\n";
+
+    @TempDir
+    Path storageDir;
+
+    private final ReportExportService reportExportService = mock(ReportExportService.class);
+    private ExportJobService exportJobService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        when(reportExportService.validateFormat(anyString())).thenAnswer(invocation ->
+                ((String) invocation.getArgument(0)).toLowerCase());
+        exportWrites(CONTENT);
+        exportJobService = new ExportJobService(reportExportService, storageDir.toString(), 60, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        exportJobService.destroy();
+    }
+
+    @Test
+    void completedJobServesWholeFileAndLeavesNoPartialFile() throws Exception {
+        ExportJobResponse submitted = exportJobService.submit(MEMBER_ID, 2024, null, "CSV");
+
+        ExportJobResponse done = awaitFinished(submitted.getJobId());
+
+        assertThat(done.getStatus()).isEqualTo(ExportJobService.COMPLETED);
+        assertThat(done.getSizeBytes()).isEqualTo(CONTENT.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(done.getDownloadUrl()).endsWith("/" + submitted.getJobId() + "/download");
+        assertThat(exportJobService.getFile(MEMBER_ID, submitted.getJobId()).getContentAsString(StandardCharsets.UTF_8))
+                .isEqualTo(CONTENT);
+        assertThat(filesIn(storageDir)).noneMatch(name -> name.endsWith(".part"));
+    }
+
+    @Test
+    void duplicateSubmitWhileRunningSharesJob() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            invocation.<OutputStream>getArgument(4).write(CONTENT.getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(reportExportService).export(anyLong(), any(), any(), anyString(), any());
+
+        ExportJobResponse first = exportJobService.submit(MEMBER_ID, 2024, null, "csv");
+        assertThatThrownBy(() -> exportJobService.getFile(MEMBER_ID, first.getJobId()))
+                .isInstanceOf(IllegalArgumentException.class);
+        ExportJobResponse second = exportJobService.submit(MEMBER_ID, 2024, null, "CSV");
+        release.countDown();
+
+        assertThat(second.getJobId()).isEqualTo(first.getJobId());
+        assertThat(second.getDeduplicated()).isTrue();
+        awaitFinished(first.getJobId());
+        verify(reportExportService, times(1)).export(anyLong(), any(), any(), anyString(), any());
+    }
+
+    @Test
+    void failedJobDeletesPartialFileAndIsNotReused() throws Exception {
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(4).write("연도,".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("연결 끊김");
+        }).when(reportExportService).export(anyLong(), any(), any(), anyString(), any());
+
+        ExportJobResponse failed = awaitFinished(exportJobService.submit(MEMBER_ID, 2024, null, "csv").getJobId());
+
+        assertThat(failed.getStatus()).isEqualTo(ExportJobService.FAILED);
+        assertThat(failed.getErrorMessage()).isEqualTo("연결 끊김");
+        assertThat(filesIn(storageDir)).isEmpty();
+
+        exportWrites(CONTENT);
+        ExportJobResponse retried = exportJobService.submit(MEMBER_ID, 2024, null, "csv");
+        assertThat(retried.getJobId()).isNotEqualTo(failed.getJobId());
+        assertThat(awaitFinished(retried.getJobId()).getStatus()).isEqualTo(ExportJobService.COMPLETED);
+    }
+
+    @Test
+    void dataChangeStopsReuseButKeepsIssuedJob() throws Exception {
+        String jobId = exportJobService.submit(MEMBER_ID, 2024, null, "csv").getJobId();
+        awaitFinished(jobId);
+        assertThat(exportJobService.submit(MEMBER_ID, 2024, null, "csv").getJobId()).isEqualTo(jobId);
+
+        exportJobService.onEmissionDataChanged(new EmissionDataChangedEvent(MEMBER_ID, 2024));
+
+        assertThat(exportJobService.submit(MEMBER_ID, 2024, null, "csv").getJobId()).isNotEqualTo(jobId);
+        assertThat(exportJobService.getStatus(MEMBER_ID, jobId).getStatus()).isEqualTo(ExportJobService.COMPLETED);
+    }
+
+    @Test
+    void jobOfAnotherMemberIsNotVisible() throws Exception {
+        String jobId = exportJobService.submit(MEMBER_ID, 2024, null, "csv").getJobId();
+        awaitFinished(jobId);
+
+        assertThatThrownBy(() -> exportJobService.getStatus(MEMBER_ID + 1, jobId))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> exportJobService.getFile(MEMBER_ID + 1, jobId))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void exportWrites(String content) throws IOException {
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(4).write(content.getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(reportExportService).export(anyLong(), any(), any(), anyString(), any());
+    }
+
+    private ExportJobResponse awaitFinished(String jobId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline) {
+            ExportJobResponse status = exportJobService.getStatus(MEMBER_ID, jobId);
+            if (ExportJobService.COMPLETED.equals(status.getStatus()) || ExportJobService.FAILED.equals(status.getStatus())) {
+                return status;
+            }
+            Thread.sleep(10);
+        }
+        return fail("내보내기 작업이 끝나지 않음: " + jobId);
+    }
+
+    private static List<String> filesIn(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.map(path -> path.getFileName().toString()).toList();
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.nsmm.esg.scopeservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nsmm.esg.scopeservice.config.ShardDirectory;
+import com.nsmm.esg.scopeservice.entity.CalorificValue;
+import com.nsmm.esg.scopeservice.entity.EmissionFactor;
+import com.nsmm.esg.scopeservice.entity.FactorSetSnapshot;
+import com.nsmm.esg.scopeservice.entity.FuelType;
+import com.nsmm.esg.scopeservice.event.FactorMasterDataChangedEvent;
+import com.nsmm.esg.scopeservice.repository.CalorificValueRepository;
+import com.nsmm.esg.scopeservice.repository.EmissionFactorRepository;
+import com.nsmm.esg.scopeservice.repository.FactorSetSnapshotRepository;
+import com.nsmm.esg.scopeservice.repository.FuelTypeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 계수셋 스냅샷 서비스 테스트 (내용 해시 재현성, 전용 스레드의 현재 ID 갱신, 갱신 중 이전 ID 사용, 무효화 경합)
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class FactorSetSnapshotServiceTest {
+
+    @Mock
+    private FuelTypeRepository fuelTypeRepository;
+    @Mock
+    private CalorificValueRepository calorificValueRepository;
+    @Mock
+    private EmissionFactorRepository emissionFactorRepository;
+    @Mock
+    private FactorSetSnapshotRepository factorSetSnapshotRepository;
+    @Mock
+    private ObjectProvider<ShardDirectory> shardDirectoryProvider;
+
+    private FactorSetSnapshotService service;
+
+    private final FuelType diesel = FuelType.builder().fuelId("DIESEL").name("경유").category("LIQUID").unit("L").build();
+    private BigDecimal co2Factor = new BigDecimal("74.1");
+
+    // 내용 해시 → 스냅샷 (저장소 대역)
+    private final Map<String, FactorSetSnapshot> snapshots = new HashMap<>();
+    private Runnable duringLoad = () -> { };
+
+    @BeforeEach
+    void setUp() {
+        service = new FactorSetSnapshotService(fuelTypeRepository, calorificValueRepository, emissionFactorRepository,
+                factorSetSnapshotRepository, new ObjectMapper(),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), shardDirectoryProvider);
+        ReflectionTestUtils.setField(service, "yearPolicy", FactorTable.YearPolicy.FLOOR);
+
+        when(fuelTypeRepository.findAll()).thenAnswer(invocation -> List.of(diesel));
+        when(calorificValueRepository.findAll()).thenAnswer(invocation -> List.of(CalorificValue.builder()
+                .fuelType(diesel).value(new BigDecimal("0.0355")).unit("TJ/kL").year(2024).isActive(true).build()));
+        when(emissionFactorRepository.findAll()).thenAnswer(invocation -> List.of(EmissionFactor.builder()
+                .fuelType(diesel).co2Factor(co2Factor).ch4Factor(new BigDecimal("3.9")).n2oFactor(new BigDecimal("0.6"))
+                .year(2024).isActive(true).build()));
+
+        when(factorSetSnapshotRepository.findByContentHash(anyString())).thenAnswer(invocation -> {
+            duringLoad.run();
+            return Optional.ofNullable(snapshots.get(invocation.<String>getArgument(0)));
+        });
+        when(factorSetSnapshotRepository.saveAndFlush(any(FactorSetSnapshot.class))).thenAnswer(invocation -> {
+            FactorSetSnapshot saved = invocation.getArgument(0);
+            FactorSetSnapshot withId = FactorSetSnapshot.builder()
+                    .id(snapshots.size() + 1)
+                    .contentHash(saved.getContentHash())
+                    .kernelVersion(saved.getKernelVersion())
+                    .content(saved.getContent())
+                    .build();
+            snapshots.put(saved.getContentHash(), withId);
+            return withId;
+        });
+        when(factorSetSnapshotRepository.findById(any())).thenAnswer(invocation -> snapshots.values().stream()
+                .filter(snapshot -> snapshot.getId().equals(invocation.getArgument(0)))
+                .findFirst());
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.destroy();
+    }
+
+    @Test
+    void sameMasterDataResolvesToSameSnapshot() throws InterruptedException {
+        int first = service.currentSnapshotId();
+        service.invalidate();
+        awaitFindAllCalls(2);
+
+        assertThat(service.currentSnapshotId()).isEqualTo(first);
+        assertThat(snapshots).hasSize(1);
+    }
+
+    @Test
+    void changedFactorCreatesNewSnapshotAfterInvalidation() throws InterruptedException {
+        int before = service.currentSnapshotId();
+
+        co2Factor = new BigDecimal("74.2");
+        service.onFactorMasterDataChanged(new FactorMasterDataChangedEvent("DIESEL"));
+
+        assertThat(awaitCurrentIdOtherThan(before)).isEqualTo(2);
+        assertThat(snapshots).hasSize(2);
+    }
+
+    @Test
+    void cachedIdIsServedWithoutReloading() {
+        service.currentSnapshotId();
+        service.currentSnapshotId();
+
+        verify(fuelTypeRepository, times(1)).findAll();
+    }
+
+    @Test
+    void scheduledRefreshPicksUpExternalChange() throws InterruptedException {
+        int before = service.currentSnapshotId();
+
+        // 다른 인스턴스/DB에서 직접 수정 (이 인스턴스에는 이벤트 없음)
+        co2Factor = new BigDecimal("80.0");
+        service.refreshCurrentIds();
+
+        assertThat(awaitCurrentIdOtherThan(before)).isEqualTo(2);
+    }
+
+    @Test
+    void previousIdIsServedUntilRefreshCompletes() throws InterruptedException {
+        int before = service.currentSnapshotId();
+        CountDownLatch release = new CountDownLatch(1);
+        duringLoad = () -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        co2Factor = new BigDecimal("74.2");
+        service.invalidate();
+        service.refreshCurrentIds();   // 진행 중인 확인과 합쳐짐
+
+        // 확인이 끝나지 않아도 호출한 스레드는 기다리지 않고 이전 ID 사용
+        assertThat(service.currentSnapshotId()).isEqualTo(before);
+        release.countDown();
+        assertThat(awaitCurrentIdOtherThan(before)).isEqualTo(2);
+        verify(fuelTypeRepository, times(2)).findAll();
+    }
+
+    @Test
+    void loadOverlappingInvalidationIsNotCached() {
+        AtomicBoolean invalidated = new AtomicBoolean();
+        // 조회가 진행되는 사이에 마스터 데이터 변경 커밋이 끝난 상황
+        duringLoad = () -> {
+            if (invalidated.compareAndSet(false, true)) {
+                service.invalidate();
+            }
+        };
+
+        service.currentSnapshotId();
+        service.currentSnapshotId();
+
+        verify(fuelTypeRepository, times(2)).findAll();
+    }
+
+    @Test
+    void currentReturnsTableOfTheSameSnapshot() {
+        FactorSetSnapshotService.CurrentFactorSet current = service.current();
+
+        assertThat(current.id()).isEqualTo(service.currentSnapshotId());
+        assertThat(current.table().resolve("DIESEL", 2024).co2Factor()).isEqualByComparingTo("74.1");
+    }
+
+    private int awaitCurrentIdOtherThan(int previous) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline) {
+            int id = service.currentSnapshotId();
+            if (id != previous) {
+                return id;
+            }
+            Thread.sleep(10);
+        }
+        return fail("현재 계수셋 스냅샷이 바뀌지 않음: " + previous);
+    }
+
+    private void awaitFindAllCalls(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline && mockingDetails(fuelTypeRepository).getInvocations().size() < expected) {
+            Thread.sleep(10);
+        }
+        verify(fuelTypeRepository, times(expected)).findAll();
+    }
+}
@@ -0,0 +1,115 @@
+package com.nsmm.esg.scopeservice.service;
+
+import com.nsmm.esg.scopeservice.dto.FactorSetContent;
+import com.nsmm.esg.scopeservice.entity.CalculationQuality;
+import com.nsmm.esg.scopeservice.service.EmissionCalculationService.StationaryFactors;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 계수셋 조회 테이블 테스트 (연도 정책별 이진 탐색, 정렬되지 않은 입력, 발열량/배출계수 품질 결합, 기본값)
+ * 배출계수는 연도를 그대로 CO2 계수로 넣어 어느 연도 값이 선택됐는지 확인합니다.
+ */
+class FactorTableTest {
+
+    private static final List<Integer> YEARS = List.of(2024, 2020, 2022);   // 일부러 정렬하지 않음
+
+    @Test
+    void floorUsesPreviousNearestYearThenEarliest() {
+        FactorTable table = table("FLOOR", YEARS, YEARS);
+
+        assertYear(table.resolve("DIESEL", 2022), 2022, CalculationQuality.EXACT);
+        assertYear(table.resolve("DIESEL", 2023), 2022, CalculationQuality.YEAR_FALLBACK);
+        assertYear(table.resolve("DIESEL", 2030), 2024, CalculationQuality.YEAR_FALLBACK);
+        assertYear(table.resolve("DIESEL", 2019), 2020, CalculationQuality.YEAR_FALLBACK);
+    }
+
+    @Test
+    void ceilingUsesNextNearestYearThenLatest() {
+        FactorTable table = table("CEILING", YEARS, YEARS);
+
+        assertYear(table.resolve("DIESEL", 2021), 2022, CalculationQuality.YEAR_FALLBACK);
+        assertYear(table.resolve("DIESEL", 2019), 2020, CalculationQuality.YEAR_FALLBACK);
+        assertYear(table.resolve("DIESEL", 2030), 2024, CalculationQuality.YEAR_FALLBACK);
+    }
+
+    @Test
+    void strictFallsBackToNameDefaults() {
+        FactorTable table = table("STRICT", YEARS, YEARS);
+
+        assertYear(table.resolve("DIESEL", 2020), 2020, CalculationQuality.EXACT);
+        StationaryFactors missing = table.resolve("DIESEL", 2021);
+        assertThat(missing.quality()).isEqualTo(CalculationQuality.NAME_DEFAULT);
+        assertThat(missing.co2Factor()).isEqualByComparingTo(EmissionCalculationService.getDefaultEmissionFactor("경유"));
+        assertThat(missing.calorificValue()).isEqualByComparingTo(EmissionCalculationService.getDefaultCalorificValue("경유"));
+        assertThat(missing.calorificUnit()).isNull();
+    }
+
+    @Test
+    void qualityIsTheWorseOfCalorificAndFactor() {
+        FactorTable table = table("FLOOR", List.of(2024), List.of(2022));
+
+        StationaryFactors factors = table.resolve("DIESEL", 2024);
+
+        assertThat(factors.calorificValue()).isEqualByComparingTo("2024");
+        assertThat(factors.co2Factor()).isEqualByComparingTo("2022");
+        assertThat(factors.quality()).isEqualTo(CalculationQuality.YEAR_FALLBACK);
+    }
+
+    @Test
+    void unknownFuelIsNullAndMissingYearUsesDefaults() {
+        FactorTable table = table(null, YEARS, YEARS);
+
+        assertThat(table.getYearPolicy()).isEqualTo(FactorTable.YearPolicy.FLOOR);
+        assertThat(table.resolve("UNKNOWN", 2024)).isNull();
+        assertThat(table.resolve(null, 2024)).isNull();
+        assertThat(table.resolve("DIESEL", null).quality()).isEqualTo(CalculationQuality.NAME_DEFAULT);
+    }
+
+    @Test
+    void binarySearchMatchesLinearScan() {
+        Random random = new Random(7);
+        List<Integer> years = new ArrayList<>();
+        for (int year = 1990; year <= 2030; year++) {
+            if (random.nextInt(3) == 0) {
+                years.add(year);
+            }
+        }
+        FactorTable table = table("FLOOR", years, years);
+
+        for (int year = 1980; year <= 2040; year++) {
+            int expected = years.get(0);
+            for (int candidate : years) {
+                if (candidate <= year) {
+                    expected = candidate;
+                }
+            }
+            assertThat(table.resolve("DIESEL", year).co2Factor().intValue()).as("연도 %d", year).isEqualTo(expected);
+        }
+    }
+
+    private static void assertYear(StationaryFactors factors, int year, CalculationQuality quality) {
+        assertThat(factors.co2Factor()).isEqualByComparingTo(String.valueOf(year));
+        assertThat(factors.calorificValue()).isEqualByComparingTo(String.valueOf(year));
+        assertThat(factors.quality()).isEqualTo(quality);
+    }
+
+    private static FactorTable table(String yearPolicy, List<Integer> calorificYears, List<Integer> factorYears) {
+        return FactorTable.from(FactorSetContent.builder()
+                .kernelVersion(EmissionCalculationService.KERNEL_VERSION)
+                .yearPolicy(yearPolicy)
+                .fuels(List.of(FactorSetContent.Fuel.builder().fuelId("DIESEL").name("경유").build()))
+                .calorificValues(calorificYears.stream().map(year -> FactorSetContent.Calorific.builder()
+                        .fuelId("DIESEL").year(year).value(String.valueOf(year)).unit("MJ/L").build()).toList())
+                .emissionFactors(factorYears.stream().map(year -> FactorSetContent.Factor.builder()
+                        .fuelId("DIESEL").year(year).co2Factor(String.valueOf(year)).ch4Factor("3.9").n2oFactor("0.6")
+                        .build()).toList())
+                .build());
+    }
+}
@@ -0,0 +1,144 @@
+package com.nsmm.esg.scopeservice.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.nsmm.esg.scopeservice.dto.StationaryCombustionResponse;
+import com.nsmm.esg.scopeservice.exception.IdempotencyKeyReuseException;
+import com.nsmm.esg.scopeservice.repository.IdempotencyRecordRepository;
+import com.nsmm.esg.scopeservice.support.MySqlJpaTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Idempotency-Key 저장소 테스트 (MySQL에 커밋된 키 기준으로 재사용/거절/재시도/동시 중복 처리)
+ * 인스턴스가 달라도 같은 결과가 나오도록 키는 DB에만 있으므로, 테스트도 실제 커밋으로 확인합니다.
+ */
+@Import({IdempotencyKeyStore.class, IdempotencyKeyStoreTest.JacksonConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdempotencyKeyStoreTest extends MySqlJpaTestSupport {
+
+    private static final long MEMBER_ID = 7L;
+    private static final TypeReference<StationaryCombustionResponse> RESPONSE = new TypeReference<>() { };
+
+    @Autowired
+    private IdempotencyKeyStore idempotencyKeyStore;
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        idempotencyRecordRepository.deleteAll();
+    }
+
+    @Test
+    void sameKeyAndBodyReturnsFirstResultWithoutRerunning() {
+        StationaryCombustionResponse first = execute("key-1", Map.of("fuelUsage", 100), 1L);
+        StationaryCombustionResponse second = execute("key-1", Map.of("fuelUsage", 100), 2L);
+
+        assertThat(executions).hasValue(1);
+        assertThat(second.getId()).isEqualTo(first.getId()).isEqualTo(1L);
+    }
+
+    @Test
+    void sameKeyWithDifferentBodyIsRejected() {
+        execute("key-1", Map.of("fuelUsage", 100), 1L);
+
+        assertThatThrownBy(() -> execute("key-1", Map.of("fuelUsage", 200), 2L))
+                .isInstanceOf(IdempotencyKeyReuseException.class);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void keysAreScopedPerMember() {
+        execute("key-1", Map.of("fuelUsage", 100), 1L);
+        StationaryCombustionResponse other = idempotencyKeyStore.execute(MEMBER_ID + 1, "key-1",
+                Map.of("fuelUsage", 200), RESPONSE, () -> response(2L));
+
+        assertThat(other.getId()).isEqualTo(2L);
+    }
+
+    @Test
+    void failedWriteLeavesNoKeySoRetryRuns() {
+        assertThatThrownBy(() -> idempotencyKeyStore.execute(MEMBER_ID, "key-1", Map.of("fuelUsage", 100), RESPONSE,
+                () -> {
+                    throw new IllegalStateException("쓰기 실패");
+                })).isInstanceOf(IllegalStateException.class);
+
+        StationaryCombustionResponse retried = execute("key-1", Map.of("fuelUsage", 100), 3L);
+
+        assertThat(retried.getId()).isEqualTo(3L);
+        assertThat(idempotencyRecordRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentDuplicateWaitsForFirstCommitAndSharesResult() throws Exception {
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<StationaryCombustionResponse> first = executor.submit(() ->
+                    idempotencyKeyStore.execute(MEMBER_ID, "key-1", Map.of("fuelUsage", 100), RESPONSE, () -> {
+                        executions.incrementAndGet();
+                        firstStarted.countDown();
+                        sleep(500);
+                        return response(1L);
+                    }));
+            assertThat(firstStarted.await(10, TimeUnit.SECONDS)).isTrue();
+            Future<StationaryCombustionResponse> second = executor.submit(() ->
+                    execute("key-1", Map.of("fuelUsage", 100), 2L));
+
+            assertThat(first.get(10, TimeUnit.SECONDS).getId()).isEqualTo(1L);
+            assertThat(second.get(10, TimeUnit.SECONDS).getId()).isEqualTo(1L);
+            assertThat(executions).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private StationaryCombustionResponse execute(String key, Object body, long id) {
+        return idempotencyKeyStore.execute(MEMBER_ID, key, body, RESPONSE, () -> {
+            executions.incrementAndGet();
+            return response(id);
+        });
+    }
+
+    private static StationaryCombustionResponse response(long id) {
+        return StationaryCombustionResponse.builder().id(id).fuelId("DIESEL").build();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @TestConfiguration
+    static class JacksonConfig {
+        @Bean
+        ObjectMapper objectMapper() {
+            return JsonMapper.builder().findAndAddModules().build();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.nsmm.esg.scopeservice.service;
+
+import com.nsmm.esg.scopeservice.event.EmissionDataChangedEvent;
+import com.nsmm.esg.scopeservice.repository.StationaryCombustionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 월별 배출량 벡터 캐시 테스트 (TTL, 비활성화, 조회 중 무효화, 연도 단위 무효화)
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class MonthlyEmissionCacheTest {
+
+    private static final long MEMBER_ID = 7L;
+
+    @Mock
+    private StationaryCombustionRepository stationaryCombustionRepository;
+
+    @InjectMocks
+    private MonthlyEmissionCache monthlyEmissionCache;
+
+    /** 조회 시점의 3월 배출량 (조회할 때마다 1씩 증가해 다시 읽었는지 구분) */
+    private final AtomicInteger march = new AtomicInteger();
+    private Runnable duringLoad = () -> { };
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(monthlyEmissionCache, "enabled", true);
+        ReflectionTestUtils.setField(monthlyEmissionCache, "ttlMillis", 60_000L);
+        when(stationaryCombustionRepository.findMonthlyEmissionSummary(anyLong(), any(), any()))
+                .thenAnswer(invocation -> {
+                    duringLoad.run();
+                    List<Object[]> rows = new ArrayList<>();
+                    rows.add(new Object[]{3, BigDecimal.valueOf(march.incrementAndGet())});
+                    return rows;
+                });
+    }
+
+    @Test
+    void servesCachedVectorWithinTtl() {
+        BigDecimal[] first = monthlyEmissionCache.get(MEMBER_ID, 2024, null);
+        BigDecimal[] second = monthlyEmissionCache.get(MEMBER_ID, 2024, null);
+
+        assertThat(second).isSameAs(first);
+        assertThat(second[2]).isEqualByComparingTo("1");
+        verify(stationaryCombustionRepository, times(1)).findMonthlyEmissionSummary(MEMBER_ID, 2024, null);
+    }
+
+    @Test
+    void reloadsAfterTtlSoOtherInstancesWritesShowUp() {
+        ReflectionTestUtils.setField(monthlyEmissionCache, "ttlMillis", 0L);
+
+        monthlyEmissionCache.get(MEMBER_ID, 2024, null);
+        BigDecimal[] second = monthlyEmissionCache.get(MEMBER_ID, 2024, null);
+
+        assertThat(second[2]).isEqualByComparingTo("2");
+    }
+
+    @Test
+    void disabledCacheAlwaysReads() {
+        ReflectionTestUtils.setField(monthlyEmissionCache, "enabled", false);
+
+        monthlyEmissionCache.get(MEMBER_ID, 2024, null);
+        monthlyEmissionCache.get(MEMBER_ID, 2024, null);
+
+        verify(stationaryCombustionRepository, times(2)).findMonthlyEmissionSummary(MEMBER_ID, 2024, null);
+    }
+
+    @Test
+    void loadOverlappingInvalidationIsNotCached() {
+        duringLoad = () -> {
+            duringLoad = () -> { };
+            monthlyEmissionCache.onEmissionDataChanged(new EmissionDataChangedEvent(MEMBER_ID, 2024));
+        };
+
+        BigDecimal[] stale = monthlyEmissionCache.get(MEMBER_ID, 2024, null);
+        BigDecimal[] fresh = monthlyEmissionCache.get(MEMBER_ID, 2024, null);
+
+        assertThat(stale[2]).isEqualByComparingTo("1");
+        assertThat(fresh[2]).isEqualByComparingTo("2");
+    }
+
+    @Test
+    void invalidationEvictsOnlyTheChangedYear() {
+        monthlyEmissionCache.get(MEMBER_ID, 2023, null);
+        monthlyEmissionCache.get(MEMBER_ID, 2024, null);
+
+        monthlyEmissionCache.onEmissionDataChanged(new EmissionDataChangedEvent(MEMBER_ID, 2023));
+        monthlyEmissionCache.get(MEMBER_ID, 2023, null);
+        monthlyEmissionCache.get(MEMBER_ID, 2024, null);
+
+        verify(stationaryCombustionRepository, times(2)).findMonthlyEmissionSummary(eq(MEMBER_ID), eq(2023), any());
+        verify(stationaryCombustionRepository, times(1)).findMonthlyEmissionSummary(eq(MEMBER_ID), eq(2024), any());
+    }
+}
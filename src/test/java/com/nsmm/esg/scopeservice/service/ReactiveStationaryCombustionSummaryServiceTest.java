@@ -0,0 +1,76 @@
+package com.nsmm.esg.scopeservice.service;
+
+import com.nsmm.esg.scopeservice.dto.ScopeEmissionSummaryResponse;
+import com.nsmm.esg.scopeservice.dto.ScopeEmissionSummaryResponse.FuelTypeEmission;
+import com.nsmm.esg.scopeservice.repository.ReactiveStationaryCombustionSummaryRepository;
+import com.nsmm.esg.scopeservice.repository.StationaryCombustionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 리액티브 연료별 집계 테스트 (MVC /summary/by-fuel과 같은 연료 구성비 집계를 거쳐 같은 연료 ID 기준 결과)
+ */
+class ReactiveStationaryCombustionSummaryServiceTest {
+
+    private static final long MEMBER_ID = 7L;
+
+    private final StationaryCombustionRepository stationaryCombustionRepository = mock(StationaryCombustionRepository.class);
+    private final ReactiveStationaryCombustionSummaryRepository summaryRepository =
+            mock(ReactiveStationaryCombustionSummaryRepository.class);
+    private final FuelTypeCatalog fuelTypeCatalog = mock(FuelTypeCatalog.class);
+    private final EmissionBreakdownService emissionBreakdownService =
+            new EmissionBreakdownService(stationaryCombustionRepository, fuelTypeCatalog, new UnitConversionService());
+    private final ReactiveStationaryCombustionSummaryService reactiveService =
+            new ReactiveStationaryCombustionSummaryService(summaryRepository, emissionBreakdownService);
+
+    @BeforeEach
+    void setUp() {
+        when(fuelTypeCatalog.get(anyString())).thenAnswer(invocation -> switch ((String) invocation.getArgument(0)) {
+            case "DIESEL" -> new FuelTypeCatalog.Entry("DIESEL", "경유", "LIQUID", "L");
+            case "LNG" -> new FuelTypeCatalog.Entry("LNG", "LNG", "GAS", "Nm³");
+            default -> null;
+        });
+        // 같은 연료가 여러 단위로 입력되어 연료-단위별 행이 둘 (연료명도 행마다 다르게 입력됨)
+        List<Object[]> rows = List.of(
+                row("DIESEL", "경유", "L", "1000", "2.6", 3),
+                row("DIESEL", "디젤", "kL", "1", "2.6", 2),
+                row("LNG", "LNG", "Nm³", "500", "1.2", 1));
+        when(stationaryCombustionRepository.findFuelUsageAndEmission(MEMBER_ID, 2024, null)).thenReturn(new ArrayList<>(rows));
+        when(summaryRepository.findFuelUsageAndEmission(MEMBER_ID, 2024, null)).thenReturn(Flux.fromIterable(rows));
+    }
+
+    @Test
+    void byFuelIsGroupedByFuelIdLikeMvc() {
+        List<ScopeEmissionSummaryResponse> reactive = reactiveService.getEmissionSummaryByFuel(MEMBER_ID, 2024, null).block();
+        List<ScopeEmissionSummaryResponse> mvc = emissionBreakdownService.toFuelSummaries(
+                emissionBreakdownService.getFuelBreakdown(MEMBER_ID, 2024, null));
+
+        assertThat(reactive).hasSize(2);
+        assertThat(reactive).extracting(summary -> summary.getScope1().getFuelTypeBreakdown().get(0))
+                .extracting(FuelTypeEmission::getFuelId, FuelTypeEmission::getFuelType, FuelTypeEmission::getPercentage)
+                .containsExactly(
+                        tuple("DIESEL", "경유", new BigDecimal("81.25")),
+                        tuple("LNG", "LNG", new BigDecimal("18.75")));
+        assertThat(reactive).extracting(ScopeEmissionSummaryResponse::getTotalEmission)
+                .containsExactlyElementsOf(mvc.stream().map(ScopeEmissionSummaryResponse::getTotalEmission).toList());
+        assertThat(reactive).extracting(summary -> summary.getScope1().getFuelTypeBreakdown().get(0).getUsage())
+                .containsExactlyElementsOf(mvc.stream()
+                        .map(summary -> summary.getScope1().getFuelTypeBreakdown().get(0).getUsage()).toList());
+        assertThat(reactive).allSatisfy(summary -> assertThat(summary.getAggregationType()).isEqualTo("BY_FUEL"));
+    }
+
+    private static Object[] row(String fuelId, String fuelName, String unit, String usage, String emission, long count) {
+        return new Object[]{fuelId, fuelName, unit, new BigDecimal(usage), new BigDecimal(emission), count};
+    }
+}
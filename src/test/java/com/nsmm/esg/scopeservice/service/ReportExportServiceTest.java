@@ -0,0 +1,227 @@
+package com.nsmm.esg.scopeservice.service;
+
+import com.nsmm.esg.scopeservice.entity.StationaryCombustion;
+import com.nsmm.esg.scopeservice.repository.ElectricityUsageRepository;
+import com.nsmm.esg.scopeservice.repository.MobileCombustionRepository;
+import com.nsmm.esg.scopeservice.repository.StationaryCombustionRepository;
+import com.nsmm.esg.scopeservice.repository.SteamUsageRepository;
+import jakarta.persistence.EntityManager;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.ref.WeakReference;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * 배출량 보고서 내보내기 테스트
+ * (CSV 수식 주입 방지, XLSX 소수 정밀도/시트 분할, 스트리밍 중 이미 쓴 행이 메모리에 남지 않음)
+ */
+class ReportExportServiceTest {
+
+    private static final long MEMBER_ID = 7L;
+    private static final String COMPANY = "11111111-1111-1111-1111-111111111111";
+
+    private final StationaryCombustionRepository stationaryCombustionRepository = mock(StationaryCombustionRepository.class);
+    private final MobileCombustionRepository mobileCombustionRepository = mock(MobileCombustionRepository.class);
+    private final ElectricityUsageRepository electricityUsageRepository = mock(ElectricityUsageRepository.class);
+    private final SteamUsageRepository steamUsageRepository = mock(SteamUsageRepository.class);
+    // 호출 기록을 남기면 detach한 엔티티를 mock이 붙잡으므로 stubOnly
+    private final EntityManager entityManager = mock(EntityManager.class, withSettings().stubOnly());
+
+    private ReportExportService reportExportService;
+
+    @BeforeEach
+    void setUp() {
+        when(mobileCombustionRepository.streamForExport(anyLong(), anyInt(), any())).thenAnswer(i -> Stream.empty());
+        when(electricityUsageRepository.streamForExport(anyLong(), anyInt(), any())).thenAnswer(i -> Stream.empty());
+        when(steamUsageRepository.streamForExport(anyLong(), anyInt(), any())).thenAnswer(i -> Stream.empty());
+        reportExportService = new ReportExportService(stationaryCombustionRepository, mobileCombustionRepository,
+                electricityUsageRepository, steamUsageRepository, entityManager,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+    }
+
+    @Test
+    void csvNeutralizesFormulaCellsButKeepsNegativeNumbers() throws IOException {
+        stationaryRows(Stream.of(
+                stationary(1L, "=HYPERLINK(\"http://x\")", "1000", "-0.5000"),
+                stationary(2L, "@SUM(A1)", "10", "0.2500"),
+                stationary(3L, "-1+2", "10", "0.2500")));
+
+        String csv = exportToString(ReportExportService.CSV);
+
+        assertThat(csv).contains(",\"'=HYPERLINK(\"\"http://x\"\")\",");
+        assertThat(csv).contains(",'@SUM(A1),");
+        assertThat(csv).contains(",'-1+2,");
+        assertThat(csv).contains(",-0.5000\r\n");
+    }
+
+    @Test
+    void xlsxKeepsDecimalScaleAndPrecision() throws IOException {
+        StationaryCombustion row = StationaryCombustion.builder()
+                .id(1L).memberId(MEMBER_ID).companyId(COMPANY).reportingYear(2024).reportingMonth(1)
+                .facilityName("공장A").fuelId("DIESEL").fuelUsage(new BigDecimal("1234.5678")).unit("L")
+                .co2Emission(new BigDecimal("12345678901234567.8901"))
+                .totalCo2Equivalent(new BigDecimal("0.0001")).build();
+        stationaryRows(Stream.of(row));
+
+        try (XSSFWorkbook workbook = readXlsx()) {
+            Row data = workbook.getSheetAt(0).getRow(1);
+
+            Cell usage = data.getCell(8);
+            assertThat(usage.getCellType()).isEqualTo(CellType.NUMERIC);
+            assertThat(usage.getNumericCellValue()).isEqualTo(1234.5678);
+            assertThat(usage.getCellStyle().getDataFormatString()).isEqualTo("0.0000");
+
+            // double로는 손실되는 자릿수 → 텍스트로 그대로 보존
+            Cell co2 = data.getCell(10);
+            assertThat(co2.getCellType()).isEqualTo(CellType.STRING);
+            assertThat(co2.getStringCellValue()).isEqualTo("12345678901234567.8901");
+
+            Cell total = data.getCell(13);
+            assertThat(total.getNumericCellValue()).isEqualTo(0.0001);
+            assertThat(total.getCellStyle().getDataFormatString()).isEqualTo("0.0000");
+        }
+    }
+
+    @Test
+    void xlsxRollsOverToNewSheetWithRepeatedHeader() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ReportExportService.XlsxReportWriter writer =
+                     new ReportExportService.XlsxReportWriter(out, new Object[]{"구분", "값"}, 3)) {
+            writer.write(true, "구분", "값");
+            for (int i = 1; i <= 5; i++) {
+                writer.write(false, "행", i);
+            }
+            writer.finish();
+        }
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            assertThat(workbook.getNumberOfSheets()).isEqualTo(3);
+            assertThat(workbook.getSheetName(1)).isEqualTo("배출량 보고서 (2)");
+            List<Integer> rowsPerSheet = new ArrayList<>();
+            for (Sheet sheet : workbook) {
+                assertThat(sheet.getRow(0).getCell(0).getStringCellValue()).isEqualTo("구분");
+                rowsPerSheet.add(sheet.getPhysicalNumberOfRows());
+            }
+            assertThat(rowsPerSheet).containsExactly(3, 3, 2);
+            assertThat(workbook.getSheetAt(2).getRow(1).getCell(1).getNumericCellValue()).isEqualTo(5.0);
+        }
+    }
+
+    /**
+     * 20만 행을 내보내는 도중(15만 번째 행)에 앞서 쓴 10만 행 중 표본 엔티티가 모두 수거되는지 확인
+     * 출력기나 영속성 컨텍스트가 행을 붙잡고 있으면 힙이 행 수에 비례해 늘어나므로 실패합니다.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {ReportExportService.CSV, ReportExportService.XLSX})
+    void alreadyWrittenRowsAreReleasedWhileStreaming(String format) throws IOException {
+        int total = 200_000;
+        int checkpoint = 150_000;
+        List<WeakReference<StationaryCombustion>> samples = new ArrayList<>();
+        AtomicLong aliveAtCheckpoint = new AtomicLong(-1);
+
+        stationaryRows(IntStream.range(0, total).mapToObj(i -> {
+            if (i == checkpoint) {
+                aliveAtCheckpoint.set(countAlive(samples));
+            }
+            StationaryCombustion entity = stationary((long) i, "공장" + (i % 10), "100", "0.2500");
+            if (i < 100_000 && i % 1_000 == 0) {
+                samples.add(new WeakReference<>(entity));
+            }
+            return entity;
+        }));
+
+        CountingOutputStream out = new CountingOutputStream();
+        reportExportService.export(MEMBER_ID, 2024, null, format, out);
+
+        assertThat(samples).hasSize(100);
+        assertThat(aliveAtCheckpoint.get()).isZero();
+        assertThat(out.count).isPositive();
+    }
+
+    // =============================================================================
+    // 보조 메서드
+    // =============================================================================
+
+    private void stationaryRows(Stream<StationaryCombustion> rows) {
+        when(stationaryCombustionRepository.streamForExport(anyLong(), anyInt(), any())).thenReturn(rows);
+    }
+
+    private String exportToString(String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        reportExportService.export(MEMBER_ID, 2024, null, format, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private XSSFWorkbook readXlsx() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        reportExportService.export(MEMBER_ID, 2024, null, ReportExportService.XLSX, out);
+        return new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    private static StationaryCombustion stationary(Long id, String facility, String usage, String total) {
+        return StationaryCombustion.builder()
+                .id(id).memberId(MEMBER_ID).companyId(COMPANY).reportingYear(2024).reportingMonth(1)
+                .facilityName(facility).fuelId("DIESEL").fuelUsage(new BigDecimal(usage)).unit("L")
+                .totalCo2Equivalent(new BigDecimal(total)).build();
+    }
+
+    /**
+     * 약한 참조가 아직 살아 있는 표본 수 (GC가 수거할 기회를 몇 번 줌)
+     */
+    private static long countAlive(List<WeakReference<StationaryCombustion>> samples) {
+        long alive = samples.size();
+        for (int attempt = 0; attempt < 5 && alive > 0; attempt++) {
+            System.gc();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            alive = samples.stream().filter(ref -> ref.get() != null).count();
+        }
+        return alive;
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
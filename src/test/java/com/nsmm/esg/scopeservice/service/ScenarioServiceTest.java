@@ -0,0 +1,161 @@
+package com.nsmm.esg.scopeservice.service;
+
+import com.nsmm.esg.scopeservice.dto.FactorSetContent;
+import com.nsmm.esg.scopeservice.dto.ScenarioRequest;
+import com.nsmm.esg.scopeservice.dto.ScenarioResponse;
+import com.nsmm.esg.scopeservice.repository.StationaryCombustionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 배출량 시나리오 계산 테스트 (배율 조정, 에너지 등가 연료 전환, 연료-단위별 계수 1회 계산, 대량 조합의 1초 이내 재계산)
+ * 단위당 계수는 DIESEL(L) 0.04TJ / 3tCO2eq, LNG(Nm3) 0.04TJ / 2tCO2eq로 고정합니다.
+ */
+class ScenarioServiceTest {
+
+    private static final long MEMBER_ID = 7L;
+
+    private final StationaryCombustionRepository stationaryCombustionRepository = mock(StationaryCombustionRepository.class);
+    private final EmissionCalculationService emissionCalculationService = mock(EmissionCalculationService.class);
+    private final FactorSetSnapshotService factorSetSnapshotService = mock(FactorSetSnapshotService.class);
+    private final FuelTypeCatalog fuelTypeCatalog = mock(FuelTypeCatalog.class);
+
+    private ScenarioService scenarioService;
+
+    @BeforeEach
+    void setUp() {
+        FactorTable table = FactorTable.from(FactorSetContent.builder()
+                .kernelVersion(EmissionCalculationService.KERNEL_VERSION)
+                .yearPolicy("FLOOR")
+                .fuels(List.of(
+                        FactorSetContent.Fuel.builder().fuelId("DIESEL").name("경유").build(),
+                        FactorSetContent.Fuel.builder().fuelId("LNG").name("LNG").build()))
+                .calorificValues(List.of())
+                .emissionFactors(List.of())
+                .build());
+        when(factorSetSnapshotService.current()).thenReturn(new FactorSetSnapshotService.CurrentFactorSet(3, table));
+        when(emissionCalculationService.stationaryUnitCoefficients(eq("DIESEL"), anyInt(), any()))
+                .thenReturn(new EmissionCalculationService.UnitCoefficients(0.04, 3.0));
+        when(emissionCalculationService.stationaryUnitCoefficients(eq("LNG"), anyInt(), any()))
+                .thenReturn(new EmissionCalculationService.UnitCoefficients(0.04, 2.0));
+        when(fuelTypeCatalog.get("LNG")).thenReturn(new FuelTypeCatalog.Entry("LNG", "LNG", "GAS", "Nm3"));
+
+        scenarioService = new ScenarioService(stationaryCombustionRepository, emissionCalculationService,
+                factorSetSnapshotService, fuelTypeCatalog, new UnitConversionService(), 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scenarioService.destroy();
+    }
+
+    @Test
+    void scaleRuleChangesOnlyMatchedFuel() {
+        activity(List.of(
+                row("DIESEL", "L", "공장A", "C1", "1000"),
+                row("LNG", "Nm3", "공장B", "C1", "500")));
+
+        ScenarioResponse response = scenarioService.evaluate(MEMBER_ID, request(rule("SCALE", "DIESEL", null, "0.9")));
+
+        assertThat(response.getBaselineEmission()).isEqualByComparingTo("4000");  // 1000 × 3 + 500 × 2
+        assertThat(response.getScenarioEmission()).isEqualByComparingTo("3700");
+        assertThat(response.getDelta()).isEqualByComparingTo("-300");
+        assertThat(response.getChangePercent()).isEqualByComparingTo("-7.50");
+        assertThat(response.getRules().get(0).getMatchedGroups()).isEqualTo(1);
+        assertThat(response.getByFuel().get(0).getKey()).isEqualTo("DIESEL");
+        assertThat(response.getFactorSetId()).isEqualTo(3);
+    }
+
+    @Test
+    void substituteMovesEnergyEquivalentUsageToTargetFuel() {
+        activity(List.of(
+                row("DIESEL", "L", "공장A", "C1", "1000"),
+                row("LNG", "Nm3", "공장B", "C1", "500")));
+
+        ScenarioResponse response = scenarioService.evaluate(MEMBER_ID, request(rule("SUBSTITUTE", "DIESEL", "LNG", "0.5")));
+
+        // 경유 500L × 0.04TJ = 20TJ → LNG 500Nm3 (배출량 1500 → 1000)
+        assertThat(response.getScenarioEmission()).isEqualByComparingTo("3500");
+        assertThat(response.getActivityGroups()).isEqualTo(2);
+        assertThat(response.getScenarioGroups()).isEqualTo(3);
+        assertThat(response.getRules().get(0).getAffectedEnergy()).isEqualByComparingTo("20");
+        assertThat(response.getByFacility()).filteredOn(d -> "공장A".equals(d.getKey()))
+                .singleElement().satisfies(d -> assertThat(d.getScenario()).isEqualByComparingTo("2500"));
+    }
+
+    @Test
+    void invalidRulesAreRejected() {
+        activity(List.of(row("DIESEL", "L", "공장A", "C1", "1000")));
+
+        assertThatThrownBy(() -> scenarioService.evaluate(MEMBER_ID, request(rule("DOUBLE", null, null, "2"))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> scenarioService.evaluate(MEMBER_ID, request(rule("SUBSTITUTE", "DIESEL", "LNG", "1.5"))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> scenarioService.evaluate(MEMBER_ID, request(rule("SUBSTITUTE", "DIESEL", "UNKNOWN", "0.5"))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void largeActivityVectorIsRecomputedWithinOneSecond() {
+        // 연료 2 × 시설 1,000 × 협력사 100 = 200,000개 조합
+        List<Object[]> rows = new ArrayList<>(200_000);
+        for (int i = 0; i < 200_000; i++) {
+            boolean diesel = i % 2 == 0;
+            rows.add(row(diesel ? "DIESEL" : "LNG", diesel ? "L" : "Nm3", "F" + (i / 2 % 1_000), "C" + (i / 2_000), "10"));
+        }
+        activity(rows);
+        ScenarioRequest request = request(
+                rule("SCALE", "DIESEL", null, "0.9"),
+                rule("SUBSTITUTE", "DIESEL", "LNG", "0.5"));
+        scenarioService.evaluate(MEMBER_ID, request); // 워밍업
+
+        ScenarioResponse response = assertTimeoutPreemptively(Duration.ofSeconds(1),
+                () -> scenarioService.evaluate(MEMBER_ID, request));
+
+        // 기준: 100,000 × 10 × (3 + 2) / 시나리오: 경유 9L 중 4.5L를 LNG 4.5Nm3로 전환 → 100,000 × (13.5 + 9 + 20)
+        assertThat(response.getBaselineEmission().doubleValue()).isCloseTo(5_000_000.0, within(0.01));
+        assertThat(response.getScenarioEmission().doubleValue()).isCloseTo(4_250_000.0, within(0.01));
+        assertThat(response.getScenarioGroups()).isEqualTo(300_000);
+        assertThat(response.getElapsedMillis()).isLessThan(1_000L);
+        // 연료-단위 조합마다 계수는 한 번만 계산 (워밍업 포함 2회 × 2조합)
+        verify(emissionCalculationService, times(4)).stationaryUnitCoefficients(anyString(), anyInt(), any());
+    }
+
+    private void activity(List<Object[]> rows) {
+        when(stationaryCombustionRepository.findScenarioActivity(eq(MEMBER_ID), eq(2024), any())).thenReturn(rows);
+    }
+
+    private static Object[] row(String fuelId, String unit, String facility, String companyId, String usage) {
+        BigDecimal value = new BigDecimal(usage);
+        return new Object[]{fuelId, unit, facility, companyId, value, value};
+    }
+
+    private static ScenarioRequest request(ScenarioRequest.Rule... rules) {
+        return ScenarioRequest.builder().baseYear(2024).rules(List.of(rules)).build();
+    }
+
+    private static ScenarioRequest.Rule rule(String type, String fuelId, String targetFuelId, String ratio) {
+        return ScenarioRequest.Rule.builder()
+                .type(type).fuelId(fuelId).targetFuelId(targetFuelId).ratio(new BigDecimal(ratio))
+                .build();
+    }
+}
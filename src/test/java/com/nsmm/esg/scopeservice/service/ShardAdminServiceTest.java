@@ -0,0 +1,170 @@
+package com.nsmm.esg.scopeservice.service;
+
+import com.nsmm.esg.scopeservice.config.ShardingProperties;
+import com.nsmm.esg.scopeservice.entity.StationaryCombustion;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회원 샤드 이동 복사 테스트
+ * 한 MySQL 컨테이너에 두 스키마를 만들어 원본/대상 샤드로 사용하고,
+ * 대상 샤드에 다른 회원 데이터가 이미 있어 id와 계수셋 스냅샷 번호가 겹치는 상황을 재현합니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ShardAdminServiceTest {
+
+    private static final long MEMBER_ID = 42L;
+    private static final long OTHER_MEMBER_ID = 7L;
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>(DockerImageName.parse("mysql:8.0"));
+
+    private static ShardAdminService shardAdminService;
+
+    private JdbcTemplate source;
+    private JdbcTemplate target;
+
+    @BeforeAll
+    static void createService() {
+        shardAdminService = new ShardAdminService(null, new ShardingProperties());
+    }
+
+    @AfterAll
+    static void shutdown() {
+        shardAdminService.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        source = shard("shard_source");
+        target = shard("shard_target");
+
+        // 원본: 이동할 회원 (id 1, 2), 스냅샷 1 = 내용 A, 2 = 내용 B
+        source.update("INSERT INTO factor_set_snapshot (id, content_hash, kernel_version, content, created_at) VALUES " +
+                "(1, 'hash-a', 2, '{\"a\":1}', NOW()), (2, 'hash-b', 2, '{\"b\":1}', NOW())");
+        source.update("INSERT INTO stationary_combustion (id, member_id, fuel_id, fuel_usage, unit, reporting_year, " +
+                        "input_fingerprint, factor_set_id, version) VALUES " +
+                        "(1, ?, 'DIESEL', 1000.0000, 'L', 2024, ?, 1, 3), (2, ?, 'LNG', 500.0000, 'Nm3', 2024, ?, 2, 0)",
+                MEMBER_ID, fingerprint("DIESEL", "1000", "L", 1), MEMBER_ID, fingerprint("LNG", "500", "Nm3", 2));
+        source.update("INSERT INTO emission_baseline (member_id, base_year, total_emission, vectors) VALUES (?, 2020, 12.5000, '{}')",
+                MEMBER_ID);
+        source.update("INSERT INTO emission_change_log (member_id, member_seq, entity_type, entity_id) VALUES " +
+                        "(?, 1, 'STATIONARY_COMBUSTION', 1), (?, 2, 'STATIONARY_COMBUSTION', 2), " +
+                        "(?, 3, 'STATIONARY_COMBUSTION', 99), (?, 4, 'STATIONARY_COMBUSTION', NULL)",
+                MEMBER_ID, MEMBER_ID, MEMBER_ID, MEMBER_ID);
+        source.update("INSERT INTO emission_change_sequence (member_id, last_seq) VALUES (?, 4)", MEMBER_ID);
+
+        // 대상: 다른 회원이 같은 id 1, 2를 이미 사용 중이고 스냅샷 1은 내용 B
+        target.update("INSERT INTO factor_set_snapshot (id, content_hash, kernel_version, content, created_at) VALUES " +
+                "(1, 'hash-b', 2, '{\"b\":1}', NOW())");
+        target.update("INSERT INTO stationary_combustion (id, member_id, fuel_id, version) VALUES (1, ?, 'B-C', 0), (2, ?, 'B-C', 0)",
+                OTHER_MEMBER_ID, OTHER_MEMBER_ID);
+    }
+
+    @Test
+    void copiesWithFreshIdsWithoutTouchingOtherMembers() {
+        Map<String, Integer> copied = shardAdminService.copyMember(source, target, MEMBER_ID);
+
+        assertThat(copied).containsEntry("stationary_combustion", 2).containsEntry("emission_change_log", 4);
+        assertThat(target.queryForList("SELECT fuel_id FROM stationary_combustion WHERE member_id = ? ORDER BY id",
+                String.class, OTHER_MEMBER_ID)).containsExactly("B-C", "B-C");
+
+        List<Map<String, Object>> moved = target.queryForList(
+                "SELECT id, fuel_id, version FROM stationary_combustion WHERE member_id = ? ORDER BY fuel_id", MEMBER_ID);
+        assertThat(moved).extracting(row -> row.get("fuel_id")).containsExactly("DIESEL", "LNG");
+        assertThat(moved).extracting(row -> ((Number) row.get("id")).longValue()).doesNotContain(1L, 2L);
+        assertThat(((Number) moved.get(0).get("version")).longValue()).isEqualTo(3L);   // ETag 유지
+    }
+
+    @Test
+    void remapsChangeLogReferencesToNewIds() {
+        shardAdminService.copyMember(source, target, MEMBER_ID);
+
+        Long dieselId = target.queryForObject(
+                "SELECT id FROM stationary_combustion WHERE member_id = ? AND fuel_id = 'DIESEL'", Long.class, MEMBER_ID);
+        Long lngId = target.queryForObject(
+                "SELECT id FROM stationary_combustion WHERE member_id = ? AND fuel_id = 'LNG'", Long.class, MEMBER_ID);
+
+        List<Long> entityIds = target.queryForList(
+                "SELECT entity_id FROM emission_change_log WHERE member_id = ? ORDER BY member_seq", Long.class, MEMBER_ID);
+        // 이미 삭제된 활동 데이터(99)를 가리키던 로그는 null
+        assertThat(entityIds).containsExactly(dieselId, lngId, null, null);
+    }
+
+    @Test
+    void remapsFactorSetIdsByContentHash() {
+        shardAdminService.copyMember(source, target, MEMBER_ID);
+
+        Map<String, Object> diesel = target.queryForMap(
+                "SELECT s.content_hash, t.factor_set_id, t.input_fingerprint FROM stationary_combustion t " +
+                "JOIN factor_set_snapshot s ON s.id = t.factor_set_id WHERE t.member_id = ? AND t.fuel_id = 'DIESEL'", MEMBER_ID);
+        Map<String, Object> lng = target.queryForMap(
+                "SELECT s.content_hash, t.factor_set_id FROM stationary_combustion t " +
+                "JOIN factor_set_snapshot s ON s.id = t.factor_set_id WHERE t.member_id = ? AND t.fuel_id = 'LNG'", MEMBER_ID);
+
+        // 내용 A는 대상 샤드에 새로 등록(2), 내용 B는 대상 샤드의 기존 번호(1) 사용
+        assertThat(diesel.get("content_hash")).isEqualTo("hash-a");
+        assertThat(((Number) diesel.get("factor_set_id")).intValue()).isEqualTo(2);
+        assertThat(((Number) diesel.get("input_fingerprint")).longValue()).isEqualTo(fingerprint("DIESEL", "1000", "L", 2));
+        assertThat(lng.get("content_hash")).isEqualTo("hash-b");
+        assertThat(((Number) lng.get("factor_set_id")).intValue()).isEqualTo(1);
+        assertThat(target.queryForObject("SELECT COUNT(*) FROM factor_set_snapshot", Integer.class)).isEqualTo(2);
+    }
+
+    @Test
+    void carriesBaselineAndSequence() {
+        shardAdminService.copyMember(source, target, MEMBER_ID);
+
+        assertThat(target.queryForObject("SELECT base_year FROM emission_baseline WHERE member_id = ?",
+                Integer.class, MEMBER_ID)).isEqualTo(2020);
+        assertThat(target.queryForObject("SELECT last_seq FROM emission_change_sequence WHERE member_id = ?",
+                Long.class, MEMBER_ID)).isEqualTo(4L);
+    }
+
+    private static long fingerprint(String fuelId, String usage, String unit, long factorSetId) {
+        return StationaryCombustion.computeInputFingerprint(fuelId, new BigDecimal(usage), unit, 2024, factorSetId);
+    }
+
+    /**
+     * 샤드 스키마 생성 (이동에 필요한 컬럼만)
+     */
+    private static JdbcTemplate shard(String schema) {
+        JdbcTemplate root = new JdbcTemplate(new DriverManagerDataSource(MYSQL.getJdbcUrl(), "root", MYSQL.getPassword()));
+        root.execute("DROP DATABASE IF EXISTS " + schema);
+        root.execute("CREATE DATABASE " + schema);
+
+        String url = "jdbc:mysql://" + MYSQL.getHost() + ":" + MYSQL.getMappedPort(MySQLContainer.MYSQL_PORT) + "/" + schema;
+        JdbcTemplate shard = new JdbcTemplate(new DriverManagerDataSource(url, "root", MYSQL.getPassword()));
+        shard.execute("CREATE TABLE factor_set_snapshot (id INT AUTO_INCREMENT PRIMARY KEY, content_hash VARCHAR(64) NOT NULL, " +
+                "kernel_version INT NOT NULL, content MEDIUMTEXT NOT NULL, created_at DATETIME NOT NULL, " +
+                "CONSTRAINT uk_factor_set_snapshot_hash UNIQUE (content_hash))");
+        shard.execute("CREATE TABLE stationary_combustion (id BIGINT AUTO_INCREMENT PRIMARY KEY, member_id BIGINT NOT NULL, " +
+                "fuel_id VARCHAR(50) NOT NULL, fuel_usage DECIMAL(15, 4), unit VARCHAR(20), reporting_year INT, " +
+                "input_fingerprint BIGINT, factor_set_id INT, version BIGINT)");
+        for (String table : List.of("mobile_combustion", "electricity_usage", "steam_usage")) {
+            shard.execute("CREATE TABLE " + table + " (id BIGINT AUTO_INCREMENT PRIMARY KEY, member_id BIGINT NOT NULL)");
+        }
+        shard.execute("CREATE TABLE emission_baseline (id BIGINT AUTO_INCREMENT PRIMARY KEY, member_id BIGINT NOT NULL, " +
+                "base_year INT NOT NULL, total_emission DECIMAL(15, 4) NOT NULL, vectors TEXT NOT NULL)");
+        shard.execute("CREATE TABLE idempotency_key (id BIGINT AUTO_INCREMENT PRIMARY KEY, member_id BIGINT NOT NULL, " +
+                "idempotency_key VARCHAR(255) NOT NULL)");
+        shard.execute("CREATE TABLE emission_change_log (id BIGINT AUTO_INCREMENT PRIMARY KEY, member_id BIGINT NOT NULL, " +
+                "member_seq BIGINT NOT NULL, entity_type VARCHAR(50) NOT NULL, entity_id BIGINT)");
+        shard.execute("CREATE TABLE emission_change_sequence (member_id BIGINT PRIMARY KEY, last_seq BIGINT NOT NULL)");
+        return shard;
+    }
+}
@@ -0,0 +1,313 @@
+package com.nsmm.esg.scopeservice.service;
+
+import com.nsmm.esg.scopeservice.dto.IfMatch;
+import com.nsmm.esg.scopeservice.dto.StationaryCombustionBulkUpdateRequest;
+import com.nsmm.esg.scopeservice.dto.StationaryCombustionRequest;
+import com.nsmm.esg.scopeservice.dto.StationaryCombustionResponse;
+import com.nsmm.esg.scopeservice.entity.CalculationQuality;
+import com.nsmm.esg.scopeservice.entity.StationaryCombustion;
+import com.nsmm.esg.scopeservice.exception.VersionConflictException;
+import com.nsmm.esg.scopeservice.repository.FuelTypeRepository;
+import com.nsmm.esg.scopeservice.repository.StationaryCombustionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 고정연소 수정 경로 테스트 (조회 없이 소유자/버전/연도 조건부 UPDATE 한 번, 수정 0건일 때만 없음/버전 충돌/연도 이동 판별,
+ * 실패한 계산은 지문을 남기지 않음, 환산할 수 없는 단위는 쓰기 전에 거부, 자연키 충돌은 단건/다건 수정 모두 그대로 전달)
+ * 저장소는 저장된 행 하나의 연도/버전으로 UPDATE 조건을 흉내 냅니다.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class StationaryCombustionServiceTest {
+
+    private static final long ID = 10L;
+    private static final long MEMBER_ID = 7L;
+    private static final long FACTOR_SET_ID = 3L;
+
+    @Mock
+    private StationaryCombustionRepository stationaryCombustionRepository;
+    @Mock
+    private FuelTypeRepository fuelTypeRepository;
+    @Mock
+    private EmissionCalculationService emissionCalculationService;
+    @Mock
+    private EmissionChangeLogService emissionChangeLogService;
+    @Mock
+    private EmissionBreakdownService emissionBreakdownService;
+    @Mock
+    private ActivityCubeService activityCubeService;
+
+    @InjectMocks
+    private StationaryCombustionService stationaryCombustionService;
+
+    /** 저장된 행 (없으면 exists = false) */
+    private boolean exists = true;
+    private int storedYear = 2024;
+    private long storedVersion = 4L;
+    private BigDecimal storedUsage = new BigDecimal("500");
+
+    @BeforeEach
+    void setUp() {
+        when(stationaryCombustionRepository.updateByIdAndMemberId(
+                anyLong(), anyLong(), any(), anyBoolean(), anyList(), any(), any())).thenAnswer(invocation -> {
+            boolean anyVersion = invocation.getArgument(3);
+            List<Long> versions = invocation.getArgument(4);
+            if (!exists || !Integer.valueOf(storedYear).equals(invocation.getArgument(2))
+                || (!anyVersion && !versions.contains(storedVersion))) {
+                return 0;
+            }
+            StationaryCombustion values = invocation.getArgument(5);
+            storedYear = values.getReportingYear();
+            storedUsage = values.getFuelUsage();
+            storedVersion++;
+            return 1;
+        });
+        when(stationaryCombustionRepository.findLastInsertId()).thenAnswer(invocation -> storedVersion);
+        when(stationaryCombustionRepository.findByIdAndMemberId(ID, MEMBER_ID))
+                .thenAnswer(invocation -> exists ? Optional.of(storedRow()) : Optional.empty());
+    }
+
+    @Test
+    void updateIsSingleConditionalStatementWithoutPriorSelect() {
+        when(emissionCalculationService.calculateScope1StationaryEmission(anyString(), any(), anyInt(), anyInt()))
+                .thenReturn(success());
+
+        Optional<StationaryCombustionResponse> response =
+                stationaryCombustionService.updateStationaryCombustion(ID, MEMBER_ID, IfMatch.parse("\"4\""), request("1000"));
+
+        verify(stationaryCombustionRepository, times(1)).updateByIdAndMemberId(
+                eq(ID), eq(MEMBER_ID), eq(2024), eq(false), eq(List.of(4L)), any(), any());
+        verify(stationaryCombustionRepository, never()).findByIdAndMemberId(any(), any());
+        assertThat(response).get()
+                .extracting(StationaryCombustionResponse::getId, StationaryCombustionResponse::getVersion,
+                        StationaryCombustionResponse::getFuelUsage, StationaryCombustionResponse::getTotalCo2Equivalent)
+                .containsExactly(ID, 5L, new BigDecimal("1000"), new BigDecimal("2.6400"));
+        assertThat(storedUsage).isEqualByComparingTo("1000");
+        verify(emissionChangeLogService).record(eq(MEMBER_ID), eq(2024), eq(2024),
+                eq(EmissionChangeLogService.STATIONARY_COMBUSTION), eq(ID), eq("UPDATE"), any());
+    }
+
+    @Test
+    void unchangedInputsCarrySameFingerprintSoCalculatedAtIsKept() {
+        when(emissionCalculationService.calculateScope1StationaryEmission(anyString(), any(), anyInt(), anyInt()))
+                .thenReturn(success());
+
+        stationaryCombustionService.updateStationaryCombustion(ID, MEMBER_ID, null, request("1000"));
+        stationaryCombustionService.updateStationaryCombustion(ID, MEMBER_ID, null, request("1000.00"));
+
+        List<StationaryCombustion> written = writtenValues(2);
+        assertThat(written.get(0).getInputFingerprint()).isNotNull()
+                .isEqualTo(written.get(1).getInputFingerprint());
+        assertThat(written.get(1).getCalculationQuality()).isEqualTo(CalculationQuality.EXACT);
+        assertThat(written.get(1).getFactorSetId()).isEqualTo((int) FACTOR_SET_ID);
+    }
+
+    @Test
+    void failedCalculationLeavesNoFingerprint() {
+        when(emissionCalculationService.calculateScope1StationaryEmission(anyString(), any(), anyInt(), anyInt()))
+                .thenReturn(failed());
+
+        stationaryCombustionService.updateStationaryCombustion(ID, MEMBER_ID, null, request("1000"));
+
+        StationaryCombustion written = writtenValues(1).get(0);
+        assertThat(written.getCalculationQuality()).isEqualTo(CalculationQuality.FAILED);
+        assertThat(written.getInputFingerprint()).isNull();
+        assertThat(written.getFactorSetId()).isNull();
+    }
+
+    @Test
+    void calculationExceptionAlsoLeavesNoFingerprint() {
+        when(emissionCalculationService.calculateScope1StationaryEmission(anyString(), any(), anyInt(), anyInt()))
+                .thenThrow(new IllegalStateException("계수 조회 실패"));
+
+        stationaryCombustionService.updateStationaryCombustion(ID, MEMBER_ID, null, request("1000"));
+
+        StationaryCombustion written = writtenValues(1).get(0);
+        assertThat(written.getCalculationQuality()).isEqualTo(CalculationQuality.FAILED);
+        assertThat(written.getInputFingerprint()).isNull();
+    }
+
+    @Test
+    void yearMoveRetriesWithCurrentYearAndVersionAndRecordsPreviousYear() {
+        when(emissionCalculationService.calculateScope1StationaryEmission(anyString(), any(), anyInt(), anyInt()))
+                .thenReturn(success());
+
+        Optional<StationaryCombustionResponse> response =
+                stationaryCombustionService.updateStationaryCombustion(ID, MEMBER_ID, null, request("1000", 2025));
+
+        verify(stationaryCombustionRepository).updateByIdAndMemberId(
+                eq(ID), eq(MEMBER_ID), eq(2024), eq(false), eq(List.of(4L)), any(), any());
+        assertThat(response).get().extracting(StationaryCombustionResponse::getVersion).isEqualTo(5L);
+        assertThat(storedYear).isEqualTo(2025);
+        verify(emissionChangeLogService).record(eq(MEMBER_ID), eq(2025), eq(2024),
+                eq(EmissionChangeLogService.STATIONARY_COMBUSTION), eq(ID), eq("UPDATE"), any());
+    }
+
+    @Test
+    void versionMismatchThrowsConflictWithCurrentStateAndLeavesRowUntouched() {
+        assertThatThrownBy(() -> stationaryCombustionService.updateStationaryCombustion(
+                ID, MEMBER_ID, IfMatch.parse("\"3\""), request("1000")))
+                .isInstanceOfSatisfying(VersionConflictException.class, e -> {
+                    assertThat(e.getCurrentVersion()).isEqualTo(4L);
+                    assertThat(((StationaryCombustionResponse) e.getCurrentState()).getFuelUsage())
+                            .isEqualByComparingTo("500");
+                });
+
+        assertThat(storedUsage).isEqualByComparingTo("500");
+        verify(emissionChangeLogService, never()).record(any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void ifMatchListContainingCurrentVersionIsAccepted() {
+        when(emissionCalculationService.calculateScope1StationaryEmission(anyString(), any(), anyInt(), anyInt()))
+                .thenReturn(success());
+
+        assertThat(stationaryCombustionService.updateStationaryCombustion(
+                ID, MEMBER_ID, IfMatch.parse("\"2\", \"4\""), request("1000"))).isPresent();
+        assertThat(stationaryCombustionService.updateStationaryCombustion(
+                ID, MEMBER_ID, IfMatch.parse("*"), request("1000"))).isPresent();
+        verify(stationaryCombustionRepository, never()).findByIdAndMemberId(any(), any());
+    }
+
+    @Test
+    void weakIfMatchNeverMatches() {
+        assertThatThrownBy(() -> stationaryCombustionService.updateStationaryCombustion(
+                ID, MEMBER_ID, IfMatch.parse("W/\"4\""), request("1000")))
+                .isInstanceOf(VersionConflictException.class);
+        verify(stationaryCombustionRepository, never()).updateByIdAndMemberId(
+                anyLong(), anyLong(), any(), anyBoolean(), anyList(), any(), any());
+    }
+
+    @Test
+    void missingOrForeignRowReturnsEmpty() {
+        exists = false;
+
+        assertThat(stationaryCombustionService.updateStationaryCombustion(ID, MEMBER_ID, null, request("1000")))
+                .isEmpty();
+        verify(emissionChangeLogService, never()).record(any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void concurrentChangeDuringYearMoveIsOptimisticLockFailure() {
+        when(stationaryCombustionRepository.findByIdAndMemberId(ID, MEMBER_ID)).thenAnswer(invocation -> {
+            StationaryCombustion current = storedRow();
+            storedVersion++;   // 조회 직후 다른 수정이 커밋됨
+            return Optional.of(current);
+        });
+
+        assertThatThrownBy(() -> stationaryCombustionService.updateStationaryCombustion(
+                ID, MEMBER_ID, null, request("1000", 2025)))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+    }
+
+    @Test
+    void naturalKeyCollisionIsNotWrapped() {
+        doThrow(new DataIntegrityViolationException("Duplicate entry for key 'uk_stationary_combustion_natural_key'"))
+                .when(stationaryCombustionRepository).updateByIdAndMemberId(
+                        anyLong(), anyLong(), any(), anyBoolean(), anyList(), any(), any());
+
+        assertThatThrownBy(() -> stationaryCombustionService.updateStationaryCombustion(
+                ID, MEMBER_ID, null, request("1000")))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void unconvertibleUnitIsRejectedBeforeAnyWrite() {
+        when(emissionCalculationService.resolveStationaryUnitId("DIESEL", "L", 2024))
+                .thenThrow(new IllegalArgumentException("연료 DIESEL의 발열량 단위(TJ/kL)로 환산할 수 없는 단위입니다: L"));
+
+        assertThatThrownBy(() -> stationaryCombustionService.updateStationaryCombustion(ID, MEMBER_ID, null, request("1000")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> stationaryCombustionService.createStationaryCombustion(request("1000")))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(emissionCalculationService, never())
+                .calculateScope1StationaryEmission(anyString(), any(), anyInt(), anyInt());
+        verify(stationaryCombustionRepository, never()).updateByIdAndMemberId(
+                anyLong(), anyLong(), any(), anyBoolean(), anyList(), any(), any());
+    }
+
+    @Test
+    void bulkFacilityRenameCollisionIsNotWrappedAndNotLogged() {
+        doThrow(new DataIntegrityViolationException("Duplicate entry for key 'uk_stationary_combustion_natural_key'"))
+                .when(stationaryCombustionRepository).updateDescriptiveFieldsByIdIn(
+                        anyList(), anyLong(), any(), any(), any(), any());
+
+        assertThatThrownBy(() -> stationaryCombustionService.updateDescriptiveFieldsBulk(MEMBER_ID,
+                StationaryCombustionBulkUpdateRequest.builder().ids(List.of(ID, 11L)).facilityName("공장B").build()))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        verify(emissionChangeLogService, never()).record(any(), any(), any(), any(), any(), any());
+    }
+
+    private List<StationaryCombustion> writtenValues(int times) {
+        ArgumentCaptor<StationaryCombustion> captor = ArgumentCaptor.forClass(StationaryCombustion.class);
+        verify(stationaryCombustionRepository, times(times)).updateByIdAndMemberId(
+                anyLong(), anyLong(), any(), anyBoolean(), anyList(), captor.capture(), any());
+        return captor.getAllValues();
+    }
+
+    private StationaryCombustion storedRow() {
+        return StationaryCombustion.builder()
+                .id(ID).memberId(MEMBER_ID).companyId("11111111-1111-1111-1111-111111111111")
+                .reportingYear(storedYear).reportingMonth(3).facilityName("공장A").facilityLocation("공장A")
+                .combustionType("LIQUID").fuelId("DIESEL").fuelName("경유").fuelUsage(storedUsage).unit("L")
+                .version(storedVersion).build();
+    }
+
+    private static EmissionCalculationService.EmissionResult success() {
+        return EmissionCalculationService.EmissionResult.builder()
+                .co2Emission(new BigDecimal("2.6300")).ch4Emission(new BigDecimal("0.0001"))
+                .n2oEmission(new BigDecimal("0.0000")).totalEmission(new BigDecimal("2.6400"))
+                .quality(CalculationQuality.EXACT).factorSetId((int) FACTOR_SET_ID)
+                .build();
+    }
+
+    private static EmissionCalculationService.EmissionResult failed() {
+        return EmissionCalculationService.EmissionResult.builder()
+                .co2Emission(BigDecimal.ZERO).ch4Emission(BigDecimal.ZERO)
+                .n2oEmission(BigDecimal.ZERO).totalEmission(BigDecimal.ZERO)
+                .quality(CalculationQuality.FAILED)
+                .build();
+    }
+
+    private static StationaryCombustionRequest request(String usage) {
+        return request(usage, 2024);
+    }
+
+    private static StationaryCombustionRequest request(String usage, int year) {
+        return StationaryCombustionRequest.builder()
+                .memberId(MEMBER_ID).companyId("11111111-1111-1111-1111-111111111111")
+                .reportingYear(year).reportingMonth(3)
+                .facilityName("공장A").facilityLocation("공장A").combustionType("LIQUID")
+                .fuelId("DIESEL").fuelName("경유").fuelUsage(new BigDecimal(usage)).unit("L")
+                .build();
+    }
+}
@@ -0,0 +1,129 @@
+package com.nsmm.esg.scopeservice.service;
+
+import com.nsmm.esg.scopeservice.dto.TopEmitterResponse;
+import com.nsmm.esg.scopeservice.repository.MobileCombustionRepository;
+import com.nsmm.esg.scopeservice.repository.StationaryCombustionRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 상위 N개 조회 테스트 (힙 선택 = 전체 정렬 결과, 배출원 병합 후 선택, SQL LIMIT 결과와 기타 항목)
+ */
+@ExtendWith(MockitoExtension.class)
+class TopEmitterServiceTest {
+
+    private static final long MEMBER_ID = 7L;
+
+    @Mock
+    private StationaryCombustionRepository stationaryCombustionRepository;
+    @Mock
+    private MobileCombustionRepository mobileCombustionRepository;
+
+    @InjectMocks
+    private TopEmitterService topEmitterService;
+
+    @Test
+    void heapSelectionMatchesFullSortIncludingTies() {
+        Random random = new Random(42);
+        List<Map.Entry<String, BigDecimal>> entries = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            entries.add(entry("K" + i, String.valueOf(random.nextInt(100))));   // 값이 겹치도록 좁은 범위
+        }
+        entries.add(entry("NULL", null));
+
+        List<Map.Entry<String, BigDecimal>> expected = entries.stream()
+                .filter(e -> e.getValue() != null)
+                .sorted(Map.Entry.<String, BigDecimal>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey(Comparator.<String>naturalOrder())))
+                .limit(20)
+                .toList();
+
+        assertThat(TopNSelector.select(entries, 20)).containsExactlyElementsOf(expected);
+        assertThat(TopNSelector.select(entries.subList(0, 3), 10)).hasSize(3);
+        assertThat(TopNSelector.select(entries, 0)).isEmpty();
+    }
+
+    @Test
+    void scope1PartnersAreMergedAcrossSourcesBeforeSelection() {
+        when(stationaryCombustionRepository.findPartnerTotalsUnordered(MEMBER_ID, 2024))
+                .thenReturn(rows(row("A", "50"), row("B", "100"), row("C", "10")));
+        when(mobileCombustionRepository.findPartnerTotalsUnordered(MEMBER_ID, 2024))
+                .thenReturn(rows(row("A", "60"), row("C", null)));
+
+        TopEmitterResponse response = topEmitterService.getTopScope1Partners(MEMBER_ID, 2024, 1);
+
+        // 배출원별 1위는 B지만 합치면 A(110)가 1위
+        assertThat(response.getItems()).singleElement().satisfies(item -> {
+            assertThat(item.getKey()).isEqualTo("A");
+            assertThat(item.getTotalEmission()).isEqualByComparingTo("110");
+            assertThat(item.getPercentage()).isEqualByComparingTo("50.00");
+        });
+        assertThat(response.getOthers().getGroupCount()).isEqualTo(2L);
+        assertThat(response.getOthers().getTotalEmission()).isEqualByComparingTo("110");
+        assertThat(response.getTotalEmission()).isEqualByComparingTo("220");
+    }
+
+    @Test
+    void fullSqlPageReportsOthersFromTotal() {
+        when(stationaryCombustionRepository.findTopEmissionByPartner(MEMBER_ID, 2024, PageRequest.of(0, 2)))
+                .thenReturn(rows(row("A", "60"), row("B", "30")));
+        when(stationaryCombustionRepository.getTotalEmissionByMemberAndYear(MEMBER_ID, 2024)).thenReturn(new BigDecimal("100"));
+        when(stationaryCombustionRepository.countDistinctPartners(MEMBER_ID, 2024)).thenReturn(5L);
+
+        TopEmitterResponse response = topEmitterService.getTopStationaryPartners(MEMBER_ID, 2024, 2);
+
+        assertThat(response.getItems()).extracting(TopEmitterResponse.Item::getRank).containsExactly(1, 2);
+        assertThat(response.getOthers().getTotalEmission()).isEqualByComparingTo("10");
+        assertThat(response.getOthers().getGroupCount()).isEqualTo(3L);
+    }
+
+    @Test
+    void shortSqlPageSkipsCountAndOthers() {
+        when(stationaryCombustionRepository.findTopEmissionByPartner(MEMBER_ID, 2024, PageRequest.of(0, 10)))
+                .thenReturn(rows(row("A", "60")));
+        when(stationaryCombustionRepository.getTotalEmissionByMemberAndYear(MEMBER_ID, 2024)).thenReturn(new BigDecimal("60"));
+
+        TopEmitterResponse response = topEmitterService.getTopStationaryPartners(MEMBER_ID, 2024, null);
+
+        assertThat(response.getOthers()).isNull();
+        verify(stationaryCombustionRepository, never()).countDistinctPartners(MEMBER_ID, 2024);
+    }
+
+    @Test
+    void limitOutOfRangeIsRejected() {
+        assertThatThrownBy(() -> topEmitterService.getTopScope1Partners(MEMBER_ID, 2024, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> topEmitterService.getTopScope1Partners(MEMBER_ID, 2024, TopEmitterService.MAX_LIMIT + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Map.Entry<String, BigDecimal> entry(String key, String value) {
+        return new AbstractMap.SimpleImmutableEntry<>(key, value != null ? new BigDecimal(value) : null);
+    }
+
+    private static Object[] row(String key, String emission) {
+        return new Object[]{key, emission != null ? new BigDecimal(emission) : null};
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+}
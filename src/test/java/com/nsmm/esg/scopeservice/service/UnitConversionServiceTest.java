@@ -0,0 +1,103 @@
+package com.nsmm.esg.scopeservice.service;
+
+import com.nsmm.esg.scopeservice.entity.CalculationQuality;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 단위 변환 테스트 (표기 변형, 같은 차원 행렬 변환, 밀도 기반 부피↔질량, 변환 가능 여부, 발열량 단위 기준 고정연소 계산)
+ */
+class UnitConversionServiceTest {
+
+    private final UnitConversionService unitConversionService = new UnitConversionService();
+
+    @Test
+    void aliasesResolveToSameUnit() {
+        assertThat(unitConversionService.idOf("m3")).isEqualTo(unitConversionService.idOf("m³"));
+        assertThat(unitConversionService.idOf(" KL ")).isEqualTo(unitConversionService.idOf("kL"));
+        assertThat(unitConversionService.idOf("톤")).isEqualTo(unitConversionService.idOf("ton"));
+        assertThat(unitConversionService.idOf("barrel")).isEqualTo(UnitConversionService.UNKNOWN);
+        assertThat(unitConversionService.idOf(null)).isEqualTo(UnitConversionService.NONE);
+    }
+
+    @Test
+    void sameDimensionUsesMatrix() {
+        assertThat(convert("1500", "L", "kL", null)).isEqualByComparingTo("1.5");
+        assertThat(convert("2", "ton", "kg", null)).isEqualByComparingTo("2000");
+        assertThat(convert("1", "MWh", "GJ", null)).isEqualByComparingTo("3.6");
+        assertThat(convert("1", "TJ", "MJ", null)).isEqualByComparingTo("1000000");
+    }
+
+    @Test
+    void volumeAndMassUseFuelDensity() {
+        assertThat(convert("1000", "L", "kg", "DIESEL")).isEqualByComparingTo("840");
+        assertThat(convert("1", "kL", "ton", "DIESEL")).isEqualByComparingTo("0.84");
+        assertThat(convert("840", "kg", "L", "DIESEL")).isEqualByComparingTo("1000");
+    }
+
+    @Test
+    void unconvertibleUnitsFail() {
+        assertThatThrownBy(() -> convert("1", "L", "kg", "UNKNOWN_FUEL"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("밀도");
+        assertThatThrownBy(() -> convert("1", "L", "MJ", "DIESEL"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> unitConversionService.convert(BigDecimal.ONE, UnitConversionService.UNKNOWN,
+                unitConversionService.idOf("L"), null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void convertibilityMatchesConvert() {
+        int liters = unitConversionService.idOf("L");
+        int kiloliters = unitConversionService.idOf("kL");
+        int tons = unitConversionService.idOf("ton");
+        int megajoules = unitConversionService.idOf("MJ");
+
+        assertThat(unitConversionService.isConvertible(liters, kiloliters, null)).isTrue();
+        assertThat(unitConversionService.isConvertible(liters, tons, "DIESEL")).isTrue();
+        assertThat(unitConversionService.isConvertible(liters, tons, "UNKNOWN_FUEL")).isFalse();
+        assertThat(unitConversionService.isConvertible(liters, megajoules, "DIESEL")).isFalse();
+        assertThat(unitConversionService.isConvertible(UnitConversionService.UNKNOWN, liters, null)).isFalse();
+        assertThat(unitConversionService.isConvertible(UnitConversionService.NONE, liters, null)).isFalse();
+    }
+
+    @Test
+    void rateUnitIsSplitIntoNumeratorAndDenominator() {
+        assertThat(unitConversionService.rateUnitIds("TJ/kL"))
+                .containsExactly(UnitConversionService.TJ, unitConversionService.idOf("kL"));
+        assertThat(unitConversionService.rateUnitIds("MJ/Nm3"))
+                .containsExactly(unitConversionService.idOf("MJ"), unitConversionService.idOf("Nm³"));
+        assertThat(unitConversionService.rateUnitIds("TJ")).containsExactly(
+                UnitConversionService.UNKNOWN, UnitConversionService.UNKNOWN);
+    }
+
+    @Test
+    void stationaryKernelNormalizesUsageToCalorificBasis() {
+        EmissionCalculationService kernel = new EmissionCalculationService(null, null, null, unitConversionService, null);
+        EmissionCalculationService.StationaryFactors factors = new EmissionCalculationService.StationaryFactors(
+                new BigDecimal("35.5"), "MJ/L", new BigDecimal("74.1"), new BigDecimal("3.9"), new BigDecimal("0.6"),
+                CalculationQuality.EXACT);
+
+        // 1kL × 35.5MJ/L = 0.0355TJ → CO2 0.0355 × 74.1
+        EmissionCalculationService.EmissionResult inLiters =
+                kernel.computeStationaryEmission("DIESEL", new BigDecimal("1000"), unitConversionService.idOf("L"), factors);
+        EmissionCalculationService.EmissionResult inKiloliters =
+                kernel.computeStationaryEmission("DIESEL", BigDecimal.ONE, unitConversionService.idOf("kL"), factors);
+
+        assertThat(inLiters.getCo2Emission()).isEqualByComparingTo("2.6306");
+        assertThat(inKiloliters.getTotalEmission()).isEqualByComparingTo(inLiters.getTotalEmission());
+        assertThatThrownBy(() -> kernel.computeStationaryEmission(
+                "DIESEL", BigDecimal.ONE, unitConversionService.idOf("kWh"), factors))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private BigDecimal convert(String value, String from, String to, String fuelId) {
+        return unitConversionService.convert(new BigDecimal(value),
+                unitConversionService.idOf(from), unitConversionService.idOf(to), fuelId);
+    }
+}
@@ -0,0 +1,29 @@
+package com.nsmm.esg.scopeservice.support;
+
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * MySQL 컨테이너 위의 JPA 슬라이스 테스트 기반 클래스
+ * 네이티브 쿼리/업서트/잠금 구문을 운영과 같은 MySQL 8에서 실행해 검증합니다. Docker가 없으면 건너뜁니다.
+ * 컨테이너는 스프링 테스트 컨텍스트와 함께 시작/종료되어 테스트 클래스 간에 공유되고,
+ * 각 테스트는 트랜잭션 롤백으로 격리됩니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@TestPropertySource(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+public abstract class MySqlJpaTestSupport {
+
+    @ServiceConnection
+    protected static final MySQLContainer<?> MYSQL =
+            new MySQLContainer<>(DockerImageName.parse("mysql:8.0")).withDatabaseName("scope_service");
+}